@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.comani.analysis.librarychange.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.ssehub.comani.analysis.librarychange.diff.AnalysisResult;
+import net.ssehub.comani.analysis.librarychange.diff.GradleBuildFileAnalyzer;
+import net.ssehub.comani.data.ChangedArtifact;
+import net.ssehub.comani.data.Commit;
+
+/**
+ * This class provides the synthetic {@link Commit}s and {@link ChangedArtifact}s used by the benchmarks. All fixtures
+ * are deterministic, so results of different runs (and revisions) are comparable.
+ */
+public final class BenchmarkFixtures {
+
+    /**
+     * The regular expression identifying code files as used in typical ComAnI configurations.
+     */
+    public static final String CODE_FILES_REGEX = ".*\\.java";
+
+    /**
+     * The regular expression identifying build files as used in typical ComAnI configurations.
+     */
+    public static final String BUILD_FILES_REGEX = ".*(build\\.gradle|pom\\.xml)";
+
+    /**
+     * The dependency types used for the synthetic Gradle dependencies.
+     */
+    private static final String[] GRADLE_TYPES = {"compile", "implementation", "testCompile", "runtime"};
+
+    /**
+     * Prevents instantiation.
+     */
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Creates artifact paths as changed in a typical commit: mostly code and resource files, some build files.
+     *
+     * @param count the number of paths to create
+     * @return the artifact paths
+     */
+    public static String[] createArtifactPaths(int count) {
+        String[] paths = new String[count];
+        for (int i = 0; i < count; i++) {
+            switch (i % 10) {
+            case 0:
+                paths[i] = "module" + (i % 7) + "/build.gradle";
+                break;
+            case 1:
+                paths[i] = "module" + (i % 7) + "/pom.xml";
+                break;
+            case 2:
+                paths[i] = "module" + (i % 7) + "/src/main/resources/config" + i + ".properties";
+                break;
+            case 3:
+                paths[i] = "docs/chapter" + i + "/README.md";
+                break;
+            default:
+                paths[i] = "module" + (i % 7) + "/src/main/java/net/example/pkg" + (i % 13) + "/Class" + i + ".java";
+                break;
+            }
+        }
+        return paths;
+    }
+
+    /**
+     * Creates a changed <code>build.gradle</code>, whose hunk contains a dependencies block with the given number of
+     * dependencies. Every tenth dependency changes its version, every fiftieth is removed, and every fiftieth is
+     * added.
+     *
+     * @param dependencies the number of dependencies in the hunk
+     * @return the {@link ChangedArtifact}
+     */
+    public static ChangedArtifact createGradleArtifact(int dependencies) {
+        ChangedArtifact artifact = new ChangedArtifact();
+        artifact.setArtifactPath("app/build.gradle");
+        artifact.setArtifactName("build.gradle");
+        for (String line : createGradleHunk(dependencies)) {
+            artifact.addContentLine(line);
+        }
+        return artifact;
+    }
+
+    /**
+     * Creates the lines of a hunk of a <code>build.gradle</code> as described in {@link #createGradleArtifact(int)}.
+     *
+     * @param dependencies the number of dependencies in the hunk
+     * @return the lines of the hunk, including the file and hunk headers
+     */
+    public static List<String> createGradleHunk(int dependencies) {
+        List<String> lines = new ArrayList<String>(dependencies + 16);
+        lines.add("--- a/app/build.gradle");
+        lines.add("+++ b/app/build.gradle");
+        lines.add("@@ -1," + (dependencies + 6) + " +1," + (dependencies + 6) + " @@");
+        lines.add(" apply plugin: 'java'");
+        lines.add(" repositories { mavenCentral() }");
+        lines.add(" dependencies {");
+        for (int i = 0; i < dependencies; i++) {
+            String declaration = "    " + GRADLE_TYPES[i % GRADLE_TYPES.length] + " 'org.example.group" + (i % 17)
+                    + ":artifact-" + i + ":";
+            if (i % 10 == 0) {
+                lines.add("-" + declaration + "1." + i + ".0'");
+                lines.add("+" + declaration + "1." + i + ".1'");
+            } else if (i % 50 == 7) {
+                lines.add("-" + declaration + "2.0'");
+            } else if (i % 50 == 8) {
+                lines.add("+" + declaration + "2.0'");
+            } else {
+                lines.add(" " + declaration + "3.0'");
+            }
+        }
+        lines.add(" }");
+        lines.add(" jar { manifest { attributes 'Main-Class': 'org.example.Main' } }");
+        return lines;
+    }
+
+    /**
+     * Creates a commit changing the given number of artifacts, of which every tenth is a <code>build.gradle</code>.
+     *
+     * @param id the id of the commit
+     * @param artifacts the number of changed artifacts
+     * @param dependencies the number of dependencies in the hunk of each changed build file
+     * @return the {@link Commit}
+     */
+    public static Commit createCommit(String id, int artifacts, int dependencies) {
+        Commit commit = new Commit();
+        commit.setId(id);
+        commit.setDate("2020-01-01 00:00:00 +0000");
+        String[] paths = createArtifactPaths(artifacts);
+        for (String path : paths) {
+            ChangedArtifact artifact;
+            if (path.endsWith("build.gradle")) {
+                artifact = createGradleArtifact(dependencies);
+            } else {
+                artifact = new ChangedArtifact();
+                artifact.addContentLine("@@ -1,1 +1,1 @@");
+                artifact.addContentLine("-// old");
+                artifact.addContentLine("+// new");
+            }
+            artifact.setArtifactPath(path);
+            artifact.setArtifactName(path.substring(path.lastIndexOf('/') + 1));
+            commit.addChangedArtifact(artifact);
+        }
+        return commit;
+    }
+
+    /**
+     * Creates the result of a commit changing the given number of build files.
+     *
+     * @param id the id of the commit
+     * @param buildFiles the number of changed build files
+     * @param dependencies the number of dependencies in the hunk of each changed build file
+     * @return the {@link AnalysisResult}
+     */
+    public static AnalysisResult createResult(String id, int buildFiles, int dependencies) {
+        AnalysisResult result = new AnalysisResult();
+        result.setCommitId(id);
+        ChangedArtifact artifact = createGradleArtifact(dependencies);
+        GradleBuildFileAnalyzer analyzer = new GradleBuildFileAnalyzer();
+        for (int i = 0; i < buildFiles; i++) {
+            result.addResult(analyzer.analyze(artifact));
+        }
+        return result;
+    }
+
+}
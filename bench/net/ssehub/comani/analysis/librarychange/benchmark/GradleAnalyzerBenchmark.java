@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.comani.analysis.librarychange.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult;
+import net.ssehub.comani.analysis.librarychange.diff.GradleBuildFileAnalyzer;
+import net.ssehub.comani.analysis.librarychange.diff.LibraryChangeAnalyzer;
+import net.ssehub.comani.analysis.librarychange.diff.PathClassifier;
+import net.ssehub.comani.data.ChangedArtifact;
+import net.ssehub.comani.data.Commit;
+
+/**
+ * This class benchmarks the extraction of dependencies from the hunks of a <code>build.gradle</code>, both for a
+ * single build file and for a whole commit including the classification of its artifacts. The hunk sizes cover
+ * typical commits (10 dependencies) as well as the reformatting of huge build files (10000 dependencies).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GradleAnalyzerBenchmark {
+
+    /**
+     * The number of dependencies in the hunk of each build file.
+     */
+    @Param({"10", "10000"})
+    private int dependencies;
+
+    /**
+     * The changed build file.
+     */
+    private ChangedArtifact buildFile;
+
+    /**
+     * A commit changing 100 artifacts, of which 10 are build files.
+     */
+    private Commit commit;
+
+    /**
+     * The {@link PathClassifier} used for the analysis of the {@link #commit}.
+     */
+    private PathClassifier pathClassifier;
+
+    /**
+     * The (stateless) analyzer of the {@link #buildFile}.
+     */
+    private GradleBuildFileAnalyzer gradleAnalyzer;
+
+    /**
+     * Creates the fixtures.
+     */
+    @Setup
+    public void setup() {
+        buildFile = BenchmarkFixtures.createGradleArtifact(dependencies);
+        commit = BenchmarkFixtures.createCommit("0123456789abcdef", 100, dependencies);
+        pathClassifier = new PathClassifier(BenchmarkFixtures.CODE_FILES_REGEX, BenchmarkFixtures.BUILD_FILES_REGEX);
+        gradleAnalyzer = new GradleBuildFileAnalyzer();
+    }
+
+    /**
+     * Analyzes the {@link #buildFile}.
+     *
+     * @return the result of the analysis
+     */
+    @Benchmark
+    public BuildFileAnalysisResult analyzeBuildFile() {
+        return gradleAnalyzer.analyze(buildFile);
+    }
+
+    /**
+     * Analyzes the {@link #commit}.
+     *
+     * @return the analyzer holding the result of the analysis
+     */
+    @Benchmark
+    public LibraryChangeAnalyzer analyzeCommit() {
+        LibraryChangeAnalyzer analyzer = new LibraryChangeAnalyzer(pathClassifier, commit);
+        analyzer.analyze();
+        return analyzer;
+    }
+
+}
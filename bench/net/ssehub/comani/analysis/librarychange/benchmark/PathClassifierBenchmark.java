@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.comani.analysis.librarychange.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.ssehub.comani.analysis.librarychange.diff.PathClassifier;
+
+/**
+ * This class benchmarks the classification of the paths of changed artifacts, which is executed for every artifact
+ * of every commit. The score is the number of classified paths per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathClassifierBenchmark {
+
+    /**
+     * The number of paths classified per invocation.
+     */
+    private static final int PATHS = 1000;
+
+    /**
+     * The {@link PathClassifier} under test.
+     */
+    private PathClassifier pathClassifier;
+
+    /**
+     * The paths to classify.
+     */
+    private String[] paths;
+
+    /**
+     * Creates the {@link PathClassifier} and the paths.
+     */
+    @Setup
+    public void setup() {
+        pathClassifier = new PathClassifier(BenchmarkFixtures.CODE_FILES_REGEX, BenchmarkFixtures.BUILD_FILES_REGEX);
+        paths = BenchmarkFixtures.createArtifactPaths(PATHS);
+    }
+
+    /**
+     * Classifies all {@link #paths} as build file or not.
+     *
+     * @return the number of build files
+     */
+    @Benchmark
+    @OperationsPerInvocation(PATHS)
+    public int isBuildFile() {
+        int buildFiles = 0;
+        for (String path : paths) {
+            if (pathClassifier.isBuildFile(path)) {
+                buildFiles++;
+            }
+        }
+        return buildFiles;
+    }
+
+    /**
+     * Classifies all {@link #paths} as code file or not.
+     *
+     * @return the number of code files
+     */
+    @Benchmark
+    @OperationsPerInvocation(PATHS)
+    public int isCodeFile() {
+        int codeFiles = 0;
+        for (String path : paths) {
+            if (pathClassifier.isCodeFile(path)) {
+                codeFiles++;
+            }
+        }
+        return codeFiles;
+    }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.comani.analysis.librarychange.benchmark;
+
+import java.io.CharArrayWriter;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.ssehub.comani.analysis.librarychange.diff.AnalysisResult;
+import net.ssehub.comani.analysis.librarychange.output.CsvResultSerializer;
+import net.ssehub.comani.analysis.librarychange.output.JsonResultSerializer;
+import net.ssehub.comani.analysis.librarychange.output.ResultSerializer;
+import net.ssehub.comani.analysis.librarychange.output.TextResultSerializer;
+
+/**
+ * This class benchmarks the serialization of an {@link AnalysisResult} in each supported output format, compared to
+ * the original {@link AnalysisResult#toString()}. The result contains 10 build files with 100 library changes each.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    /**
+     * The output format to benchmark.
+     */
+    @Param({"text", "json", "csv"})
+    private String format;
+
+    /**
+     * The {@link ResultSerializer} for the {@link #format}.
+     */
+    private ResultSerializer serializer;
+
+    /**
+     * The result to serialize.
+     */
+    private AnalysisResult result;
+
+    /**
+     * The reused output buffer.
+     */
+    private CharArrayWriter output;
+
+    /**
+     * Creates the fixtures.
+     */
+    @Setup
+    public void setup() {
+        switch (format) {
+        case "json":
+            serializer = new JsonResultSerializer();
+            break;
+        case "csv":
+            serializer = new CsvResultSerializer();
+            break;
+        default:
+            serializer = new TextResultSerializer();
+            break;
+        }
+        result = BenchmarkFixtures.createResult("0123456789abcdef", 10, 100);
+        output = new CharArrayWriter(64 * 1024);
+    }
+
+    /**
+     * Serializes the {@link #result} with the {@link #serializer}.
+     *
+     * @return the number of written characters
+     * @throws IOException never, as the output is written to memory
+     */
+    @Benchmark
+    public int serialize() throws IOException {
+        output.reset();
+        serializer.serialize(result, output);
+        return output.size();
+    }
+
+    /**
+     * Converts the {@link #result} to a string as done before the introduction of the {@link ResultSerializer}s.
+     * This benchmark does not depend on the {@link #format}.
+     *
+     * @return the string representation of the result
+     */
+    @Benchmark
+    public String toStringBaseline() {
+        return result.toString();
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.comani.analysis.librarychange.diff;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.ssehub.comani.analysis.librarychange.benchmark.BenchmarkFixtures;
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry;
+import net.ssehub.comani.analysis.librarychange.diff.GradleBuildFileAnalyzer.DependencyBlockScanner;
+
+/**
+ * This class benchmarks the pairing of the libraries before and after a commit (see
+ * {@link BuildFileAnalyzer#createResult(String, LibraryMap, LibraryMap)}) and the classification of the resulting
+ * changes, independent of parsing. It is located in the package of the analyzers to access these internals.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DependencyDiffBenchmark {
+
+    /**
+     * The number of dependencies in each view.
+     */
+    @Param({"10", "10000"})
+    private int dependencies;
+
+    /**
+     * The libraries before the commit.
+     */
+    private LibraryMap oldLibraries;
+
+    /**
+     * The libraries after the commit.
+     */
+    private LibraryMap newLibraries;
+
+    /**
+     * Scans the views before and after the commit of a synthetic hunk.
+     */
+    @Setup
+    public void setup() {
+        DependencyBlockScanner oldView = new DependencyBlockScanner();
+        DependencyBlockScanner newView = new DependencyBlockScanner();
+        for (String line : BenchmarkFixtures.createGradleHunk(dependencies)) {
+            char marker = line.isEmpty() ? ' ' : line.charAt(0);
+            if (marker != '+') {
+                oldView.scan(line);
+            }
+            if (marker != '-') {
+                newView.scan(line);
+            }
+        }
+        oldLibraries = oldView.libraries;
+        newLibraries = newView.libraries;
+    }
+
+    /**
+     * Pairs the libraries before and after the commit.
+     *
+     * @return the paired libraries
+     */
+    @Benchmark
+    public BuildFileAnalysisResult pairLibraries() {
+        return BuildFileAnalyzer.createResult("app/build.gradle", oldLibraries, newLibraries);
+    }
+
+    /**
+     * Pairs the libraries before and after the commit and determines the type of each change.
+     *
+     * @return the number of changes other than {@link LibraryEntry.LibraryChangeType#NO_CHANGE}
+     */
+    @Benchmark
+    public int pairAndClassifyLibraries() {
+        int changes = 0;
+        for (LibraryEntry entry : BuildFileAnalyzer.createResult("app/build.gradle", oldLibraries, newLibraries)
+                .getLibraryChanges()) {
+            if (entry.getLibraryChangeType() != LibraryEntry.LibraryChangeType.NO_CHANGE) {
+                changes++;
+            }
+        }
+        return changes;
+    }
+
+}
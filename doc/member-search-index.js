@@ -1 +1 @@
-memberSearchIndex = [{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryChangeType","l":"ADDITION"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"AnalysisResult","l":"addResult(BuildFileAnalysisResult)","url":"addResult(net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"AnalysisResult","l":"AnalysisResult()","url":"%3Cinit%3E()"},{"p":"net.ssehub.comani.analysis.librarychange.core","c":"LibraryChangeAnalysis","l":"analyze()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalyzer","l":"analyze()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"GradleBuildFileAnalyzer","l":"analyze()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"LibraryChangeAnalyzer","l":"analyze()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult","l":"BuildFileAnalysisResult(String, List<BuildFileAnalysisResult.LibraryEntry>)","url":"%3Cinit%3E(java.lang.String,java.util.List)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalyzerFactory","l":"BuildFileAnalyzerFactory()","url":"%3Cinit%3E()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalyzerFactory","l":"createBuildFileAnalyzer(ChangedArtifact)","url":"createBuildFileAnalyzer(net.ssehub.comani.data.ChangedArtifact)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryInformation","l":"equals(Object)","url":"equals(java.lang.Object)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"AnalysisResult","l":"getCommitId()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry","l":"getCurrentLibrary()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryInformation","l":"getDependencyType()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryInformation","l":"getGroup()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryInformation","l":"getIdentifier()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult","l":"getLibraryChanges()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry","l":"getLibraryChangeType()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry","l":"getPreviousLibrary()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"LibraryChangeAnalyzer","l":"getResult()"},{"p":"net.ssehub.comani.analysis.librarychange.core","c":"LibraryChangeAnalysis","l":"getResults()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"AnalysisResult","l":"getResults()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryInformation","l":"getVersion()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"GradleBuildFileAnalyzer","l":"GradleBuildFileAnalyzer(ChangedArtifact)","url":"%3Cinit%3E(net.ssehub.comani.data.ChangedArtifact)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryInformation","l":"isSameLibrary(BuildFileAnalysisResult.LibraryEntry.LibraryInformation)","url":"isSameLibrary(net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry.LibraryInformation)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryInformation","l":"isSameLibraryInDifferentVersion(BuildFileAnalysisResult.LibraryEntry.LibraryInformation)","url":"isSameLibraryInDifferentVersion(net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry.LibraryInformation)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryInformation","l":"isSameLibraryInSameVersion(BuildFileAnalysisResult.LibraryEntry.LibraryInformation)","url":"isSameLibraryInSameVersion(net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry.LibraryInformation)"},{"p":"net.ssehub.comani.analysis.librarychange.core","c":"LibraryChangeAnalysis","l":"LibraryChangeAnalysis(Properties, IAnalysisQueue)","url":"%3Cinit%3E(java.util.Properties,net.ssehub.comani.data.IAnalysisQueue)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"LibraryChangeAnalyzer","l":"LibraryChangeAnalyzer(String, String, Commit)","url":"%3Cinit%3E(java.lang.String,java.lang.String,net.ssehub.comani.data.Commit)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry","l":"LibraryEntry(BuildFileAnalysisResult.LibraryEntry.LibraryInformation, BuildFileAnalysisResult.LibraryEntry.LibraryInformation)","url":"%3Cinit%3E(net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry.LibraryInformation,net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry.LibraryInformation)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryInformation","l":"LibraryInformation(String, String, String, String)","url":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.lang.String)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryChangeType","l":"NO_CHANGE"},{"p":"net.ssehub.comani.analysis.librarychange.core","c":"LibraryChangeAnalysis","l":"operatingSystemSupported(String)","url":"operatingSystemSupported(java.lang.String)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryChangeType","l":"REMOVAL"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryChangeType","l":"REPLACEMENT"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"AnalysisResult","l":"setCommitId(String)","url":"setCommitId(java.lang.String)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"AnalysisResult","l":"toString()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult","l":"toString()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry","l":"toString()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryInformation","l":"toString()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryChangeType","l":"UNDEFINED"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryChangeType","l":"valueOf(String)","url":"valueOf(java.lang.String)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryChangeType","l":"values()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryChangeType","l":"VERSION_CHANGE"},{"p":"net.ssehub.comani.analysis.librarychange.core","c":"LibraryChangeAnalysis","l":"versionControlSystemSupported(String)","url":"versionControlSystemSupported(java.lang.String)"}]
\ No newline at end of file
+memberSearchIndex = [{"p":"net.ssehub.comani.analysis.librarychange.core","c":"CommitAnalysisPipeline","l":"abort()"},{"p":"net.ssehub.comani.analysis.librarychange.core","c":"CommitAnalysisPipeline.ResultConsumer","l":"accept(Commit, AnalysisResult)","u":"accept(net.ssehub.comani.data.Commit,net.ssehub.comani.analysis.librarychange.diff.AnalysisResult)"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"ResultLog.RecordConsumer","l":"accept(String, byte[])","u":"accept(java.lang.String,byte[])"},{"p":"net.ssehub.comani.analysis.librarychange.stats","c":"ChurnStatistics","l":"add(AnalysisResult)","u":"add(net.ssehub.comani.analysis.librarychange.diff.AnalysisResult)"},{"p":"net.ssehub.comani.analysis.librarychange.timeline","c":"TimelineIndexWriter","l":"add(AnalysisResult)","u":"add(net.ssehub.comani.analysis.librarychange.diff.AnalysisResult)"},{"p":"net.ssehub.comani.analysis.librarychange.stats","c":"HyperLogLog","l":"add(long)"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"CommitCheckpoint","l":"add(String)","u":"add(java.lang.String)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"AnalysisResult","l":"addError(ArtifactError)","u":"addError(net.ssehub.comani.analysis.librarychange.diff.ArtifactError)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryChangeType","l":"ADDITION"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"AnalysisResult","l":"addLibraryChanges(String, List<BuildFileAnalysisResult.LibraryEntry>)","u":"addLibraryChanges(java.lang.String,java.util.List)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"AnalysisResult","l":"addResult(BuildFileAnalysisResult)","u":"addResult(net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"AnalysisResult","l":"AnalysisResult()","u":"%3Cinit%3E()"},{"p":"net.ssehub.comani.analysis.librarychange.core","c":"LibraryChangeAnalysis","l":"analyze()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"LibraryChangeAnalyzer","l":"analyze()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalyzer","l":"analyze(ChangedArtifact)","u":"analyze(net.ssehub.comani.data.ChangedArtifact)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileSnapshotStore","l":"analyze(ChangedArtifact)","u":"analyze(net.ssehub.comani.data.ChangedArtifact)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"ParseCache","l":"analyze(ChangedArtifact, BuildFileAnalyzer, long)","u":"analyze(net.ssehub.comani.data.ChangedArtifact,net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalyzer,long)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"AntBuildFileAnalyzer","l":"analyze(ChangedArtifact, long)","u":"analyze(net.ssehub.comani.data.ChangedArtifact,long)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalyzer","l":"analyze(ChangedArtifact, long)","u":"analyze(net.ssehub.comani.data.ChangedArtifact,long)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"GradleBuildFileAnalyzer","l":"analyze(ChangedArtifact, long)","u":"analyze(net.ssehub.comani.data.ChangedArtifact,long)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"MavenBuildFileAnalyzer","l":"analyze(ChangedArtifact, long)","u":"analyze(net.ssehub.comani.data.ChangedArtifact,long)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"VersionCatalogAnalyzer","l":"analyze(ChangedArtifact, long)","u":"analyze(net.ssehub.comani.data.ChangedArtifact,long)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"ModuleGraph","l":"analyze(Commit, AnalysisResult)","u":"analyze(net.ssehub.comani.data.Commit,net.ssehub.comani.analysis.librarychange.diff.AnalysisResult)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"VersionCatalogResolver","l":"analyze(Commit, AnalysisResult)","u":"analyze(net.ssehub.comani.data.Commit,net.ssehub.comani.analysis.librarychange.diff.AnalysisResult)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"VersionResolver","l":"analyze(Commit, AnalysisResult)","u":"analyze(net.ssehub.comani.data.Commit,net.ssehub.comani.analysis.librarychange.diff.AnalysisResult)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"CommitBatchAnalyzer","l":"analyze(List<Commit>)","u":"analyze(java.util.List)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"AntBuildFileAnalyzer","l":"AntBuildFileAnalyzer()","u":"%3Cinit%3E()"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"ResultLog","l":"append(String, byte[])","u":"append(java.lang.String,byte[])"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"ResultLog","l":"append(String, byte[], int, int)","u":"append(java.lang.String,byte[],int,int)"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetrics.Counter","l":"ARTIFACT_ERRORS"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"ArtifactBudget","l":"ArtifactBudget(long, long)","u":"%3Cinit%3E(long,long)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"ArtifactError","l":"ArtifactError(String, ArtifactError.Reason, String)","u":"%3Cinit%3E(java.lang.String,net.ssehub.comani.analysis.librarychange.diff.ArtifactError.Reason,java.lang.String)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BudgetExceededException","l":"BudgetExceededException(String)","u":"%3Cinit%3E(java.lang.String)"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetrics.Counter","l":"BUILD_FILES"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult","l":"BuildFileAnalysisResult(String, List<BuildFileAnalysisResult.LibraryEntry>)","u":"%3Cinit%3E(java.lang.String,java.util.List)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalyzer","l":"BuildFileAnalyzer()","u":"%3Cinit%3E()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalyzerRegistry","l":"BuildFileAnalyzerRegistry(List<BuildFileAnalyzer>)","u":"%3Cinit%3E(java.util.List)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileSnapshotStore","l":"BuildFileSnapshotStore(int)","u":"%3Cinit%3E(int)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileSnapshotStore","l":"BuildFileSnapshotStore(int, MemoryBudget)","u":"%3Cinit%3E(int,net.ssehub.comani.analysis.librarychange.diff.MemoryBudget)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalyzer","l":"checkDeadline(int, long)","u":"checkDeadline(int,long)"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"CheckpointingSink","l":"CHECKPOINT_INTERVAL"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"CheckpointingSink","l":"CheckpointingSink(ResultSink, CommitCheckpoint)","u":"%3Cinit%3E(net.ssehub.comani.analysis.librarychange.output.ResultSink,net.ssehub.comani.analysis.librarychange.output.CommitCheckpoint)"},{"p":"net.ssehub.comani.analysis.librarychange.stats","c":"ChurnStatistics","l":"ChurnStatistics(int)","u":"%3Cinit%3E(int)"},{"p":"net.ssehub.comani.analysis.librarychange.core","c":"CommitBatcher","l":"close()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileSnapshotStore","l":"close()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"ParseCache","l":"close()"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"CheckpointingSink","l":"close()"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"CommitCheckpoint","l":"close()"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"CommitFileSink","l":"close()"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"IndexingSink","l":"close()"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"ResultLog","l":"close()"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"ResultLogSink","l":"close()"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"SpillingResultStore","l":"close()"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"StreamingResultWriter","l":"close()"},{"p":"net.ssehub.comani.analysis.librarychange.timeline","c":"TimelineIndex","l":"close()"},{"p":"net.ssehub.comani.analysis.librarychange.timeline","c":"TimelineIndexWriter","l":"close()"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetrics.Counter","l":"CODE_FILES"},{"p":"net.ssehub.comani.analysis.librarychange.core","c":"CommitAnalysisPipeline","l":"CommitAnalysisPipeline(int, Function<List<Commit>, List<AnalysisResult>>, CommitAnalysisPipeline.ResultConsumer)","u":"%3Cinit%3E(int,java.util.function.Function,net.ssehub.comani.analysis.librarychange.core.CommitAnalysisPipeline.ResultConsumer)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"CommitBatchAnalyzer","l":"CommitBatchAnalyzer(PathClassifier, ParseCache)","u":"%3Cinit%3E(net.ssehub.comani.analysis.librarychange.diff.PathClassifier,net.ssehub.comani.analysis.librarychange.diff.ParseCache)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"CommitBatchAnalyzer","l":"CommitBatchAnalyzer(PathClassifier, ParseCache, ArtifactBudget)","u":"%3Cinit%3E(net.ssehub.comani.analysis.librarychange.diff.PathClassifier,net.ssehub.comani.analysis.librarychange.diff.ParseCache,net.ssehub.comani.analysis.librarychange.diff.ArtifactBudget)"},{"p":"net.ssehub.comani.analysis.librarychange.core","c":"CommitBatcher","l":"CommitBatcher(IAnalysisQueue, int, long)","u":"%3Cinit%3E(net.ssehub.comani.data.IAnalysisQueue,int,long)"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"CommitCheckpoint","l":"CommitCheckpoint(Path)","u":"%3Cinit%3E(java.nio.file.Path)"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"CommitFileSink","l":"CommitFileSink(Path, ResultSerializer)","u":"%3Cinit%3E(java.nio.file.Path,net.ssehub.comani.analysis.librarychange.output.ResultSerializer)"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetrics.Counter","l":"COMMITS_ANALYZED"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetrics.Counter","l":"COMMITS_SKIPPED"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryInformation","l":"compareTo(BuildFileAnalysisResult.LibraryEntry.LibraryInformation)","u":"compareTo(net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry.LibraryInformation)"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"CommitCheckpoint","l":"contains(String)","u":"contains(java.lang.String)"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"CsvResultSerializer","l":"CsvResultSerializer()","u":"%3Cinit%3E()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"ResultCodec","l":"decode(byte[])"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"ResultCodec","l":"decode(String, byte[])","u":"decode(java.lang.String,byte[])"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"CheckpointingSink","l":"describeLocation(AnalysisResult)","u":"describeLocation(net.ssehub.comani.analysis.librarychange.diff.AnalysisResult)"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"CommitFileSink","l":"describeLocation(AnalysisResult)","u":"describeLocation(net.ssehub.comani.analysis.librarychange.diff.AnalysisResult)"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"IndexingSink","l":"describeLocation(AnalysisResult)","u":"describeLocation(net.ssehub.comani.analysis.librarychange.diff.AnalysisResult)"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"ResultLogSink","l":"describeLocation(AnalysisResult)","u":"describeLocation(net.ssehub.comani.analysis.librarychange.diff.AnalysisResult)"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"ResultSink","l":"describeLocation(AnalysisResult)","u":"describeLocation(net.ssehub.comani.analysis.librarychange.diff.AnalysisResult)"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetrics.Stage","l":"DIFF"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileSnapshotStore","l":"drop(String)","u":"drop(java.lang.String)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"ResultCodec","l":"encode(AnalysisResult)","u":"encode(net.ssehub.comani.analysis.librarychange.diff.AnalysisResult)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"ResultCodec","l":"encode(BuildFileAnalysisResult)","u":"encode(net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryInformation","l":"equals(Object)","u":"equals(java.lang.Object)"},{"p":"net.ssehub.comani.analysis.librarychange.stats","c":"HyperLogLog","l":"estimate()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"MemoryBudget","l":"estimateSize(AnalysisResult)","u":"estimateSize(net.ssehub.comani.analysis.librarychange.diff.AnalysisResult)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"MemoryBudget","l":"estimateSize(BuildFileAnalysisResult)","u":"estimateSize(net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"ArtifactBudget","l":"exceedsSize(ChangedArtifact)","u":"exceedsSize(net.ssehub.comani.data.ChangedArtifact)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"ArtifactError.Reason","l":"FAILED"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"CommitCheckpoint","l":"FILE_NAME"},{"p":"net.ssehub.comani.analysis.librarychange.stats","c":"ChurnStatistics","l":"FILE_NAME"},{"p":"net.ssehub.comani.analysis.librarychange.core","c":"CommitAnalysisPipeline","l":"finish()"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"CheckpointingSink","l":"flush()"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"CommitCheckpoint","l":"flush()"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"IndexingSink","l":"flush()"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"ResultLog","l":"flush()"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"ResultLogSink","l":"flush()"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"ResultSink","l":"flush()"},{"p":"net.ssehub.comani.analysis.librarychange.timeline","c":"TimelineIndexWriter","l":"flush()"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"ResultLog","l":"forEach(ResultLog.RecordConsumer)","u":"forEach(net.ssehub.comani.analysis.librarychange.output.ResultLog.RecordConsumer)"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"SpillingResultStore","l":"forEach(SpillingResultStore.ResultVisitor)","u":"forEach(net.ssehub.comani.analysis.librarychange.output.SpillingResultStore.ResultVisitor)"},{"p":"net.ssehub.comani.analysis.librarychange.core","c":"LibraryChangeAnalysis","l":"forEachResult(SpillingResultStore.ResultVisitor)","u":"forEachResult(net.ssehub.comani.analysis.librarychange.output.SpillingResultStore.ResultVisitor)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalyzerRegistry","l":"getAnalyzer(String)","u":"getAnalyzer(java.lang.String)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalyzerRegistry","l":"getAnalyzers()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"ArtifactError","l":"getArtifactPath()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult","l":"getBuildFile()"},{"p":"net.ssehub.comani.analysis.librarychange.timeline","c":"TimelineEvent","l":"getBuildFile()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"PathClassifier","l":"getBuildFileAnalyzer(String)","u":"getBuildFileAnalyzer(java.lang.String)"},{"p":"net.ssehub.comani.analysis.librarychange.stats","c":"ChurnStatistics","l":"getChangeCount(BuildFileAnalysisResult.LibraryEntry.LibraryChangeType)","u":"getChangeCount(net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry.LibraryChangeType)"},{"p":"net.ssehub.comani.analysis.librarychange.timeline","c":"TimelineEvent","l":"getChangeType()"},{"p":"net.ssehub.comani.analysis.librarychange.core","c":"LibraryChangeAnalysis","l":"getChurnStatistics()"},{"p":"net.ssehub.comani.analysis.librarychange.timeline","c":"TimelineIndex","l":"getCommitCount()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"AnalysisResult","l":"getCommitId()"},{"p":"net.ssehub.comani.analysis.librarychange.timeline","c":"TimelineEvent","l":"getCommitId()"},{"p":"net.ssehub.comani.analysis.librarychange.timeline","c":"TimelineIndex","l":"getCommitId(int)"},{"p":"net.ssehub.comani.analysis.librarychange.stats","c":"ChurnStatistics","l":"getCommits()"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"LatencyHistogram","l":"getCount()"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetrics","l":"getCounters()"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetricsMXBean","l":"getCounters()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry","l":"getCurrentLibrary()"},{"p":"net.ssehub.comani.analysis.librarychange.timeline","c":"TimelineEvent","l":"getCurrentVersion()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"ArtifactBudget","l":"getDeadline()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalyzerRegistry","l":"getDefault()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileSnapshotStore","l":"getDependencies(String)","u":"getDependencies(java.lang.String)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryInformation","l":"getDependencyType()"},{"p":"net.ssehub.comani.analysis.librarychange.timeline","c":"TimelineEvent","l":"getDependencyType()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"AnalysisResult","l":"getErrors()"},{"p":"net.ssehub.comani.analysis.librarychange.timeline","c":"TimelineIndex","l":"getEvents(BuildFileAnalysisResult.LibraryEntry.LibraryChangeType, int, int)","u":"getEvents(net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry.LibraryChangeType,int,int)"},{"p":"net.ssehub.comani.analysis.librarychange.timeline","c":"TimelineIndex","l":"getEvents(BuildFileAnalysisResult.LibraryEntry.LibraryChangeType, String, String)","u":"getEvents(net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry.LibraryChangeType,java.lang.String,java.lang.String)"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"CsvResultSerializer","l":"getFileExtension()"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"JsonResultSerializer","l":"getFileExtension()"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"ResultSerializer","l":"getFileExtension()"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"TextResultSerializer","l":"getFileExtension()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"AntBuildFileAnalyzer","l":"getFileNames()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalyzer","l":"getFileNames()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"GradleBuildFileAnalyzer","l":"getFileNames()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"MavenBuildFileAnalyzer","l":"getFileNames()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"VersionCatalogAnalyzer","l":"getFileNames()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryInformation","l":"getGroup()"},{"p":"net.ssehub.comani.analysis.librarychange.timeline","c":"TimelineEvent","l":"getGroup()"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"ResultLog","l":"getHashFile()"},{"p":"net.ssehub.comani.analysis.librarychange.timeline","c":"TimelineIndex","l":"getHistory(String, String)","u":"getHistory(java.lang.String,java.lang.String)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryInformation","l":"getIdentifier()"},{"p":"net.ssehub.comani.analysis.librarychange.timeline","c":"TimelineEvent","l":"getIdentifier()"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"ResultLog","l":"getIndexFile()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"CoordinateTable","l":"getInstance()"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetrics","l":"getInstance()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"CoordinateTable","l":"getLibrary(int, int, int, int)","u":"getLibrary(int,int,int,int)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"CoordinateTable","l":"getLibrary(String, String, String, String)","u":"getLibrary(java.lang.String,java.lang.String,java.lang.String,java.lang.String)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult","l":"getLibraryChanges()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry","l":"getLibraryChangeType()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryInformation","l":"getLibraryId()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"MemoryBudget","l":"getLimit()"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"ResultLogSink","l":"getLog()"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"LatencyHistogram","l":"getMaxNanos()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"ArtifactBudget","l":"getMaxSize()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"ArtifactBudget","l":"getMaxTimeMillis()"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"LatencyHistogram","l":"getMeanNanos()"},{"p":"net.ssehub.comani.analysis.librarychange.stats","c":"ChurnStatistics","l":"getMeanTimeBetweenUpgrades()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"ArtifactError","l":"getMessage()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"ModuleGraph","l":"getParent(String)","u":"getParent(java.lang.String)"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"LatencyHistogram","l":"getPercentileNanos(double)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry","l":"getPreviousLibrary()"},{"p":"net.ssehub.comani.analysis.librarychange.timeline","c":"TimelineEvent","l":"getPreviousVersion()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"ArtifactError","l":"getReason()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"LibraryChangeAnalyzer","l":"getResult()"},{"p":"net.ssehub.comani.analysis.librarychange.core","c":"LibraryChangeAnalysis","l":"getResults()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"AnalysisResult","l":"getResults()"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"SpillingResultStore","l":"getResults()"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"ResultLog","l":"getSegmentFile(int)"},{"p":"net.ssehub.comani.analysis.librarychange.timeline","c":"TimelineEvent","l":"getSequence()"},{"p":"net.ssehub.comani.analysis.librarychange.timeline","c":"TimelineIndex","l":"getSequence(String)","u":"getSequence(java.lang.String)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileSnapshotStore","l":"getSpilledCount()"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"SpillingResultStore","l":"getSpilledCount()"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetrics","l":"getStageCounts()"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetricsMXBean","l":"getStageCounts()"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetrics","l":"getStageMaxMicros()"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetricsMXBean","l":"getStageMaxMicros()"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetrics","l":"getStageMeanMicros()"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetricsMXBean","l":"getStageMeanMicros()"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetrics","l":"getStageP99Micros()"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetricsMXBean","l":"getStageP99Micros()"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetrics","l":"getStageTotalMillis()"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetricsMXBean","l":"getStageTotalMillis()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"CoordinateTable","l":"getString(int)"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetrics","l":"getSummary()"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetricsMXBean","l":"getSummary()"},{"p":"net.ssehub.comani.analysis.librarychange.stats","c":"ChurnStatistics","l":"getSummary()"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"LatencyHistogram","l":"getTotalNanos()"},{"p":"net.ssehub.comani.analysis.librarychange.stats","c":"ChurnStatistics","l":"getUpgrades(String, String)","u":"getUpgrades(java.lang.String,java.lang.String)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"MemoryBudget","l":"getUsed()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryInformation","l":"getVersion()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"GradleBuildFileAnalyzer","l":"GradleBuildFileAnalyzer()","u":"%3Cinit%3E()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"AnalysisResult","l":"hasError(String)","u":"hasError(java.lang.String)"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"ResultLog","l":"HASH_EXTENSION"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryInformation","l":"hashCode()"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"CsvResultSerializer","l":"HEADER"},{"p":"net.ssehub.comani.analysis.librarychange.stats","c":"HyperLogLog","l":"HyperLogLog(int)","u":"%3Cinit%3E(int)"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetrics","l":"increment(AnalysisMetrics.Counter)","u":"increment(net.ssehub.comani.analysis.librarychange.metrics.AnalysisMetrics.Counter)"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"ResultLog","l":"INDEX_EXTENSION"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"IndexingSink","l":"IndexingSink(ResultSink, TimelineIndexWriter)","u":"%3Cinit%3E(net.ssehub.comani.analysis.librarychange.output.ResultSink,net.ssehub.comani.analysis.librarychange.timeline.TimelineIndexWriter)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"CoordinateTable","l":"intern(String)","u":"intern(java.lang.String)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"CoordinateTable","l":"intern(String, int, int)","u":"intern(java.lang.String,int,int)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"PathClassifier","l":"isBuildFile(String)","u":"isBuildFile(java.lang.String)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"PathClassifier","l":"isCodeFile(String)","u":"isCodeFile(java.lang.String)"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetrics","l":"isEnabled()"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetricsMXBean","l":"isEnabled()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"MemoryBudget","l":"isExceeded()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryInformation","l":"isSameLibrary(BuildFileAnalysisResult.LibraryEntry.LibraryInformation)","u":"isSameLibrary(net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry.LibraryInformation)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryInformation","l":"isSameLibraryInDifferentVersion(BuildFileAnalysisResult.LibraryEntry.LibraryInformation)","u":"isSameLibraryInDifferentVersion(net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry.LibraryInformation)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryInformation","l":"isSameLibraryInSameVersion(BuildFileAnalysisResult.LibraryEntry.LibraryInformation)","u":"isSameLibraryInSameVersion(net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry.LibraryInformation)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalyzerRegistry","l":"isSupported(String)","u":"isSupported(java.lang.String)"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"JsonResultSerializer","l":"JsonResultSerializer()","u":"%3Cinit%3E()"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"LatencyHistogram","l":"LatencyHistogram()","u":"%3Cinit%3E()"},{"p":"net.ssehub.comani.analysis.librarychange.core","c":"LibraryChangeAnalysis","l":"LibraryChangeAnalysis(Properties, IAnalysisQueue)","u":"%3Cinit%3E(java.util.Properties,net.ssehub.comani.data.IAnalysisQueue)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"LibraryChangeAnalyzer","l":"LibraryChangeAnalyzer(PathClassifier, Commit)","u":"%3Cinit%3E(net.ssehub.comani.analysis.librarychange.diff.PathClassifier,net.ssehub.comani.data.Commit)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"LibraryChangeAnalyzer","l":"LibraryChangeAnalyzer(PathClassifier, ParseCache, Commit)","u":"%3Cinit%3E(net.ssehub.comani.analysis.librarychange.diff.PathClassifier,net.ssehub.comani.analysis.librarychange.diff.ParseCache,net.ssehub.comani.data.Commit)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"LibraryChangeAnalyzer","l":"LibraryChangeAnalyzer(String, String, Commit)","u":"%3Cinit%3E(java.lang.String,java.lang.String,net.ssehub.comani.data.Commit)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry","l":"LibraryEntry(BuildFileAnalysisResult.LibraryEntry.LibraryInformation, BuildFileAnalysisResult.LibraryEntry.LibraryInformation)","u":"%3Cinit%3E(net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry.LibraryInformation,net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry.LibraryInformation)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryInformation","l":"LibraryInformation(String, String, String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String,java.lang.String,java.lang.String)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"ParseCache","l":"LOG_NAME"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"ResultLogSink","l":"LOG_NAME"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"MavenBuildFileAnalyzer","l":"MavenBuildFileAnalyzer()","u":"%3Cinit%3E()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"MemoryBudget","l":"MemoryBudget(long)","u":"%3Cinit%3E(long)"},{"p":"net.ssehub.comani.analysis.librarychange.stats","c":"HyperLogLog","l":"merge(HyperLogLog)","u":"merge(net.ssehub.comani.analysis.librarychange.stats.HyperLogLog)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"ModuleGraph","l":"ModuleGraph()","u":"%3Cinit%3E()"},{"p":"net.ssehub.comani.analysis.librarychange.core","c":"CommitBatcher","l":"nextBatch()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryChangeType","l":"NO_CHANGE"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalyzer","l":"NO_DEADLINE"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"CoordinateTable","l":"NULL_ID"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetrics","l":"OBJECT_NAME"},{"p":"net.ssehub.comani.analysis.librarychange.core","c":"LibraryChangeAnalysis","l":"operatingSystemSupported(String)","u":"operatingSystemSupported(java.lang.String)"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetrics.Counter","l":"OTHER_FILES"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"CoordinateTable","l":"pair(int, int)","u":"pair(int,int)"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetrics.Counter","l":"PARSE_CACHE_HITS"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetrics.Counter","l":"PARSE_CACHE_MISSES"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"ParseCache","l":"ParseCache(int, Path)","u":"%3Cinit%3E(int,java.nio.file.Path)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"ParseCache","l":"ParseCache(int, Path, MemoryBudget)","u":"%3Cinit%3E(int,java.nio.file.Path,net.ssehub.comani.analysis.librarychange.diff.MemoryBudget)"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetrics.Stage","l":"PATH_CLASSIFICATION"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"PathClassifier","l":"PathClassifier(String, String)","u":"%3Cinit%3E(java.lang.String,java.lang.String)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"PathClassifier","l":"PathClassifier(String, String, BuildFileAnalyzerRegistry)","u":"%3Cinit%3E(java.lang.String,java.lang.String,net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalyzerRegistry)"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"SpillingResultStore","l":"put(AnalysisResult)","u":"put(net.ssehub.comani.analysis.librarychange.diff.AnalysisResult)"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetrics.Stage","l":"QUEUE_WAIT"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"ResultLog","l":"read(String)","u":"read(java.lang.String)"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetrics","l":"record(AnalysisMetrics.Stage, long)","u":"record(net.ssehub.comani.analysis.librarychange.metrics.AnalysisMetrics.Stage,long)"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"LatencyHistogram","l":"record(long)"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetrics","l":"recordParse(Class<?>, long)","u":"recordParse(java.lang.Class,long)"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetrics","l":"register()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"MemoryBudget","l":"release(long)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryChangeType","l":"REMOVAL"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryChangeType","l":"REPLACEMENT"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"AnalysisResult","l":"replaceResult(BuildFileAnalysisResult)","u":"replaceResult(net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"MemoryBudget","l":"reserve(long)"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetrics","l":"reset()"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"LatencyHistogram","l":"reset()"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetrics.Stage","l":"RESULT_WRITE"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"ResultLog","l":"ResultLog(Path, String, long)","u":"%3Cinit%3E(java.nio.file.Path,java.lang.String,long)"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"ResultLogSink","l":"ResultLogSink(Path, long, ResultSerializer)","u":"%3Cinit%3E(java.nio.file.Path,long,net.ssehub.comani.analysis.librarychange.output.ResultSerializer)"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"ResultLog","l":"SEGMENT_EXTENSION"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"CsvResultSerializer","l":"serialize(AnalysisResult, Writer)","u":"serialize(net.ssehub.comani.analysis.librarychange.diff.AnalysisResult,java.io.Writer)"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"JsonResultSerializer","l":"serialize(AnalysisResult, Writer)","u":"serialize(net.ssehub.comani.analysis.librarychange.diff.AnalysisResult,java.io.Writer)"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"ResultSerializer","l":"serialize(AnalysisResult, Writer)","u":"serialize(net.ssehub.comani.analysis.librarychange.diff.AnalysisResult,java.io.Writer)"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"TextResultSerializer","l":"serialize(AnalysisResult, Writer)","u":"serialize(net.ssehub.comani.analysis.librarychange.diff.AnalysisResult,java.io.Writer)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"AnalysisResult","l":"setCommitId(String)","u":"setCommitId(java.lang.String)"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetrics","l":"setEnabled(boolean)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"MemoryBudget","l":"share(int)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"ArtifactError.Reason","l":"SIZE_EXCEEDED"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileSnapshotStore","l":"size()"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"CommitCheckpoint","l":"size()"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"SpillingResultStore","l":"SpillingResultStore(MemoryBudget)","u":"%3Cinit%3E(net.ssehub.comani.analysis.librarychange.diff.MemoryBudget)"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetrics","l":"start()"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"StreamingResultWriter","l":"StreamingResultWriter(ResultSink, int)","u":"%3Cinit%3E(net.ssehub.comani.analysis.librarychange.output.ResultSink,int)"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"StreamingResultWriter","l":"StreamingResultWriter(ResultSink, int, MemoryBudget)","u":"%3Cinit%3E(net.ssehub.comani.analysis.librarychange.output.ResultSink,int,net.ssehub.comani.analysis.librarychange.diff.MemoryBudget)"},{"p":"net.ssehub.comani.analysis.librarychange.core","c":"CommitAnalysisPipeline","l":"submit(List<Commit>)","u":"submit(java.util.List)"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"TextResultSerializer","l":"TextResultSerializer()","u":"%3Cinit%3E()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"ArtifactError.Reason","l":"TIME_EXCEEDED"},{"p":"net.ssehub.comani.analysis.librarychange.timeline","c":"TimelineIndex","l":"TimelineIndex(Path)","u":"%3Cinit%3E(java.nio.file.Path)"},{"p":"net.ssehub.comani.analysis.librarychange.timeline","c":"TimelineIndexWriter","l":"TimelineIndexWriter(Path)","u":"%3Cinit%3E(java.nio.file.Path)"},{"p":"net.ssehub.comani.analysis.librarychange.timeline","c":"TimelineIndexWriter","l":"TimelineIndexWriter(Path, MemoryBudget)","u":"%3Cinit%3E(java.nio.file.Path,net.ssehub.comani.analysis.librarychange.diff.MemoryBudget)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"AnalysisResult","l":"toString()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"ArtifactError","l":"toString()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryInformation","l":"toString()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry","l":"toString()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult","l":"toString()"},{"p":"net.ssehub.comani.analysis.librarychange.timeline","c":"TimelineEvent","l":"toString()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryChangeType","l":"UNDEFINED"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"ArtifactBudget","l":"UNLIMITED"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"MemoryBudget","l":"UNLIMITED"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetrics","l":"unregister()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"ArtifactError.Reason","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryChangeType","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetrics.Counter","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetrics.Stage","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"ArtifactError.Reason","l":"values()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryChangeType","l":"values()"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetrics.Counter","l":"values()"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","c":"AnalysisMetrics.Stage","l":"values()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"BuildFileAnalysisResult.LibraryEntry.LibraryChangeType","l":"VERSION_CHANGE"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"VersionCatalogAnalyzer","l":"VersionCatalogAnalyzer()","u":"%3Cinit%3E()"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"VersionCatalogResolver","l":"VersionCatalogResolver()","u":"%3Cinit%3E()"},{"p":"net.ssehub.comani.analysis.librarychange.core","c":"LibraryChangeAnalysis","l":"versionControlSystemSupported(String)","u":"versionControlSystemSupported(java.lang.String)"},{"p":"net.ssehub.comani.analysis.librarychange.diff","c":"VersionResolver","l":"VersionResolver()","u":"%3Cinit%3E()"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"SpillingResultStore.ResultVisitor","l":"visit(AnalysisResult)","u":"visit(net.ssehub.comani.analysis.librarychange.diff.AnalysisResult)"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"CheckpointingSink","l":"write(AnalysisResult)","u":"write(net.ssehub.comani.analysis.librarychange.diff.AnalysisResult)"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"CommitFileSink","l":"write(AnalysisResult)","u":"write(net.ssehub.comani.analysis.librarychange.diff.AnalysisResult)"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"IndexingSink","l":"write(AnalysisResult)","u":"write(net.ssehub.comani.analysis.librarychange.diff.AnalysisResult)"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"ResultLogSink","l":"write(AnalysisResult)","u":"write(net.ssehub.comani.analysis.librarychange.diff.AnalysisResult)"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"ResultSink","l":"write(AnalysisResult)","u":"write(net.ssehub.comani.analysis.librarychange.diff.AnalysisResult)"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"StreamingResultWriter","l":"write(AnalysisResult)","u":"write(net.ssehub.comani.analysis.librarychange.diff.AnalysisResult)"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"CsvResultSerializer","l":"writeHeader(Writer)","u":"writeHeader(java.io.Writer)"},{"p":"net.ssehub.comani.analysis.librarychange.output","c":"ResultSerializer","l":"writeHeader(Writer)","u":"writeHeader(java.io.Writer)"},{"p":"net.ssehub.comani.analysis.librarychange.stats","c":"ChurnStatistics","l":"writeReport(Path)","u":"writeReport(java.nio.file.Path)"}];updateSearchResults();
\ No newline at end of file
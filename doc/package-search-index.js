@@ -1 +1 @@
-packageSearchIndex = [{"l":"All Packages","url":"allpackages-index.html"},{"l":"net.ssehub.comani.analysis.librarychange.core"},{"l":"net.ssehub.comani.analysis.librarychange.diff"}]
\ No newline at end of file
+packageSearchIndex = [{"l":"All Packages","u":"allpackages-index.html"},{"l":"net.ssehub.comani.analysis.librarychange.core"},{"l":"net.ssehub.comani.analysis.librarychange.diff"},{"l":"net.ssehub.comani.analysis.librarychange.metrics"},{"l":"net.ssehub.comani.analysis.librarychange.output"},{"l":"net.ssehub.comani.analysis.librarychange.stats"},{"l":"net.ssehub.comani.analysis.librarychange.timeline"}];updateSearchResults();
\ No newline at end of file
@@ -1 +1 @@
-typeSearchIndex = [{"l":"All Classes","url":"allclasses-index.html"},{"p":"net.ssehub.comani.analysis.librarychange.diff","l":"AnalysisResult"},{"p":"net.ssehub.comani.analysis.librarychange.diff","l":"BuildFileAnalysisResult"},{"p":"net.ssehub.comani.analysis.librarychange.diff","l":"BuildFileAnalyzer"},{"p":"net.ssehub.comani.analysis.librarychange.diff","l":"BuildFileAnalyzerFactory"},{"p":"net.ssehub.comani.analysis.librarychange.diff","l":"GradleBuildFileAnalyzer"},{"p":"net.ssehub.comani.analysis.librarychange.core","l":"LibraryChangeAnalysis"},{"p":"net.ssehub.comani.analysis.librarychange.diff","l":"LibraryChangeAnalyzer"},{"p":"net.ssehub.comani.analysis.librarychange.diff","l":"BuildFileAnalysisResult.LibraryEntry.LibraryChangeType"},{"p":"net.ssehub.comani.analysis.librarychange.diff","l":"BuildFileAnalysisResult.LibraryEntry"},{"p":"net.ssehub.comani.analysis.librarychange.diff","l":"BuildFileAnalysisResult.LibraryEntry.LibraryInformation"}]
\ No newline at end of file
+typeSearchIndex = [{"l":"All Classes and Interfaces","u":"allclasses-index.html"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","l":"AnalysisMetrics"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","l":"AnalysisMetricsMXBean"},{"p":"net.ssehub.comani.analysis.librarychange.diff","l":"AnalysisResult"},{"p":"net.ssehub.comani.analysis.librarychange.diff","l":"AntBuildFileAnalyzer"},{"p":"net.ssehub.comani.analysis.librarychange.diff","l":"ArtifactBudget"},{"p":"net.ssehub.comani.analysis.librarychange.diff","l":"ArtifactError"},{"p":"net.ssehub.comani.analysis.librarychange.diff","l":"BudgetExceededException"},{"p":"net.ssehub.comani.analysis.librarychange.diff","l":"BuildFileAnalysisResult"},{"p":"net.ssehub.comani.analysis.librarychange.diff","l":"BuildFileAnalyzer"},{"p":"net.ssehub.comani.analysis.librarychange.diff","l":"BuildFileAnalyzerRegistry"},{"p":"net.ssehub.comani.analysis.librarychange.diff","l":"BuildFileSnapshotStore"},{"p":"net.ssehub.comani.analysis.librarychange.output","l":"CheckpointingSink"},{"p":"net.ssehub.comani.analysis.librarychange.stats","l":"ChurnStatistics"},{"p":"net.ssehub.comani.analysis.librarychange.core","l":"CommitAnalysisPipeline"},{"p":"net.ssehub.comani.analysis.librarychange.diff","l":"CommitBatchAnalyzer"},{"p":"net.ssehub.comani.analysis.librarychange.core","l":"CommitBatcher"},{"p":"net.ssehub.comani.analysis.librarychange.output","l":"CommitCheckpoint"},{"p":"net.ssehub.comani.analysis.librarychange.output","l":"CommitFileSink"},{"p":"net.ssehub.comani.analysis.librarychange.diff","l":"CoordinateTable"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","l":"AnalysisMetrics.Counter"},{"p":"net.ssehub.comani.analysis.librarychange.output","l":"CsvResultSerializer"},{"p":"net.ssehub.comani.analysis.librarychange.diff","l":"GradleBuildFileAnalyzer"},{"p":"net.ssehub.comani.analysis.librarychange.stats","l":"HyperLogLog"},{"p":"net.ssehub.comani.analysis.librarychange.output","l":"IndexingSink"},{"p":"net.ssehub.comani.analysis.librarychange.output","l":"JsonResultSerializer"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","l":"LatencyHistogram"},{"p":"net.ssehub.comani.analysis.librarychange.core","l":"LibraryChangeAnalysis"},{"p":"net.ssehub.comani.analysis.librarychange.diff","l":"LibraryChangeAnalyzer"},{"p":"net.ssehub.comani.analysis.librarychange.diff","l":"BuildFileAnalysisResult.LibraryEntry.LibraryChangeType"},{"p":"net.ssehub.comani.analysis.librarychange.diff","l":"BuildFileAnalysisResult.LibraryEntry"},{"p":"net.ssehub.comani.analysis.librarychange.diff","l":"BuildFileAnalysisResult.LibraryEntry.LibraryInformation"},{"p":"net.ssehub.comani.analysis.librarychange.diff","l":"MavenBuildFileAnalyzer"},{"p":"net.ssehub.comani.analysis.librarychange.diff","l":"MemoryBudget"},{"p":"net.ssehub.comani.analysis.librarychange.diff","l":"ModuleGraph"},{"p":"net.ssehub.comani.analysis.librarychange.diff","l":"ParseCache"},{"p":"net.ssehub.comani.analysis.librarychange.diff","l":"PathClassifier"},{"p":"net.ssehub.comani.analysis.librarychange.diff","l":"ArtifactError.Reason"},{"p":"net.ssehub.comani.analysis.librarychange.output","l":"ResultLog.RecordConsumer"},{"p":"net.ssehub.comani.analysis.librarychange.diff","l":"ResultCodec"},{"p":"net.ssehub.comani.analysis.librarychange.core","l":"CommitAnalysisPipeline.ResultConsumer"},{"p":"net.ssehub.comani.analysis.librarychange.output","l":"ResultLog"},{"p":"net.ssehub.comani.analysis.librarychange.output","l":"ResultLogSink"},{"p":"net.ssehub.comani.analysis.librarychange.output","l":"ResultSerializer"},{"p":"net.ssehub.comani.analysis.librarychange.output","l":"ResultSink"},{"p":"net.ssehub.comani.analysis.librarychange.output","l":"SpillingResultStore.ResultVisitor"},{"p":"net.ssehub.comani.analysis.librarychange.output","l":"SpillingResultStore"},{"p":"net.ssehub.comani.analysis.librarychange.metrics","l":"AnalysisMetrics.Stage"},{"p":"net.ssehub.comani.analysis.librarychange.output","l":"StreamingResultWriter"},{"p":"net.ssehub.comani.analysis.librarychange.output","l":"TextResultSerializer"},{"p":"net.ssehub.comani.analysis.librarychange.timeline","l":"TimelineEvent"},{"p":"net.ssehub.comani.analysis.librarychange.timeline","l":"TimelineIndex"},{"p":"net.ssehub.comani.analysis.librarychange.timeline","l":"TimelineIndexWriter"},{"p":"net.ssehub.comani.analysis.librarychange.diff","l":"VersionCatalogAnalyzer"},{"p":"net.ssehub.comani.analysis.librarychange.diff","l":"VersionCatalogResolver"},{"p":"net.ssehub.comani.analysis.librarychange.diff","l":"VersionResolver"}];updateSearchResults();
\ No newline at end of file
@@ -0,0 +1,315 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.comani.analysis.librarychange.core;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import net.ssehub.comani.analysis.librarychange.diff.AnalysisResult;
+import net.ssehub.comani.core.Logger;
+import net.ssehub.comani.core.Logger.MessageType;
+import net.ssehub.comani.data.Commit;
+
+/**
+ * This class realizes the concurrent analysis of {@link Commit}s. Commits are submitted in batches in the order they
+ * are received from the extractor and each batch is analyzed as a whole by one of a fixed number of worker threads.
+ * The {@link AnalysisResult}s are handed to the {@link ResultConsumer} strictly in submission order, which makes the
+ * overall output independent of the number of threads and the size of the batches in use.
+ */
+public class CommitAnalysisPipeline {
+
+    /**
+     * This interface defines the receiver of the (ordered) analysis results of the {@link CommitAnalysisPipeline}.
+     * Calls to {@link #accept(Commit, AnalysisResult)} never overlap and always happen in submission order.
+     */
+    public interface ResultConsumer {
+
+        /**
+         * Receives the result of analyzing the given commit.
+         *
+         * @param commit the {@link Commit} that was analyzed
+         * @param result the {@link AnalysisResult} of that commit or <code>null</code>, if the commit was not analyzed
+         */
+        public void accept(Commit commit, AnalysisResult result);
+    }
+
+    /**
+     * The identifier of this class, e.g., for printing messages.
+     */
+    private static final String ID = "CommitAnalysisPipeline";
+
+    /**
+     * The number of batches each worker thread may have in flight (queued, in analysis, or waiting for release)
+     * before {@link #submit(List)} blocks.
+     */
+    private static final int IN_FLIGHT_PER_THREAD = 4;
+
+    /**
+     * The time in seconds after which {@link #abort()} logs that it still waits for the worker threads.
+     */
+    private static final long TERMINATION_CHECK_INTERVAL = 60;
+
+    /**
+     * The function analyzing a batch of commits. It returns the results in the order of the given commits. It must be
+     * safe to call this function from multiple threads at the same time.
+     */
+    private Function<List<Commit>, List<AnalysisResult>> analysis;
+
+    /**
+     * The {@link ResultConsumer} receiving the results in submission order.
+     */
+    private ResultConsumer consumer;
+
+    /**
+     * The executor running the analyses; <code>null</code>, if the parallelism is <code>1</code>, in which case all
+     * analyses run on the thread calling {@link #submit(List)}.
+     */
+    private ExecutorService executor;
+
+    /**
+     * The semaphore limiting the number of batches in flight. This bounds the memory required for commits and results
+     * waiting for their release and provides backpressure to the thread submitting the commits.
+     */
+    private Semaphore inFlight;
+
+    /**
+     * The maximum number of permits of {@link #inFlight}.
+     */
+    private int inFlightLimit;
+
+    /**
+     * The sequence number assigned to the next submitted batch. Only accessed by the submitting thread.
+     */
+    private long nextSubmission;
+
+    /**
+     * The sequence number of the next batch to release to the {@link #consumer}. Guarded by {@link #completed}.
+     */
+    private long nextRelease;
+
+    /**
+     * The batches (and their results), which are analyzed, but wait for their predecessors to be released. The key is
+     * the sequence number of the batch. Guarded by itself.
+     */
+    private Map<Long, CompletedAnalysis> completed;
+
+    /**
+     * The flag indicating that {@link #abort()} was called; batches are neither analyzed nor released afterwards.
+     */
+    private volatile boolean aborted;
+
+    /**
+     * Creates a new pipeline.
+     *
+     * @param parallelism the number of worker threads; must be at least <code>1</code>
+     * @param analysis the function analyzing a batch of commits, which returns one result (or <code>null</code>) per
+     *        commit in the order of the batch; must be thread-safe, if the parallelism is greater than <code>1</code>
+     * @param consumer the {@link ResultConsumer} receiving the results in submission order
+     */
+    public CommitAnalysisPipeline(int parallelism, Function<List<Commit>, List<AnalysisResult>> analysis,
+            ResultConsumer consumer) {
+        this.analysis = analysis;
+        this.consumer = consumer;
+        if (parallelism > 1) {
+            executor = Executors.newFixedThreadPool(parallelism, new WorkerThreadFactory());
+        }
+        inFlightLimit = parallelism * IN_FLIGHT_PER_THREAD;
+        inFlight = new Semaphore(inFlightLimit);
+        completed = new HashMap<Long, CompletedAnalysis>();
+    }
+
+    /**
+     * Submits the given batch of commits for analysis. This method blocks, if the maximum number of batches is
+     * already in flight.
+     *
+     * @param commits the {@link Commit}s to analyze
+     * @throws InterruptedException if the calling thread is interrupted while waiting for a free slot
+     */
+    public void submit(List<Commit> commits) throws InterruptedException {
+        inFlight.acquire();
+        long sequence = nextSubmission++;
+        if (executor == null) {
+            run(sequence, commits);
+        } else {
+            executor.execute(() -> run(sequence, commits));
+        }
+    }
+
+    /**
+     * Waits until all submitted commits are analyzed and their results are released to the {@link ResultConsumer}.
+     * This pipeline cannot be used anymore afterwards.
+     *
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public void finish() throws InterruptedException {
+        inFlight.acquire(inFlightLimit);
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Stops this pipeline without analyzing the batches, which were submitted, but not started yet, and waits until
+     * the worker threads terminated. Results are not released to the {@link ResultConsumer} anymore, so the resources
+     * used by the analysis and the consumer may be closed safely afterwards. This method also waits, if the calling
+     * thread is interrupted; its interrupt status is restored afterwards. This pipeline cannot be used anymore
+     * afterwards.
+     */
+    public void abort() {
+        aborted = true;
+        if (executor != null) {
+            executor.shutdown();
+            boolean interrupted = false;
+            boolean terminated = false;
+            while (!terminated) {
+                try {
+                    terminated = executor.awaitTermination(TERMINATION_CHECK_INTERVAL, TimeUnit.SECONDS);
+                    if (!terminated) {
+                        Logger.getInstance().log(ID, "Waiting for worker threads", "Analyses started before the "
+                                + "abort are still running", MessageType.WARNING);
+                    }
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Analyzes the given batch of commits and releases all results, which are complete and next in submission order.
+     * The batch is recorded as completed even if its analysis fails, so the batches following it are still released
+     * and {@link #finish()} does not wait for it forever. After {@link #abort()}, the batch is not analyzed anymore.
+     *
+     * @param sequence the sequence number of the batch
+     * @param commits the {@link Commit}s to analyze
+     */
+    private void run(long sequence, List<Commit> commits) {
+        List<AnalysisResult> results = null;
+        try {
+            if (!aborted) {
+                results = analysis.apply(commits);
+            }
+        } catch (RuntimeException e) {
+            Logger.getInstance().log(ID, "Analysis of " + commits.size() + " commits starting with "
+                    + commits.get(0).getId() + " failed", e.getMessage(), MessageType.ERROR);
+        } finally {
+            // Errors propagate to the worker thread, but the batch must not block its successors
+            release(sequence, commits, results);
+        }
+    }
+
+    /**
+     * Records the given batch as completed and releases all results, which are complete and next in submission
+     * order, to the {@link #consumer}. After {@link #abort()}, the results are discarded instead. The permits of the
+     * released batches are returned to {@link #inFlight} in any case.
+     *
+     * @param sequence the sequence number of the batch
+     * @param commits the analyzed {@link Commit}s
+     * @param results the {@link AnalysisResult}s of the given commits; <code>null</code>, if the analysis failed
+     */
+    private void release(long sequence, List<Commit> commits, List<AnalysisResult> results) {
+        int released = 0;
+        try {
+            synchronized (completed) {
+                completed.put(sequence, new CompletedAnalysis(commits, results));
+                CompletedAnalysis next = completed.remove(nextRelease);
+                while (next != null) {
+                    nextRelease++;
+                    released++;
+                    for (int i = 0; i < next.commits.size() && !aborted; i++) {
+                        consume(next.commits.get(i), next.results != null ? next.results.get(i) : null);
+                    }
+                    next = completed.remove(nextRelease);
+                }
+            }
+        } finally {
+            inFlight.release(released);
+        }
+    }
+
+    /**
+     * Passes the given result to the {@link #consumer}. A failure of the consumer is logged and only affects the
+     * given commit.
+     *
+     * @param commit the analyzed {@link Commit}
+     * @param result the {@link AnalysisResult} of the given commit or <code>null</code>, if it was not analyzed
+     */
+    private void consume(Commit commit, AnalysisResult result) {
+        try {
+            consumer.accept(commit, result);
+        } catch (RuntimeException e) {
+            Logger.getInstance().log(ID, "Processing the result of commit " + commit.getId() + " failed",
+                    e.toString(), MessageType.ERROR);
+        }
+    }
+
+    /**
+     * This class holds an analyzed batch of commits until its results can be released.
+     */
+    private static class CompletedAnalysis {
+
+        /**
+         * The analyzed {@link Commit}s.
+         */
+        private List<Commit> commits;
+
+        /**
+         * The {@link AnalysisResult}s of the {@link #commits} in the same order; <code>null</code>, if the analysis of
+         * the batch failed.
+         */
+        private List<AnalysisResult> results;
+
+        /**
+         * Creates a new completed analysis.
+         *
+         * @param commits the analyzed {@link Commit}s
+         * @param results the {@link AnalysisResult}s of the given commits; may be <code>null</code>
+         */
+        private CompletedAnalysis(List<Commit> commits, List<AnalysisResult> results) {
+            this.commits = commits;
+            this.results = results;
+        }
+    }
+
+    /**
+     * This class creates the named daemon threads of the worker pool.
+     */
+    private static class WorkerThreadFactory implements ThreadFactory {
+
+        /**
+         * The number of the next thread created by this factory.
+         */
+        private AtomicInteger threadNumber = new AtomicInteger(1);
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, ID + "-worker-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.comani.analysis.librarychange.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import net.ssehub.comani.core.Logger;
+import net.ssehub.comani.core.Logger.MessageType;
+import net.ssehub.comani.data.Commit;
+import net.ssehub.comani.data.IAnalysisQueue;
+
+/**
+ * This class groups the {@link Commit}s received from an {@link IAnalysisQueue} into batches. A batch is complete, if
+ * it contains the maximum number of commits or if the batch timeout elapsed after its first commit was received.
+ * Hence, a slow extractor delays the analysis of a commit by at most the batch timeout.<br>
+ * <br>
+ * The {@link IAnalysisQueue} only provides single, blocking reads. For batches of more than one commit, a reader
+ * thread therefore transfers the commits into a bounded buffer, which is drained once per batch. For batches of a
+ * single commit, the commits are read directly from the queue.<br>
+ * <br>
+ * A failure of reading from the {@link IAnalysisQueue} is logged and passed to {@link #nextBatch()} after the commits
+ * read before. {@link #close()} stops the reader thread, e.g., if the analysis ends before the queue is closed.
+ */
+public class CommitBatcher {
+
+    /**
+     * The identifier of this class, e.g., for printing messages.
+     */
+    private static final String ID = "CommitBatcher";
+
+    /**
+     * The time in milliseconds to wait for the first commit of a batch before checking whether the
+     * {@link IAnalysisQueue} is closed.
+     */
+    private static final long CLOSE_CHECK_INTERVAL = 100;
+
+    /**
+     * The {@link IAnalysisQueue} providing the commits.
+     */
+    private IAnalysisQueue commitQueue;
+
+    /**
+     * The maximum number of commits per batch.
+     */
+    private int batchSize;
+
+    /**
+     * The time in nanoseconds to wait for further commits after the first commit of a batch was received.
+     */
+    private long batchTimeout;
+
+    /**
+     * The buffer, into which the reader thread transfers the commits; <code>null</code>, if the
+     * {@link #batchSize} is <code>1</code>.
+     */
+    private BlockingQueue<Commit> buffer;
+
+    /**
+     * Denotes whether the reader thread transferred all commits of the {@link #commitQueue} into the
+     * {@link #buffer}.
+     */
+    private volatile boolean queueClosed;
+
+    /**
+     * The failure of the reader thread; <code>null</code>, if reading did not fail (yet).
+     */
+    private volatile RuntimeException readFailure;
+
+    /**
+     * Denotes whether {@link #close()} was called.
+     */
+    private volatile boolean closed;
+
+    /**
+     * The reader thread; <code>null</code>, if the {@link #batchSize} is <code>1</code>.
+     */
+    private Thread reader;
+
+    /**
+     * Creates a new commit batcher. If the given batch size is greater than <code>1</code>, this constructor starts
+     * the reader thread.
+     *
+     * @param commitQueue the {@link IAnalysisQueue} providing the commits
+     * @param batchSize the maximum number of commits per batch; must be at least <code>1</code>
+     * @param batchTimeoutMillis the time in milliseconds to wait for further commits after the first commit of a
+     *        batch was received
+     */
+    public CommitBatcher(IAnalysisQueue commitQueue, int batchSize, long batchTimeoutMillis) {
+        this.commitQueue = commitQueue;
+        this.batchSize = batchSize;
+        this.batchTimeout = TimeUnit.MILLISECONDS.toNanos(batchTimeoutMillis);
+        if (batchSize > 1) {
+            buffer = new ArrayBlockingQueue<Commit>(batchSize * 2);
+            reader = new Thread(this::readCommits, ID + "-reader");
+            reader.setDaemon(true);
+            reader.start();
+        }
+    }
+
+    /**
+     * Returns the next batch of commits. This method blocks until at least one commit is available or the
+     * {@link IAnalysisQueue} is closed.
+     *
+     * @return the commits of the next batch in the order they were received; an empty list, if all commits were
+     *         returned already
+     * @throws InterruptedException if the calling thread is interrupted while waiting for commits
+     * @throws IllegalStateException if reading from the {@link IAnalysisQueue} failed; all commits read before the
+     *         failure were returned already
+     */
+    public List<Commit> nextBatch() throws InterruptedException {
+        List<Commit> batch = new ArrayList<Commit>(batchSize);
+        Commit commit = null;
+        if (buffer == null) {
+            while (commit == null && commitQueue.isOpen()) {
+                // A queue without commits does not block, hence the explicit check
+                if (Thread.interrupted()) {
+                    throw new InterruptedException("Interrupted while waiting for commits");
+                }
+                commit = readCommit();
+            }
+            if (commit != null) {
+                batch.add(commit);
+            }
+        } else {
+            while (commit == null && !isDrained()) {
+                commit = buffer.poll(CLOSE_CHECK_INTERVAL, TimeUnit.MILLISECONDS);
+            }
+            if (commit != null) {
+                batch.add(commit);
+                long deadline = System.nanoTime() + batchTimeout;
+                buffer.drainTo(batch, batchSize - batch.size());
+                long remaining = batchTimeout;
+                while (batch.size() < batchSize && remaining > 0 && !isDrained()) {
+                    commit = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (commit != null) {
+                        batch.add(commit);
+                        buffer.drainTo(batch, batchSize - batch.size());
+                    }
+                    remaining = deadline - System.nanoTime();
+                }
+            } else if (readFailure != null) {
+                throw new IllegalStateException("Reading commits failed", readFailure.getCause());
+            }
+        }
+        return batch;
+    }
+
+    /**
+     * Stops the reader thread. The commits not read yet remain in the {@link IAnalysisQueue}. The reader thread ends
+     * at the latest when its current read from the queue returns.
+     */
+    public void close() {
+        closed = true;
+        if (reader != null) {
+            reader.interrupt();
+        }
+    }
+
+    /**
+     * Checks whether all commits of the {@link IAnalysisQueue} were taken from the {@link #buffer}.
+     *
+     * @return <code>true</code>, if no further commits will be available, <code>false</code> otherwise
+     */
+    private boolean isDrained() {
+        // The reader sets the flag after its last transfer, hence the order of these checks
+        return queueClosed && buffer.isEmpty();
+    }
+
+    /**
+     * Transfers the commits of the {@link #commitQueue} into the {@link #buffer} until the queue is closed, reading
+     * fails, or this batcher is closed. This method is run by the reader thread.
+     */
+    private void readCommits() {
+        try {
+            while (commitQueue.isOpen() && !closed) {
+                Commit commit = readCommit();
+                if (commit != null) {
+                    buffer.put(commit);
+                }
+            }
+        } catch (IllegalStateException e) {
+            readFailure = e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            queueClosed = true;
+        }
+    }
+
+    /**
+     * Reads the next commit from the {@link #commitQueue}. A failure is logged, as the analysis cannot continue
+     * without the following commits.
+     *
+     * @return the next commit or <code>null</code>, if the queue provided none
+     * @throws IllegalStateException if reading the commit failed
+     */
+    private Commit readCommit() {
+        Commit commit;
+        try {
+            commit = commitQueue.getCommit();
+        } catch (RuntimeException e) {
+            Logger.getInstance().log(ID, "Reading commits failed", e.toString(), MessageType.ERROR);
+            throw new IllegalStateException("Reading commits failed", e);
+        }
+        return commit;
+    }
+}
@@ -12,23 +12,54 @@
  */
 package net.ssehub.comani.analysis.librarychange.core;
 
-import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Map.Entry;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
+import javax.management.JMException;
+
 import net.ssehub.comani.analysis.AbstractCommitAnalyzer;
 import net.ssehub.comani.analysis.AnalysisSetupException;
 import net.ssehub.comani.analysis.librarychange.diff.AnalysisResult;
-import net.ssehub.comani.analysis.librarychange.diff.LibraryChangeAnalyzer;
+import net.ssehub.comani.analysis.librarychange.diff.ArtifactBudget;
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult;
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileSnapshotStore;
+import net.ssehub.comani.analysis.librarychange.diff.CommitBatchAnalyzer;
+import net.ssehub.comani.analysis.librarychange.diff.MemoryBudget;
+import net.ssehub.comani.analysis.librarychange.diff.ModuleGraph;
+import net.ssehub.comani.analysis.librarychange.diff.ParseCache;
+import net.ssehub.comani.analysis.librarychange.diff.PathClassifier;
+import net.ssehub.comani.analysis.librarychange.diff.VersionCatalogResolver;
+import net.ssehub.comani.analysis.librarychange.diff.VersionResolver;
+import net.ssehub.comani.analysis.librarychange.metrics.AnalysisMetrics;
+import net.ssehub.comani.analysis.librarychange.metrics.AnalysisMetrics.Counter;
+import net.ssehub.comani.analysis.librarychange.metrics.AnalysisMetrics.Stage;
+import net.ssehub.comani.analysis.librarychange.output.CheckpointingSink;
+import net.ssehub.comani.analysis.librarychange.output.CommitCheckpoint;
+import net.ssehub.comani.analysis.librarychange.output.CommitFileSink;
+import net.ssehub.comani.analysis.librarychange.output.CsvResultSerializer;
+import net.ssehub.comani.analysis.librarychange.output.IndexingSink;
+import net.ssehub.comani.analysis.librarychange.output.JsonResultSerializer;
+import net.ssehub.comani.analysis.librarychange.output.ResultLogSink;
+import net.ssehub.comani.analysis.librarychange.output.ResultSerializer;
+import net.ssehub.comani.analysis.librarychange.output.ResultSink;
+import net.ssehub.comani.analysis.librarychange.output.SpillingResultStore;
+import net.ssehub.comani.analysis.librarychange.output.TextResultSerializer;
+import net.ssehub.comani.analysis.librarychange.output.StreamingResultWriter;
+import net.ssehub.comani.analysis.librarychange.stats.ChurnStatistics;
+import net.ssehub.comani.analysis.librarychange.timeline.TimelineIndexWriter;
 import net.ssehub.comani.core.Logger.MessageType;
+import net.ssehub.comani.data.ChangedArtifact;
 import net.ssehub.comani.data.Commit;
 import net.ssehub.comani.data.IAnalysisQueue;
 
@@ -63,6 +94,233 @@ public class LibraryChangeAnalysis extends AbstractCommitAnalyzer {
      */
     private static final String PROPERTY_ANALYSIS_OUTPUT = "analysis.output";
     
+    /**
+     * The string representation of the properties' key identifying the number of threads analyzing commits in
+     * parallel. The definition of this property is optional and has to define a positive integer; if it is not
+     * defined, commits are analyzed sequentially.
+     */
+    private static final String PROPERTY_THREADS = "analysis.library_change_analyzer.threads";
+    
+    /**
+     * The string representation of the properties' key identifying the maximum number of commits analyzed together as
+     * one batch (see {@link CommitBatcher}). The definition of this property is optional and has to define a positive
+     * integer; if it is not defined, each commit is analyzed on its own.
+     */
+    private static final String PROPERTY_BATCH_SIZE = "analysis.library_change_analyzer.batch_size";
+    
+    /**
+     * The string representation of the properties' key identifying the time in milliseconds to wait for further
+     * commits after the first commit of a batch was received. The definition of this property is optional and has to
+     * define a non-negative integer; it is only considered, if {@link #PROPERTY_BATCH_SIZE} is greater than
+     * <code>1</code>.
+     */
+    private static final String PROPERTY_BATCH_TIMEOUT = "analysis.library_change_analyzer.batch_timeout";
+    
+    /**
+     * The string representation of the properties' key identifying the maximum size in KiB of the diff of a single
+     * build file (see {@link ArtifactBudget}). Larger build files are not parsed, but reported as errors of their
+     * commit. The definition of this property is optional and has to define a non-negative integer; <code>0</code>
+     * (default) does not limit the size.
+     */
+    private static final String PROPERTY_MAX_ARTIFACT_SIZE = "analysis.library_change_analyzer.max_artifact_size";
+    
+    /**
+     * The string representation of the properties' key identifying the maximum time in milliseconds for parsing a
+     * single build file (see {@link ArtifactBudget}). The parsing of build files exceeding this time is aborted and
+     * reported as error of their commit. The definition of this property is optional and has to define a non-negative
+     * integer; <code>0</code> (default) does not limit the time.
+     */
+    private static final String PROPERTY_MAX_ARTIFACT_TIME = "analysis.library_change_analyzer.max_artifact_time";
+    
+    /**
+     * The string representation of the properties' key identifying the maximum number of analysis results waiting to
+     * be written to the output. The definition of this property is optional and has to define a positive integer.
+     */
+    private static final String PROPERTY_OUTPUT_BUFFER = "analysis.library_change_analyzer.output_buffer";
+    
+    /**
+     * The string representation of the properties' key identifying whether the analysis results shall be retained in
+     * memory in addition to writing them to the output. The definition of this property is optional and has to define
+     * either "<tt>true</tt>" or "<tt>false</tt>" (default).
+     */
+    private static final String PROPERTY_RETAIN_RESULTS = "analysis.library_change_analyzer.retain_results";
+    
+    /**
+     * The string representation of the properties' key identifying how the analysis results are written to the
+     * output directory. The definition of this property is optional and has to define either
+     * {@link #OUTPUT_MODE_FILES} (default) or {@link #OUTPUT_MODE_LOG}.
+     */
+    private static final String PROPERTY_OUTPUT_MODE = "analysis.library_change_analyzer.output_mode";
+    
+    /**
+     * The string representation of the properties' key identifying the size in MiB after which a new segment of the
+     * result log is started. The definition of this property is optional and has to define a positive integer. It is
+     * only considered, if {@link #PROPERTY_OUTPUT_MODE} is {@link #OUTPUT_MODE_LOG}.
+     */
+    private static final String PROPERTY_LOG_SEGMENT_SIZE = "analysis.library_change_analyzer.log_segment_size";
+    
+    /**
+     * The string representation of the properties' key identifying the format of the analysis results. The definition
+     * of this property is optional and has to define either "<tt>text</tt>" (default), "<tt>json</tt>",
+     * "<tt>csv</tt>", or the fully qualified name of a class implementing {@link ResultSerializer}.
+     */
+    private static final String PROPERTY_OUTPUT_FORMAT = "analysis.library_change_analyzer.output_format";
+    
+    /**
+     * The string representation of the properties' key identifying the maximum number of build files, for which
+     * snapshots are kept in memory in the incremental analysis mode (see {@link BuildFileSnapshotStore}); the snapshots
+     * of further build files are spilled to a temporary directory. The definition of this property is optional and has
+     * to define a non-negative integer; if it is not defined or <code>0</code>, the incremental mode is disabled.
+     */
+    private static final String PROPERTY_SNAPSHOT_LIMIT = "analysis.library_change_analyzer.snapshot_limit";
+    
+    /**
+     * The string representation of the properties' key identifying whether metrics of the analysis are collected (see
+     * {@link AnalysisMetrics}). The definition of this property is optional and has to define either
+     * "<tt>true</tt>" or "<tt>false</tt>" (default).
+     */
+    private static final String PROPERTY_METRICS = "analysis.library_change_analyzer.metrics";
+    
+    /**
+     * The string representation of the properties' key identifying whether a debug message is logged for each
+     * commit. The definition of this property is optional and has to define either "<tt>true</tt>" or
+     * "<tt>false</tt>" (default). As the messages are created independent of the log level, they are disabled by
+     * default to avoid their costs for large histories.
+     */
+    private static final String PROPERTY_COMMIT_LOGGING = "analysis.library_change_analyzer.commit_logging";
+    
+    /**
+     * The string representation of the properties' key identifying whether the analysis records the commits, whose
+     * results are written, in a {@link CommitCheckpoint} and skips the commits recorded by previous runs. If the
+     * analysis depends on the history (see {@link #isHistoryDependent()}), the recorded commits are analyzed again to
+     * restore that history, but their results are not written again. The definition of this property is optional and
+     * has to define either "<tt>true</tt>" or "<tt>false</tt>" (default).
+     */
+    private static final String PROPERTY_CHECKPOINT = "analysis.library_change_analyzer.checkpoint";
+    
+    /**
+     * The string representation of the properties' key identifying the maximum number of parsed build files kept in
+     * memory by the {@link ParseCache}. The definition of this property is optional and has to define a non-negative
+     * integer; if it is not defined or <code>0</code>, results are only cached on disk, if
+     * {@link #PROPERTY_PARSE_CACHE_DIR} is defined.
+     */
+    private static final String PROPERTY_PARSE_CACHE_SIZE = "analysis.library_change_analyzer.parse_cache_size";
+    
+    /**
+     * The string representation of the properties' key identifying the directory, in which the {@link ParseCache}
+     * persists parsed build files for later runs. The definition of this property is optional; if it is not defined,
+     * results are only cached in memory, if {@link #PROPERTY_PARSE_CACHE_SIZE} is defined.
+     */
+    private static final String PROPERTY_PARSE_CACHE_DIR = "analysis.library_change_analyzer.parse_cache_dir";
+    
+    /**
+     * The string representation of the properties' key identifying whether property references in versions are
+     * resolved (see {@link VersionResolver}). The definition of this property is optional and has to define either
+     * "<tt>true</tt>" or "<tt>false</tt>" (default).
+     */
+    private static final String PROPERTY_RESOLVE_VERSIONS = "analysis.library_change_analyzer.resolve_versions";
+    
+    /**
+     * The string representation of the properties' key identifying whether references to Gradle version catalogs,
+     * like <code>libs.guava</code>, are resolved (see {@link VersionCatalogResolver}). The definition of this property
+     * is optional and has to define either "<tt>true</tt>" or "<tt>false</tt>" (default).
+     */
+    private static final String PROPERTY_RESOLVE_CATALOGS = "analysis.library_change_analyzer.resolve_catalogs";
+    
+    /**
+     * The string representation of the properties' key identifying whether the library changes of parent build files
+     * are attributed to the modules inheriting them (see {@link ModuleGraph}). The definition of this property is
+     * optional and has to define either "<tt>true</tt>" or "<tt>false</tt>" (default).
+     */
+    private static final String PROPERTY_MODULE_GRAPH = "analysis.library_change_analyzer.module_graph";
+    
+    /**
+     * The string representation of the properties' key identifying whether the changes of all commits are added to
+     * the dependency timeline in the output directory (see {@link TimelineIndexWriter}). The definition of this
+     * property is optional and has to define either "<tt>true</tt>" or "<tt>false</tt>" (default).
+     */
+    private static final String PROPERTY_TIMELINE_INDEX = "analysis.library_change_analyzer.timeline_index";
+    
+    /**
+     * The string representation of the properties' key identifying whether the dependency churn of the analyzed
+     * commits is aggregated and reported at the end of the analysis (see {@link ChurnStatistics}). The definition of
+     * this property is optional and has to define either "<tt>true</tt>" or "<tt>false</tt>" (default).
+     */
+    private static final String PROPERTY_CHURN_STATISTICS = "analysis.library_change_analyzer.churn_statistics";
+    
+    /**
+     * The string representation of the properties' key identifying the number of commits per window, for which the
+     * {@link ChurnStatistics} count additions, removals, and version changes. The definition of this property is
+     * optional and has to define a positive integer; if it is not defined, {@link #DEFAULT_CHURN_WINDOW} is used.
+     */
+    private static final String PROPERTY_CHURN_WINDOW = "analysis.library_change_analyzer.churn_window";
+    
+    /**
+     * The string representation of the properties' key identifying the approximate maximum size in MiB of the
+     * analysis results, build file results, and build file snapshots retained in memory (see {@link MemoryBudget}).
+     * The budget is divided into fixed shares for the retained analysis results, which are spilled to a temporary
+     * directory (see {@link SpillingResultStore}) if their share is exceeded, the results waiting to be written, the
+     * parse cache, the build file snapshots, and the dependency timeline. The definition of this property is optional
+     * and has to define a non-negative integer; if it is not defined or <code>0</code>, the memory is not limited.
+     */
+    private static final String PROPERTY_MEMORY_BUDGET = "analysis.library_change_analyzer.memory_budget";
+    
+    /**
+     * The output mode writing one file per commit (see {@link CommitFileSink}).
+     */
+    private static final String OUTPUT_MODE_FILES = "files";
+    
+    /**
+     * The output mode appending all results to a single, indexed log (see {@link ResultLogSink}).
+     */
+    private static final String OUTPUT_MODE_LOG = "log";
+    
+    /**
+     * The default maximum number of analysis results waiting to be written to the output.
+     */
+    private static final int DEFAULT_OUTPUT_BUFFER = 256;
+    
+    /**
+     * The default size in MiB after which a new segment of the result log is started.
+     */
+    private static final int DEFAULT_LOG_SEGMENT_SIZE = 256;
+    
+    /**
+     * The default time in milliseconds to wait for further commits of a batch.
+     */
+    private static final int DEFAULT_BATCH_TIMEOUT = 10;
+    
+    /**
+     * The default number of commits per window of the {@link ChurnStatistics}.
+     */
+    private static final int DEFAULT_CHURN_WINDOW = 1000;
+    
+    /**
+     * The share in percent of the {@link #memoryBudget} for the retained analysis results.
+     */
+    private static final int RETAINED_RESULTS_SHARE = 40;
+    
+    /**
+     * The share in percent of the {@link #memoryBudget} for the analysis results waiting to be written.
+     */
+    private static final int OUTPUT_BUFFER_SHARE = 10;
+    
+    /**
+     * The share in percent of the {@link #memoryBudget} for the results in the {@link #parseCache}.
+     */
+    private static final int PARSE_CACHE_SHARE = 20;
+    
+    /**
+     * The share in percent of the {@link #memoryBudget} for the build file snapshots in the {@link #snapshotStore}.
+     */
+    private static final int SNAPSHOT_SHARE = 20;
+    
+    /**
+     * The share in percent of the {@link #memoryBudget} for the changes of the dependency timeline, which are not
+     * merged into its index file yet.
+     */
+    private static final int TIMELINE_SHARE = 10;
+    
     /**
      * The string denoting the Java regular expression for identifying code files. This value is set by
      * {@link #prepare()} based on the value of {@link #PROPERTY_CODE_FILES_REGEX}.
@@ -76,12 +334,222 @@ public class LibraryChangeAnalysis extends AbstractCommitAnalyzer {
     private String buildFilesRegex;
     
     /**
-     * The results of the analysis in terms of the commit id (key) and their specific {@link AnalysisResult}s (value).
+     * The {@link PathClassifier} compiled once from {@link #codeFilesRegex} and {@link #buildFilesRegex} and shared by
+     * all analyses. This value is set by {@link #prepare()}.
      */
-    private HashMap<String, AnalysisResult> analysisResults;
-
-	private Path outputPath;
+    private PathClassifier pathClassifier;
+    
+    /**
+     * The number of threads analyzing commits in parallel. This value is set by {@link #prepare()} based on the value
+     * of {@link #PROPERTY_THREADS}.
+     */
+    private int threads;
+    
+    /**
+     * The maximum number of commits per batch. This value is set by {@link #prepare()} based on the value of
+     * {@link #PROPERTY_BATCH_SIZE}.
+     */
+    private int batchSize;
+    
+    /**
+     * The time in milliseconds to wait for further commits of a batch. This value is set by {@link #prepare()} based
+     * on the value of {@link #PROPERTY_BATCH_TIMEOUT}.
+     */
+    private int batchTimeout;
+    
+    /**
+     * The {@link ArtifactBudget} limiting the resources spent on a single build file. This value is set by
+     * {@link #prepare()} based on the values of {@link #PROPERTY_MAX_ARTIFACT_SIZE} and
+     * {@link #PROPERTY_MAX_ARTIFACT_TIME}.
+     */
+    private ArtifactBudget artifactBudget;
+    
+    /**
+     * The maximum number of analysis results waiting to be written to the output. This value is set by
+     * {@link #prepare()} based on the value of {@link #PROPERTY_OUTPUT_BUFFER}.
+     */
+    private int outputBuffer;
+    
+    /**
+     * The output mode; either {@link #OUTPUT_MODE_FILES} or {@link #OUTPUT_MODE_LOG}. This value is set by
+     * {@link #prepare()} based on the value of {@link #PROPERTY_OUTPUT_MODE}.
+     */
+    private String outputMode;
+    
+    /**
+     * The size in bytes after which a new segment of the result log is started. This value is set by
+     * {@link #prepare()} based on the value of {@link #PROPERTY_LOG_SEGMENT_SIZE}.
+     */
+    private long logSegmentSize;
+    
+    /**
+     * The {@link ResultSerializer} defining the format of the analysis results. This value is set by
+     * {@link #prepare()} based on the value of {@link #PROPERTY_OUTPUT_FORMAT}.
+     */
+    private ResultSerializer resultSerializer;
+    
+    /**
+     * The results of the analysis in terms of the commit id and their specific {@link AnalysisResult}s. The results
+     * are ordered as the commits were received from the {@link IAnalysisQueue}, independent of the number of
+     * {@link #threads}. This store is only filled, if {@link #PROPERTY_RETAIN_RESULTS} is set to "<tt>true</tt>";
+     * otherwise, each result is only written to the output.
+     */
+    private SpillingResultStore analysisResults;
+    
+    /**
+     * The {@link MemoryBudget}, whose shares the retained analysis results, the results waiting to be written, the
+     * results in the {@link #parseCache}, the build file snapshots, and the dependency timeline count towards. This
+     * value is set by {@link #prepare()} based on the value of {@link #PROPERTY_MEMORY_BUDGET}.
+     */
+    private MemoryBudget memoryBudget;
+    
+    /**
+     * Denotes whether the analysis results shall be retained in {@link #analysisResults}. This value is set by
+     * {@link #prepare()} based on the value of {@link #PROPERTY_RETAIN_RESULTS}.
+     */
+    private boolean retainResults;
+    
+    /**
+     * The maximum number of build files, for which snapshots are kept in the incremental analysis mode. This value is
+     * set by {@link #prepare()} based on the value of {@link #PROPERTY_SNAPSHOT_LIMIT}.
+     */
+    private int snapshotLimit;
+    
+    /**
+     * The {@link BuildFileSnapshotStore} of the currently running analysis; <code>null</code>, if the incremental mode
+     * is disabled.
+     */
+    private BuildFileSnapshotStore snapshotStore;
+    
+    /**
+     * Denotes whether metrics of the analysis are collected. This value is set by {@link #prepare()} based on the
+     * value of {@link #PROPERTY_METRICS}.
+     */
+    private boolean metricsEnabled;
+    
+    /**
+     * Denotes whether a debug message is logged for each commit. This value is set by {@link #prepare()} based on the
+     * value of {@link #PROPERTY_COMMIT_LOGGING}.
+     */
+    private boolean commitLogging;
+    
+    /**
+     * Denotes whether the analysis is checkpointed. This value is set by {@link #prepare()} based on the value of
+     * {@link #PROPERTY_CHECKPOINT}.
+     */
+    private boolean checkpointEnabled;
+    
+    /**
+     * The {@link CommitCheckpoint} of the currently running analysis; <code>null</code>, if the analysis is not
+     * checkpointed.
+     */
+    private CommitCheckpoint checkpoint;
+    
+    /**
+     * The ids of the submitted commits, which were recorded in the {@link #checkpoint} by a previous run and are only
+     * analyzed to restore the history of the build files. Added by the thread submitting the commits and removed by
+     * {@link #consumeResult(Commit, AnalysisResult)}.
+     */
+    private Set<String> replayedCommits = ConcurrentHashMap.newKeySet();
+    
+    /**
+     * The maximum number of parsed build files kept in memory. This value is set by {@link #prepare()} based on the
+     * value of {@link #PROPERTY_PARSE_CACHE_SIZE}.
+     */
+    private int parseCacheSize;
+    
+    /**
+     * The directory of the persistent parse cache; <code>null</code>, if parsed build files are not persisted. This
+     * value is set by {@link #prepare()} based on the value of {@link #PROPERTY_PARSE_CACHE_DIR}.
+     */
+    private Path parseCacheDir;
+    
+    /**
+     * The {@link ParseCache} of the currently running analysis; <code>null</code>, if parsed build files are not
+     * cached.
+     */
+    private ParseCache parseCache;
+    
+    /**
+     * The {@link CommitBatchAnalyzer} of the currently running analysis.
+     */
+    private CommitBatchAnalyzer batchAnalyzer;
+    
+    /**
+     * Denotes whether property references in versions are resolved. This value is set by {@link #prepare()} based on
+     * the value of {@link #PROPERTY_RESOLVE_VERSIONS}.
+     */
+    private boolean resolveVersions;
+    
+    /**
+     * The {@link VersionResolver} of the currently running analysis; <code>null</code>, if versions are not resolved.
+     */
+    private VersionResolver versionResolver;
+    
+    /**
+     * Denotes whether references to version catalogs are resolved. This value is set by {@link #prepare()} based on
+     * the value of {@link #PROPERTY_RESOLVE_CATALOGS}.
+     */
+    private boolean resolveCatalogs;
+    
+    /**
+     * The {@link VersionCatalogResolver} of the currently running analysis; <code>null</code>, if references to
+     * version catalogs are not resolved.
+     */
+    private VersionCatalogResolver catalogResolver;
+    
+    /**
+     * Denotes whether library changes are propagated to inheriting modules. This value is set by {@link #prepare()}
+     * based on the value of {@link #PROPERTY_MODULE_GRAPH}.
+     */
+    private boolean moduleGraphEnabled;
+    
+    /**
+     * The {@link ModuleGraph} of the currently running analysis; <code>null</code>, if library changes are not
+     * propagated.
+     */
+    private ModuleGraph moduleGraph;
+    
+    /**
+     * Denotes whether the dependency timeline is built. This value is set by {@link #prepare()} based on the value of
+     * {@link #PROPERTY_TIMELINE_INDEX}.
+     */
+    private boolean timelineIndexEnabled;
+    
+    /**
+     * Denotes whether the dependency churn is aggregated. This value is set by {@link #prepare()} based on the value
+     * of {@link #PROPERTY_CHURN_STATISTICS}.
+     */
+    private boolean churnStatisticsEnabled;
+    
+    /**
+     * The number of commits per window of the {@link ChurnStatistics}. This value is set by {@link #prepare()} based
+     * on the value of {@link #PROPERTY_CHURN_WINDOW}.
+     */
+    private int churnWindow;
+    
+    /**
+     * The {@link ChurnStatistics} of the currently or last running analysis; <code>null</code>, if the dependency
+     * churn is not aggregated.
+     */
+    private ChurnStatistics churnStatistics;
+    
+    /**
+     * The {@link StreamingResultWriter} writing the results of the currently running analysis to the output.
+     */
+    private StreamingResultWriter resultWriter;
+    
+    /**
+     * Denotes whether at least one commit was analyzed successfully. Only modified by the (serialized)
+     * {@link #consumeResult(Commit, AnalysisResult)}.
+     */
+    private boolean analysisSuccessful;
 
+    /**
+     * The directory to which the analysis results will be stored. This value is set by the constructor based on the
+     * value of {@link #PROPERTY_ANALYSIS_OUTPUT}.
+     */
+    private Path outputPath;
 
     /**
      * Create a new instance of this analyzer.
@@ -110,8 +578,101 @@ public class LibraryChangeAnalysis extends AbstractCommitAnalyzer {
         checkRegex(PROPERTY_CODE_FILES_REGEX, codeFilesRegex);
         buildFilesRegex = analysisProperties.getProperty(PROPERTY_BUILD_FILES_REGEX);
         checkRegex(PROPERTY_BUILD_FILES_REGEX, buildFilesRegex);
-        // Second: initialize result map
-        analysisResults = new HashMap<String, AnalysisResult>();
+        pathClassifier = new PathClassifier(codeFilesRegex, buildFilesRegex);
+        threads = getPositiveInteger(PROPERTY_THREADS, 1, false);
+        batchSize = getPositiveInteger(PROPERTY_BATCH_SIZE, 1, false);
+        batchTimeout = getPositiveInteger(PROPERTY_BATCH_TIMEOUT, DEFAULT_BATCH_TIMEOUT, true);
+        artifactBudget = new ArtifactBudget(getPositiveInteger(PROPERTY_MAX_ARTIFACT_SIZE, 0, true) * 1024L,
+                getPositiveInteger(PROPERTY_MAX_ARTIFACT_TIME, 0, true));
+        outputBuffer = getPositiveInteger(PROPERTY_OUTPUT_BUFFER, DEFAULT_OUTPUT_BUFFER, false);
+        outputMode = analysisProperties.getProperty(PROPERTY_OUTPUT_MODE, OUTPUT_MODE_FILES).trim();
+        if (!outputMode.equals(OUTPUT_MODE_FILES) && !outputMode.equals(OUTPUT_MODE_LOG)) {
+            throw new AnalysisSetupException("Unknown output mode \"" + outputMode + "\" for \"" 
+                    + PROPERTY_OUTPUT_MODE + "\"; use \"" + OUTPUT_MODE_FILES + "\" or \"" + OUTPUT_MODE_LOG + "\"");
+        }
+        logSegmentSize = getPositiveInteger(PROPERTY_LOG_SEGMENT_SIZE, DEFAULT_LOG_SEGMENT_SIZE, false) * 1024L * 1024L;
+        String outputFormat = analysisProperties.getProperty(PROPERTY_OUTPUT_FORMAT, "text").trim();
+        resultSerializer = createResultSerializer(outputFormat);
+        snapshotLimit = getPositiveInteger(PROPERTY_SNAPSHOT_LIMIT, 0, true);
+        retainResults = Boolean.parseBoolean(analysisProperties.getProperty(PROPERTY_RETAIN_RESULTS));
+        metricsEnabled = Boolean.parseBoolean(analysisProperties.getProperty(PROPERTY_METRICS));
+        commitLogging = Boolean.parseBoolean(analysisProperties.getProperty(PROPERTY_COMMIT_LOGGING));
+        checkpointEnabled = Boolean.parseBoolean(analysisProperties.getProperty(PROPERTY_CHECKPOINT));
+        parseCacheSize = getPositiveInteger(PROPERTY_PARSE_CACHE_SIZE, 0, true);
+        resolveVersions = Boolean.parseBoolean(analysisProperties.getProperty(PROPERTY_RESOLVE_VERSIONS));
+        resolveCatalogs = Boolean.parseBoolean(analysisProperties.getProperty(PROPERTY_RESOLVE_CATALOGS));
+        moduleGraphEnabled = Boolean.parseBoolean(analysisProperties.getProperty(PROPERTY_MODULE_GRAPH));
+        timelineIndexEnabled = Boolean.parseBoolean(analysisProperties.getProperty(PROPERTY_TIMELINE_INDEX));
+        churnStatisticsEnabled = Boolean.parseBoolean(analysisProperties.getProperty(PROPERTY_CHURN_STATISTICS));
+        churnWindow = getPositiveInteger(PROPERTY_CHURN_WINDOW, DEFAULT_CHURN_WINDOW, false);
+        memoryBudget = new MemoryBudget(getPositiveInteger(PROPERTY_MEMORY_BUDGET, 0, true) * 1024L * 1024L);
+        String parseCacheDirValue = analysisProperties.getProperty(PROPERTY_PARSE_CACHE_DIR);
+        if (parseCacheDirValue != null && !parseCacheDirValue.trim().isEmpty()) {
+            parseCacheDir = Paths.get(parseCacheDirValue.trim());
+        }
+        // Second: initialize result store
+        analysisResults = new SpillingResultStore(memoryBudget.share(RETAINED_RESULTS_SHARE));
+    }
+    
+    /**
+     * Returns the positive (or non-negative) integer value of the given (optional) property.
+     * 
+     * @param property the key of the property to read
+     * @param defaultValue the value to return, if the property is not defined
+     * @param zeroAllowed <code>true</code>, if <code>0</code> is a valid value, <code>false</code> otherwise
+     * @return the value of the property or the given default value, if the property is not defined
+     * @throws AnalysisSetupException if the property is defined, but its value is not a positive (or non-negative)
+     *         integer
+     */
+    private int getPositiveInteger(String property, int defaultValue, boolean zeroAllowed)
+            throws AnalysisSetupException {
+        int value = defaultValue;
+        String valueString = analysisProperties.getProperty(property);
+        if (valueString != null && !valueString.isBlank()) {
+            try {
+                value = Integer.parseInt(valueString.trim());
+            } catch (NumberFormatException e) {
+                value = -1;
+            }
+            if (value < 0 || (value == 0 && !zeroAllowed)) {
+                throw new AnalysisSetupException("Value of \"" + property + "\" is not a " 
+                        + (zeroAllowed ? "non-negative" : "positive") + " integer: " + valueString);
+            }
+        }
+        return value;
+    }
+    
+    /**
+     * Creates the {@link ResultSerializer} for the given output format.
+     * 
+     * @param outputFormat either "<tt>text</tt>", "<tt>json</tt>", "<tt>csv</tt>", or the fully qualified name of a
+     *        class implementing {@link ResultSerializer}
+     * @return the {@link ResultSerializer} for the given format
+     * @throws AnalysisSetupException if the given format is unknown or its serializer cannot be created
+     */
+    private ResultSerializer createResultSerializer(String outputFormat) throws AnalysisSetupException {
+        ResultSerializer serializer;
+        switch (outputFormat) {
+        case "text":
+            serializer = new TextResultSerializer();
+            break;
+        case "json":
+            serializer = new JsonResultSerializer();
+            break;
+        case "csv":
+            serializer = new CsvResultSerializer();
+            break;
+        default:
+            try {
+                serializer = Class.forName(outputFormat).asSubclass(ResultSerializer.class).getConstructor()
+                        .newInstance();
+            } catch (ReflectiveOperationException | ClassCastException e) {
+                throw new AnalysisSetupException("Unknown output format \"" + outputFormat + "\" for \"" 
+                        + PROPERTY_OUTPUT_FORMAT + "\": " + e.getMessage());
+            }
+            break;
+        }
+        return serializer;
     }
     
     /**
@@ -146,42 +707,425 @@ public class LibraryChangeAnalysis extends AbstractCommitAnalyzer {
      */
     @Override
     public boolean analyze() {
-        logger.log(ID, "Starting analysis", null, MessageType.DEBUG);
-        LibraryChangeAnalyzer diffAnalyzer = null;
-        boolean analysisSuccessful = false; // TODO: current check is incomplete
-        while (commitQueue.isOpen()) {
-            Commit commit = commitQueue.getCommit();
-            if (commit != null) {
-                logger.log(ID, "Analyzing commit " + commit.getId(), null, MessageType.DEBUG);
-                diffAnalyzer = new LibraryChangeAnalyzer(codeFilesRegex, buildFilesRegex, commit);
-                if (diffAnalyzer.analyze()) {
-                    analysisResults.put(diffAnalyzer.getResult().getCommitId(), diffAnalyzer.getResult());
-                    analysisSuccessful = true;
-                    logger.log(ID, "Analysis of commit " + commit.getId() + " successful", null, MessageType.DEBUG);
+        logger.log(ID, "Starting analysis", "Threads: " + threads + ", batch size: " + batchSize, MessageType.DEBUG);
+        analysisSuccessful = false; // TODO: current check is incomplete
+        ResultSink resultSink;
+        try {
+            resultSink = createResultSink();
+        } catch (IOException e) {
+            logger.log(ID, "Could not open result output in " + outputPath, e.getMessage(), MessageType.ERROR);
+            return false;
+        }
+        AnalysisMetrics metrics = startMetrics();
+        resultWriter = new StreamingResultWriter(resultSink, outputBuffer, memoryBudget.share(OUTPUT_BUFFER_SHARE));
+        snapshotStore = snapshotLimit > 0
+                ? new BuildFileSnapshotStore(snapshotLimit, memoryBudget.share(SNAPSHOT_SHARE)) : null;
+        parseCache = openParseCache();
+        catalogResolver = resolveCatalogs ? new VersionCatalogResolver() : null;
+        versionResolver = resolveVersions ? new VersionResolver() : null;
+        moduleGraph = moduleGraphEnabled ? new ModuleGraph() : null;
+        churnStatistics = churnStatisticsEnabled ? new ChurnStatistics(churnWindow) : null;
+        batchAnalyzer = new CommitBatchAnalyzer(pathClassifier, parseCache, artifactBudget);
+        CommitAnalysisPipeline pipeline = new CommitAnalysisPipeline(threads, this::analyzeCommits, 
+                this::consumeResult);
+        CommitBatcher batcher = new CommitBatcher(commitQueue, batchSize, batchTimeout);
+        boolean finishedBefore = false;
+        boolean commitsRead = false;
+        boolean pipelineFinished = false;
+        boolean interrupted = false;
+        try {
+            try {
+                finishedBefore = submitCommits(batcher, pipeline, metrics);
+                commitsRead = true;
+            } catch (IllegalStateException e) {
+                // The commits submitted before the failure are still processed
+                logger.log(ID, "Analysis aborted", e.getMessage(), MessageType.ERROR);
+            } finally {
+                batcher.close();
+            }
+            pipeline.finish();
+            pipelineFinished = true;
+        } catch (InterruptedException e) {
+            // The interrupt status is restored after closing the outputs, as it closes their file channels
+            interrupted = true;
+            logger.log(ID, "Analysis interrupted", e.getMessage(), MessageType.ERROR);
+        } finally {
+            if (!pipelineFinished) {
+                // The workers must not use the result writer and the parse cache anymore, before they are closed
+                pipeline.abort();
+            }
+            closeResultWriter();
+        }
+        interrupted |= Thread.interrupted();
+        closeParseCache();
+        closeSnapshotStore();
+        if (metricsEnabled) {
+            logger.log(ID, "Analysis metrics", metrics.getSummary(), MessageType.INFO);
+        }
+        if (churnStatistics != null) {
+            reportChurn();
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return commitsRead && (analysisSuccessful || finishedBefore);
+    }
+
+    /**
+     * Submits the batches of commits received from the given {@link CommitBatcher} to the given
+     * {@link CommitAnalysisPipeline} until all commits were received. Commits analyzed successfully by a previous run
+     * are skipped or, if the analysis is history-dependent, replayed.
+     *
+     * @param batcher the {@link CommitBatcher} providing the commits
+     * @param pipeline the {@link CommitAnalysisPipeline} analyzing the commits
+     * @param metrics the {@link AnalysisMetrics}
+     * @return <code>true</code>, if at least one commit was analyzed successfully by a previous run,
+     *         <code>false</code> otherwise
+     * @throws InterruptedException if the calling thread is interrupted while waiting for commits or the pipeline
+     * @throws IllegalStateException if reading the commits failed
+     */
+    private boolean submitCommits(CommitBatcher batcher, CommitAnalysisPipeline pipeline, AnalysisMetrics metrics)
+            throws InterruptedException {
+        boolean finishedBefore = false;
+        List<Commit> batch;
+        do {
+            long start = metrics.start();
+            batch = batcher.nextBatch();
+            metrics.record(Stage.QUEUE_WAIT, start);
+            List<Commit> pendingCommits = new ArrayList<Commit>(batch.size());
+            for (Commit commit : batch) {
+                if (checkpoint != null && checkpoint.contains(commit.getId())) {
+                    // Analyzed successfully by a previous run
+                    finishedBefore = true;
+                    if (isHistoryDependent()) {
+                        replayedCommits.add(commit.getId());
+                        pendingCommits.add(commit);
+                    } else {
+                        metrics.increment(Counter.COMMITS_SKIPPED);
+                    }
                 } else {
-                    logger.log(ID, "Commit " + commit.getId() + " not analyzed", null, MessageType.DEBUG);
+                    pendingCommits.add(commit);
+                }
+            }
+            if (!pendingCommits.isEmpty()) {
+                pipeline.submit(pendingCommits);
+            }
+        } while (!batch.isEmpty());
+        return finishedBefore;
+    }
+    
+    /**
+     * Enables or disables the {@link AnalysisMetrics} as configured by {@link #PROPERTY_METRICS}. If enabled, the
+     * metrics are reset and registered at the platform MBean server.
+     * 
+     * @return the {@link AnalysisMetrics}
+     */
+    private AnalysisMetrics startMetrics() {
+        AnalysisMetrics metrics = AnalysisMetrics.getInstance();
+        metrics.setEnabled(metricsEnabled);
+        if (metricsEnabled) {
+            metrics.reset();
+            try {
+                metrics.register();
+            } catch (JMException e) {
+                logger.log(ID, "Could not register metrics as " + AnalysisMetrics.OBJECT_NAME, e.getMessage(),
+                        MessageType.WARNING);
+            }
+        }
+        return metrics;
+    }
+    
+    /**
+     * Creates the {@link ResultSink} for the configured {@link #outputMode}. If the dependency timeline is built, the
+     * sink is wrapped into an {@link IndexingSink}. If the analysis is checkpointed, this method also opens the
+     * {@link #checkpoint} and wraps the sink into a {@link CheckpointingSink}, which flushes the timeline before
+     * recording the commits.
+     * 
+     * @return the {@link ResultSink} writing to the {@link #outputPath}
+     * @throws IOException if opening the output fails
+     */
+    private ResultSink createResultSink() throws IOException {
+        ResultSink resultSink;
+        if (outputMode.equals(OUTPUT_MODE_LOG)) {
+            resultSink = new ResultLogSink(outputPath, logSegmentSize, resultSerializer);
+        } else {
+            resultSink = new CommitFileSink(outputPath, resultSerializer);
+        }
+        if (timelineIndexEnabled) {
+            resultSink = new IndexingSink(resultSink,
+                    new TimelineIndexWriter(outputPath, memoryBudget.share(TIMELINE_SHARE)));
+        }
+        checkpoint = null;
+        if (checkpointEnabled) {
+            checkpoint = new CommitCheckpoint(outputPath);
+            if (checkpoint.size() > 0) {
+                String skipped = isHistoryDependent() ? "analyzed again to restore the build file history, but not "
+                        + "written" : "skipped";
+                logger.log(ID, "Resuming analysis", checkpoint.size() + " commits finished by previous runs are "
+                        + skipped, MessageType.INFO);
+            }
+            resultSink = new CheckpointingSink(resultSink, checkpoint);
+        }
+        return resultSink;
+    }
+    
+    /**
+     * Closes the {@link #resultWriter}, which writes the pending results and closes the result output, e.g., writes
+     * the index of the result log and the checkpoint. If the calling thread is interrupted, the pending results are
+     * dropped, but the output is closed anyway.
+     */
+    private void closeResultWriter() {
+        try {
+            resultWriter.close();
+        } catch (InterruptedException e) {
+            // The writer restored the interrupt status after closing the output
+            logger.log(ID, "Writing results interrupted", e.getMessage(), MessageType.ERROR);
+        }
+    }
+    
+    /**
+     * Opens the {@link ParseCache} as configured by {@link #PROPERTY_PARSE_CACHE_SIZE} and
+     * {@link #PROPERTY_PARSE_CACHE_DIR}. As the cache only avoids parsing build files again, the analysis continues
+     * without it, if it cannot be opened.
+     * 
+     * @return the {@link ParseCache} or <code>null</code>, if parsed build files are not cached
+     */
+    private ParseCache openParseCache() {
+        ParseCache cache = null;
+        if (parseCacheSize > 0 || parseCacheDir != null) {
+            try {
+                if (parseCacheDir != null) {
+                    Files.createDirectories(parseCacheDir);
+                }
+                cache = new ParseCache(parseCacheSize, parseCacheDir, memoryBudget.share(PARSE_CACHE_SHARE));
+            } catch (IOException e) {
+                logger.log(ID, "Could not open parse cache in " + parseCacheDir, e.getMessage(),
+                        MessageType.WARNING);
+            }
+        }
+        return cache;
+    }
+    
+    /**
+     * Closes the {@link #parseCache}, which writes the pending entries of its disk tier.
+     */
+    private void closeParseCache() {
+        if (parseCache != null) {
+            try {
+                parseCache.close();
+            } catch (IOException e) {
+                logger.log(ID, "Could not close parse cache in " + parseCacheDir, e.getMessage(),
+                        MessageType.WARNING);
+            }
+            parseCache = null;
+        }
+    }
+    
+    /**
+     * Closes the {@link #snapshotStore}, which deletes the snapshots spilled to disk.
+     */
+    private void closeSnapshotStore() {
+        if (snapshotStore != null) {
+            try {
+                snapshotStore.close();
+            } catch (IOException e) {
+                logger.log(ID, "Could not delete spilled build file snapshots", e.getMessage(),
+                        MessageType.WARNING);
+            }
+            snapshotStore = null;
+        }
+    }
+    
+    /**
+     * Analyzes the given batch of commits. This method is called by the worker threads of the
+     * {@link CommitAnalysisPipeline}.
+     * 
+     * @param commits the {@link Commit}s to analyze
+     * @return the {@link AnalysisResult}s of the given commits in the same order; an entry is <code>null</code>, if
+     *         its commit was not analyzed
+     */
+    private List<AnalysisResult> analyzeCommits(List<Commit> commits) {
+        if (commitLogging) {
+            for (Commit commit : commits) {
+                logger.log(ID, "Analyzing commit " + commit.getId(), null, MessageType.DEBUG);
+            }
+        }
+        return batchAnalyzer.analyze(commits);
+    }
+    
+    /**
+     * Receives the result of analyzing the given commit. The {@link CommitAnalysisPipeline} calls this method in the
+     * order the commits were received from the {@link IAnalysisQueue}.
+     * 
+     * @param commit the analyzed {@link Commit}
+     * @param result the {@link AnalysisResult} of the given commit or <code>null</code>, if the commit was not analyzed
+     */
+    private void consumeResult(Commit commit, AnalysisResult result) {
+        boolean replayed = replayedCommits.remove(commit.getId());
+        if (result != null) {
+            applyHistory(commit, result);
+        }
+        if (replayed) {
+            // Written by a previous run; only its effect on the history is restored
+            AnalysisMetrics.getInstance().increment(Counter.COMMITS_SKIPPED);
+        } else if (result != null) {
+            if (churnStatistics != null) {
+                churnStatistics.add(result);
+            }
+            if (retainResults) {
+                retainResult(result);
+            }
+            analysisSuccessful = true;
+            AnalysisMetrics.getInstance().increment(Counter.COMMITS_ANALYZED);
+            if (commitLogging) {
+                logger.log(ID, "Analysis of commit " + commit.getId() + " successful", null, MessageType.DEBUG);
+            }
+            try {
+                resultWriter.write(result);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.log(ID, "Could not write result for commit " + commit.getId(), e.getMessage(),
+                        MessageType.ERROR);
+            }
+        } else {
+            AnalysisMetrics.getInstance().increment(Counter.COMMITS_SKIPPED);
+            if (commitLogging) {
+                logger.log(ID, "Commit " + commit.getId() + " not analyzed", null, MessageType.DEBUG);
+            }
+        }
+    }
+    
+    /**
+     * Checks whether the result of a commit depends on the previous commits, i.e., whether the analysis keeps build
+     * file snapshots, resolves versions or version catalogs, or propagates changes along the module graph.
+     * 
+     * @return <code>true</code> if the result of a commit depends on the history, <code>false</code> otherwise
+     */
+    private boolean isHistoryDependent() {
+        return snapshotLimit > 0 || resolveVersions || resolveCatalogs || moduleGraphEnabled;
+    }
+    
+    /**
+     * Applies the stages depending on the history of the build files to the given result and updates their state
+     * with the given commit. These stages have to see every commit in history order, including those, whose results
+     * were written by a previous run.
+     * 
+     * @param commit the analyzed {@link Commit}
+     * @param result the {@link AnalysisResult} of the given commit
+     */
+    private void applyHistory(Commit commit, AnalysisResult result) {
+        if (snapshotStore != null) {
+            applySnapshots(commit, result);
+        }
+        if (catalogResolver != null) {
+            // Catalog versions are literals, so they are resolved before property references
+            catalogResolver.analyze(commit, result);
+        }
+        if (versionResolver != null) {
+            versionResolver.analyze(commit, result);
+        }
+        if (moduleGraph != null) {
+            moduleGraph.analyze(commit, result);
+        }
+    }
+
+    /**
+     * Adds the given result to the {@link #analysisResults}. If spilling the retained results to disk fails, they are
+     * kept in memory and the analysis continues beyond the {@link #memoryBudget}.
+     * 
+     * @param result the {@link AnalysisResult} to retain
+     */
+    private void retainResult(AnalysisResult result) {
+        int spilledBefore = analysisResults.getSpilledCount();
+        try {
+            analysisResults.put(result);
+            if (analysisResults.getSpilledCount() > spilledBefore) {
+                logger.log(ID, "Memory budget exceeded", "Spilled " + (analysisResults.getSpilledCount()
+                        - spilledBefore) + " retained results to disk", MessageType.DEBUG);
+            }
+        } catch (IOException e) {
+            logger.log(ID, "Could not spill retained results to disk", e.getMessage(), MessageType.WARNING);
+        }
+    }
+    
+    /**
+     * Applies the diffs of the build files changed by the given commit to the {@link #snapshotStore} and replaces the
+     * hunk-based results of those build files, for which a snapshot exists. As snapshots depend on all previous diffs,
+     * this method must be called in commit order and the snapshots of build files, which could not be analyzed, are
+     * dropped.
+     * 
+     * @param commit the analyzed {@link Commit}
+     * @param result the {@link AnalysisResult} of the given commit
+     */
+    private void applySnapshots(Commit commit, AnalysisResult result) {
+        for (ChangedArtifact artifact : commit.getChangedArtifacts()) {
+            if (result.hasError(artifact.getArtifactPath())) {
+                // The snapshot of a build file, which could not be analyzed, would miss this diff
+                snapshotStore.drop(artifact.getArtifactPath());
+            } else if (pathClassifier.isBuildFile(artifact.getArtifactPath())) {
+                BuildFileAnalysisResult snapshotResult = snapshotStore.analyze(artifact);
+                if (snapshotResult != null) {
+                    result.replaceResult(snapshotResult);
                 }
             }
         }
-        for (Entry<String, AnalysisResult> key: this.analysisResults.entrySet()) {
-        	try {
-        		((outputPath.resolve(key.getKey() + ".changedlibs.result")).toFile()).createNewFile();
-				Files.write(outputPath.resolve(key.getKey() + ".changedlibs.result"), key.getValue().toString().getBytes(), StandardOpenOption.APPEND);
-			} catch (IOException e) {
-				logger.log(this.getClass().getName(), "Could not write result", "Could not write result for commit " + key.getKey() + "  to target file " + outputPath.resolve(key.getKey() +  ".changedlibs.result" + " - Stacktrace: " + e.getMessage()), MessageType.ERROR);
-			}
+    }
+    
+    /**
+     * Logs the summary of the {@link #churnStatistics} and writes it to the report file in the {@link #outputPath}.
+     */
+    private void reportChurn() {
+        logger.log(ID, "Dependency churn", churnStatistics.getSummary(), MessageType.INFO);
+        try {
+            churnStatistics.writeReport(outputPath);
+        } catch (IOException e) {
+            logger.log(ID, "Could not write churn report " + ChurnStatistics.FILE_NAME + " in " + outputPath,
+                    e.getMessage(), MessageType.WARNING);
         }
-        return analysisSuccessful;
     }
     
+    /**
+     * Returns the dependency churn aggregated by the last analysis.
+     * 
+     * @return the {@link ChurnStatistics} or <code>null</code>, if "<tt>true</tt>" is not defined for
+     *         {@link #PROPERTY_CHURN_STATISTICS}
+     */
+    public ChurnStatistics getChurnStatistics() {
+        return churnStatistics;
+    }
+    
+    /**
+     * Passes the retained analysis results in commit order to the given visitor. Results spilled to disk due to the
+     * {@link #memoryBudget} are read back one at a time, so, unlike {@link #getResults()}, this does not require
+     * memory for all results. As results are written to the output directly after the analysis of their commit, this
+     * is only the full set of results, if "<tt>true</tt>" is defined for {@link #PROPERTY_RETAIN_RESULTS}.
+     * 
+     * @param visitor the {@link SpillingResultStore.ResultVisitor} receiving the results
+     * @throws IOException if reading the spilled results fails or if the visitor fails
+     */
+    public void forEachResult(SpillingResultStore.ResultVisitor visitor) throws IOException {
+        analysisResults.forEach(visitor);
+    }
 
-	/**
-     * Returns the analysis results.
+    /**
+     * Returns the retained analysis results. As results are written to the output directly after the analysis of
+     * their commit, this is only the full set of results, if "<tt>true</tt>" is defined for
+     * {@link #PROPERTY_RETAIN_RESULTS}. Results spilled to disk due to the {@link #memoryBudget} are read back and
+     * merged with the results in memory in commit order; for large histories, {@link #forEachResult} avoids keeping
+     * all of them in memory.
      * 
-     * @return the {@link #analysisResults}
+     * @return the {@link #analysisResults} in terms of the commit id (key) and their {@link AnalysisResult}s
+     *         (value); empty, if results are not retained or the spilled results cannot be read
      */
     public HashMap<String, AnalysisResult> getResults() {
-        return analysisResults;
+        LinkedHashMap<String, AnalysisResult> results;
+        try {
+            results = analysisResults.getResults();
+        } catch (IOException e) {
+            logger.log(ID, "Could not read spilled results", e.getMessage(), MessageType.ERROR);
+            results = new LinkedHashMap<String, AnalysisResult>();
+        }
+        return results;
     }
 
     /**
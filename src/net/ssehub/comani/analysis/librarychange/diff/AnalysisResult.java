@@ -4,19 +4,30 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.StringJoiner;
 
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry;
+
 public class AnalysisResult {
 
 	@Override
 	public String toString() {
 		StringJoiner resultJoiner = new StringJoiner(",\n");
 		results.forEach(result -> resultJoiner.add(result.toString()));
-		return "AnalysisResult [id=" + id + ", results=[\n" + resultJoiner.toString().indent(4) + "  ]\n]";
+		String errorList = "";
+		if (!errors.isEmpty()) {
+			// Results without errors keep their original representation
+			StringJoiner errorJoiner = new StringJoiner(",\n");
+			errors.forEach(error -> errorJoiner.add(error.toString()));
+			errorList = ", errors=[\n" + errorJoiner.toString().indent(4) + "  ]";
+		}
+		return "AnalysisResult [id=" + id + ", results=[\n" + resultJoiner.toString().indent(4) + "  ]" + errorList
+				+ "\n]";
 	}
 
 
 
 	private String id;
 	private List<BuildFileAnalysisResult> results = new ArrayList<BuildFileAnalysisResult>();
+	private List<ArtifactError> errors = new ArrayList<ArtifactError>();
 	
 
 	public void setCommitId(String id) {
@@ -38,6 +49,83 @@ public class AnalysisResult {
 		this.results.add(buildFileResult);
 		
 	}
+
+	/**
+	 * Records a build file of the commit, which could not be analyzed.
+	 * 
+	 * @param error the {@link ArtifactError} describing the build file and the
+	 *              reason
+	 */
+	public void addError(ArtifactError error) {
+		this.errors.add(error);
+	}
+
+	/**
+	 * Returns the build files of the commit, which could not be analyzed.
+	 * 
+	 * @return the {@link ArtifactError}s in the order of the changed artifacts;
+	 *         empty, if all build files were analyzed
+	 */
+	public List<ArtifactError> getErrors() {
+		return errors;
+	}
+
+	/**
+	 * Checks whether the given build file could not be analyzed.
+	 * 
+	 * @param buildFile the path of the build file
+	 * @return <code>true</code> if an {@link ArtifactError} exists for the build
+	 *         file, <code>false</code> otherwise
+	 */
+	public boolean hasError(String buildFile) {
+		boolean found = false;
+		for (int i = 0; i < this.errors.size() && !found; i++) {
+			found = this.errors.get(i).getArtifactPath().equals(buildFile);
+		}
+		return found;
+	}
+
+	/**
+	 * Replaces the result for the build file of the given result.
+	 * 
+	 * @param buildFileResult the new result for its build file
+	 * @return <code>true</code> if a result for the build file existed and was
+	 *         replaced, <code>false</code> otherwise
+	 */
+	public boolean replaceResult(BuildFileAnalysisResult buildFileResult) {
+		boolean replaced = false;
+		for (int i = 0; i < this.results.size() && !replaced; i++) {
+			if (this.results.get(i).getBuildFile().equals(buildFileResult.getBuildFile())) {
+				this.results.set(i, buildFileResult);
+				replaced = true;
+			}
+		}
+		return replaced;
+	}
+
+	/**
+	 * Adds the given library changes to the result for the given build file,
+	 * which is created if it does not exist yet.
+	 * 
+	 * @param buildFile      the path of the build file
+	 * @param libraryChanges the library changes to add
+	 */
+	public void addLibraryChanges(String buildFile, List<LibraryEntry> libraryChanges) {
+		BuildFileAnalysisResult existingResult = null;
+		for (BuildFileAnalysisResult buildFileResult : this.results) {
+			if (buildFileResult.getBuildFile().equals(buildFile)) {
+				existingResult = buildFileResult;
+			}
+		}
+		if (existingResult == null) {
+			this.results.add(new BuildFileAnalysisResult(buildFile, libraryChanges));
+		} else {
+			// The existing list may be shared with the parse cache
+			List<LibraryEntry> combinedChanges = new ArrayList<LibraryEntry>(existingResult.getLibraryChanges());
+			combinedChanges.addAll(libraryChanges);
+			replaceResult(new BuildFileAnalysisResult(buildFile, combinedChanges));
+		}
+	}
 	
 	
 
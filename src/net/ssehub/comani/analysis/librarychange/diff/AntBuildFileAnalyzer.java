@@ -0,0 +1,312 @@
+package net.ssehub.comani.analysis.librarychange.diff;
+
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry.LibraryInformation;
+import net.ssehub.comani.data.ChangedArtifact;
+
+/**
+ * Analyzes the changes to the dependencies of Ant builds, which declare their
+ * dependencies as attributes of <code>dependency</code> elements. This covers
+ * Ivy module descriptors (<code>ivy.xml</code>) as well as the inline
+ * dependencies of the Ivy and the Maven (Resolver) Ant tasks in
+ * <code>build.xml</code>:
+ * <ul>
+ * <li><code>&lt;dependency org="group" name="identifier" rev="version"
+ * conf="type-&gt;..."/&gt;</code></li>
+ * <li><code>&lt;dependency groupId="group" artifactId="identifier"
+ * version="version" scope="type"/&gt;</code></li>
+ * <li><code>&lt;dependency coords="group:identifier[:version[:scope]]"/&gt;</code></li>
+ * </ul>
+ * The element name may have a namespace prefix, e.g.,
+ * <code>ivy:dependency</code>. Like the {@link MavenBuildFileAnalyzer}, the
+ * views before and after the commit are scanned in a single pass over the hunk
+ * and tags spanning multiple lines are supported.
+ */
+public class AntBuildFileAnalyzer extends BuildFileAnalyzer {
+
+	/**
+	 * The names of the supported build files.
+	 */
+	private static final String[] FILE_NAMES = { "ivy.xml", "build.xml" };
+
+	/**
+	 * The local name of the elements declaring dependencies.
+	 */
+	private static final String DEPENDENCY_ELEMENT = "dependency";
+
+	/**
+	 * The dependency type of Ivy dependencies without configuration mapping.
+	 */
+	private static final String DEFAULT_CONFIGURATION = "default";
+
+	/**
+	 * The dependency type of Maven dependencies without scope.
+	 */
+	private static final String DEFAULT_SCOPE = "compile";
+
+	@Override
+	public String[] getFileNames() {
+		return FILE_NAMES.clone();
+	}
+
+	@Override
+	public BuildFileAnalysisResult analyze(ChangedArtifact artifact, long deadline) {
+		DependencyTagScanner oldView = new DependencyTagScanner();
+		DependencyTagScanner newView = new DependencyTagScanner();
+		int lines = 0;
+		boolean inHunk = false;
+		for (String line : artifact.getContent()) {
+			checkDeadline(++lines, deadline);
+			inHunk |= line.startsWith("@@");
+			if (!MavenBuildFileAnalyzer.isDiffHeader(line, inHunk)) {
+				char marker = line.isEmpty() ? ' ' : line.charAt(0);
+				if (marker != '+') {
+					oldView.scan(line);
+				}
+				if (marker != '-') {
+					newView.scan(line);
+				}
+			}
+		}
+		return createResult(artifact.getArtifactPath(), oldView.libraries, newView.libraries);
+	}
+
+	/**
+	 * Scans one view (before or after the commit) of an Ant build file, which is
+	 * fed line by line, and collects the dependencies declared by the attributes
+	 * of <code>dependency</code> elements.
+	 */
+	private static class DependencyTagScanner {
+
+		/**
+		 * The found libraries by their library ID in the order of their declaration.
+		 */
+		private LibraryMap libraries = new LibraryMap();
+
+		/**
+		 * Denotes whether the scanner is inside a comment.
+		 */
+		private boolean inComment;
+
+		/**
+		 * The content of a tag spanning multiple lines; <code>null</code> if the
+		 * scanner is not inside a tag.
+		 */
+		private StringBuilder openTag;
+
+		/**
+		 * The quote character of the attribute value the scanner is inside of;
+		 * <code>0</code> if the scanner is not inside a quoted value. As attribute
+		 * values may contain <code>&gt;</code>, e.g., in the configuration mapping
+		 * <code>compile-&gt;default</code>, the end of a tag is only searched
+		 * outside of values.
+		 */
+		private char valueQuote;
+
+		/**
+		 * Scans the next line of this view.
+		 *
+		 * @param line the line to scan, including the diff marker
+		 */
+		private void scan(String line) {
+			int index = line.isEmpty() ? 0 : 1;
+			while (index < line.length()) {
+				if (inComment) {
+					int commentEnd = line.indexOf("-->", index);
+					inComment = commentEnd < 0;
+					index = inComment ? line.length() : commentEnd + 3;
+				} else if (openTag != null) {
+					int tagEnd = findTagEnd(line, index);
+					if (tagEnd < 0) {
+						openTag.append(line, index, line.length()).append(' ');
+						index = line.length();
+					} else {
+						openTag.append(line, index, tagEnd);
+						handleTag(openTag, 0, openTag.length());
+						openTag = null;
+						index = tagEnd + 1;
+					}
+				} else {
+					int tagStart = line.indexOf('<', index);
+					if (tagStart < 0) {
+						index = line.length();
+					} else if (line.startsWith("<!--", tagStart)) {
+						inComment = true;
+						index = tagStart + 4;
+					} else {
+						valueQuote = 0;
+						int tagEnd = findTagEnd(line, tagStart + 1);
+						if (tagEnd < 0) {
+							openTag = new StringBuilder();
+							openTag.append(line, tagStart + 1, line.length()).append(' ');
+							index = line.length();
+						} else {
+							handleTag(line, tagStart + 1, tagEnd);
+							index = tagEnd + 1;
+						}
+					}
+				}
+			}
+		}
+
+		/**
+		 * Returns the index of the <code>&gt;</code> ending the current tag, which is
+		 * not part of an attribute value.
+		 *
+		 * @param line  the line containing the tag
+		 * @param index the index to start the search at
+		 * @return the index of the end of the tag or <code>-1</code>, if the tag
+		 *         continues on the next line
+		 */
+		private int findTagEnd(String line, int index) {
+			int tagEnd = -1;
+			for (int i = index; i < line.length() && tagEnd < 0; i++) {
+				char character = line.charAt(i);
+				if (valueQuote != 0) {
+					if (character == valueQuote) {
+						valueQuote = 0;
+					}
+				} else if (character == '"' || character == '\'') {
+					valueQuote = character;
+				} else if (character == '>') {
+					tagEnd = i;
+				}
+			}
+			return tagEnd;
+		}
+
+		/**
+		 * Handles the tag between the given indexes (excluding the angle brackets).
+		 * Only start tags of <code>dependency</code> elements are relevant.
+		 *
+		 * @param tag   the characters containing the tag
+		 * @param start the index of the first character of the tag
+		 * @param end   the index after the last character of the tag
+		 */
+		private void handleTag(CharSequence tag, int start, int end) {
+			if (start < end && tag.charAt(start) != '/' && tag.charAt(start) != '?' && tag.charAt(start) != '!') {
+				int nameEnd = start;
+				while (nameEnd < end && !Character.isWhitespace(tag.charAt(nameEnd)) && tag.charAt(nameEnd) != '/') {
+					nameEnd++;
+				}
+				int localNameStart = nameEnd - DEPENDENCY_ELEMENT.length();
+				if (localNameStart >= start && (localNameStart == start || tag.charAt(localNameStart - 1) == ':')
+						&& regionMatches(tag, localNameStart, DEPENDENCY_ELEMENT)) {
+					addLibrary(tag, nameEnd, end);
+				}
+			}
+		}
+
+		/**
+		 * Adds the dependency described by the attributes between the given indexes,
+		 * if its group and identifier are known.
+		 *
+		 * @param tag   the characters containing the tag
+		 * @param start the index after the element name
+		 * @param end   the index after the last character of the tag
+		 */
+		private void addLibrary(CharSequence tag, int start, int end) {
+			String group = getAttribute(tag, start, end, "org");
+			String identifier;
+			String version;
+			String dependencyType;
+			if (group != null) {
+				identifier = getAttribute(tag, start, end, "name");
+				version = getAttribute(tag, start, end, "rev");
+				dependencyType = getAttribute(tag, start, end, "conf");
+				if (dependencyType == null || dependencyType.isEmpty()) {
+					dependencyType = DEFAULT_CONFIGURATION;
+				} else if (dependencyType.indexOf("->") >= 0) {
+					// Only the configuration of this module is the type, e.g., "compile->default"
+					dependencyType = dependencyType.substring(0, dependencyType.indexOf("->")).trim();
+				}
+			} else {
+				String coordinates = getAttribute(tag, start, end, "coords");
+				String[] parts = coordinates != null ? coordinates.split(":") : new String[0];
+				group = parts.length > 1 ? parts[0] : getAttribute(tag, start, end, "groupId");
+				identifier = parts.length > 1 ? parts[1] : getAttribute(tag, start, end, "artifactId");
+				version = parts.length > 2 ? parts[2] : getAttribute(tag, start, end, "version");
+				dependencyType = parts.length > 3 ? parts[3] : getAttribute(tag, start, end, "scope");
+				if (dependencyType == null || dependencyType.isEmpty()) {
+					dependencyType = DEFAULT_SCOPE;
+				}
+			}
+			if (group != null && !group.isEmpty() && identifier != null && !identifier.isEmpty()) {
+				LibraryInformation library = CoordinateTable.getInstance().getLibrary(dependencyType, identifier,
+						group, version);
+				libraries.put(library.getLibraryId(), library);
+			}
+		}
+
+		/**
+		 * Returns the value of the attribute with the given name between the given
+		 * indexes. Values may be quoted with single or double quotes; entities are
+		 * not decoded.
+		 *
+		 * @param tag   the characters containing the tag
+		 * @param start the index after the element name
+		 * @param end   the index after the last character of the tag
+		 * @param name  the name of the attribute
+		 * @return the value of the attribute or <code>null</code> if the tag has no
+		 *         such attribute
+		 */
+		private static String getAttribute(CharSequence tag, int start, int end, String name) {
+			String value = null;
+			int index = start;
+			while (index < end && value == null) {
+				while (index < end && (Character.isWhitespace(tag.charAt(index)) || tag.charAt(index) == '/')) {
+					index++;
+				}
+				int attributeNameStart = index;
+				while (index < end && tag.charAt(index) != '=' && !Character.isWhitespace(tag.charAt(index))) {
+					index++;
+				}
+				int attributeNameEnd = index;
+				while (index < end && Character.isWhitespace(tag.charAt(index))) {
+					index++;
+				}
+				if (index < end && tag.charAt(index) == '=') {
+					index++;
+					while (index < end && Character.isWhitespace(tag.charAt(index))) {
+						index++;
+					}
+					if (index < end && (tag.charAt(index) == '"' || tag.charAt(index) == '\'')) {
+						char quote = tag.charAt(index);
+						int valueStart = index + 1;
+						int valueEnd = valueStart;
+						while (valueEnd < end && tag.charAt(valueEnd) != quote) {
+							valueEnd++;
+						}
+						if (attributeNameEnd - attributeNameStart == name.length()
+								&& regionMatches(tag, attributeNameStart, name)) {
+							value = tag.subSequence(valueStart, valueEnd).toString().trim();
+						}
+						index = valueEnd + 1;
+					}
+				} else if (attributeNameEnd == attributeNameStart) {
+					// Skips a character, which is neither part of a name nor a value
+					index++;
+				}
+			}
+			return value;
+		}
+
+		/**
+		 * Checks whether the given characters contain the given text at the given
+		 * index.
+		 *
+		 * @param characters the characters to check
+		 * @param start      the index of the first character to compare
+		 * @param text       the expected text
+		 * @return <code>true</code> if the text matches, <code>false</code>
+		 *         otherwise
+		 */
+		private static boolean regionMatches(CharSequence characters, int start, String text) {
+			boolean matches = start + text.length() <= characters.length();
+			for (int i = 0; i < text.length() && matches; i++) {
+				matches = characters.charAt(start + i) == text.charAt(i);
+			}
+			return matches;
+		}
+	}
+
+}
@@ -0,0 +1,99 @@
+package net.ssehub.comani.analysis.librarychange.diff;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import net.ssehub.comani.data.ChangedArtifact;
+
+/**
+ * Limits the resources spent on a single build file, so a pathological diff,
+ * e.g., a generated POM of several megabytes, cannot stall a worker. The size
+ * is checked before parsing; the time is checked by the
+ * {@link BuildFileAnalyzer}s while they scan the lines of the diff (see
+ * {@link BuildFileAnalyzer#checkDeadline(int, long)}). A limit of <code>0</code>
+ * disables the respective check.
+ *
+ * Instances are immutable and can be shared by multiple threads.
+ */
+public final class ArtifactBudget {
+
+	/**
+	 * The budget without any limits.
+	 */
+	public static final ArtifactBudget UNLIMITED = new ArtifactBudget(0, 0);
+
+	/**
+	 * The maximum number of characters of the diff lines of a build file.
+	 */
+	private final long maxSize;
+
+	/**
+	 * The maximum time in nanoseconds for parsing a build file.
+	 */
+	private final long maxTime;
+
+	/**
+	 * Creates a new budget.
+	 *
+	 * @param maxSize       the maximum number of characters of the diff lines of
+	 *                      a build file; <code>0</code> for no limit
+	 * @param maxTimeMillis the maximum time in milliseconds for parsing a build
+	 *                      file; <code>0</code> for no limit
+	 */
+	public ArtifactBudget(long maxSize, long maxTimeMillis) {
+		this.maxSize = maxSize;
+		this.maxTime = TimeUnit.MILLISECONDS.toNanos(maxTimeMillis);
+	}
+
+	/**
+	 * Checks whether the diff of the given build file is larger than allowed. The
+	 * lines are only summed up until the limit is exceeded.
+	 *
+	 * @param artifact the changed build file
+	 * @return <code>true</code> if the file must not be parsed,
+	 *         <code>false</code> otherwise
+	 */
+	public boolean exceedsSize(ChangedArtifact artifact) {
+		boolean exceeded = false;
+		if (this.maxSize > 0) {
+			List<String> content = artifact.getContent();
+			long size = 0;
+			for (int i = 0; i < content.size() && !exceeded; i++) {
+				// Count the line break as well
+				size += content.get(i).length() + 1;
+				exceeded = size > this.maxSize;
+			}
+		}
+		return exceeded;
+	}
+
+	/**
+	 * Returns the time at which the parsing of a build file started now has to be
+	 * aborted.
+	 *
+	 * @return the deadline as {@link System#nanoTime()} value or
+	 *         {@link BuildFileAnalyzer#NO_DEADLINE}, if the time is not limited
+	 */
+	public long getDeadline() {
+		return this.maxTime > 0 ? System.nanoTime() + this.maxTime : BuildFileAnalyzer.NO_DEADLINE;
+	}
+
+	/**
+	 * Returns the maximum number of characters of the diff lines of a build file.
+	 *
+	 * @return the maximum size; <code>0</code> for no limit
+	 */
+	public long getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Returns the maximum time for parsing a build file.
+	 *
+	 * @return the maximum time in milliseconds; <code>0</code> for no limit
+	 */
+	public long getMaxTimeMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(maxTime);
+	}
+
+}
@@ -0,0 +1,92 @@
+package net.ssehub.comani.analysis.librarychange.diff;
+
+/**
+ * Records a changed build file, which could not be analyzed. The other
+ * artifacts of the commit are analyzed regardless, so an {@link AnalysisResult}
+ * may contain both, results and errors.
+ */
+public final class ArtifactError {
+
+	/**
+	 * The reasons why a build file was not analyzed.
+	 */
+	public enum Reason {
+
+		/**
+		 * The diff of the file exceeds the size allowed by the
+		 * {@link ArtifactBudget}; the file was not parsed.
+		 */
+		SIZE_EXCEEDED,
+
+		/**
+		 * Parsing the file took longer than allowed by the {@link ArtifactBudget}.
+		 */
+		TIME_EXCEEDED,
+
+		/**
+		 * The {@link BuildFileAnalyzer} of the file failed.
+		 */
+		FAILED
+	}
+
+	/**
+	 * The path of the build file.
+	 */
+	private final String artifactPath;
+
+	/**
+	 * The reason why the build file was not analyzed.
+	 */
+	private final Reason reason;
+
+	/**
+	 * The description of the error; may be <code>null</code>.
+	 */
+	private final String message;
+
+	/**
+	 * Creates a new error record.
+	 *
+	 * @param artifactPath the path of the build file
+	 * @param reason       the {@link Reason} why the file was not analyzed
+	 * @param message      a description of the error; may be <code>null</code>
+	 */
+	public ArtifactError(String artifactPath, Reason reason, String message) {
+		this.artifactPath = artifactPath;
+		this.reason = reason;
+		this.message = message;
+	}
+
+	/**
+	 * Returns the path of the build file, which could not be analyzed.
+	 *
+	 * @return the path of the build file
+	 */
+	public String getArtifactPath() {
+		return artifactPath;
+	}
+
+	/**
+	 * Returns the reason why the build file was not analyzed.
+	 *
+	 * @return the {@link Reason}
+	 */
+	public Reason getReason() {
+		return reason;
+	}
+
+	/**
+	 * Returns the description of the error.
+	 *
+	 * @return the message; may be <code>null</code>
+	 */
+	public String getMessage() {
+		return message;
+	}
+
+	@Override
+	public String toString() {
+		return "ArtifactError [artifact=" + artifactPath + ", reason=" + reason + ", message=" + message + "]";
+	}
+
+}
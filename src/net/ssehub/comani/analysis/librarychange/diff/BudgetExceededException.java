@@ -0,0 +1,20 @@
+package net.ssehub.comani.analysis.librarychange.diff;
+
+/**
+ * Thrown by a {@link BuildFileAnalyzer}, which did not finish parsing its build
+ * file within the time of its {@link ArtifactBudget}.
+ */
+public class BudgetExceededException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Creates a new exception.
+	 *
+	 * @param message the description of the exceeded budget
+	 */
+	public BudgetExceededException(String message) {
+		super(message);
+	}
+
+}
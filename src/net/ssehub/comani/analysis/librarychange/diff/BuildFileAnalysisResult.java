@@ -1,6 +1,7 @@
 package net.ssehub.comani.analysis.librarychange.diff;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.StringJoiner;
 
 public class BuildFileAnalysisResult {
@@ -23,6 +24,10 @@ public class BuildFileAnalysisResult {
 		this.libraryChanges = libraryChanges;
 	}
 
+	public String getBuildFile() {
+		return buildFile;
+	}
+
 	public List<LibraryEntry> getLibraryChanges() {
 		return libraryChanges;
 	}
@@ -48,10 +53,17 @@ public class BuildFileAnalysisResult {
 			return currentLibrary;
 		}
 
-		private LibraryInformation previousLibrary;
-		private LibraryInformation currentLibrary;
+		private final LibraryInformation previousLibrary;
+		private final LibraryInformation currentLibrary;
 
-		public static class LibraryInformation {
+		/**
+		 * The immutable coordinates of a library. Instances are values: they are
+		 * equal if all four coordinates are equal, have a precomputed hash code, and
+		 * are ordered by group, identifier, version, and dependency type (an unknown
+		 * version comes first). Hence, they can be used in hash-based and sorted
+		 * collections.
+		 */
+		public static final class LibraryInformation implements Comparable<LibraryInformation> {
 
 			@Override
 			public String toString() {
@@ -59,10 +71,24 @@ public class BuildFileAnalysisResult {
 						+ ", group=" + group + ", version=" + version + ", dependencyType=" + dependencyType + "]";
 			}
 
-			private String dependencyType;
-			private String identifier;
-			private String group;
-			private String version;
+			private final String dependencyType;
+			private final String identifier;
+			private final String group;
+			private final String version;
+
+			/**
+			 * The IDs of the group and identifier pair, the dependency type, and the
+			 * version in the {@link CoordinateTable}.
+			 */
+			private final int libraryId;
+			private final int dependencyTypeId;
+			private final int versionId;
+
+			/**
+			 * The hash code computed from the coordinates, which is independent of the
+			 * IDs and, hence, stable across runs.
+			 */
+			private final int hash;
 
 			public String getIdentifier() {
 				return identifier;
@@ -80,37 +106,134 @@ public class BuildFileAnalysisResult {
 				return this.dependencyType;
 			}
 
+			/**
+			 * Returns the ID of this library independent of its version and dependency
+			 * type. Two libraries have the same ID if and only if their groups and
+			 * identifiers are equal.
+			 * 
+			 * @return the ID of the group and identifier pair
+			 */
+			public int getLibraryId() {
+				return libraryId;
+			}
+
+			/**
+			 * Construct a new {@link LibraryInformation}. The analyzers obtain shared
+			 * instances from {@link CoordinateTable#getLibrary(int, int, int, int)}
+			 * instead.
+			 * 
+			 * @param dependencyType the dependency type
+			 * @param identifier     the identifier
+			 * @param group          the group
+			 * @param version        the version; may be <code>null</code>
+			 */
 			public LibraryInformation(String dependencyType, String identifier, String group, String version) {
 				super();
+				CoordinateTable table = CoordinateTable.getInstance();
+				int identifierId = table.intern(identifier);
+				int groupId = table.intern(group);
+				this.dependencyTypeId = table.intern(dependencyType);
+				this.versionId = table.intern(version);
+				this.libraryId = table.pair(groupId, identifierId);
+				this.dependencyType = table.getString(dependencyTypeId);
+				this.identifier = table.getString(identifierId);
+				this.group = table.getString(groupId);
+				this.version = table.getString(versionId);
+				this.hash = Objects.hash(this.dependencyType, this.identifier, this.group, this.version);
+			}
+
+			/**
+			 * Creates the shared instance of a library for the {@link CoordinateTable}.
+			 *
+			 * @param dependencyType   the interned dependency type
+			 * @param identifier       the interned identifier
+			 * @param group            the interned group
+			 * @param version          the interned version; may be <code>null</code>
+			 * @param libraryId        the ID of the pair of group and identifier
+			 * @param dependencyTypeId the ID of the dependency type
+			 * @param versionId        the ID of the version
+			 */
+			LibraryInformation(String dependencyType, String identifier, String group, String version, int libraryId,
+					int dependencyTypeId, int versionId) {
 				this.dependencyType = dependencyType;
 				this.identifier = identifier;
 				this.group = group;
 				this.version = version;
+				this.libraryId = libraryId;
+				this.dependencyTypeId = dependencyTypeId;
+				this.versionId = versionId;
+				this.hash = Objects.hash(dependencyType, identifier, group, version);
 			}
 
 			public boolean isSameLibraryInDifferentVersion(LibraryInformation other) {
-				return other != null && this.identifier.equals(other.identifier) && this.group.equals(other.group)
-						&& !this.version.equals(other.version);
+				return other != null && this.libraryId == other.libraryId && this.versionId != other.versionId;
 			}
 
 			public boolean isSameLibraryInSameVersion(LibraryInformation other) {
-				return other != null && this.identifier.equals(other.identifier) && this.group.equals(other.group)
-						&& this.version.equals(other.version);
+				return other != null && this.libraryId == other.libraryId && this.versionId == other.versionId;
 			}
 
 			public boolean isSameLibrary(LibraryInformation other) {
-				return other != null && this.identifier.equals(other.identifier) && this.group.equals(other.group);
+				return other != null && this.libraryId == other.libraryId;
 			}
 
+			@Override
 			public boolean equals(Object other) {
-				if (other == null || !(other instanceof LibraryEntry)) {
-					return false;
-				} else {
+				boolean equal = this == other;
+				if (!equal && other instanceof LibraryInformation) {
+					// Equal IDs denote equal strings
 					LibraryInformation otherLibInfo = (LibraryInformation) other;
-					return this.identifier.equals(otherLibInfo.identifier) && this.group.equals(otherLibInfo.group)
-							&& this.version.equals(otherLibInfo.version)
-							&& this.dependencyType.equals(otherLibInfo.dependencyType);
+					equal = this.hash == otherLibInfo.hash && this.libraryId == otherLibInfo.libraryId
+							&& this.versionId == otherLibInfo.versionId
+							&& this.dependencyTypeId == otherLibInfo.dependencyTypeId;
+				}
+				return equal;
+			}
+
+			@Override
+			public int hashCode() {
+				return hash;
+			}
+
+			@Override
+			public int compareTo(LibraryInformation other) {
+				int result = 0;
+				if (!equals(other)) {
+					result = compare(this.group, other.group);
+					if (result == 0) {
+						result = compare(this.identifier, other.identifier);
+					}
+					if (result == 0) {
+						result = compare(this.version, other.version);
+					}
+					if (result == 0) {
+						result = compare(this.dependencyType, other.dependencyType);
+					}
+				}
+				return result;
+			}
+
+			/**
+			 * Compares the given strings, where <code>null</code> is less than any
+			 * string.
+			 * 
+			 * @param first  the first string; may be <code>null</code>
+			 * @param second the second string; may be <code>null</code>
+			 * @return a negative integer, zero, or a positive integer as the first
+			 *         string is less than, equal to, or greater than the second
+			 */
+			private static int compare(String first, String second) {
+				int result;
+				if (first == second) {
+					result = 0;
+				} else if (first == null) {
+					result = -1;
+				} else if (second == null) {
+					result = 1;
+				} else {
+					result = first.compareTo(second);
 				}
+				return result;
 			}
 
 		}
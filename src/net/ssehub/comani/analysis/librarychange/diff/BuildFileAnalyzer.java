@@ -1,10 +1,122 @@
 package net.ssehub.comani.analysis.librarychange.diff;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry;
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry.LibraryInformation;
+import net.ssehub.comani.analysis.librarychange.metrics.AnalysisMetrics;
+import net.ssehub.comani.analysis.librarychange.metrics.AnalysisMetrics.Stage;
+import net.ssehub.comani.data.ChangedArtifact;
+
+/**
+ * Analyzes the changes to the dependencies declared in one type of build file.
+ * Analyzers are stateless and thread-safe: a single instance of each analyzer
+ * is shared by all threads and used for all build files of its type (see
+ * {@link BuildFileAnalyzerRegistry}).
+ *
+ * Further analyzers are added by subclasses with a public no-arg constructor,
+ * which are listed in
+ * <code>META-INF/services/net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalyzer</code>
+ * and discovered by the {@link java.util.ServiceLoader}.
+ */
 public abstract class BuildFileAnalyzer {
 
-	BuildFileAnalyzer(){
-		
+	/**
+	 * The deadline of analyses, whose time is not limited.
+	 */
+	public static final long NO_DEADLINE = Long.MAX_VALUE;
+
+	/**
+	 * The number of lines scanned between two checks of the deadline.
+	 */
+	private static final int DEADLINE_CHECK_INTERVAL = 256;
+
+	/**
+	 * Creates a new analyzer. Analyzers are instantiated by the
+	 * {@link java.util.ServiceLoader} and must therefore provide a public
+	 * constructor without parameters.
+	 */
+	protected BuildFileAnalyzer() {
+
+	}
+
+	/**
+	 * Returns the names of the build files supported by this analyzer. Names are
+	 * compared to the file name of a path ignoring case. A name starting with
+	 * <code>*</code> denotes a suffix, e.g., <code>*.versions.toml</code>; exact
+	 * names take precedence over suffixes.
+	 *
+	 * @return the supported file names and suffixes
+	 */
+	public abstract String[] getFileNames();
+
+	/**
+	 * Analyzes the given build file without time limit.
+	 *
+	 * @param artifact the changed build file
+	 * @return the {@link BuildFileAnalysisResult} of the build file
+	 */
+	public BuildFileAnalysisResult analyze(ChangedArtifact artifact) {
+		return analyze(artifact, NO_DEADLINE);
+	}
+
+	/**
+	 * Analyzes the given build file.
+	 *
+	 * @param artifact the changed build file
+	 * @param deadline the {@link System#nanoTime()} at which the analysis is
+	 *                 aborted or {@link #NO_DEADLINE}
+	 * @return the {@link BuildFileAnalysisResult} of the build file
+	 * @throws BudgetExceededException if the deadline passed
+	 */
+	public abstract BuildFileAnalysisResult analyze(ChangedArtifact artifact, long deadline);
+
+	/**
+	 * Checks the given deadline every {@link #DEADLINE_CHECK_INTERVAL} lines.
+	 * Called by the analyzers for each scanned line, so reading the clock does not
+	 * add to the cost of short files.
+	 *
+	 * @param line     the number of lines scanned so far
+	 * @param deadline the deadline of the analysis
+	 * @throws BudgetExceededException if the deadline passed
+	 */
+	protected static void checkDeadline(int line, long deadline) {
+		if (deadline != NO_DEADLINE && line % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() - deadline > 0) {
+			throw new BudgetExceededException("Parsing aborted after " + line + " lines");
+		}
+	}
+
+	/**
+	 * Creates the result by pairing the libraries before and after the commit by
+	 * their key. Libraries only present before the commit are reported as removed,
+	 * libraries only present after it as added.
+	 * 
+	 * @param buildFile  the path of the analyzed build file
+	 * @param oldLibInfo the libraries before the commit by their key
+	 * @param newLibInfo the libraries after the commit by their key
+	 * @return the {@link BuildFileAnalysisResult} listing all pairs
+	 */
+	static BuildFileAnalysisResult createResult(String buildFile, LibraryMap oldLibInfo, LibraryMap newLibInfo) {
+		long start = AnalysisMetrics.getInstance().start();
+		List<LibraryEntry> libraryChanges = new ArrayList<LibraryEntry>(oldLibInfo.size() + newLibInfo.size());
+
+		for (int i = 0; i < oldLibInfo.positions(); i++) {
+			LibraryInformation oldLibrary = oldLibInfo.valueAt(i);
+			if (oldLibrary != null) {
+				libraryChanges.add(new LibraryEntry(oldLibrary, newLibInfo.get(oldLibInfo.keyAt(i))));
+			}
+		}
+
+		for (int i = 0; i < newLibInfo.positions(); i++) {
+			LibraryInformation newLibrary = newLibInfo.valueAt(i);
+			if (newLibrary != null && !oldLibInfo.containsKey(newLibInfo.keyAt(i))) {
+				libraryChanges.add(new LibraryEntry(null, newLibrary));
+			}
+		}
+
+		AnalysisMetrics.getInstance().record(Stage.DIFF, start);
+		return new BuildFileAnalysisResult(buildFile, libraryChanges);
 	}
-	public abstract BuildFileAnalysisResult analyze();
 
 }
@@ -0,0 +1,232 @@
+package net.ssehub.comani.analysis.librarychange.diff;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+import net.ssehub.comani.core.Logger;
+import net.ssehub.comani.core.Logger.MessageType;
+
+/**
+ * Dispatches changed build files to their {@link BuildFileAnalyzer} by file
+ * name. The default registry holds the analyzers discovered by the
+ * {@link ServiceLoader}; new build systems are added by registering their
+ * analyzer as service, without changes to the dispatch.
+ *
+ * The exact file names of all analyzers are stored in an open-addressing hash
+ * table, which is probed with a case-insensitive hash of the file name part of
+ * the path. Hence, a lookup neither extracts the file name nor converts it to
+ * lower case. Suffixes (see {@link BuildFileAnalyzer#getFileNames()}) are only
+ * compared, if no exact name matches, longest suffix first.
+ *
+ * Registries are immutable after their creation and can be shared by multiple
+ * threads.
+ */
+public final class BuildFileAnalyzerRegistry {
+
+	/**
+	 * The prefix of file names denoting a suffix.
+	 */
+	private static final String SUFFIX_PREFIX = "*";
+
+	/**
+	 * The analyzers of this registry in the order of their registration.
+	 */
+	private final List<BuildFileAnalyzer> analyzers;
+
+	/**
+	 * The lower case file names of the hash table; <code>null</code> denotes an
+	 * empty slot. The length is a power of two.
+	 */
+	private final String[] names;
+
+	/**
+	 * The analyzers of the {@link #names} at the same index.
+	 */
+	private final BuildFileAnalyzer[] nameAnalyzers;
+
+	/**
+	 * The lower case suffixes ordered by decreasing length.
+	 */
+	private final String[] suffixes;
+
+	/**
+	 * The analyzers of the {@link #suffixes} at the same index.
+	 */
+	private final BuildFileAnalyzer[] suffixAnalyzers;
+
+	/**
+	 * Holds the default registry, which is created on first use.
+	 */
+	private static class DefaultRegistry {
+
+		/**
+		 * The registry of the analyzers discovered by the {@link ServiceLoader}.
+		 */
+		private static final BuildFileAnalyzerRegistry INSTANCE = new BuildFileAnalyzerRegistry(discover());
+	}
+
+	/**
+	 * Construct a new {@link BuildFileAnalyzerRegistry}. If multiple analyzers
+	 * support the same file name, the first one is used.
+	 *
+	 * @param analyzers the {@link BuildFileAnalyzer}s to register
+	 */
+	public BuildFileAnalyzerRegistry(List<BuildFileAnalyzer> analyzers) {
+		this.analyzers = Collections.unmodifiableList(new ArrayList<BuildFileAnalyzer>(analyzers));
+		List<String> nameList = new ArrayList<String>();
+		List<BuildFileAnalyzer> nameAnalyzerList = new ArrayList<BuildFileAnalyzer>();
+		List<String> suffixList = new ArrayList<String>();
+		List<BuildFileAnalyzer> suffixAnalyzerList = new ArrayList<BuildFileAnalyzer>();
+		for (BuildFileAnalyzer analyzer : this.analyzers) {
+			for (String fileName : analyzer.getFileNames()) {
+				String name = fileName.toLowerCase(Locale.ROOT);
+				if (name.startsWith(SUFFIX_PREFIX)) {
+					name = name.substring(SUFFIX_PREFIX.length());
+					if (!suffixList.contains(name)) {
+						suffixList.add(name);
+						suffixAnalyzerList.add(analyzer);
+					}
+				} else if (!nameList.contains(name)) {
+					nameList.add(name);
+					nameAnalyzerList.add(analyzer);
+				}
+			}
+		}
+		// At most half of the slots are used, so probe sequences stay short
+		int capacity = Integer.highestOneBit(Math.max(nameList.size(), 1) * 4 - 1);
+		this.names = new String[capacity];
+		this.nameAnalyzers = new BuildFileAnalyzer[capacity];
+		for (int i = 0; i < nameList.size(); i++) {
+			String name = nameList.get(i);
+			int slot = hash(name, 0) & (capacity - 1);
+			while (this.names[slot] != null) {
+				slot = (slot + 1) & (capacity - 1);
+			}
+			this.names[slot] = name;
+			this.nameAnalyzers[slot] = nameAnalyzerList.get(i);
+		}
+		Integer[] suffixOrder = new Integer[suffixList.size()];
+		for (int i = 0; i < suffixOrder.length; i++) {
+			suffixOrder[i] = i;
+		}
+		Arrays.sort(suffixOrder, (first, second) -> suffixList.get(second).length() - suffixList.get(first).length());
+		this.suffixes = new String[suffixOrder.length];
+		this.suffixAnalyzers = new BuildFileAnalyzer[suffixOrder.length];
+		for (int i = 0; i < suffixOrder.length; i++) {
+			this.suffixes[i] = suffixList.get(suffixOrder[i]);
+			this.suffixAnalyzers[i] = suffixAnalyzerList.get(suffixOrder[i]);
+		}
+	}
+
+	/**
+	 * Returns the registry of the analyzers discovered by the
+	 * {@link ServiceLoader}.
+	 *
+	 * @return the default {@link BuildFileAnalyzerRegistry}
+	 */
+	public static BuildFileAnalyzerRegistry getDefault() {
+		return DefaultRegistry.INSTANCE;
+	}
+
+	/**
+	 * Discovers the {@link BuildFileAnalyzer}s registered as services with the
+	 * class loader of this plug-in. If the service registrations are not
+	 * available, e.g., because the classes are used without the jar, the
+	 * analyzers of this package are used.
+	 *
+	 * @return the discovered analyzers in the order of their registration
+	 */
+	private static List<BuildFileAnalyzer> discover() {
+		List<BuildFileAnalyzer> discovered = new ArrayList<BuildFileAnalyzer>();
+		try {
+			for (BuildFileAnalyzer analyzer : ServiceLoader.load(BuildFileAnalyzer.class,
+					BuildFileAnalyzer.class.getClassLoader())) {
+				discovered.add(analyzer);
+			}
+		} catch (ServiceConfigurationError e) {
+			Logger.getInstance().log(BuildFileAnalyzerRegistry.class.getName(), "Could not load build file analyzers",
+					e.getMessage(), MessageType.WARNING);
+		}
+		if (discovered.isEmpty()) {
+			discovered.add(new GradleBuildFileAnalyzer());
+			discovered.add(new MavenBuildFileAnalyzer());
+			discovered.add(new AntBuildFileAnalyzer());
+			discovered.add(new VersionCatalogAnalyzer());
+		}
+		return discovered;
+	}
+
+	/**
+	 * Returns the analyzer for the file denoted by the given path. Only the file
+	 * name is compared (ignoring case), without allocating intermediate strings.
+	 *
+	 * @param artifactPath the path of a changed artifact
+	 * @return the {@link BuildFileAnalyzer} of the file or <code>null</code> if
+	 *         no analyzer supports the file
+	 */
+	public BuildFileAnalyzer getAnalyzer(String artifactPath) {
+		int nameStart = Math.max(artifactPath.lastIndexOf('/'), artifactPath.lastIndexOf('\\')) + 1;
+		int nameLength = artifactPath.length() - nameStart;
+		BuildFileAnalyzer analyzer = null;
+		int slot = hash(artifactPath, nameStart) & (this.names.length - 1);
+		while (analyzer == null && this.names[slot] != null) {
+			String name = this.names[slot];
+			if (name.length() == nameLength && artifactPath.regionMatches(true, nameStart, name, 0, nameLength)) {
+				analyzer = this.nameAnalyzers[slot];
+			}
+			slot = (slot + 1) & (this.names.length - 1);
+		}
+		for (int i = 0; i < this.suffixes.length && analyzer == null; i++) {
+			String suffix = this.suffixes[i];
+			if (suffix.length() <= nameLength && artifactPath.regionMatches(true,
+					artifactPath.length() - suffix.length(), suffix, 0, suffix.length())) {
+				analyzer = this.suffixAnalyzers[i];
+			}
+		}
+		return analyzer;
+	}
+
+	/**
+	 * Checks whether an analyzer exists for the file denoted by the given path.
+	 *
+	 * @param artifactPath the path of a changed artifact
+	 * @return <code>true</code> if {@link #getAnalyzer(String)} returns an
+	 *         analyzer, <code>false</code> otherwise
+	 */
+	public boolean isSupported(String artifactPath) {
+		return getAnalyzer(artifactPath) != null;
+	}
+
+	/**
+	 * Returns the analyzers of this registry.
+	 *
+	 * @return the unmodifiable list of {@link BuildFileAnalyzer}s in the order of
+	 *         their registration
+	 */
+	public List<BuildFileAnalyzer> getAnalyzers() {
+		return analyzers;
+	}
+
+	/**
+	 * Computes the case-insensitive hash of the given text from the given index to
+	 * its end.
+	 *
+	 * @param text  the text containing the file name
+	 * @param start the index of the first character of the file name
+	 * @return the hash of the lower case file name
+	 */
+	private static int hash(String text, int start) {
+		int hash = 0;
+		for (int i = start; i < text.length(); i++) {
+			hash = 31 * hash + Character.toLowerCase(text.charAt(i));
+		}
+		// Spreads the higher bits, as only the lower bits select the slot
+		return hash ^ (hash >>> 16);
+	}
+
+}
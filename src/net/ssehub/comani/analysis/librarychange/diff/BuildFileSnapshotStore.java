@@ -0,0 +1,293 @@
+package net.ssehub.comani.analysis.librarychange.diff;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry.LibraryInformation;
+import net.ssehub.comani.core.Logger;
+import net.ssehub.comani.core.Logger.MessageType;
+import net.ssehub.comani.data.ChangedArtifact;
+
+/**
+ * Keeps snapshots of build files for the incremental analysis mode. Each
+ * snapshot holds the content and the dependency set of one build file and is
+ * updated by the diff of every commit changing that file (see
+ * {@link GradleBuildFileSnapshot}). This makes the analysis independent of
+ * where a hunk starts, but requires the diffs of a file to be applied in commit
+ * order. Hence, a store must only be used by a single thread processing the
+ * commits in the order of the history.
+ *
+ * A snapshot is started when a diff creates a build file. If a diff does not
+ * match its snapshot, e.g., because a commit was skipped, the snapshot is
+ * dropped. For build files without snapshot, {@link #analyze(ChangedArtifact)}
+ * returns <code>null</code> and the hunk-based result remains valid.
+ *
+ * The number of snapshots in memory and their estimated size (see
+ * {@link MemoryBudget}) are bounded. If a bound is exceeded, the snapshots of
+ * the least recently changed build files are spilled to files in a temporary
+ * directory and read back by the next diff of their build file. Hence, the
+ * bounds only limit the memory, not the results. Only if spilling fails, a
+ * snapshot is dropped and a warning is logged. The temporary directory is
+ * created by the first spill and deleted by {@link #close()} or, at the
+ * latest, when the virtual machine terminates.
+ */
+public class BuildFileSnapshotStore implements Closeable {
+
+	/**
+	 * The header line of a diff deleting a file.
+	 */
+	private static final String DELETION_HEADER = "+++ /dev/null";
+
+	/**
+	 * The prefix of the name of the temporary directory.
+	 */
+	private static final String DIRECTORY_PREFIX = "librarychange-snapshots";
+
+	/**
+	 * The snapshots by the path of their build file in access order.
+	 */
+	private Map<String, GradleBuildFileSnapshot> snapshots;
+
+	/**
+	 * The maximum number of snapshots.
+	 */
+	private int limit;
+
+	/**
+	 * The budget, which the snapshots count towards.
+	 */
+	private MemoryBudget memoryBudget;
+
+	/**
+	 * The temporary directory of the spilled snapshots; <code>null</code> if no
+	 * snapshot was spilled yet.
+	 */
+	private Path spillDirectory;
+
+	/**
+	 * The files in the {@link #spillDirectory} by the path of their build file.
+	 * A build file keeps its file, so each file is registered for deletion only
+	 * once.
+	 */
+	private Map<String, Path> spillFiles = new HashMap<String, Path>();
+
+	/**
+	 * The paths of the build files, whose current snapshot is spilled.
+	 */
+	private Set<String> spilledPaths = new HashSet<String>();
+
+	/**
+	 * Construct a new {@link BuildFileSnapshotStore}.
+	 * 
+	 * @param limit the maximum number of build files for which snapshots are
+	 *              kept in memory; must be at least <code>1</code>
+	 */
+	public BuildFileSnapshotStore(int limit) {
+		this(limit, MemoryBudget.UNLIMITED);
+	}
+
+	/**
+	 * Construct a new {@link BuildFileSnapshotStore}.
+	 * 
+	 * @param limit        the maximum number of build files for which snapshots
+	 *                     are kept in memory; must be at least <code>1</code>
+	 * @param memoryBudget the budget, which the snapshots count towards
+	 */
+	public BuildFileSnapshotStore(int limit, MemoryBudget memoryBudget) {
+		this.snapshots = new LinkedHashMap<String, GradleBuildFileSnapshot>(16, 0.75f, true);
+		this.limit = limit;
+		this.memoryBudget = memoryBudget;
+	}
+
+	/**
+	 * Applies the diff of the given build file to its snapshot.
+	 * 
+	 * @param artifact the changed build file
+	 * @return the library changes based on the snapshot or <code>null</code> if
+	 *         no snapshot exists for the build file
+	 */
+	public BuildFileAnalysisResult analyze(ChangedArtifact artifact) {
+		BuildFileAnalysisResult result = null;
+		if (artifact.getArtifactName().equalsIgnoreCase("build.gradle")
+				|| artifact.getArtifactName().equalsIgnoreCase("build.gradle.kts")) {
+			String path = artifact.getArtifactPath();
+			List<String> diff = artifact.getContent();
+			GradleBuildFileSnapshot snapshot = get(path);
+			if (snapshot == null && GradleBuildFileSnapshot.isCreation(diff)) {
+				snapshot = new GradleBuildFileSnapshot();
+				snapshots.put(path, snapshot);
+			}
+			if (snapshot != null) {
+				long sizeBefore = snapshot.estimateSize();
+				result = snapshot.apply(path, diff);
+				memoryBudget.release(sizeBefore);
+				memoryBudget.reserve(snapshot.estimateSize());
+				if (result == null || diff.contains(DELETION_HEADER)) {
+					drop(path);
+				}
+				evict();
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Drops the snapshot of the given build file, e.g., because its diff could not
+	 * be analyzed and, hence, is not applied.
+	 * 
+	 * @param artifactPath the path of the build file
+	 */
+	public void drop(String artifactPath) {
+		GradleBuildFileSnapshot snapshot = snapshots.remove(artifactPath);
+		if (snapshot != null) {
+			memoryBudget.release(snapshot.estimateSize());
+		}
+		// The file is overwritten by the next spill of the build file
+		spilledPaths.remove(artifactPath);
+	}
+
+	/**
+	 * Returns the dependencies currently declared in the given build file.
+	 * 
+	 * @param artifactPath the path of the build file
+	 * @return the dependencies in the order of their declaration or
+	 *         <code>null</code> if no snapshot exists for the build file
+	 */
+	public List<LibraryInformation> getDependencies(String artifactPath) {
+		GradleBuildFileSnapshot snapshot = get(artifactPath);
+		List<LibraryInformation> dependencies = null;
+		if (snapshot != null) {
+			dependencies = snapshot.getDependencies();
+			evict();
+		}
+		return dependencies;
+	}
+
+	/**
+	 * Returns the number of build files for which snapshots are kept in memory.
+	 * 
+	 * @return the number of snapshots in memory
+	 */
+	public int size() {
+		return snapshots.size();
+	}
+
+	/**
+	 * Returns the number of build files whose snapshot is spilled to disk.
+	 * 
+	 * @return the number of spilled snapshots
+	 */
+	public int getSpilledCount() {
+		return spilledPaths.size();
+	}
+
+	/**
+	 * Drops all snapshots and deletes the temporary directory, if snapshots were
+	 * spilled. This store is empty afterwards.
+	 * 
+	 * @throws IOException if deleting the temporary directory fails
+	 */
+	@Override
+	public void close() throws IOException {
+		for (GradleBuildFileSnapshot snapshot : snapshots.values()) {
+			memoryBudget.release(snapshot.estimateSize());
+		}
+		snapshots.clear();
+		spilledPaths.clear();
+		if (spillDirectory != null) {
+			try {
+				for (Path file : spillFiles.values()) {
+					Files.deleteIfExists(file);
+				}
+				Files.deleteIfExists(spillDirectory);
+			} finally {
+				spillFiles.clear();
+				spillDirectory = null;
+			}
+		}
+	}
+
+	/**
+	 * Returns the snapshot of the given build file. A spilled snapshot is read
+	 * back into memory; the caller has to {@link #evict()} afterwards.
+	 * 
+	 * @param artifactPath the path of the build file
+	 * @return the snapshot or <code>null</code> if no snapshot exists for the
+	 *         build file
+	 */
+	private GradleBuildFileSnapshot get(String artifactPath) {
+		GradleBuildFileSnapshot snapshot = snapshots.get(artifactPath);
+		if (snapshot == null && spilledPaths.remove(artifactPath)) {
+			Path file = spillFiles.get(artifactPath);
+			try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+				snapshot = GradleBuildFileSnapshot.read(input);
+				snapshots.put(artifactPath, snapshot);
+				memoryBudget.reserve(snapshot.estimateSize());
+			} catch (IOException e) {
+				Logger.getInstance().log(this.getClass().getName(), "Could not read the snapshot of " + artifactPath
+						+ " from " + file, e.getMessage(), MessageType.WARNING);
+			}
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Spills the least recently changed snapshots to disk while there are too
+	 * many in memory or the {@link #memoryBudget} is exceeded.
+	 */
+	private void evict() {
+		Iterator<Map.Entry<String, GradleBuildFileSnapshot>> eldest = snapshots.entrySet().iterator();
+		while (eldest.hasNext() && (snapshots.size() > limit || memoryBudget.isExceeded())) {
+			Map.Entry<String, GradleBuildFileSnapshot> entry = eldest.next();
+			memoryBudget.release(entry.getValue().estimateSize());
+			eldest.remove();
+			spill(entry.getKey(), entry.getValue());
+		}
+	}
+
+	/**
+	 * Writes the given snapshot to the file of its build file in the
+	 * {@link #spillDirectory}. If writing fails, the snapshot is dropped, so the
+	 * following diffs of the build file are analyzed without snapshot.
+	 * 
+	 * @param artifactPath the path of the build file
+	 * @param snapshot     the snapshot, which is not in memory anymore
+	 */
+	private void spill(String artifactPath, GradleBuildFileSnapshot snapshot) {
+		try {
+			if (spillDirectory == null) {
+				spillDirectory = Files.createTempDirectory(DIRECTORY_PREFIX);
+				// Files registered later are deleted first, so the directory is empty when it is deleted
+				spillDirectory.toFile().deleteOnExit();
+			}
+			Path file = spillFiles.get(artifactPath);
+			if (file == null) {
+				file = spillDirectory.resolve(Integer.toString(spillFiles.size()));
+				file.toFile().deleteOnExit();
+				spillFiles.put(artifactPath, file);
+			}
+			try (DataOutputStream output = new DataOutputStream(
+					new BufferedOutputStream(Files.newOutputStream(file)))) {
+				snapshot.write(output);
+			}
+			spilledPaths.add(artifactPath);
+		} catch (IOException e) {
+			Logger.getInstance().log(this.getClass().getName(), "Could not spill the snapshot of " + artifactPath,
+					e.getMessage() + "; its following diffs are analyzed without snapshot", MessageType.WARNING);
+		}
+	}
+
+}
@@ -0,0 +1,308 @@
+package net.ssehub.comani.analysis.librarychange.diff;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.ssehub.comani.analysis.librarychange.diff.ArtifactError.Reason;
+import net.ssehub.comani.analysis.librarychange.metrics.AnalysisMetrics;
+import net.ssehub.comani.analysis.librarychange.metrics.AnalysisMetrics.Counter;
+import net.ssehub.comani.analysis.librarychange.metrics.AnalysisMetrics.Stage;
+import net.ssehub.comani.core.Logger;
+import net.ssehub.comani.core.Logger.MessageType;
+import net.ssehub.comani.data.ChangedArtifact;
+import net.ssehub.comani.data.Commit;
+
+/**
+ * Analyzes a batch of commits in two passes instead of one commit after the
+ * other. The first pass classifies the paths of all changed artifacts of the
+ * batch and groups the build files by their {@link BuildFileAnalyzer}. The
+ * second pass runs the (shared) analyzers group by group, so each build system
+ * is parsed in one go. The results of each commit are assembled in the order of
+ * its changed artifacts, so they equal the results of
+ * {@link LibraryChangeAnalyzer}.
+ *
+ * Failures are isolated per build file: a build file, which exceeds the
+ * {@link ArtifactBudget} or breaks its analyzer, is recorded as
+ * {@link ArtifactError} in the result of its commit, while the other build
+ * files of the commit are analyzed as usual.
+ *
+ * Instances hold no state between calls of {@link #analyze(List)}; a single
+ * instance can be used by multiple threads.
+ */
+public class CommitBatchAnalyzer {
+
+	/**
+	 * The {@link PathClassifier} identifying code and build files.
+	 */
+	private PathClassifier pathClassifier;
+
+	/**
+	 * The {@link ParseCache} for the results of build file analyzers; may be
+	 * <code>null</code>.
+	 */
+	private ParseCache parseCache;
+
+	/**
+	 * The {@link ArtifactBudget} limiting the resources spent on each build file.
+	 */
+	private ArtifactBudget budget;
+
+	/**
+	 * Construct a new {@link CommitBatchAnalyzer} without limits for single build
+	 * files.
+	 *
+	 * @param pathClassifier the {@link PathClassifier} identifying code and build
+	 *                       files
+	 * @param parseCache     the {@link ParseCache} for the results of build file
+	 *                       analyzers; <code>null</code> analyzes each build file
+	 */
+	public CommitBatchAnalyzer(PathClassifier pathClassifier, ParseCache parseCache) {
+		this(pathClassifier, parseCache, ArtifactBudget.UNLIMITED);
+	}
+
+	/**
+	 * Construct a new {@link CommitBatchAnalyzer}.
+	 *
+	 * @param pathClassifier the {@link PathClassifier} identifying code and build
+	 *                       files
+	 * @param parseCache     the {@link ParseCache} for the results of build file
+	 *                       analyzers; <code>null</code> analyzes each build file
+	 * @param budget         the {@link ArtifactBudget} limiting the resources
+	 *                       spent on each build file
+	 */
+	public CommitBatchAnalyzer(PathClassifier pathClassifier, ParseCache parseCache, ArtifactBudget budget) {
+		this.pathClassifier = pathClassifier;
+		this.parseCache = parseCache;
+		this.budget = budget;
+	}
+
+	/**
+	 * Analyzes the artifacts changed by the given commits.
+	 *
+	 * @param commits the {@link Commit}s to analyze
+	 * @return the {@link AnalysisResult}s in the order of the commits; an entry is
+	 *         <code>null</code>, if the commit has no id or its changed artifacts
+	 *         are not available
+	 */
+	public List<AnalysisResult> analyze(List<Commit> commits) {
+		AnalysisMetrics metrics = AnalysisMetrics.getInstance();
+		BuildFileAnalysisResult[][] buildFileResults = new BuildFileAnalysisResult[commits.size()][];
+		ArtifactError[][] buildFileErrors = new ArtifactError[commits.size()][];
+		boolean[] failed = new boolean[commits.size()];
+		long start = metrics.start();
+		Map<BuildFileAnalyzer, List<PendingBuildFile>> pendingBuildFiles = classify(commits, buildFileResults,
+				buildFileErrors, failed);
+		metrics.record(Stage.PATH_CLASSIFICATION, start);
+		for (List<PendingBuildFile> group : pendingBuildFiles.values()) {
+			for (PendingBuildFile buildFile : group) {
+				// Build files of commits, whose classification failed, are not parsed
+				if (!failed[buildFile.commit]) {
+					ArtifactError error = parse(buildFile, commits.get(buildFile.commit), buildFileResults);
+					if (error != null) {
+						metrics.increment(Counter.ARTIFACT_ERRORS);
+						buildFileErrors[buildFile.commit][buildFile.position] = error;
+					}
+				}
+			}
+		}
+		List<AnalysisResult> results = new ArrayList<AnalysisResult>(commits.size());
+		for (int i = 0; i < commits.size(); i++) {
+			AnalysisResult result = null;
+			if (!failed[i]) {
+				result = new AnalysisResult();
+				result.setCommitId(commits.get(i).getId());
+				for (int j = 0; j < buildFileResults[i].length; j++) {
+					if (buildFileErrors[i][j] != null) {
+						result.addError(buildFileErrors[i][j]);
+					} else {
+						result.addResult(buildFileResults[i][j]);
+					}
+				}
+			}
+			results.add(result);
+		}
+		return results;
+	}
+
+	/**
+	 * Parses the given build file within the time of the {@link #budget} and
+	 * stores its result in the given arrays.
+	 *
+	 * @param buildFile the {@link PendingBuildFile} to parse
+	 * @param commit    the {@link Commit} changing the build file
+	 * @param results   the arrays for the results of the build files of each
+	 *                  commit
+	 * @return the {@link ArtifactError}, if the build file could not be parsed;
+	 *         <code>null</code> otherwise
+	 */
+	private ArtifactError parse(PendingBuildFile buildFile, Commit commit, BuildFileAnalysisResult[][] results) {
+		AnalysisMetrics metrics = AnalysisMetrics.getInstance();
+		String artifactPath = buildFile.artifact.getArtifactPath();
+		ArtifactError error = null;
+		try {
+			long start = metrics.start();
+			long deadline = this.budget.getDeadline();
+			results[buildFile.commit][buildFile.position] = this.parseCache != null
+					? this.parseCache.analyze(buildFile.artifact, buildFile.analyzer, deadline)
+					: buildFile.analyzer.analyze(buildFile.artifact, deadline);
+			metrics.recordParse(buildFile.analyzer.getClass(), start);
+		} catch (BudgetExceededException e) {
+			error = new ArtifactError(artifactPath, Reason.TIME_EXCEEDED, e.getMessage());
+		} catch (Exception e) {
+			error = new ArtifactError(artifactPath, Reason.FAILED, String.valueOf(e));
+			logFailure(artifactPath, commit, e);
+		}
+		return error;
+	}
+
+	/**
+	 * Classifies the changed artifacts of the given commits and looks up the
+	 * analyzers of the build files. Build files, which exceed the size of the
+	 * {@link #budget}, are recorded as errors right away.
+	 *
+	 * @param commits          the {@link Commit}s to analyze
+	 * @param buildFileResults the arrays for the results of the build files of
+	 *                         each commit, which are created by this method
+	 * @param buildFileErrors  the arrays for the errors of the build files of
+	 *                         each commit, which are created by this method
+	 * @param failed           the flags denoting failed commits, which are set
+	 *                         by this method
+	 * @return the build files to parse grouped by their analyzer
+	 */
+	private Map<BuildFileAnalyzer, List<PendingBuildFile>> classify(List<Commit> commits,
+			BuildFileAnalysisResult[][] buildFileResults, ArtifactError[][] buildFileErrors, boolean[] failed) {
+		AnalysisMetrics metrics = AnalysisMetrics.getInstance();
+		Map<BuildFileAnalyzer, List<PendingBuildFile>> pendingBuildFiles =
+				new LinkedHashMap<BuildFileAnalyzer, List<PendingBuildFile>>();
+		for (int i = 0; i < commits.size(); i++) {
+			Commit commit = commits.get(i);
+			List<ArtifactError> errors = new ArrayList<ArtifactError>();
+			int buildFiles = 0;
+			try {
+				// Commits without id are not analyzed, like by the LibraryChangeAnalyzer
+				failed[i] = commit.getId().isEmpty();
+				List<ChangedArtifact> changedArtifactList = failed[i] ? new ArrayList<ChangedArtifact>()
+						: commit.getChangedArtifacts();
+				for (ChangedArtifact artifact : changedArtifactList) {
+					String artifactPath = artifact.getArtifactPath();
+					BuildFileAnalyzer analyzer = this.pathClassifier.getBuildFileAnalyzer(artifactPath);
+					if (analyzer != null) {
+						metrics.increment(Counter.BUILD_FILES);
+						ArtifactError error = prepare(new PendingBuildFile(i, buildFiles, artifact, analyzer), commit,
+								pendingBuildFiles);
+						if (error != null) {
+							metrics.increment(Counter.ARTIFACT_ERRORS);
+						}
+						// Keeps the slot of each build file, so errors stay in the order of the artifacts
+						errors.add(error);
+						buildFiles++;
+					} else if (metrics.isEnabled()) {
+						// The code file pattern is only evaluated for the metrics
+						metrics.increment(this.pathClassifier.isCodeFile(artifactPath) ? Counter.CODE_FILES
+								: Counter.OTHER_FILES);
+					}
+				}
+			} catch (Exception e) {
+				failed[i] = true;
+				logFailure(null, commit, e);
+			}
+			buildFileResults[i] = new BuildFileAnalysisResult[buildFiles];
+			buildFileErrors[i] = errors.toArray(new ArtifactError[buildFiles]);
+		}
+		return pendingBuildFiles;
+	}
+
+	/**
+	 * Adds the given build file to the group of its analyzer, if it is within the
+	 * size of the {@link #budget}.
+	 *
+	 * @param buildFile         the classified build file
+	 * @param commit            the {@link Commit} changing the build file
+	 * @param pendingBuildFiles the build files to parse grouped by their analyzer
+	 * @return the {@link ArtifactError}, if the build file is not parsed;
+	 *         <code>null</code> otherwise
+	 */
+	private ArtifactError prepare(PendingBuildFile buildFile, Commit commit,
+			Map<BuildFileAnalyzer, List<PendingBuildFile>> pendingBuildFiles) {
+		String artifactPath = buildFile.artifact.getArtifactPath();
+		ArtifactError error = null;
+		try {
+			if (this.budget.exceedsSize(buildFile.artifact)) {
+				error = new ArtifactError(artifactPath, Reason.SIZE_EXCEEDED,
+						"Diff larger than " + this.budget.getMaxSize() + " characters");
+			} else {
+				pendingBuildFiles.computeIfAbsent(buildFile.analyzer, key -> new ArrayList<PendingBuildFile>())
+						.add(buildFile);
+			}
+		} catch (RuntimeException e) {
+			error = new ArtifactError(artifactPath, Reason.FAILED, String.valueOf(e));
+			logFailure(artifactPath, commit, e);
+		}
+		return error;
+	}
+
+	/**
+	 * Logs the failed analysis of the given commit or one of its build files.
+	 *
+	 * @param artifactPath the path of the failed build file; <code>null</code>,
+	 *                     if the analysis of the whole commit failed
+	 * @param commit       the {@link Commit}, whose analysis failed
+	 * @param e            the exception causing the failure
+	 */
+	private void logFailure(String artifactPath, Commit commit, Exception e) {
+		if (artifactPath == null) {
+			Logger.getInstance().log(this.getClass().getName(), "Could not analyze commit " + commit.getId(),
+					e.getMessage(), MessageType.ERROR);
+		} else {
+			Logger.getInstance().log(this.getClass().getName(),
+					"Could not analyze " + artifactPath + " in commit " + commit.getId(), e.getMessage(),
+					MessageType.WARNING);
+		}
+	}
+
+	/**
+	 * A build file, which is classified, but not analyzed yet.
+	 */
+	private static class PendingBuildFile {
+
+		/**
+		 * The index of the commit changing the build file in the batch.
+		 */
+		private final int commit;
+
+		/**
+		 * The index of the build file among the build files changed by the commit.
+		 */
+		private final int position;
+
+		/**
+		 * The changed build file.
+		 */
+		private final ChangedArtifact artifact;
+
+		/**
+		 * The analyzer of the build file.
+		 */
+		private final BuildFileAnalyzer analyzer;
+
+		/**
+		 * Creates a new pending build file.
+		 *
+		 * @param commit   the index of the commit changing the build file in the
+		 *                 batch
+		 * @param position the index of the build file among the build files
+		 *                 changed by the commit
+		 * @param artifact the changed build file
+		 * @param analyzer the analyzer of the build file
+		 */
+		private PendingBuildFile(int commit, int position, ChangedArtifact artifact, BuildFileAnalyzer analyzer) {
+			this.commit = commit;
+			this.position = position;
+			this.artifact = artifact;
+			this.analyzer = analyzer;
+		}
+	}
+
+}
@@ -0,0 +1,440 @@
+package net.ssehub.comani.analysis.librarychange.diff;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry.LibraryInformation;
+
+/**
+ * Interns the parts of library coordinates (dependency types, groups,
+ * identifiers, and versions) as compact int IDs and provides a single,
+ * shared {@link LibraryInformation} instance per distinct coordinate.
+ *
+ * Strings are looked up directly in the line they are parsed from, so parsing
+ * a coordinate seen before allocates nothing. Pairs of IDs, like group and
+ * identifier, are interned as well, which yields a single int identifying a
+ * library; the analyzers use these ints as keys when pairing the libraries
+ * before and after a commit (see {@link LibraryMap}).
+ *
+ * The table is shared by all analyzers and only grows; the number of distinct
+ * coordinates in a history is small compared to the number of their
+ * occurrences, hence the table does not count towards a {@link MemoryBudget}.
+ * All methods are thread-safe. Looking up entries, which exist already, does
+ * not lock: each table is published as a whole through a volatile field, and
+ * the slot of a new entry is only set after the entry itself, so a reader
+ * either finds a complete entry or misses it. Only a miss synchronizes to look
+ * up the entry again and add it.
+ */
+public final class CoordinateTable {
+
+	/**
+	 * The ID of <code>null</code>.
+	 */
+	public static final int NULL_ID = 0;
+
+	/**
+	 * The single instance of this class.
+	 */
+	private static final CoordinateTable INSTANCE = new CoordinateTable();
+
+	/**
+	 * The initial capacity of the tables; must be a power of two.
+	 */
+	private static final int INITIAL_CAPACITY = 1024;
+
+	/**
+	 * The current table of strings; replaced by a larger copy when it is full.
+	 */
+	private volatile StringTable stringTable = new StringTable(INITIAL_CAPACITY);
+
+	/**
+	 * The number of used string IDs, including {@link #NULL_ID}. Guarded by this
+	 * table.
+	 */
+	private int stringCount = 1;
+
+	/**
+	 * The current table of pairs; replaced by a larger copy when it is full.
+	 */
+	private volatile PairTable pairTable = new PairTable(INITIAL_CAPACITY);
+
+	/**
+	 * The number of used pair IDs, including the unused ID <code>0</code>.
+	 * Guarded by this table.
+	 */
+	private int pairCount = 1;
+
+	/**
+	 * The shared library instances by the ID of the pair of their library ID and
+	 * their variant (dependency type and version) ID; replaced by a larger copy
+	 * when it is too small.
+	 */
+	private volatile AtomicReferenceArray<LibraryInformation> libraries =
+			new AtomicReferenceArray<LibraryInformation>(INITIAL_CAPACITY);
+
+	/**
+	 * Construct the single {@link CoordinateTable}.
+	 */
+	private CoordinateTable() {
+	}
+
+	/**
+	 * Returns the single instance of this class.
+	 *
+	 * @return the {@link CoordinateTable}
+	 */
+	public static CoordinateTable getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Returns the ID of the given string.
+	 *
+	 * @param string the string to intern; may be <code>null</code>
+	 * @return the ID of the string; {@link #NULL_ID} for <code>null</code>
+	 */
+	public int intern(String string) {
+		return string == null ? NULL_ID : intern(string, 0, string.length());
+	}
+
+	/**
+	 * Returns the ID of the given part of a string. A new string is only
+	 * allocated, if the part was not interned before.
+	 *
+	 * @param text  the text containing the string to intern
+	 * @param start the index of the first character of the string
+	 * @param end   the index after the last character of the string
+	 * @return the ID of the string
+	 */
+	public int intern(String text, int start, int end) {
+		int hash = 0;
+		for (int i = start; i < end; i++) {
+			hash = 31 * hash + text.charAt(i);
+		}
+		int id = stringTable.find(text, start, end, hash);
+		if (id == NULL_ID) {
+			id = addString(text, start, end, hash);
+		}
+		return id;
+	}
+
+	/**
+	 * Returns the string with the given ID.
+	 *
+	 * @param id the ID returned by {@link #intern(String)}
+	 * @return the interned string; <code>null</code> for {@link #NULL_ID}
+	 */
+	public String getString(int id) {
+		return stringTable.strings[id];
+	}
+
+	/**
+	 * Returns the ID of the given pair of IDs. The IDs of pairs are independent of
+	 * the IDs of strings.
+	 *
+	 * @param first  the first ID of the pair
+	 * @param second the second ID of the pair
+	 * @return the ID of the pair; never <code>0</code>
+	 */
+	public int pair(int first, int second) {
+		long pair = ((long) first << 32) | (second & 0xFFFFFFFFL);
+		int id = pairTable.find(pair);
+		if (id == 0) {
+			id = addPair(pair);
+		}
+		return id;
+	}
+
+	/**
+	 * Returns the shared instance of the library with the given coordinates.
+	 *
+	 * @param dependencyTypeId the ID of the dependency type
+	 * @param identifierId     the ID of the identifier
+	 * @param groupId          the ID of the group
+	 * @param versionId        the ID of the version; {@link #NULL_ID} if the
+	 *                         version is unknown
+	 * @return the {@link LibraryInformation}
+	 */
+	public LibraryInformation getLibrary(int dependencyTypeId, int identifierId, int groupId, int versionId) {
+		int instanceId = pair(pair(groupId, identifierId), pair(dependencyTypeId, versionId));
+		AtomicReferenceArray<LibraryInformation> currentLibraries = libraries;
+		LibraryInformation library = instanceId < currentLibraries.length() ? currentLibraries.get(instanceId)
+				: null;
+		if (library == null) {
+			library = addLibrary(instanceId, dependencyTypeId, identifierId, groupId, versionId);
+		}
+		return library;
+	}
+
+	/**
+	 * Returns the shared instance of the library with the given coordinates.
+	 *
+	 * @param dependencyType the dependency type
+	 * @param identifier     the identifier
+	 * @param group          the group
+	 * @param version        the version; may be <code>null</code>
+	 * @return the {@link LibraryInformation}
+	 */
+	public LibraryInformation getLibrary(String dependencyType, String identifier, String group, String version) {
+		return getLibrary(intern(dependencyType), intern(identifier), intern(group), intern(version));
+	}
+
+	/**
+	 * Adds the given part of a string, unless another thread added it since the
+	 * lookup without lock.
+	 *
+	 * @param text  the text containing the string to add
+	 * @param start the index of the first character of the string
+	 * @param end   the index after the last character of the string
+	 * @param hash  the hash code of the string
+	 * @return the ID of the string
+	 */
+	private synchronized int addString(String text, int start, int end, int hash) {
+		int id = stringTable.find(text, start, end, hash);
+		if (id == NULL_ID) {
+			if (stringCount == stringTable.strings.length) {
+				stringTable = stringTable.grow(stringCount);
+			}
+			id = stringCount++;
+			stringTable.add(id, text.substring(start, end), hash);
+		}
+		return id;
+	}
+
+	/**
+	 * Adds the given pair, unless another thread added it since the lookup
+	 * without lock.
+	 *
+	 * @param pair the pair of IDs; the first ID in the upper, the second ID in the
+	 *             lower half
+	 * @return the ID of the pair
+	 */
+	private synchronized int addPair(long pair) {
+		int id = pairTable.find(pair);
+		if (id == 0) {
+			if (pairCount == pairTable.pairs.length) {
+				pairTable = pairTable.grow(pairCount);
+			}
+			id = pairCount++;
+			pairTable.add(id, pair);
+		}
+		return id;
+	}
+
+	/**
+	 * Creates the shared instance of the library with the given coordinates,
+	 * unless another thread created it since the lookup without lock.
+	 *
+	 * @param instanceId       the ID of the pair of the library ID and the
+	 *                         variant ID
+	 * @param dependencyTypeId the ID of the dependency type
+	 * @param identifierId     the ID of the identifier
+	 * @param groupId          the ID of the group
+	 * @param versionId        the ID of the version
+	 * @return the {@link LibraryInformation}
+	 */
+	private synchronized LibraryInformation addLibrary(int instanceId, int dependencyTypeId, int identifierId,
+			int groupId, int versionId) {
+		if (instanceId >= libraries.length()) {
+			AtomicReferenceArray<LibraryInformation> grownLibraries = new AtomicReferenceArray<LibraryInformation>(
+					Math.max(libraries.length() * 2, instanceId + 1));
+			for (int i = 0; i < libraries.length(); i++) {
+				grownLibraries.set(i, libraries.get(i));
+			}
+			libraries = grownLibraries;
+		}
+		LibraryInformation library = libraries.get(instanceId);
+		if (library == null) {
+			String[] strings = stringTable.strings;
+			library = new LibraryInformation(strings[dependencyTypeId], strings[identifierId], strings[groupId],
+					strings[versionId], pair(groupId, identifierId), dependencyTypeId, versionId);
+			libraries.set(instanceId, library);
+		}
+		return library;
+	}
+
+	/**
+	 * Spreads the bits of the given hash code for the use in a power of two sized
+	 * table.
+	 *
+	 * @param hash the hash code
+	 * @return the mixed hash code
+	 */
+	static int mix(int hash) {
+		int mixed = hash * 0x9E3779B9;
+		return mixed ^ (mixed >>> 16);
+	}
+
+	/**
+	 * An open addressing hash table of strings. The entries are written before
+	 * their slot, so readers without lock see complete entries; only the single
+	 * writer holding the lock of the {@link CoordinateTable} adds entries.
+	 */
+	private static final class StringTable {
+
+		/**
+		 * The strings by their ID.
+		 */
+		private final String[] strings;
+
+		/**
+		 * The hash codes of the strings by their ID.
+		 */
+		private final int[] hashes;
+
+		/**
+		 * The IDs of the strings by their slot; <code>0</code> marks an empty slot.
+		 */
+		private final AtomicIntegerArray slots;
+
+		/**
+		 * Creates an empty table.
+		 *
+		 * @param capacity the number of IDs; must be a power of two
+		 */
+		private StringTable(int capacity) {
+			strings = new String[capacity];
+			hashes = new int[capacity];
+			slots = new AtomicIntegerArray(capacity * 2);
+		}
+
+		/**
+		 * Looks up the given part of a string.
+		 *
+		 * @param text  the text containing the string
+		 * @param start the index of the first character of the string
+		 * @param end   the index after the last character of the string
+		 * @param hash  the hash code of the string
+		 * @return the ID of the string or {@link CoordinateTable#NULL_ID} if it is
+		 *         not in this table
+		 */
+		private int find(String text, int start, int end, int hash) {
+			int length = end - start;
+			int mask = slots.length() - 1;
+			int slot = mix(hash) & mask;
+			int id = slots.get(slot);
+			int found = NULL_ID;
+			while (id != 0 && found == NULL_ID) {
+				String candidate = strings[id];
+				if (hashes[id] == hash && candidate.length() == length
+						&& text.regionMatches(start, candidate, 0, length)) {
+					found = id;
+				} else {
+					slot = (slot + 1) & mask;
+					id = slots.get(slot);
+				}
+			}
+			return found;
+		}
+
+		/**
+		 * Adds a string, which is not in this table yet.
+		 *
+		 * @param id     the ID of the string
+		 * @param string the string
+		 * @param hash   the hash code of the string
+		 */
+		private void add(int id, String string, int hash) {
+			strings[id] = string;
+			hashes[id] = hash;
+			int mask = slots.length() - 1;
+			int slot = mix(hash) & mask;
+			while (slots.get(slot) != 0) {
+				slot = (slot + 1) & mask;
+			}
+			// Publishes the entry
+			slots.set(slot, id);
+		}
+
+		/**
+		 * Creates a copy of this table with twice the capacity.
+		 *
+		 * @param count the number of used IDs
+		 * @return the larger table
+		 */
+		private StringTable grow(int count) {
+			StringTable grownTable = new StringTable(strings.length * 2);
+			for (int id = 1; id < count; id++) {
+				grownTable.add(id, strings[id], hashes[id]);
+			}
+			return grownTable;
+		}
+	}
+
+	/**
+	 * An open addressing hash table of pairs of IDs, which is published like a
+	 * {@link StringTable}.
+	 */
+	private static final class PairTable {
+
+		/**
+		 * The pairs by their ID; the first ID is stored in the upper, the second ID
+		 * in the lower half.
+		 */
+		private final long[] pairs;
+
+		/**
+		 * The IDs of the pairs by their slot; <code>0</code> marks an empty slot.
+		 */
+		private final AtomicIntegerArray slots;
+
+		/**
+		 * Creates an empty table.
+		 *
+		 * @param capacity the number of IDs; must be a power of two
+		 */
+		private PairTable(int capacity) {
+			pairs = new long[capacity];
+			slots = new AtomicIntegerArray(capacity * 2);
+		}
+
+		/**
+		 * Looks up the given pair.
+		 *
+		 * @param pair the pair
+		 * @return the ID of the pair or <code>0</code> if it is not in this table
+		 */
+		private int find(long pair) {
+			int mask = slots.length() - 1;
+			int slot = mix(Long.hashCode(pair)) & mask;
+			int id = slots.get(slot);
+			while (id != 0 && pairs[id] != pair) {
+				slot = (slot + 1) & mask;
+				id = slots.get(slot);
+			}
+			return id;
+		}
+
+		/**
+		 * Adds a pair, which is not in this table yet.
+		 *
+		 * @param id   the ID of the pair
+		 * @param pair the pair
+		 */
+		private void add(int id, long pair) {
+			pairs[id] = pair;
+			int mask = slots.length() - 1;
+			int slot = mix(Long.hashCode(pair)) & mask;
+			while (slots.get(slot) != 0) {
+				slot = (slot + 1) & mask;
+			}
+			// Publishes the entry
+			slots.set(slot, id);
+		}
+
+		/**
+		 * Creates a copy of this table with twice the capacity.
+		 *
+		 * @param count the number of used IDs
+		 * @return the larger table
+		 */
+		private PairTable grow(int count) {
+			PairTable grownTable = new PairTable(pairs.length * 2);
+			for (int id = 1; id < count; id++) {
+				grownTable.add(id, pairs[id]);
+			}
+			return grownTable;
+		}
+	}
+
+}
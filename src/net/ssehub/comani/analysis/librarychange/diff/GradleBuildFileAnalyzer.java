@@ -1,136 +1,764 @@
 package net.ssehub.comani.analysis.librarychange.diff;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Stack;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
-import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry;
+import java.util.Arrays;
+
 import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry.LibraryInformation;
 import net.ssehub.comani.data.ChangedArtifact;
 
+/**
+ * Analyzes the changes to the dependencies of Gradle build and settings files
+ * written in the Groovy (<code>build.gradle</code>) or the Kotlin DSL
+ * (<code>build.gradle.kts</code>).
+ */
 public class GradleBuildFileAnalyzer extends BuildFileAnalyzer {
 
-	private static final String DEPENDENCIES_START = "\\s*dependencies\\s*\\{\\s*";
-	private static final String SIMPLE_DEPENDENCY_STRING = "\\s*(?<dependencytype>\\w+)\\s+'(?<group>\\S+):(?<identifier>\\S+):(?<version>\\S+)'";
-	private ChangedArtifact artifact;
+	private static final String DEPENDENCIES_KEYWORD = "dependencies";
+
+	/**
+	 * The keywords of the blocks, whose dependencies are shared with the
+	 * subprojects of a multi-project build. The dependency type of a dependency
+	 * declared in such a block is prefixed with the keyword and
+	 * {@link #SHARED_TYPE_SEPARATOR}, e.g., <code>subprojects-implementation</code>.
+	 */
+	private static final String[] SHARED_BLOCK_KEYWORDS = { "subprojects", "allprojects" };
+
+	/**
+	 * The separator between the keyword of a shared block and the dependency
+	 * type.
+	 */
+	private static final char SHARED_TYPE_SEPARATOR = '-';
 
-	public GradleBuildFileAnalyzer(ChangedArtifact artifact) {
-		this.artifact = artifact;
+	/**
+	 * The names of the supported build files. Settings files may declare
+	 * dependencies of the build in their <code>buildscript</code> block.
+	 */
+	private static final String[] FILE_NAMES = { "build.gradle", "build.gradle.kts", "settings.gradle",
+			"settings.gradle.kts" };
 
+	@Override
+	public String[] getFileNames() {
+		return FILE_NAMES.clone();
 	}
 
-	private List<String> reduceLines(List<String> lines, boolean afterCommit) {
-		List<String> linesforConsideration = new ArrayList<String>(lines);
-		// Filter to only incluede lines that
-		if (afterCommit) {
-			for (int i = 0; i < linesforConsideration.size(); i++) {
-				String relevantLine = linesforConsideration.get(i);
-				if (relevantLine.startsWith("-")) {
-					linesforConsideration.remove(i);
-					i--;
-				}
+	@Override
+	public BuildFileAnalysisResult analyze(ChangedArtifact artifact, long deadline) {
+		// One pass over the hunk: removed lines only exist before the commit, added
+		// lines only after it, and context lines in both views
+		DependencyBlockScanner oldView = new DependencyBlockScanner();
+		DependencyBlockScanner newView = new DependencyBlockScanner();
+		int lines = 0;
+		for (String line : artifact.getContent()) {
+			checkDeadline(++lines, deadline);
+			char marker = line.isEmpty() ? ' ' : line.charAt(0);
+			if (marker != '+') {
+				oldView.scan(line);
 			}
-		} else {
-			for (int i = 0; i < linesforConsideration.size(); i++) {
-				String relevantLine = linesforConsideration.get(i);
-				if (relevantLine.startsWith("+")) {
-					linesforConsideration.remove(i);
-					i--;
-				}
+			if (marker != '-') {
+				newView.scan(line);
 			}
 		}
-		return linesforConsideration;
+		return createResult(artifact.getArtifactPath(), oldView.libraries, newView.libraries);
+	}
+
+	/**
+	 * Checks whether the given dependency type denotes a dependency declared in a
+	 * <code>subprojects</code> or <code>allprojects</code> block, which is shared
+	 * with the subprojects of the declaring build file.
+	 *
+	 * @param dependencyType the dependency type; may be <code>null</code>
+	 * @return <code>true</code> if the dependency is shared, <code>false</code>
+	 *         otherwise
+	 */
+	static boolean isSharedDependencyType(String dependencyType) {
+		boolean shared = false;
+		for (int i = 0; i < SHARED_BLOCK_KEYWORDS.length && !shared && dependencyType != null; i++) {
+			String keyword = SHARED_BLOCK_KEYWORDS[i];
+			shared = dependencyType.length() > keyword.length() && dependencyType.startsWith(keyword)
+					&& dependencyType.charAt(keyword.length()) == SHARED_TYPE_SEPARATOR;
+		}
+		return shared;
 	}
 
-	private List<String> getDependencyLines(List<String> lines, boolean afterCommit) {
-		Stack<Character> stack = new Stack<Character>();
-		Pattern pattern = Pattern.compile(DEPENDENCIES_START);
-		List<String> dependencyLines = new ArrayList<String>();
-		List<String> linesForConsideration = reduceLines(lines, afterCommit);
-
-		// find dependencies
-		for (String line : linesForConsideration) {
-			// if the stack is empty, try to find the start of the dependency section
-			if (stack.isEmpty()) {
-				Matcher matcher = pattern.matcher(line);
-				if (matcher.find()) {
-					stack.push('{');
+	/**
+	 * Collects the dependencies declared in <code>dependencies { }</code> blocks of
+	 * one view (before or after the commit) of a build file, which is fed line by
+	 * line. The whole state between two lines is a single number (see
+	 * {@link #getState()}), which allows {@link GradleBuildFileSnapshot} to resume
+	 * scanning at any line.
+	 *
+	 * Outside of dependencies blocks, the scanner only tracks the nesting of
+	 * curly brackets to know whether it is inside a <code>subprojects</code> or
+	 * <code>allprojects</code> block; the dependency types of dependencies
+	 * declared there are prefixed with the keyword of that block (see
+	 * {@link GradleBuildFileAnalyzer#isSharedDependencyType(String)}). Other
+	 * ways of sharing dependencies, like <code>configure(subprojects)</code> or
+	 * convention plugins, are not detected.
+	 *
+	 * Each line is split into tokens in a single pass, which skips comments and
+	 * string contents, so brackets in both do not change the nesting. The
+	 * statements of the line are then matched against the following notations
+	 * of the Groovy and the Kotlin DSL, where quotes may be single or double and
+	 * the arguments may be enclosed in parentheses:
+	 * <ul>
+	 * <li><code>type 'group:identifier[:version[:classifier]][@extension]'</code></li>
+	 * <li><code>type group: 'group', name: 'identifier', version: 'version'</code>
+	 * (or <code>=</code> instead of <code>:</code> for named arguments in
+	 * Kotlin); a variable as value is reported by its name, a variable as
+	 * version as reference <code>${variable}</code> (see
+	 * {@link VersionResolver})</li>
+	 * <li><code>type platform('...')</code> and
+	 * <code>type enforcedPlatform('...')</code> with any of the notations above
+	 * as argument</li>
+	 * <li><code>type libs.alias</code>, i.e., a reference to the default version
+	 * catalog, which is reported with the catalog name as group, the alias as
+	 * identifier, and without version (see {@link VersionCatalogResolver})</li>
+	 * </ul>
+	 * Statements continued on the next line and comments spanning multiple lines
+	 * are not supported. The parts of found dependencies are looked up in the
+	 * {@link CoordinateTable}, so no strings are allocated for coordinates seen
+	 * before.
+	 */
+	static class DependencyBlockScanner {
+
+		/**
+		 * The token type of identifiers, including qualified ones like
+		 * <code>libs.guava</code>, and numbers.
+		 */
+		private static final int WORD = 0;
+
+		/**
+		 * The token type of string literals; the token range covers the content
+		 * without quotes.
+		 */
+		private static final int STRING = 1;
+
+		/**
+		 * The token type of opening parentheses.
+		 */
+		private static final int OPENING_PARENTHESIS = 2;
+
+		/**
+		 * The token type of commas.
+		 */
+		private static final int COMMA = 3;
+
+		/**
+		 * The token type of the separators between keys and values of named
+		 * arguments (<code>:</code> and <code>=</code>).
+		 */
+		private static final int KEY_SEPARATOR = 4;
+
+		/**
+		 * The token type of the ends of statements (<code>;</code>, <code>{</code>,
+		 * and <code>}</code>).
+		 */
+		private static final int STATEMENT_END = 5;
+
+		/**
+		 * The token type of all other characters.
+		 */
+		private static final int OTHER = 6;
+
+		/**
+		 * The name of the default version catalog.
+		 */
+		private static final String CATALOG_NAME = "libs";
+
+		/**
+		 * The number of bits of each nesting depth in the state (see
+		 * {@link #getState()}).
+		 */
+		private static final int DEPTH_BITS = 10;
+
+		/**
+		 * The maximum nesting depth, which is kept in the state.
+		 */
+		private static final int MAX_DEPTH = (1 << DEPTH_BITS) - 1;
+
+		/**
+		 * The nesting depth of curly brackets inside the current dependencies block;
+		 * <code>0</code> if the scanner is outside of such a block.
+		 */
+		private int depth;
+
+		/**
+		 * The nesting depth of curly brackets outside of dependencies blocks.
+		 * Closing brackets without opening ones, e.g., at the start of a hunk, are
+		 * ignored.
+		 */
+		private int outerDepth;
+
+		/**
+		 * The {@link #outerDepth} inside the outermost shared block;
+		 * <code>0</code> if the scanner is outside of such a block.
+		 */
+		private int sharedDepth;
+
+		/**
+		 * The index of the keyword of the current shared block in
+		 * {@link GradleBuildFileAnalyzer#SHARED_BLOCK_KEYWORDS}.
+		 */
+		private int sharedBlock;
+
+		/**
+		 * The found dependencies by their library ID (see
+		 * {@link LibraryInformation#getLibraryId()}), in the order of their
+		 * declaration.
+		 */
+		LibraryMap libraries = new LibraryMap();
+
+		/**
+		 * The types of the tokens of the current line.
+		 */
+		private int[] tokenTypes = new int[32];
+
+		/**
+		 * The start indexes of the tokens of the current line.
+		 */
+		private int[] tokenStarts = new int[32];
+
+		/**
+		 * The end indexes of the tokens of the current line.
+		 */
+		private int[] tokenEnds = new int[32];
+
+		/**
+		 * The number of tokens of the current line.
+		 */
+		private int tokenCount;
+
+		/**
+		 * Returns the state of this scanner between two lines, i.e., the nesting of
+		 * curly brackets. Nesting depths beyond {@link #MAX_DEPTH} are not
+		 * distinguished.
+		 *
+		 * @return the state; always <code>0</code> at the top level of a build file
+		 */
+		int getState() {
+			return Math.min(depth, MAX_DEPTH) | Math.min(outerDepth, MAX_DEPTH) << DEPTH_BITS
+					| Math.min(sharedDepth, MAX_DEPTH) << 2 * DEPTH_BITS | sharedBlock << 3 * DEPTH_BITS;
+		}
+
+		/**
+		 * Restores a state returned by {@link #getState()}, e.g., to resume scanning
+		 * at a line of a {@link GradleBuildFileSnapshot}.
+		 *
+		 * @param state the state
+		 */
+		void setState(int state) {
+			depth = state & MAX_DEPTH;
+			outerDepth = (state >>> DEPTH_BITS) & MAX_DEPTH;
+			sharedDepth = (state >>> 2 * DEPTH_BITS) & MAX_DEPTH;
+			sharedBlock = state >>> 3 * DEPTH_BITS;
+		}
+
+		/**
+		 * Scans the next line of this view.
+		 *
+		 * @param line the line to scan, with or without diff marker
+		 */
+		void scan(String line) {
+			scan(line, 0);
+		}
+
+		/**
+		 * Scans the next line of this view, ignoring its first characters. This
+		 * allows scanning the text of a diff line without its marker, without
+		 * creating a substring.
+		 *
+		 * @param line  the line to scan
+		 * @param start the index of the first character to scan
+		 */
+		void scan(String line, int start) {
+			int position = start;
+			while (position < line.length()) {
+				if (depth == 0) {
+					position = skipOuterCode(line, position);
 				}
-			} else {
-				StringBuilder dependencyLineBuilder = new StringBuilder();
-				// Otherwise find the end of the dependency section
-				for (int i = 0; i < line.length(); i++) {
-
-					if (line.charAt(i) == '}') {
-						stack.pop();
-					} else if (line.charAt(i) == '{') {
-						stack.push('{');
+				if (depth > 0) {
+					position = tokenize(line, position);
+					parseStatements(line);
+				}
+			}
+		}
+
+		/**
+		 * Skips the code outside of dependencies blocks up to the start of the next
+		 * dependencies block and updates the {@link #outerDepth} and the shared
+		 * block. Comments and string literals are skipped as in
+		 * {@link #tokenize(String, int)}.
+		 *
+		 * @param line the line to scan
+		 * @param from the index of the first character to scan
+		 * @return the index after the curly bracket opening a dependencies block,
+		 *         after which the {@link #depth} is <code>1</code>, or the length of
+		 *         the line
+		 */
+		private int skipOuterCode(String line, int from) {
+			// String literals are added as tokens, which are not needed here
+			tokenCount = 0;
+			int length = line.length();
+			int index = from;
+			while (index < length && depth == 0) {
+				char character = line.charAt(index);
+				char next = index + 1 < length ? line.charAt(index + 1) : 0;
+				if (character == '/' && next == '/') {
+					index = length;
+				} else if (character == '/' && next == '*') {
+					int commentEnd = line.indexOf("*/", index + 2);
+					index = commentEnd < 0 ? length : commentEnd + 2;
+				} else if (character == '\'' || character == '"') {
+					index = addString(line, index, character);
+				} else if (isWordCharacter(character)) {
+					int wordStart = index;
+					while (index < length && isWordCharacter(line.charAt(index))) {
+						index++;
+					}
+					int bracket = index;
+					while (bracket < length && Character.isWhitespace(line.charAt(bracket))) {
+						bracket++;
 					}
-					if (stack.isEmpty()) {
-						break;
-					} else {
-						dependencyLineBuilder.append(line.charAt(i));
+					if (bracket < length && line.charAt(bracket) == '{') {
+						openBlock(line, wordStart, index);
+						index = bracket + 1;
 					}
+				} else if (character == '{') {
+					outerDepth++;
+					index++;
+				} else {
+					if (character == '}') {
+						closeOuterBlock();
+					}
+					index++;
 				}
-				dependencyLines.add(dependencyLineBuilder.toString());
 			}
+			return index;
 		}
-		return dependencyLines;
-	}
 
-	private List<LibraryInformation> getLibraryEntryInformation(List<String> lines) {
-		List<LibraryInformation> libInfos = new ArrayList<>();
-		Pattern pattern = Pattern.compile(SIMPLE_DEPENDENCY_STRING);
-		for (String line : lines) {
-			Matcher matcher = pattern.matcher(line);
-			if (matcher.find()) {
-				libInfos.add(new LibraryInformation(matcher.group("dependencytype"), matcher.group("group"),
-						matcher.group("identifier"), matcher.group("version")));
+		/**
+		 * Enters the block opened by a curly bracket after the given word.
+		 *
+		 * @param line      the line containing the word
+		 * @param wordStart the index of the first character of the word
+		 * @param wordEnd   the index after the last character of the word
+		 */
+		private void openBlock(String line, int wordStart, int wordEnd) {
+			int length = wordEnd - wordStart;
+			if (length == DEPENDENCIES_KEYWORD.length() && line.startsWith(DEPENDENCIES_KEYWORD, wordStart)) {
+				depth = 1;
+			} else {
+				outerDepth++;
+				for (int i = 0; i < SHARED_BLOCK_KEYWORDS.length && sharedDepth == 0; i++) {
+					if (length == SHARED_BLOCK_KEYWORDS[i].length()
+							&& line.startsWith(SHARED_BLOCK_KEYWORDS[i], wordStart)) {
+						sharedDepth = outerDepth;
+						sharedBlock = i;
+					}
+				}
 			}
 		}
-		return libInfos;
 
-	}
+		/**
+		 * Leaves the current block outside of dependencies blocks, including the
+		 * shared block, if it is closed.
+		 */
+		private void closeOuterBlock() {
+			if (outerDepth > 0) {
+				outerDepth--;
+			}
+			if (outerDepth < sharedDepth) {
+				sharedDepth = 0;
+				sharedBlock = 0;
+			}
+		}
 
-	@Override
-	public BuildFileAnalysisResult analyze() {
-		List<String> buildFileLines = this.artifact.getContent();
-		List<String> newLines = this.getDependencyLines(buildFileLines, true);
-		List<String> oldLines = this.getDependencyLines(buildFileLines, false);
+		/**
+		 * Splits the given line into tokens, starting inside a dependencies block,
+		 * and updates the {@link #depth}.
+		 *
+		 * @param line  the line to split
+		 * @param start the index of the first character inside the block
+		 * @return the index after the bracket closing the block or the length of
+		 *         the line, if the block is not closed in this line; the closing
+		 *         bracket is the last token
+		 */
+		private int tokenize(String line, int start) {
+			tokenCount = 0;
+			int length = line.length();
+			int index = start;
+			boolean blockEnd = false;
+			while (index < length && !blockEnd) {
+				char character = line.charAt(index);
+				char next = index + 1 < length ? line.charAt(index + 1) : 0;
+				if (Character.isWhitespace(character)) {
+					index++;
+				} else if (character == '/' && next == '/') {
+					index = length;
+				} else if (character == '/' && next == '*') {
+					int commentEnd = line.indexOf("*/", index + 2);
+					index = commentEnd < 0 ? length : commentEnd + 2;
+				} else if (character == '\'' || character == '"') {
+					index = addString(line, index, character);
+				} else if (isWordCharacter(character) || character == '$') {
+					int wordStart = index;
+					index++;
+					while (index < length && (isWordCharacter(line.charAt(index)) || line.charAt(index) == '$'
+							|| (line.charAt(index) == '.' && index + 1 < length
+									&& isWordCharacter(line.charAt(index + 1))))) {
+						index++;
+					}
+					addToken(WORD, wordStart, index);
+				} else if (character == '{') {
+					depth++;
+					addToken(STATEMENT_END, index, ++index);
+				} else if (character == '}') {
+					blockEnd = --depth == 0;
+					addToken(STATEMENT_END, index, ++index);
+				} else {
+					addToken(getTokenType(character), index, ++index);
+				}
+			}
+			return index;
+		}
+
+		/**
+		 * Adds the string literal starting at the given index as token. Triple
+		 * quotes and escaped quotes are supported; a literal, which is not closed
+		 * in the line, ends at the end of the line.
+		 *
+		 * @param line  the line containing the literal
+		 * @param start the index of the opening quote
+		 * @param quote the quote character
+		 * @return the index after the closing quote
+		 */
+		private int addString(String line, int start, char quote) {
+			int length = line.length();
+			int quotes = start + 2 < length && line.charAt(start + 1) == quote && line.charAt(start + 2) == quote ? 3
+					: 1;
+			int contentStart = start + quotes;
+			int index = contentStart;
+			int contentEnd = -1;
+			while (index < length && contentEnd < 0) {
+				char character = line.charAt(index);
+				if (character == '\\') {
+					index += 2;
+				} else if (character == quote && (quotes == 1
+						|| (index + 2 < length && line.charAt(index + 1) == quote && line.charAt(index + 2) == quote))) {
+					contentEnd = index;
+					index += quotes;
+				} else {
+					index++;
+				}
+			}
+			if (contentEnd < 0) {
+				contentEnd = Math.min(index, length);
+			}
+			addToken(STRING, contentStart, contentEnd);
+			return Math.min(index, length);
+		}
 
-		Map<String, LibraryInformation> oldLibInfo = new HashMap<String, LibraryInformation>();
-		Map<String, LibraryInformation> newLibInfo = new HashMap<String, LibraryInformation>();
-		for (LibraryInformation info : getLibraryEntryInformation(oldLines)) {
-			oldLibInfo.put(info.getGroup() + ":" + info.getIdentifier(), info);
+		/**
+		 * Adds a token of the current line.
+		 *
+		 * @param type  the type of the token
+		 * @param start the index of the first character of the token
+		 * @param end   the index after the last character of the token
+		 */
+		private void addToken(int type, int start, int end) {
+			if (tokenCount == tokenTypes.length) {
+				tokenTypes = Arrays.copyOf(tokenTypes, tokenCount * 2);
+				tokenStarts = Arrays.copyOf(tokenStarts, tokenCount * 2);
+				tokenEnds = Arrays.copyOf(tokenEnds, tokenCount * 2);
+			}
+			tokenTypes[tokenCount] = type;
+			tokenStarts[tokenCount] = start;
+			tokenEnds[tokenCount] = end;
+			tokenCount++;
 		}
-		for (LibraryInformation info : getLibraryEntryInformation(newLines)) {
-			newLibInfo.put(info.getGroup() + ":" + info.getIdentifier(), info);
+
+		/**
+		 * Returns the type of a token consisting of the given single character.
+		 *
+		 * @param character the character
+		 * @return the token type
+		 */
+		private static int getTokenType(char character) {
+			int type;
+			switch (character) {
+			case '(':
+				type = OPENING_PARENTHESIS;
+				break;
+			case ',':
+				type = COMMA;
+				break;
+			case ':':
+			case '=':
+				type = KEY_SEPARATOR;
+				break;
+			case ';':
+				type = STATEMENT_END;
+				break;
+			default:
+				type = OTHER;
+				break;
+			}
+			return type;
 		}
 
-		List<LibraryEntry> libraryChanges = new ArrayList<LibraryEntry>();
+		/**
+		 * Parses the statements in the tokens of the current line and adds the
+		 * found dependencies to the {@link #libraries}.
+		 *
+		 * @param line the line the tokens refer to
+		 */
+		private void parseStatements(String line) {
+			int statementStart = 0;
+			while (statementStart < tokenCount) {
+				// Operators preceding a statement, like the marker of a diff line, are skipped
+				while (statementStart < tokenCount && tokenTypes[statementStart] == OTHER) {
+					statementStart++;
+				}
+				LibraryInformation library = parseStatement(line, statementStart);
+				if (library != null) {
+					libraries.put(library.getLibraryId(), library);
+				}
+				while (statementStart < tokenCount && tokenTypes[statementStart] != STATEMENT_END) {
+					statementStart++;
+				}
+				statementStart++;
+			}
+		}
 
-		for (Entry<String, LibraryInformation> entry : oldLibInfo.entrySet()) {
-			String key = entry.getKey();
-			if (newLibInfo.containsKey(key)) {
-				libraryChanges.add(new LibraryEntry(entry.getValue(), newLibInfo.get(key)));
+		/**
+		 * Parses a dependency declaration starting at the given token. The first
+		 * token is the dependency type (the configuration), which is a simple
+		 * identifier or, in the Kotlin DSL, a string followed by an opening
+		 * parenthesis.
+		 *
+		 * @param line  the line the tokens refer to
+		 * @param first the index of the first token of the statement
+		 * @return the declared dependency or <code>null</code> if the statement is
+		 *         not a dependency declaration
+		 */
+		private LibraryInformation parseStatement(String line, int first) {
+			LibraryInformation library = null;
+			int token = first;
+			boolean typeFound = false;
+			if (isToken(token, WORD)) {
+				// Qualified identifiers are no configurations
+				int dot = line.indexOf('.', tokenStarts[token]);
+				typeFound = dot < 0 || dot >= tokenEnds[token];
+			} else if (isToken(token, STRING)) {
+				typeFound = isToken(token + 1, OPENING_PARENTHESIS);
+			}
+			if (typeFound) {
+				int dependencyTypeId = internDependencyType(line, tokenStarts[token], tokenEnds[token]);
+				token++;
+				if (isToken(token, OPENING_PARENTHESIS)) {
+					token++;
+				}
+				if (isToken(token, WORD) && isToken(token + 1, OPENING_PARENTHESIS)
+						&& (isWord(line, token, "platform") || isWord(line, token, "enforcedPlatform"))) {
+					token += 2;
+				}
+				if (isToken(token, STRING)) {
+					library = parseCoordinates(line, dependencyTypeId, tokenStarts[token], tokenEnds[token]);
+				} else if (isToken(token, WORD) && isToken(token + 1, KEY_SEPARATOR)) {
+					library = parseNamedArguments(line, dependencyTypeId, token);
+				} else if (isToken(token, WORD)) {
+					library = parseCatalogReference(line, dependencyTypeId, tokenStarts[token], tokenEnds[token]);
+				}
+			}
+			return library;
+		}
+
+		/**
+		 * Looks up the dependency type in the given range of the line in the
+		 * {@link CoordinateTable}; inside a shared block, the type is prefixed with
+		 * the keyword of the block.
+		 *
+		 * @param line  the line containing the dependency type
+		 * @param start the index of the first character of the type
+		 * @param end   the index after the last character of the type
+		 * @return the ID of the dependency type
+		 */
+		private int internDependencyType(String line, int start, int end) {
+			int dependencyTypeId;
+			if (sharedDepth > 0) {
+				dependencyTypeId = CoordinateTable.getInstance().intern(SHARED_BLOCK_KEYWORDS[sharedBlock]
+						+ SHARED_TYPE_SEPARATOR + line.substring(start, end));
 			} else {
-				libraryChanges.add(new LibraryEntry(entry.getValue(), null));
+				dependencyTypeId = CoordinateTable.getInstance().intern(line, start, end);
 			}
+			return dependencyTypeId;
 		}
 
-		for (Entry<String, LibraryInformation> entry : newLibInfo.entrySet()) {
-			String key = entry.getKey();
-			if (!oldLibInfo.containsKey(key)) {
-				libraryChanges.add(new LibraryEntry(null, entry.getValue()));
+		/**
+		 * Parses the coordinates <code>group:identifier[:version[:classifier]][@extension]</code>
+		 * in the given range of the line, which is the content of a string literal.
+		 *
+		 * @param line             the line to parse
+		 * @param dependencyTypeId the ID of the already parsed dependency type
+		 * @param start            the index of the first character of the coordinates
+		 * @param end              the index after the last character of the
+		 *                         coordinates
+		 * @return the dependency or <code>null</code> if the group or the identifier
+		 *         are missing or the range contains whitespace or slashes, like
+		 *         file paths and URLs
+		 */
+		private static LibraryInformation parseCoordinates(String line, int dependencyTypeId, int start, int end) {
+			LibraryInformation library = null;
+			int[] separators = new int[3];
+			int separatorCount = 0;
+			int index = start;
+			char character = 0;
+			while (index < end && (character = line.charAt(index)) != '@' && character != '/'
+					&& !Character.isWhitespace(character)) {
+				if (character == ':' && separatorCount < separators.length) {
+					separators[separatorCount++] = index;
+				}
+				index++;
+			}
+			boolean valid = index == end || character == '@';
+			if (valid && separatorCount >= 1 && separators[0] > start) {
+				int identifierEnd = separatorCount > 1 ? separators[1] : index;
+				if (identifierEnd > separators[0] + 1) {
+					CoordinateTable table = CoordinateTable.getInstance();
+					int versionId = CoordinateTable.NULL_ID;
+					if (separatorCount > 1) {
+						int versionEnd = separatorCount > 2 ? separators[2] : index;
+						if (versionEnd > separators[1] + 1) {
+							versionId = table.intern(line, separators[1] + 1, versionEnd);
+						}
+					}
+					library = table.getLibrary(dependencyTypeId, table.intern(line, separators[0] + 1, identifierEnd),
+							table.intern(line, start, separators[0]), versionId);
+				}
 			}
+			return library;
 		}
 
-		return new BuildFileAnalysisResult(this.artifact.getArtifactPath(), libraryChanges);
+		/**
+		 * Parses the named arguments <code>group</code>, <code>name</code>, and
+		 * <code>version</code> starting at the given token. Other arguments, like a
+		 * classifier, are ignored.
+		 *
+		 * @param line             the line the tokens refer to
+		 * @param dependencyTypeId the ID of the already parsed dependency type
+		 * @param first            the index of the token of the first key
+		 * @return the dependency or <code>null</code> if the name is missing
+		 */
+		private LibraryInformation parseNamedArguments(String line, int dependencyTypeId, int first) {
+			CoordinateTable table = CoordinateTable.getInstance();
+			int groupId = CoordinateTable.NULL_ID;
+			int identifierId = CoordinateTable.NULL_ID;
+			int versionId = CoordinateTable.NULL_ID;
+			int token = first;
+			boolean next = true;
+			while (next && isToken(token, WORD) && isToken(token + 1, KEY_SEPARATOR)
+					&& (isToken(token + 2, STRING) || isToken(token + 2, WORD))) {
+				int value = token + 2;
+				if (isWord(line, token, "group")) {
+					groupId = table.intern(line, tokenStarts[value], tokenEnds[value]);
+				} else if (isWord(line, token, "name")) {
+					identifierId = table.intern(line, tokenStarts[value], tokenEnds[value]);
+				} else if (isWord(line, token, "version") && isToken(value, WORD)) {
+					versionId = table.intern("${" + line.substring(tokenStarts[value], tokenEnds[value]) + "}");
+				} else if (isWord(line, token, "version")) {
+					versionId = table.intern(line, tokenStarts[value], tokenEnds[value]);
+				}
+				next = isToken(token + 3, COMMA);
+				token += 4;
+			}
+			LibraryInformation library = null;
+			if (identifierId != CoordinateTable.NULL_ID) {
+				library = table.getLibrary(dependencyTypeId, identifierId, groupId, versionId);
+			}
+			return library;
+		}
+
+		/**
+		 * Parses a reference <code>libs.alias</code> to the default version catalog
+		 * in the given range of the line, which is a qualified identifier. The
+		 * accessors <code>libs.versions</code> and <code>libs.plugins</code> do not
+		 * denote libraries.
+		 *
+		 * @param line             the line to parse
+		 * @param dependencyTypeId the ID of the already parsed dependency type
+		 * @param start            the index of the first character of the identifier
+		 * @param end              the index after the last character of the
+		 *                         identifier
+		 * @return the dependency or <code>null</code> if the identifier is not a
+		 *         reference to a library of the default version catalog
+		 */
+		private static LibraryInformation parseCatalogReference(String line, int dependencyTypeId, int start,
+				int end) {
+			LibraryInformation library = null;
+			int aliasStart = start + CATALOG_NAME.length() + 1;
+			if (aliasStart < end && line.startsWith(CATALOG_NAME, start) && line.charAt(aliasStart - 1) == '.'
+					&& !isSegment(line, aliasStart, end, "versions") && !isSegment(line, aliasStart, end, "plugins")) {
+				CoordinateTable table = CoordinateTable.getInstance();
+				library = table.getLibrary(dependencyTypeId, table.intern(line, aliasStart, end),
+						table.intern(line, start, aliasStart - 1), CoordinateTable.NULL_ID);
+			}
+			return library;
+		}
+
+		/**
+		 * Checks whether the qualified identifier in the given range of the line
+		 * starts with the given segment.
+		 *
+		 * @param line    the line containing the identifier
+		 * @param start   the index of the first character of the identifier
+		 * @param end     the index after the last character of the identifier
+		 * @param segment the expected first segment
+		 * @return <code>true</code> if the identifier starts with the segment,
+		 *         <code>false</code> otherwise
+		 */
+		private static boolean isSegment(String line, int start, int end, String segment) {
+			int segmentEnd = start + segment.length();
+			return segmentEnd <= end && line.startsWith(segment, start)
+					&& (segmentEnd == end || line.charAt(segmentEnd) == '.');
+		}
+
+		/**
+		 * Checks whether the token at the given index exists and has the given
+		 * type.
+		 *
+		 * @param token the index of the token
+		 * @param type  the expected type
+		 * @return <code>true</code> if the token has the given type,
+		 *         <code>false</code> otherwise
+		 */
+		private boolean isToken(int token, int type) {
+			return token < tokenCount && tokenTypes[token] == type;
+		}
+
+		/**
+		 * Checks whether the token at the given index equals the given word.
+		 *
+		 * @param line  the line the tokens refer to
+		 * @param token the index of the token
+		 * @param word  the expected word
+		 * @return <code>true</code> if the token equals the word,
+		 *         <code>false</code> otherwise
+		 */
+		private boolean isWord(String line, int token, String word) {
+			return tokenEnds[token] - tokenStarts[token] == word.length()
+					&& line.startsWith(word, tokenStarts[token]);
+		}
+
+		/**
+		 * Checks whether the given character is part of a word (<code>\w</code>).
+		 *
+		 * @param character the character to check
+		 * @return <code>true</code> if the character is a letter, digit, or
+		 *         underscore, <code>false</code> otherwise
+		 */
+		private static boolean isWordCharacter(char character) {
+			return (character >= 'a' && character <= 'z') || (character >= 'A' && character <= 'Z')
+					|| (character >= '0' && character <= '9') || character == '_';
+		}
 	}
 
 }
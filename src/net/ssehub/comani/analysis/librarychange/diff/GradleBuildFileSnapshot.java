@@ -0,0 +1,400 @@
+package net.ssehub.comani.analysis.librarychange.diff;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry.LibraryInformation;
+import net.ssehub.comani.analysis.librarychange.diff.GradleBuildFileAnalyzer.DependencyBlockScanner;
+import net.ssehub.comani.analysis.librarychange.diff.LineTree.Line;
+
+/**
+ * The content of a Gradle build file reconstructed from the diffs of all
+ * commits since its creation, together with the scanner state at the start of
+ * each line and the resulting set of dependencies.
+ *
+ * Applying a diff scans the lines of its hunks starting with the state stored
+ * for the first line of each hunk. Hence, hunks starting inside a
+ * <code>dependencies { }</code> or a <code>subprojects { }</code> block are
+ * analyzed correctly. If a hunk changes the nesting of curly brackets, the
+ * following lines are rescanned until the scanner states before and after the
+ * commit are equal again. All other lines are never scanned again, so the cost
+ * of scanning a commit depends on the size of its diff, not on the size of the
+ * file. The lines are kept in a {@link LineTree}, so the lines of a hunk are
+ * replaced without touching the other lines either.
+ *
+ * A snapshot can only be started by a diff creating the file (see
+ * {@link #isCreation(List)}), as only then the diff contains all lines.
+ */
+class GradleBuildFileSnapshot {
+
+	/**
+	 * The prefix of the hunk header of a diff creating a file.
+	 */
+	private static final String CREATION_HUNK_HEADER = "@@ -0,0 ";
+
+	/**
+	 * The lines of the file.
+	 */
+	private LineTree lines = new LineTree();
+
+	/**
+	 * The estimated size in bytes of the {@link #lines} (see
+	 * {@link MemoryBudget#estimateLineSize(String)}).
+	 */
+	private long linesSize;
+
+	/**
+	 * The scanner state after the last line.
+	 */
+	private int endState;
+
+	/**
+	 * The dependencies currently declared in the file by their library ID.
+	 */
+	private LibraryMap dependencies = new LibraryMap();
+
+	/**
+	 * Checks whether the given diff creates a file, i.e., whether a snapshot can
+	 * be started from it.
+	 *
+	 * @param diff the lines of the diff
+	 * @return <code>true</code> if the first hunk adds lines to an empty file,
+	 *         <code>false</code> otherwise
+	 */
+	static boolean isCreation(List<String> diff) {
+		boolean creation = false;
+		boolean headerFound = false;
+		for (int i = 0; i < diff.size() && !headerFound; i++) {
+			String line = diff.get(i);
+			if (line.startsWith("@@")) {
+				headerFound = true;
+				creation = line.startsWith(CREATION_HUNK_HEADER);
+			}
+		}
+		return creation;
+	}
+
+	/**
+	 * Applies the given diff to this snapshot.
+	 *
+	 * @param buildFile the path of the build file
+	 * @param diff      the lines of the diff
+	 * @return the library changes of the diff or <code>null</code> if the diff
+	 *         does not match this snapshot; in the latter case, this snapshot is
+	 *         unchanged, but must not be used anymore
+	 */
+	BuildFileAnalysisResult apply(String buildFile, List<String> diff) {
+		BuildFileAnalysisResult result = null;
+		List<Hunk> hunks = parseHunks(diff);
+		if (hunks != null && matches(diff, hunks)) {
+			DependencyBlockScanner oldView = new DependencyBlockScanner();
+			DependencyBlockScanner newView = new DependencyBlockScanner();
+			// The index of a line before the commit plus the offset is its current index
+			int offset = 0;
+			int index = 0;
+			for (Hunk hunk : hunks) {
+				rescan(oldView, newView, index + offset, hunk.firstLine + offset);
+				index = hunk.firstLine;
+				// Unless a rescan reached this hunk without converging, the stored state is valid
+				if (oldView.getState() == newView.getState()) {
+					int state = index + offset < lines.size() ? lines.get(index + offset).state : endState;
+					oldView.setState(state);
+					newView.setState(state);
+				}
+				int position = index + offset;
+				int oldLines = 0;
+				List<Line> hunkLines = new ArrayList<Line>(hunk.end - hunk.start);
+				for (int i = hunk.start; i < hunk.end; i++) {
+					String hunkLine = diff.get(i);
+					if (Hunk.isContentLine(hunkLine)) {
+						// The marker is skipped instead of copying the text of each line
+						int textStart = hunkLine.isEmpty() ? 0 : 1;
+						char marker = hunkLine.isEmpty() ? ' ' : hunkLine.charAt(0);
+						if (marker == '-') {
+							oldView.scan(hunkLine, textStart);
+							linesSize -= MemoryBudget.estimateLineSize(lines.get(position + oldLines).text);
+							oldLines++;
+						} else if (marker == '+') {
+							// Only added lines are kept, hence only their text is copied
+							Line line = new Line(hunkLine.substring(textStart), newView.getState());
+							hunkLines.add(line);
+							linesSize += MemoryBudget.estimateLineSize(line.text);
+							newView.scan(hunkLine, textStart);
+						} else {
+							Line line = lines.get(position + oldLines);
+							line.state = newView.getState();
+							oldView.scan(hunkLine, textStart);
+							newView.scan(hunkLine, textStart);
+							hunkLines.add(line);
+							oldLines++;
+						}
+					}
+				}
+				lines.replace(position, oldLines, hunkLines);
+				index += oldLines;
+				offset += hunkLines.size() - oldLines;
+			}
+			if (rescan(oldView, newView, index + offset, lines.size())) {
+				endState = newView.getState();
+			}
+			dependencies.removeAll(oldView.libraries);
+			dependencies.putAll(newView.libraries);
+			result = BuildFileAnalyzer.createResult(buildFile, oldView.libraries, newView.libraries);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the dependencies currently declared in the file.
+	 *
+	 * @return the dependencies in the order of their declaration
+	 */
+	List<LibraryInformation> getDependencies() {
+		return dependencies.values();
+	}
+
+	/**
+	 * Writes this snapshot to the given stream, e.g., to spill it to disk.
+	 *
+	 * @param output the stream to write to
+	 * @throws IOException if writing fails
+	 */
+	void write(DataOutputStream output) throws IOException {
+		List<Line> allLines = new ArrayList<Line>(lines.size());
+		lines.forEach(allLines::add);
+		output.writeInt(allLines.size());
+		for (Line line : allLines) {
+			// Unlike DataOutput.writeUTF(String), this does not limit the length of a line
+			byte[] text = line.text.getBytes(StandardCharsets.UTF_8);
+			output.writeInt(text.length);
+			output.write(text);
+			output.writeInt(line.state);
+		}
+		output.writeInt(endState);
+		output.writeInt(dependencies.size());
+		for (int position = 0; position < dependencies.positions(); position++) {
+			if (dependencies.valueAt(position) != null) {
+				ResultCodec.encodeLibrary(dependencies.valueAt(position), output);
+			}
+		}
+	}
+
+	/**
+	 * Reads a snapshot written by {@link #write(DataOutputStream)}.
+	 *
+	 * @param input the stream to read from
+	 * @return the snapshot
+	 * @throws IOException if reading fails or the data is malformed
+	 */
+	static GradleBuildFileSnapshot read(DataInputStream input) throws IOException {
+		GradleBuildFileSnapshot snapshot = new GradleBuildFileSnapshot();
+		int lineCount = input.readInt();
+		List<Line> allLines = new ArrayList<Line>(lineCount);
+		for (int i = 0; i < lineCount; i++) {
+			byte[] text = new byte[input.readInt()];
+			input.readFully(text);
+			Line line = new Line(new String(text, StandardCharsets.UTF_8), input.readInt());
+			allLines.add(line);
+			snapshot.linesSize += MemoryBudget.estimateLineSize(line.text);
+		}
+		snapshot.lines.replace(0, 0, allLines);
+		snapshot.endState = input.readInt();
+		int dependencyCount = input.readInt();
+		for (int i = 0; i < dependencyCount; i++) {
+			LibraryInformation library = ResultCodec.decodeLibrary(input);
+			if (library == null) {
+				throw new IOException("Missing dependency in snapshot");
+			}
+			snapshot.dependencies.put(library.getLibraryId(), library);
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Estimates the number of bytes retained by this snapshot.
+	 *
+	 * @return the estimated size in bytes
+	 */
+	long estimateSize() {
+		return linesSize + (long) dependencies.size() * MemoryBudget.LIBRARY_MAP_ENTRY_SIZE;
+	}
+
+	/**
+	 * Rescans unchanged lines as long as the scanner states before and after the
+	 * commit differ and stores the new states of the rescanned lines.
+	 *
+	 * @param oldView the scanner of the view before the commit
+	 * @param newView the scanner of the view after the commit
+	 * @param from    the current index of the first unchanged line
+	 * @param to      the current index after the last unchanged line
+	 * @return <code>true</code> if all unchanged lines were rescanned, i.e., the
+	 *         scanners reached the last line, <code>false</code> otherwise
+	 */
+	private boolean rescan(DependencyBlockScanner oldView, DependencyBlockScanner newView, int from, int to) {
+		boolean rescan = true;
+		for (int index = from; index < to && rescan; index++) {
+			rescan = oldView.getState() != newView.getState();
+			if (rescan) {
+				Line line = lines.get(index);
+				line.state = newView.getState();
+				oldView.scan(line.text);
+				newView.scan(line.text);
+			}
+		}
+		return rescan;
+	}
+
+	/**
+	 * Checks whether the context and removed lines of the given hunks equal the
+	 * lines of this snapshot.
+	 *
+	 * @param diff  the lines of the diff
+	 * @param hunks the hunks of the diff
+	 * @return <code>true</code> if all hunks match, <code>false</code> otherwise
+	 */
+	private boolean matches(List<String> diff, List<Hunk> hunks) {
+		boolean matches = true;
+		int previousEnd = 0;
+		for (int h = 0; h < hunks.size() && matches; h++) {
+			Hunk hunk = hunks.get(h);
+			int index = hunk.firstLine;
+			matches = index >= previousEnd && index <= lines.size();
+			for (int i = hunk.start; i < hunk.end && matches; i++) {
+				String hunkLine = diff.get(i);
+				if (Hunk.isContentLine(hunkLine) && (hunkLine.isEmpty() || hunkLine.charAt(0) != '+')) {
+					matches = index < lines.size() && equalsText(lines.get(index).text, hunkLine);
+					index++;
+				}
+			}
+			previousEnd = index;
+		}
+		return matches;
+	}
+
+	/**
+	 * Compares the text of a line with the text of a diff line without creating a
+	 * substring of the latter.
+	 *
+	 * @param text     the text of a line of this snapshot
+	 * @param hunkLine a line of a diff, including its marker
+	 * @return <code>true</code> if the diff line without its marker equals the
+	 *         text, <code>false</code> otherwise
+	 */
+	private static boolean equalsText(String text, String hunkLine) {
+		int textStart = hunkLine.isEmpty() ? 0 : 1;
+		return hunkLine.length() - textStart == text.length()
+				&& hunkLine.regionMatches(textStart, text, 0, text.length());
+	}
+
+	/**
+	 * Splits the given diff into its hunks.
+	 *
+	 * @param diff the lines of the diff
+	 * @return the hunks or <code>null</code> if a hunk header is malformed
+	 */
+	private static List<Hunk> parseHunks(List<String> diff) {
+		List<Hunk> hunks = new ArrayList<Hunk>();
+		Hunk hunk = null;
+		for (int i = 0; i < diff.size() && hunks != null; i++) {
+			String line = diff.get(i);
+			if (line.startsWith("@@ -")) {
+				int firstLine = parseFirstLine(line);
+				if (firstLine < 0) {
+					hunks = null;
+				} else {
+					hunk = new Hunk(firstLine, i + 1);
+					hunks.add(hunk);
+				}
+			} else if (hunk != null) {
+				hunk.end = i + 1;
+			}
+		}
+		return hunks;
+	}
+
+	/**
+	 * Parses the index of the first line of the file touched by a hunk from its
+	 * header <code>@@ -start[,count] +start[,count] @@</code>.
+	 *
+	 * @param header the hunk header
+	 * @return the (zero-based) index of the first line or <code>-1</code> if the
+	 *         header is malformed
+	 */
+	private static int parseFirstLine(String header) {
+		int index = 4;
+		int start = 0;
+		int count = 1;
+		int digits = 0;
+		while (index < header.length() && Character.isDigit(header.charAt(index))) {
+			start = start * 10 + (header.charAt(index++) - '0');
+			digits++;
+		}
+		if (index < header.length() && header.charAt(index) == ',') {
+			index++;
+			count = 0;
+			while (index < header.length() && Character.isDigit(header.charAt(index))) {
+				count = count * 10 + (header.charAt(index++) - '0');
+			}
+		}
+		int firstLine = -1;
+		if (digits > 0) {
+			// A hunk without old lines inserts after the given line
+			firstLine = count == 0 ? start : start - 1;
+		}
+		return firstLine;
+	}
+
+	/**
+	 * A hunk of a diff.
+	 */
+	private static class Hunk {
+
+		/**
+		 * The index of the first line of the file before the commit touched by this
+		 * hunk.
+		 */
+		private final int firstLine;
+
+		/**
+		 * The index of the first line of this hunk in the diff.
+		 */
+		private final int start;
+
+		/**
+		 * The index after the last line of this hunk in the diff. The lines in
+		 * between are the context, removed, and added lines, including their diff
+		 * marker, and the "no newline" remarks (see {@link #isContentLine(String)}).
+		 */
+		private int end;
+
+		/**
+		 * Creates a new hunk.
+		 *
+		 * @param firstLine the index of the first line of the file before the commit
+		 *                  touched by this hunk
+		 * @param start     the index of the first line of this hunk in the diff
+		 */
+		private Hunk(int firstLine, int start) {
+			this.firstLine = firstLine;
+			this.start = start;
+			this.end = start;
+		}
+
+		/**
+		 * Checks whether the given line of a hunk is a context, removed, or added
+		 * line of the file instead of a remark like "\ No newline at end of file".
+		 *
+		 * @param hunkLine a line of a hunk
+		 * @return <code>true</code> if the line belongs to the file,
+		 *         <code>false</code> otherwise
+		 */
+		private static boolean isContentLine(String hunkLine) {
+			return !hunkLine.startsWith("\\");
+		}
+	}
+
+}
@@ -12,14 +12,8 @@
  */
 package net.ssehub.comani.analysis.librarychange.diff;
 
-import java.io.BufferedWriter;
-import java.io.FileWriter;
-import java.util.List;
-import java.util.Locale;
+import java.util.Collections;
 
-import net.ssehub.comani.core.Logger;
-import net.ssehub.comani.core.Logger.MessageType;
-import net.ssehub.comani.data.ChangedArtifact;
 import net.ssehub.comani.data.Commit;
 
 /**
@@ -34,14 +28,15 @@ import net.ssehub.comani.data.Commit;
 public class LibraryChangeAnalyzer {
 
 	/**
-	 * The string denoting the Java regular expression for identifying code files.
+	 * The {@link PathClassifier} identifying code and build files.
 	 */
-	private String codeFilePattern;
+	private PathClassifier pathClassifier;
 
 	/**
-	 * The string denoting the Java regular expression for identifying build files.
+	 * The {@link ParseCache} for the results of build file analyzers; may be
+	 * <code>null</code>.
 	 */
-	private String buildFilePattern;
+	private ParseCache parseCache;
 
 	/**
 	 * The {@link Commit} to analyze given via the constructor of this class.
@@ -65,42 +60,48 @@ public class LibraryChangeAnalyzer {
 	 * @param commit          the {@link Commit} containing diff information
 	 */
 	public LibraryChangeAnalyzer(String codeFilesRegex, String buildFilesRegex, Commit commit) {
+		this(new PathClassifier(codeFilesRegex, buildFilesRegex), commit);
+	}
+
+	/**
+	 * Construct a new {@link LibraryChangeAnalyzer} using a shared
+	 * {@link PathClassifier}.
+	 * 
+	 * @param pathClassifier the {@link PathClassifier} identifying code and build
+	 *                       files
+	 * @param commit         the {@link Commit} containing diff information
+	 */
+	public LibraryChangeAnalyzer(PathClassifier pathClassifier, Commit commit) {
+		this(pathClassifier, null, commit);
+	}
 
-		this.codeFilePattern = codeFilesRegex;
-		this.buildFilePattern = buildFilesRegex;
+	/**
+	 * Construct a new {@link LibraryChangeAnalyzer} using a shared
+	 * {@link PathClassifier} and a shared {@link ParseCache}.
+	 * 
+	 * @param pathClassifier the {@link PathClassifier} identifying code and build
+	 *                       files
+	 * @param parseCache     the {@link ParseCache} for the results of build file
+	 *                       analyzers; <code>null</code> analyzes each build file
+	 * @param commit         the {@link Commit} containing diff information
+	 */
+	public LibraryChangeAnalyzer(PathClassifier pathClassifier, ParseCache parseCache, Commit commit) {
+		this.pathClassifier = pathClassifier;
+		this.parseCache = parseCache;
 		this.commit = commit;
 	}
 
 	/**
-	 * Analyze the artifacts changed by the given commit.
+	 * Analyze the artifacts changed by the given commit as a batch of a single
+	 * commit (see {@link CommitBatchAnalyzer}).
 	 * 
 	 * @return <code>true</code> if the analysis of the given commit (changed
 	 *         artifacts) was successful, <code>false</code> otherwise
 	 */
 	public boolean analyze() {
-		boolean analyzedSuccessful = false;
-		try {
-			if (!commit.getId().isEmpty()) {
-				this.analysisResult = new AnalysisResult();
-				this.analysisResult.setCommitId(this.commit.getId());
-				List<ChangedArtifact> changedArtifactList = commit.getChangedArtifacts();
-				for (ChangedArtifact artifact : changedArtifactList) {
-					if (artifact.getArtifactPath().toLowerCase(Locale.ENGLISH).matches(this.buildFilePattern)) {
-						Logger.getInstance().log(this.getClass().getName(), "processing",
-								artifact.getArtifactPath() + " from commit " + commit.getId(), MessageType.DEBUG);
-						BuildFileAnalyzer analyzer = BuildFileAnalyzerFactory.createBuildFileAnalyzer(artifact);
-						BuildFileAnalysisResult buildFileResult = analyzer.analyze();
-						this.analysisResult.addResult(buildFileResult);
-					}
-				}
-
-				analyzedSuccessful = true;
-			}
-		} catch (Exception e) {
-			Logger.getInstance().log(this.getClass().getName(), "Could not analyze commit " + commit.getId(),
-					e.getMessage(), MessageType.ERROR);
-		}
-		return analyzedSuccessful;
+		this.analysisResult = new CommitBatchAnalyzer(this.pathClassifier, this.parseCache)
+				.analyze(Collections.singletonList(this.commit)).get(0);
+		return this.analysisResult != null;
 	}
 
 	/**
@@ -0,0 +1,243 @@
+package net.ssehub.comani.analysis.librarychange.diff;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry.LibraryInformation;
+
+/**
+ * Maps int keys, like the library IDs of the {@link CoordinateTable}, to
+ * libraries in the order of their insertion. Replacing the library of an
+ * existing key keeps its position, like in a
+ * {@link java.util.LinkedHashMap}, but keys are neither boxed nor wrapped in
+ * entry objects.
+ *
+ * Entries are iterated by their position from <code>0</code> to
+ * {@link #positions()}; positions of removed entries hold <code>null</code>.
+ */
+final class LibraryMap {
+
+	/**
+	 * The keys in insertion order.
+	 */
+	private int[] keys = new int[8];
+
+	/**
+	 * The libraries in insertion order; <code>null</code> for removed entries.
+	 */
+	private LibraryInformation[] values = new LibraryInformation[8];
+
+	/**
+	 * The number of used positions, including removed entries.
+	 */
+	private int positions;
+
+	/**
+	 * The number of entries.
+	 */
+	private int size;
+
+	/**
+	 * The open addressing hash table of positions plus one; <code>0</code> marks
+	 * an empty slot.
+	 */
+	private int[] slots = new int[16];
+
+	/**
+	 * Returns the library of the given key.
+	 *
+	 * @param key the key
+	 * @return the library or <code>null</code> if the key is not contained
+	 */
+	LibraryInformation get(int key) {
+		int slot = findSlot(key);
+		return slots[slot] == 0 ? null : values[slots[slot] - 1];
+	}
+
+	/**
+	 * Checks whether this map contains the given key.
+	 *
+	 * @param key the key
+	 * @return <code>true</code> if the key is contained, <code>false</code>
+	 *         otherwise
+	 */
+	boolean containsKey(int key) {
+		return slots[findSlot(key)] != 0;
+	}
+
+	/**
+	 * Maps the given key to the given library.
+	 *
+	 * @param key     the key
+	 * @param library the library; must not be <code>null</code>
+	 */
+	void put(int key, LibraryInformation library) {
+		int slot = findSlot(key);
+		if (slots[slot] != 0) {
+			values[slots[slot] - 1] = library;
+		} else {
+			if (positions == keys.length) {
+				resize();
+				slot = findSlot(key);
+			}
+			keys[positions] = key;
+			values[positions] = library;
+			slots[slot] = ++positions;
+			size++;
+		}
+	}
+
+	/**
+	 * Adds all entries of the given map to this map.
+	 *
+	 * @param other the map to add
+	 */
+	void putAll(LibraryMap other) {
+		for (int i = 0; i < other.positions; i++) {
+			if (other.values[i] != null) {
+				put(other.keys[i], other.values[i]);
+			}
+		}
+	}
+
+	/**
+	 * Removes the given key.
+	 *
+	 * @param key the key
+	 */
+	void remove(int key) {
+		int slot = findSlot(key);
+		if (slots[slot] != 0) {
+			values[slots[slot] - 1] = null;
+			size--;
+			// Backward shift deletion keeps the probe sequences intact
+			int mask = slots.length - 1;
+			int next = (slot + 1) & mask;
+			while (slots[next] != 0) {
+				int home = CoordinateTable.mix(keys[slots[next] - 1]) & mask;
+				if (((next - home) & mask) >= ((next - slot) & mask)) {
+					slots[slot] = slots[next];
+					slot = next;
+				}
+				next = (next + 1) & mask;
+			}
+			slots[slot] = 0;
+		}
+	}
+
+	/**
+	 * Removes all keys of the given map from this map.
+	 *
+	 * @param other the map containing the keys to remove
+	 */
+	void removeAll(LibraryMap other) {
+		for (int i = 0; i < other.positions; i++) {
+			if (other.values[i] != null) {
+				remove(other.keys[i]);
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of entries.
+	 *
+	 * @return the number of entries
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the number of positions, including those of removed entries.
+	 *
+	 * @return the upper bound for iterating the positions
+	 */
+	int positions() {
+		return positions;
+	}
+
+	/**
+	 * Returns the key at the given position.
+	 *
+	 * @param position the position
+	 * @return the key; undefined if the entry was removed
+	 */
+	int keyAt(int position) {
+		return keys[position];
+	}
+
+	/**
+	 * Returns the library at the given position.
+	 *
+	 * @param position the position
+	 * @return the library or <code>null</code> if the entry was removed
+	 */
+	LibraryInformation valueAt(int position) {
+		return values[position];
+	}
+
+	/**
+	 * Returns the libraries in insertion order.
+	 *
+	 * @return a new list of the libraries
+	 */
+	List<LibraryInformation> values() {
+		List<LibraryInformation> libraries = new ArrayList<LibraryInformation>(size);
+		for (int i = 0; i < positions; i++) {
+			if (values[i] != null) {
+				libraries.add(values[i]);
+			}
+		}
+		return libraries;
+	}
+
+	/**
+	 * Returns the slot of the given key or the empty slot where it would be
+	 * inserted.
+	 *
+	 * @param key the key
+	 * @return the index of the slot
+	 */
+	private int findSlot(int key) {
+		int mask = slots.length - 1;
+		int slot = CoordinateTable.mix(key) & mask;
+		while (slots[slot] != 0 && keys[slots[slot] - 1] != key) {
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	/**
+	 * Drops the positions of removed entries and, if the map is more than half
+	 * full, doubles its capacity.
+	 */
+	private void resize() {
+		int capacity = size * 2 > keys.length ? keys.length * 2 : keys.length;
+		int[] compactedKeys = new int[capacity];
+		LibraryInformation[] compactedValues = new LibraryInformation[capacity];
+		int[] newSlots = new int[capacity * 2];
+		int count = 0;
+		for (int i = 0; i < positions; i++) {
+			if (values[i] != null) {
+				compactedKeys[count] = keys[i];
+				compactedValues[count] = values[i];
+				count++;
+			}
+		}
+		keys = compactedKeys;
+		values = compactedValues;
+		slots = newSlots;
+		positions = 0;
+		size = 0;
+		int mask = slots.length - 1;
+		for (int i = 0; i < count; i++) {
+			int slot = CoordinateTable.mix(keys[i]) & mask;
+			while (slots[slot] != 0) {
+				slot = (slot + 1) & mask;
+			}
+			slots[slot] = ++positions;
+			size++;
+		}
+	}
+
+}
@@ -0,0 +1,234 @@
+package net.ssehub.comani.analysis.librarychange.diff;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The lines of a {@link GradleBuildFileSnapshot} as a sequence supporting
+ * access by index and the replacement of a range of lines in logarithmic time
+ * (expected), independent of the number of lines of the file. Hence, applying
+ * a hunk costs its own size, not the size of the file.
+ *
+ * The sequence is an implicit treap: a binary tree ordered by the position of
+ * the lines, which is kept balanced by the heap order of random priorities.
+ * The lines are the nodes of the tree, so a line needs no further objects.
+ */
+final class LineTree {
+
+	/**
+	 * The root of the tree; <code>null</code> if there are no lines.
+	 */
+	private Line root;
+
+	/**
+	 * The state of the generator of the priorities of new lines.
+	 */
+	private int seed = 0x9E3779B9;
+
+	/**
+	 * Returns the number of lines.
+	 *
+	 * @return the number of lines
+	 */
+	int size() {
+		return size(root);
+	}
+
+	/**
+	 * Returns the line at the given index.
+	 *
+	 * @param index the index of the line; must be less than {@link #size()}
+	 * @return the line
+	 */
+	Line get(int index) {
+		Line node = root;
+		int remaining = index;
+		while (size(node.left) != remaining) {
+			if (remaining < size(node.left)) {
+				node = node.left;
+			} else {
+				remaining -= size(node.left) + 1;
+				node = node.right;
+			}
+		}
+		return node;
+	}
+
+	/**
+	 * Replaces the given number of lines starting at the given index by the given
+	 * lines.
+	 *
+	 * @param from  the index of the first line to replace
+	 * @param count the number of lines to replace
+	 * @param lines the new lines, which must not be part of any tree
+	 */
+	void replace(int from, int count, List<Line> lines) {
+		Line[] parts = new Line[2];
+		split(root, from, parts);
+		Line before = parts[0];
+		split(parts[1], count, parts);
+		Line inserted = null;
+		for (Line line : lines) {
+			line.priority = nextPriority();
+			line.size = 1;
+			line.left = null;
+			line.right = null;
+			inserted = merge(inserted, line);
+		}
+		root = merge(merge(before, inserted), parts[1]);
+	}
+
+	/**
+	 * Passes all lines in their order to the given consumer.
+	 *
+	 * @param consumer the consumer of the lines
+	 */
+	void forEach(Consumer<Line> consumer) {
+		Deque<Line> path = new ArrayDeque<Line>();
+		Line node = root;
+		while (node != null || !path.isEmpty()) {
+			while (node != null) {
+				path.push(node);
+				node = node.left;
+			}
+			node = path.pop();
+			consumer.accept(node);
+			node = node.right;
+		}
+	}
+
+	/**
+	 * Returns the priority of a new line.
+	 *
+	 * @return a pseudo-random priority
+	 */
+	private int nextPriority() {
+		// Xorshift; the shape of the tree does not depend on the content of the file
+		seed ^= seed << 13;
+		seed ^= seed >>> 17;
+		seed ^= seed << 5;
+		return seed;
+	}
+
+	/**
+	 * Splits the given tree after the given number of lines.
+	 *
+	 * @param node  the root of the tree to split; may be <code>null</code>
+	 * @param count the number of lines of the first part
+	 * @param parts receives the root of the first part at index <code>0</code>
+	 *              and the root of the remaining lines at index <code>1</code>
+	 */
+	private static void split(Line node, int count, Line[] parts) {
+		if (node == null) {
+			parts[0] = null;
+			parts[1] = null;
+		} else if (size(node.left) < count) {
+			split(node.right, count - size(node.left) - 1, parts);
+			node.right = parts[0];
+			update(node);
+			parts[0] = node;
+		} else {
+			split(node.left, count, parts);
+			node.left = parts[1];
+			update(node);
+			parts[1] = node;
+		}
+	}
+
+	/**
+	 * Concatenates the given trees.
+	 *
+	 * @param left  the root of the tree with the first lines; may be
+	 *              <code>null</code>
+	 * @param right the root of the tree with the following lines; may be
+	 *              <code>null</code>
+	 * @return the root of the concatenated tree
+	 */
+	private static Line merge(Line left, Line right) {
+		Line merged;
+		if (left == null) {
+			merged = right;
+		} else if (right == null) {
+			merged = left;
+		} else if (left.priority >= right.priority) {
+			left.right = merge(left.right, right);
+			update(left);
+			merged = left;
+		} else {
+			right.left = merge(left, right.left);
+			update(right);
+			merged = right;
+		}
+		return merged;
+	}
+
+	/**
+	 * Returns the number of lines of the given tree.
+	 *
+	 * @param node the root of the tree; may be <code>null</code>
+	 * @return the number of lines
+	 */
+	private static int size(Line node) {
+		return node == null ? 0 : node.size;
+	}
+
+	/**
+	 * Updates the number of lines of the given node after its children changed.
+	 *
+	 * @param node the node
+	 */
+	private static void update(Line node) {
+		node.size = size(node.left) + 1 + size(node.right);
+	}
+
+	/**
+	 * A line of the file and, hence, a node of the tree.
+	 */
+	static final class Line {
+
+		/**
+		 * The text of the line without diff marker.
+		 */
+		final String text;
+
+		/**
+		 * The scanner state at the start of the line.
+		 */
+		int state;
+
+		/**
+		 * The root of the subtree with the preceding lines.
+		 */
+		private Line left;
+
+		/**
+		 * The root of the subtree with the following lines.
+		 */
+		private Line right;
+
+		/**
+		 * The number of lines of the subtree rooted at this line.
+		 */
+		private int size = 1;
+
+		/**
+		 * The priority of this line; a line has a higher priority than the lines of
+		 * its subtrees.
+		 */
+		private int priority;
+
+		/**
+		 * Creates a new line.
+		 *
+		 * @param text  the text of the line without diff marker
+		 * @param state the scanner state at the start of the line
+		 */
+		Line(String text, int state) {
+			this.text = text;
+			this.state = state;
+		}
+	}
+
+}
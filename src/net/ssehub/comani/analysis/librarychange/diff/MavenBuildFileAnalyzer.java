@@ -0,0 +1,362 @@
+package net.ssehub.comani.analysis.librarychange.diff;
+
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry.LibraryInformation;
+import net.ssehub.comani.data.ChangedArtifact;
+
+/**
+ * Analyzes the changes to the <code>&lt;dependencies&gt;</code>,
+ * <code>&lt;dependencyManagement&gt;</code>, and <code>&lt;plugins&gt;</code>
+ * sections of a Maven <code>pom.xml</code>.
+ *
+ * The views before and after the commit are rebuilt in a single pass over the
+ * hunk and each fed to a streaming pull scanner. The scanner only keeps the
+ * stack of open elements (as int codes) and the fields of the current
+ * dependency, so its memory does not depend on the size of the POM. Unlike a
+ * StAX reader, it tolerates the fragments contained in diff hunks, which
+ * usually start and end in the middle of elements.
+ */
+public class MavenBuildFileAnalyzer extends BuildFileAnalyzer {
+
+	/**
+	 * The group of plugins, for which no group is declared.
+	 */
+	private static final String DEFAULT_PLUGIN_GROUP = "org.apache.maven.plugins";
+
+	/**
+	 * The dependency type of dependencies without explicit scope.
+	 */
+	private static final String DEFAULT_SCOPE = "compile";
+
+	/**
+	 * The codes of the elements relevant for the analysis. All other elements are
+	 * {@link #OTHER}.
+	 */
+	private static final int OTHER = 0;
+	private static final int DEPENDENCIES = 1;
+	private static final int DEPENDENCY = 2;
+	private static final int DEPENDENCY_MANAGEMENT = 3;
+	private static final int PLUGINS = 4;
+	private static final int PLUGIN = 5;
+	private static final int PLUGIN_MANAGEMENT = 6;
+	private static final int GROUP_ID = 7;
+	private static final int ARTIFACT_ID = 8;
+	private static final int VERSION = 9;
+	private static final int SCOPE = 10;
+
+	/**
+	 * The names of the relevant elements; the index is the element code.
+	 */
+	private static final String[] ELEMENT_NAMES = { null, "dependencies", "dependency", "dependencyManagement",
+			"plugins", "plugin", "pluginManagement", "groupId", "artifactId", "version", "scope" };
+
+	/**
+	 * The names of the supported build files.
+	 */
+	private static final String[] FILE_NAMES = { "pom.xml" };
+
+	@Override
+	public String[] getFileNames() {
+		return FILE_NAMES.clone();
+	}
+
+	@Override
+	public BuildFileAnalysisResult analyze(ChangedArtifact artifact, long deadline) {
+		PomScanner oldView = new PomScanner();
+		PomScanner newView = new PomScanner();
+		int lines = 0;
+		boolean inHunk = false;
+		for (String line : artifact.getContent()) {
+			checkDeadline(++lines, deadline);
+			inHunk |= line.startsWith("@@");
+			if (!isDiffHeader(line, inHunk)) {
+				char marker = line.isEmpty() ? ' ' : line.charAt(0);
+				if (marker != '+') {
+					oldView.scan(line);
+				}
+				if (marker != '-') {
+					newView.scan(line);
+				}
+			}
+		}
+		return createResult(artifact.getArtifactPath(), oldView.libraries, newView.libraries);
+	}
+
+	/**
+	 * Checks whether the given line is part of the diff meta data instead of the
+	 * file content. The file headers <code>---</code> and <code>+++</code> only
+	 * precede the first hunk; inside of hunks, such lines are content, like a
+	 * removed <code>--&gt;</code>.
+	 *
+	 * @param line   the line to check
+	 * @param inHunk <code>true</code> if a hunk header precedes the line,
+	 *               <code>false</code> otherwise
+	 * @return <code>true</code> if the line is a file or hunk header or a "no
+	 *         newline" marker, <code>false</code> otherwise
+	 */
+	static boolean isDiffHeader(String line, boolean inHunk) {
+		return line.startsWith("@@") || line.startsWith("\\")
+				|| (!inHunk && (line.startsWith("+++") || line.startsWith("---")));
+	}
+
+	/**
+	 * Scans one view (before or after the commit) of a POM, which is fed line by
+	 * line, and collects the declared dependencies and plugins.
+	 */
+	private static class PomScanner {
+
+		/**
+		 * The found libraries by the ID of the pair of their section and library ID,
+		 * in the order of their declaration.
+		 */
+		private LibraryMap libraries = new LibraryMap();
+
+		/**
+		 * The codes of the open elements; only the first {@link #depth} entries are
+		 * valid. Elements opened before the start of the hunk are unknown.
+		 */
+		private int[] elements = new int[16];
+
+		/**
+		 * The number of open elements known to this scanner.
+		 */
+		private int depth;
+
+		/**
+		 * Denotes whether the scanner is inside a comment.
+		 */
+		private boolean inComment;
+
+		/**
+		 * The content of a tag spanning multiple lines; <code>null</code> if the
+		 * scanner is not inside a tag.
+		 */
+		private StringBuilder openTag;
+
+		/**
+		 * The text of the current field element; <code>null</code> if the scanner is
+		 * not inside a field of a dependency or plugin.
+		 */
+		private StringBuilder fieldText;
+
+		/**
+		 * The fields of the current dependency or plugin, indexed by the element
+		 * codes {@link #GROUP_ID} to {@link #SCOPE}.
+		 */
+		private String[] fields = new String[SCOPE + 1];
+
+		/**
+		 * Scans the next line of this view.
+		 *
+		 * @param line the line to scan, including the diff marker
+		 */
+		private void scan(String line) {
+			int index = line.isEmpty() ? 0 : 1;
+			while (index < line.length()) {
+				if (inComment) {
+					int commentEnd = line.indexOf("-->", index);
+					inComment = commentEnd < 0;
+					index = inComment ? line.length() : commentEnd + 3;
+				} else if (openTag != null) {
+					int tagEnd = line.indexOf('>', index);
+					if (tagEnd < 0) {
+						openTag.append(line, index, line.length()).append(' ');
+						index = line.length();
+					} else {
+						openTag.append(line, index, tagEnd);
+						handleTag(openTag, 0, openTag.length());
+						openTag = null;
+						index = tagEnd + 1;
+					}
+				} else {
+					int tagStart = line.indexOf('<', index);
+					int textEnd = tagStart < 0 ? line.length() : tagStart;
+					if (fieldText != null) {
+						fieldText.append(line, index, textEnd);
+					}
+					if (tagStart < 0) {
+						index = line.length();
+					} else if (line.startsWith("<!--", tagStart)) {
+						inComment = true;
+						index = tagStart + 4;
+					} else {
+						int tagEnd = line.indexOf('>', tagStart);
+						if (tagEnd < 0) {
+							openTag = new StringBuilder();
+							openTag.append(line, tagStart + 1, line.length()).append(' ');
+							index = line.length();
+						} else {
+							handleTag(line, tagStart + 1, tagEnd);
+							index = tagEnd + 1;
+						}
+					}
+				}
+			}
+		}
+
+		/**
+		 * Handles the tag between the given indexes (excluding the angle brackets).
+		 *
+		 * @param tag   the characters containing the tag
+		 * @param start the index of the first character of the tag
+		 * @param end   the index after the last character of the tag
+		 */
+		private void handleTag(CharSequence tag, int start, int end) {
+			if (start < end && tag.charAt(start) != '?' && tag.charAt(start) != '!') {
+				boolean endTag = tag.charAt(start) == '/';
+				boolean emptyElement = tag.charAt(end - 1) == '/';
+				int nameStart = endTag ? start + 1 : start;
+				int nameEnd = nameStart;
+				while (nameEnd < end && !Character.isWhitespace(tag.charAt(nameEnd)) && tag.charAt(nameEnd) != '/') {
+					nameEnd++;
+				}
+				int element = getElementCode(tag, nameStart, nameEnd);
+				if (endTag) {
+					endElement(element);
+				} else {
+					startElement(element);
+					if (emptyElement) {
+						endElement(element);
+					}
+				}
+			}
+		}
+
+		/**
+		 * Handles the start of an element.
+		 *
+		 * @param element the code of the element
+		 */
+		private void startElement(int element) {
+			if (element == DEPENDENCY || element == PLUGIN) {
+				clearFields();
+			} else if (element >= GROUP_ID && isFieldContext()) {
+				fieldText = new StringBuilder();
+			}
+			if (depth == elements.length) {
+				int[] grownElements = new int[depth * 2];
+				System.arraycopy(elements, 0, grownElements, 0, depth);
+				elements = grownElements;
+			}
+			elements[depth++] = element;
+		}
+
+		/**
+		 * Handles the end of an element.
+		 *
+		 * @param element the code of the element
+		 */
+		private void endElement(int element) {
+			boolean knownElement = depth > 0;
+			if (knownElement) {
+				depth--;
+			}
+			if (element >= GROUP_ID && fieldText != null) {
+				fields[element] = fieldText.toString().trim();
+				fieldText = null;
+			} else if (element == DEPENDENCY || element == PLUGIN) {
+				addLibrary(element);
+				clearFields();
+			} else if (!knownElement) {
+				// Fields captured before were not part of a dependency or plugin
+				clearFields();
+			}
+		}
+
+		/**
+		 * Checks whether a field element starting now belongs to a dependency or
+		 * plugin. This is the case, if its parent is a dependency or plugin, or if
+		 * its parent is unknown, as the hunk starts inside that parent.
+		 *
+		 * @return <code>true</code> if the field shall be captured,
+		 *         <code>false</code> otherwise
+		 */
+		private boolean isFieldContext() {
+			return depth == 0 || elements[depth - 1] == DEPENDENCY || elements[depth - 1] == PLUGIN;
+		}
+
+		/**
+		 * Adds the dependency or plugin described by the current fields, if its
+		 * artifact is known.
+		 *
+		 * @param element either {@link #DEPENDENCY} or {@link #PLUGIN}
+		 */
+		private void addLibrary(int element) {
+			String identifier = fields[ARTIFACT_ID];
+			if (identifier != null && !identifier.isEmpty()) {
+				String group = fields[GROUP_ID];
+				String dependencyType;
+				if (element == PLUGIN) {
+					dependencyType = isInside(PLUGIN_MANAGEMENT) ? "plugin-managed" : "plugin";
+					if (group == null) {
+						group = DEFAULT_PLUGIN_GROUP;
+					}
+				} else if (isInside(PLUGIN)) {
+					dependencyType = "plugin-dependency";
+				} else if (isInside(DEPENDENCY_MANAGEMENT)) {
+					dependencyType = "managed";
+				} else {
+					dependencyType = fields[SCOPE] != null ? fields[SCOPE] : DEFAULT_SCOPE;
+				}
+				if (group != null) {
+					String section = (dependencyType.startsWith("plugin") || dependencyType.equals("managed"))
+							? dependencyType
+							: "dependency";
+					CoordinateTable table = CoordinateTable.getInstance();
+					LibraryInformation library = table.getLibrary(dependencyType, identifier, group, fields[VERSION]);
+					libraries.put(table.pair(table.intern(section), library.getLibraryId()), library);
+				}
+			}
+		}
+
+		/**
+		 * Checks whether one of the open elements has the given code.
+		 *
+		 * @param element the element code to search for
+		 * @return <code>true</code> if an open element has the given code,
+		 *         <code>false</code> otherwise
+		 */
+		private boolean isInside(int element) {
+			boolean inside = false;
+			for (int i = 0; i < depth && !inside; i++) {
+				inside = elements[i] == element;
+			}
+			return inside;
+		}
+
+		/**
+		 * Resets the fields of the current dependency or plugin.
+		 */
+		private void clearFields() {
+			for (int i = 0; i < fields.length; i++) {
+				fields[i] = null;
+			}
+			fieldText = null;
+		}
+
+		/**
+		 * Returns the code of the element with the given name.
+		 *
+		 * @param tag   the characters containing the name
+		 * @param start the index of the first character of the name
+		 * @param end   the index after the last character of the name
+		 * @return the element code or {@link #OTHER} if the element is not relevant
+		 */
+		private static int getElementCode(CharSequence tag, int start, int end) {
+			int code = OTHER;
+			for (int i = 1; i < ELEMENT_NAMES.length && code == OTHER; i++) {
+				String name = ELEMENT_NAMES[i];
+				if (name.length() == end - start) {
+					boolean equal = true;
+					for (int j = 0; j < name.length() && equal; j++) {
+						equal = name.charAt(j) == tag.charAt(start + j);
+					}
+					if (equal) {
+						code = i;
+					}
+				}
+			}
+			return code;
+		}
+	}
+
+}
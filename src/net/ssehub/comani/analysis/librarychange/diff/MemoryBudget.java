@@ -0,0 +1,192 @@
+package net.ssehub.comani.analysis.librarychange.diff;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the approximate number of bytes retained by buffered results and
+ * caches, so the analysis of very large histories fits into a fixed heap. Each
+ * owner of retained data works with its own {@link #share(int)} of the overall
+ * budget: it reserves the estimated size of its data (see
+ * {@link #estimateSize(AnalysisResult)}), releases it when the data is dropped,
+ * and evicts or spills data to disk while its share {@link #isExceeded()}.
+ * Hence, one owner filling its share never forces another one to give up its
+ * data. The budget is advisory: reservations never fail or block. A limit of
+ * <code>0</code> disables the budget.
+ *
+ * The estimates count the objects and strings owned by a result; the libraries
+ * are shared instances of the {@link CoordinateTable} and only count as
+ * references. Data growing with the number of distinct build files, libraries,
+ * and properties of a repository rather than with the number of results, like
+ * the {@link CoordinateTable}, the {@link ModuleGraph}, and the definitions and
+ * usages of the {@link VersionResolver}, is not counted.
+ *
+ * All methods are thread-safe.
+ */
+public final class MemoryBudget {
+
+	/**
+	 * The budget without a limit.
+	 */
+	public static final MemoryBudget UNLIMITED = new MemoryBudget(0);
+
+	/**
+	 * The estimated size of an object header and its alignment.
+	 */
+	private static final int OBJECT_SIZE = 16;
+
+	/**
+	 * The estimated size of a reference.
+	 */
+	private static final int REFERENCE_SIZE = 8;
+
+	/**
+	 * The estimated size of a {@link BuildFileAnalysisResult.LibraryEntry} and its
+	 * slot in the list of library changes.
+	 */
+	private static final int LIBRARY_ENTRY_SIZE = OBJECT_SIZE + 3 * REFERENCE_SIZE;
+
+	/**
+	 * The estimated size of an entry of a {@link LibraryMap}: its key, its slot,
+	 * and its value.
+	 */
+	static final int LIBRARY_MAP_ENTRY_SIZE = 2 * Integer.BYTES + REFERENCE_SIZE;
+
+	/**
+	 * The maximum number of retained bytes.
+	 */
+	private final long limit;
+
+	/**
+	 * The number of currently reserved bytes.
+	 */
+	private final AtomicLong used = new AtomicLong();
+
+	/**
+	 * Creates a new budget.
+	 *
+	 * @param limit the maximum number of retained bytes; <code>0</code> for no
+	 *              limit
+	 */
+	public MemoryBudget(long limit) {
+		this.limit = limit;
+	}
+
+	/**
+	 * Creates a new budget for a single owner of retained data, which is limited
+	 * to the given share of the limit of this budget. The shares of all owners
+	 * should not add up to more than <code>100</code> percent. The share of a
+	 * budget without limit has no limit either.
+	 *
+	 * @param percent the share of the limit in percent
+	 * @return the new budget; its reservations do not count towards this budget
+	 */
+	public MemoryBudget share(int percent) {
+		return new MemoryBudget(limit * percent / 100);
+	}
+
+	/**
+	 * Reserves the given number of bytes, even if the budget is exceeded
+	 * afterwards.
+	 *
+	 * @param size the number of bytes
+	 */
+	public void reserve(long size) {
+		if (limit > 0) {
+			used.addAndGet(size);
+		}
+	}
+
+	/**
+	 * Releases the given number of bytes reserved before.
+	 *
+	 * @param size the number of bytes
+	 */
+	public void release(long size) {
+		if (limit > 0) {
+			used.addAndGet(-size);
+		}
+	}
+
+	/**
+	 * Checks whether more bytes are reserved than allowed.
+	 *
+	 * @return <code>true</code> if retained data should be evicted or spilled,
+	 *         <code>false</code> otherwise
+	 */
+	public boolean isExceeded() {
+		return limit > 0 && used.get() > limit;
+	}
+
+	/**
+	 * Returns the number of currently reserved bytes.
+	 *
+	 * @return the reserved bytes; always <code>0</code> if the budget has no limit
+	 */
+	public long getUsed() {
+		return used.get();
+	}
+
+	/**
+	 * Returns the maximum number of retained bytes.
+	 *
+	 * @return the limit; <code>0</code> for no limit
+	 */
+	public long getLimit() {
+		return limit;
+	}
+
+	/**
+	 * Estimates the number of bytes retained by the given result of a commit.
+	 *
+	 * @param result the result
+	 * @return the estimated size in bytes
+	 */
+	public static long estimateSize(AnalysisResult result) {
+		// The result, its identifier, and its two lists
+		long size = 3 * OBJECT_SIZE + estimateSize(result.getCommitId());
+		for (BuildFileAnalysisResult buildFileResult : result.getResults()) {
+			size += REFERENCE_SIZE + estimateSize(buildFileResult);
+		}
+		for (ArtifactError error : result.getErrors()) {
+			size += REFERENCE_SIZE + OBJECT_SIZE + estimateSize(error.getArtifactPath())
+					+ estimateSize(error.getMessage());
+		}
+		return size;
+	}
+
+	/**
+	 * Estimates the number of bytes retained by the given result of a build file.
+	 *
+	 * @param result the result
+	 * @return the estimated size in bytes
+	 */
+	public static long estimateSize(BuildFileAnalysisResult result) {
+		// The result and its list
+		return 2 * OBJECT_SIZE + estimateSize(result.getBuildFile())
+				+ (long) result.getLibraryChanges().size() * LIBRARY_ENTRY_SIZE;
+	}
+
+	/**
+	 * Estimates the number of bytes retained by a line of a
+	 * {@link GradleBuildFileSnapshot}.
+	 *
+	 * @param text the text of the line
+	 * @return the estimated size in bytes
+	 */
+	static long estimateLineSize(String text) {
+		// The line including its links in the tree of lines, and its text
+		return OBJECT_SIZE + 3 * REFERENCE_SIZE + 3 * Integer.BYTES + estimateSize(text);
+	}
+
+	/**
+	 * Estimates the number of bytes retained by the given string.
+	 *
+	 * @param string the string; may be <code>null</code>
+	 * @return the estimated size in bytes
+	 */
+	private static long estimateSize(String string) {
+		// The string, its array, and one byte per Latin-1 character
+		return string == null ? 0 : 2 * OBJECT_SIZE + string.length();
+	}
+
+}
@@ -0,0 +1,719 @@
+package net.ssehub.comani.analysis.librarychange.diff;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry;
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry.LibraryChangeType;
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry.LibraryInformation;
+import net.ssehub.comani.data.ChangedArtifact;
+import net.ssehub.comani.data.Commit;
+
+/**
+ * Maintains the graph of the modules of a repository and attributes the
+ * library changes of a build file to the modules inheriting its dependencies.
+ *
+ * Each build file seen so far is a module. Its parent is determined as
+ * follows:
+ * <ul>
+ * <li><code>pom.xml</code>: the POM denoted by the
+ * <code>&lt;relativePath&gt;</code> of its <code>&lt;parent&gt;</code>
+ * (<code>../pom.xml</code> by default); an empty relative path denotes a
+ * parent outside of the repository</li>
+ * <li><code>build.gradle</code> and <code>build.gradle.kts</code>: the Gradle
+ * build file in the nearest parent directory</li>
+ * </ul>
+ * The graph is updated incrementally: the parent of a POM changes with the
+ * diffs of its <code>&lt;parent&gt;</code> section, and a new (or deleted)
+ * Gradle build file only moves the modules of its subdirectories, which were
+ * attached to its parent, to itself (or back).
+ *
+ * For each commit, the inheritable library changes of each build file are
+ * propagated to its descendants by traversing the graph from that build file.
+ * All dependencies of a POM are inheritable, whereas a Gradle build file only
+ * shares the dependencies declared in its <code>subprojects</code> and
+ * <code>allprojects</code> blocks (see
+ * {@link GradleBuildFileAnalyzer#isSharedDependencyType(String)}); its other
+ * dependencies, including the <code>classpath</code> of its build script, are
+ * not inherited. A module, which
+ * declares a changed library with an explicit version, overrides the inherited
+ * one; the traversal does not descend further for that library. Libraries
+ * declared without version are still affected. Changes of the
+ * <code>&lt;dependencyManagement&gt;</code> and
+ * <code>&lt;pluginManagement&gt;</code> sections of a POM are inherited by all
+ * descendants, which do not manage the library themselves, but only affect the
+ * modules declaring the library without version. The propagated changes are
+ * reported as library changes of the build files of the affected modules,
+ * unless the commit changes the same library in these build files itself.
+ *
+ * As the graph reflects the history up to the current commit, the commits must
+ * be passed in the order of the history by a single thread.
+ */
+public class ModuleGraph {
+
+	/**
+	 * The (lower case) name of Maven build files.
+	 */
+	private static final String POM_FILE_NAME = "pom.xml";
+
+	/**
+	 * The (lower case) names of the build files defining a module. Other build
+	 * files, e.g., Gradle settings or Ivy files, do not take part in the graph.
+	 */
+	private static final String[] MODULE_FILE_NAMES = { POM_FILE_NAME, "build.gradle", "build.gradle.kts" };
+
+	/**
+	 * The relative path of the parent of a POM, if none is declared.
+	 */
+	private static final String DEFAULT_RELATIVE_PATH = "../pom.xml";
+
+	/**
+	 * The suffix of the dependency types of the management sections of POMs.
+	 */
+	private static final String MANAGED_TYPE_SUFFIX = "managed";
+
+	/**
+	 * The key of the Gradle modules without parent in the {@link #children}.
+	 */
+	private static final String ROOT = "";
+
+	/**
+	 * The start of the opening tag of the parent section of a POM.
+	 */
+	private static final String PARENT_TAG = "<parent>";
+
+	/**
+	 * The relative path of a parent, which may also be empty
+	 * (<code>&lt;relativePath/&gt;</code>).
+	 */
+	private static final Pattern RELATIVE_PATH = Pattern
+			.compile("<relativePath\\s*(?:/>|>\\s*([^<]*?)\\s*</relativePath>)");
+
+	/**
+	 * The modules by the path of their build file.
+	 */
+	private Map<String, Module> modules = new HashMap<String, Module>();
+
+	/**
+	 * The Gradle modules by their directory.
+	 */
+	private Map<String, Module> gradleModules = new HashMap<String, Module>();
+
+	/**
+	 * The child modules by the path of the build file of their parent. Maven
+	 * modules are attached to their declared parent, even if it does not exist
+	 * (yet).
+	 */
+	private Map<String, Set<Module>> children = new HashMap<String, Set<Module>>();
+
+	/**
+	 * Updates the module graph with the given commit and adds the library changes
+	 * inherited by modules to the given result of that commit.
+	 *
+	 * @param commit the analyzed {@link Commit}
+	 * @param result the {@link AnalysisResult} of the commit, which is updated
+	 */
+	public void analyze(Commit commit, AnalysisResult result) {
+		Map<String, ChangedArtifact> artifacts = new HashMap<String, ChangedArtifact>();
+		for (ChangedArtifact artifact : commit.getChangedArtifacts()) {
+			artifacts.put(artifact.getArtifactPath(), artifact);
+		}
+		// Inherited changes are not declared by a module; hence, only the own results
+		// update the graph and are propagated
+		List<BuildFileAnalysisResult> ownResults = new ArrayList<BuildFileAnalysisResult>();
+		for (BuildFileAnalysisResult buildFileResult : result.getResults()) {
+			if (isModuleFile(buildFileResult.getBuildFile())) {
+				ownResults.add(buildFileResult);
+			}
+		}
+		List<Module> deletedModules = new ArrayList<Module>();
+		for (BuildFileAnalysisResult buildFileResult : ownResults) {
+			Module module = getModule(buildFileResult.getBuildFile());
+			module.update(buildFileResult);
+			ChangedArtifact artifact = artifacts.get(buildFileResult.getBuildFile());
+			if (artifact != null) {
+				List<String> diff = artifact.getContent();
+				if (module.maven) {
+					updateParent(module, diff);
+				}
+				if (isDeletion(diff)) {
+					deletedModules.add(module);
+				}
+			}
+		}
+		Map<String, List<LibraryEntry>> inheritedChanges = new LinkedHashMap<String, List<LibraryEntry>>();
+		for (BuildFileAnalysisResult buildFileResult : ownResults) {
+			Module module = modules.get(buildFileResult.getBuildFile());
+			List<LibraryEntry> changes = getInheritableChanges(module, buildFileResult);
+			if (!changes.isEmpty()) {
+				Set<Module> visited = new HashSet<Module>();
+				visited.add(module);
+				propagate(module, changes, visited, result, inheritedChanges);
+			}
+		}
+		for (Map.Entry<String, List<LibraryEntry>> moduleChanges : inheritedChanges.entrySet()) {
+			result.addLibraryChanges(moduleChanges.getKey(), moduleChanges.getValue());
+		}
+		// The removals of a deleted build file are propagated before it is removed
+		for (Module module : deletedModules) {
+			remove(module);
+		}
+	}
+
+	/**
+	 * Checks whether the given build file defines a module.
+	 *
+	 * @param buildFile the path of a build file
+	 * @return <code>true</code> if the file name is one of the
+	 *         {@link #MODULE_FILE_NAMES}, <code>false</code> otherwise
+	 */
+	private static boolean isModuleFile(String buildFile) {
+		String fileName = buildFile.substring(buildFile.lastIndexOf('/') + 1);
+		boolean moduleFile = false;
+		for (int i = 0; i < MODULE_FILE_NAMES.length && !moduleFile; i++) {
+			moduleFile = fileName.equalsIgnoreCase(MODULE_FILE_NAMES[i]);
+		}
+		return moduleFile;
+	}
+
+	/**
+	 * Returns the path of the build file of the parent of the given module.
+	 *
+	 * @param buildFile the path of the build file of a module
+	 * @return the path of the build file of the parent or <code>null</code>, if
+	 *         the module is unknown or has no parent
+	 */
+	public String getParent(String buildFile) {
+		Module module = modules.get(buildFile);
+		String parent = null;
+		if (module != null && module.parent != null && !module.parent.equals(ROOT)) {
+			parent = module.parent;
+		}
+		return parent;
+	}
+
+	/**
+	 * Returns the module of the given build file, which is added to the graph if
+	 * it is unknown.
+	 *
+	 * @param buildFile the path of the build file
+	 * @return the {@link Module}
+	 */
+	private Module getModule(String buildFile) {
+		Module module = modules.get(buildFile);
+		if (module == null) {
+			String fileName = buildFile.substring(buildFile.lastIndexOf('/') + 1);
+			module = new Module(buildFile, getParentDirectory(buildFile), fileName.equalsIgnoreCase(POM_FILE_NAME));
+			modules.put(buildFile, module);
+			if (!module.maven) {
+				addGradleModule(module);
+			}
+		}
+		return module;
+	}
+
+	/**
+	 * Attaches the given Gradle module to the Gradle module in the nearest parent
+	 * directory and moves the modules of its subdirectories, which were attached
+	 * to that module, to the given module.
+	 *
+	 * @param module the new Gradle module
+	 */
+	private void addGradleModule(Module module) {
+		Module parentModule = null;
+		String directory = getParentDirectory(module.directory);
+		while (directory != null && parentModule == null) {
+			parentModule = gradleModules.get(directory);
+			directory = getParentDirectory(directory);
+		}
+		String parent = parentModule == null ? ROOT : parentModule.buildFile;
+		Set<Module> siblings = children.get(parent);
+		if (siblings != null) {
+			List<Module> movedModules = new ArrayList<Module>();
+			for (Module sibling : siblings) {
+				if (!sibling.maven && isBelow(sibling.directory, module.directory)) {
+					movedModules.add(sibling);
+				}
+			}
+			for (Module movedModule : movedModules) {
+				setParent(movedModule, module.buildFile);
+			}
+		}
+		setParent(module, parent);
+		gradleModules.putIfAbsent(module.directory, module);
+	}
+
+	/**
+	 * Removes the given module from the graph. The Gradle modules attached to it
+	 * are attached to its parent.
+	 *
+	 * @param module the deleted module
+	 */
+	private void remove(Module module) {
+		modules.remove(module.buildFile);
+		if (!module.maven) {
+			if (gradleModules.get(module.directory) == module) {
+				gradleModules.remove(module.directory);
+			}
+			Set<Module> moduleChildren = children.get(module.buildFile);
+			if (moduleChildren != null) {
+				for (Module child : new ArrayList<Module>(moduleChildren)) {
+					if (!child.maven) {
+						setParent(child, module.parent);
+					}
+				}
+			}
+		}
+		setParent(module, null);
+	}
+
+	/**
+	 * Sets the parent of the given module.
+	 *
+	 * @param module the module
+	 * @param parent the path of the build file of the parent, {@link #ROOT}, or
+	 *               <code>null</code>
+	 */
+	private void setParent(Module module, String parent) {
+		if (module.parent != null) {
+			Set<Module> siblings = children.get(module.parent);
+			siblings.remove(module);
+			if (siblings.isEmpty()) {
+				children.remove(module.parent);
+			}
+		}
+		module.parent = parent;
+		if (parent != null) {
+			children.computeIfAbsent(parent, key -> new LinkedHashSet<Module>()).add(module);
+		}
+	}
+
+	/**
+	 * Updates the parent of the given Maven module based on the changes of its
+	 * <code>&lt;parent&gt;</code> section in the given diff.
+	 *
+	 * @param module the Maven module
+	 * @param diff   the lines of the diff of its POM
+	 */
+	private void updateParent(Module module, List<String> diff) {
+		boolean parentAdded = false;
+		boolean parentRemoved = false;
+		boolean parentConfirmed = false;
+		String addedRelativePath = null;
+		boolean relativePathRemoved = false;
+		String confirmedRelativePath = null;
+		for (String line : diff) {
+			char marker = line.isEmpty() ? ' ' : line.charAt(0);
+			if (marker == ' ' || marker == '+' || marker == '-') {
+				boolean parentTag = line.contains(PARENT_TAG);
+				Matcher relativePathMatcher = RELATIVE_PATH.matcher(line);
+				String relativePath = null;
+				if (relativePathMatcher.find()) {
+					relativePath = relativePathMatcher.group(1) == null ? "" : relativePathMatcher.group(1);
+				}
+				if (marker == '+') {
+					parentAdded |= parentTag;
+					addedRelativePath = relativePath != null ? relativePath : addedRelativePath;
+				} else if (marker == '-') {
+					parentRemoved |= parentTag;
+					relativePathRemoved |= relativePath != null;
+				} else {
+					parentConfirmed |= parentTag;
+					confirmedRelativePath = relativePath != null ? relativePath : confirmedRelativePath;
+				}
+			}
+		}
+		module.hasParent = parentAdded || (!parentRemoved && (module.hasParent || parentConfirmed));
+		if (addedRelativePath != null) {
+			module.relativePath = addedRelativePath;
+		} else if (confirmedRelativePath != null) {
+			module.relativePath = confirmedRelativePath;
+		} else if (relativePathRemoved || parentRemoved) {
+			module.relativePath = DEFAULT_RELATIVE_PATH;
+		}
+		String parent = module.hasParent ? resolvePath(module.directory, module.relativePath) : null;
+		if (parent == null ? module.parent != null : !parent.equals(module.parent)) {
+			setParent(module, parent);
+		}
+	}
+
+	/**
+	 * Returns the changes of the given result of a module, which are inherited by
+	 * its descendants.
+	 *
+	 * @param module          the module
+	 * @param buildFileResult the result of its build file
+	 * @return the inheritable changes; may be empty
+	 */
+	private static List<LibraryEntry> getInheritableChanges(Module module, BuildFileAnalysisResult buildFileResult) {
+		List<LibraryEntry> changes = new ArrayList<LibraryEntry>();
+		for (LibraryEntry entry : buildFileResult.getLibraryChanges()) {
+			LibraryInformation library = entry.getCurrentLibrary() != null ? entry.getCurrentLibrary()
+					: entry.getPreviousLibrary();
+			boolean inheritable = module.maven
+					|| GradleBuildFileAnalyzer.isSharedDependencyType(library.getDependencyType());
+			if (entry.getLibraryChangeType() != LibraryChangeType.NO_CHANGE && inheritable) {
+				changes.add(entry);
+			}
+		}
+		return changes;
+	}
+
+	/**
+	 * Propagates the given changes from the given module to its descendants.
+	 *
+	 * @param module           the module, whose changes are inherited
+	 * @param changes          the inherited changes
+	 * @param visited          the modules already visited by the traversal
+	 * @param result           the {@link AnalysisResult} of the current commit
+	 * @param inheritedChanges the changes inherited by each module so far, by the
+	 *                         path of its build file
+	 */
+	private void propagate(Module module, List<LibraryEntry> changes, Set<Module> visited, AnalysisResult result,
+			Map<String, List<LibraryEntry>> inheritedChanges) {
+		Set<Module> moduleChildren = children.get(module.buildFile);
+		if (moduleChildren != null) {
+			for (Module child : moduleChildren) {
+				if (visited.add(child)) {
+					List<LibraryEntry> childChanges = new ArrayList<LibraryEntry>(changes.size());
+					List<LibraryEntry> effectiveChanges = new ArrayList<LibraryEntry>(changes.size());
+					for (LibraryEntry change : changes) {
+						if (!child.overrides(change)) {
+							childChanges.add(change);
+							if (child.isAffectedBy(change)) {
+								effectiveChanges.add(change);
+							}
+						}
+					}
+					if (!effectiveChanges.isEmpty()) {
+						addInheritedChanges(child.buildFile, effectiveChanges, result, inheritedChanges);
+					}
+					if (!childChanges.isEmpty()) {
+						propagate(child, childChanges, visited, result, inheritedChanges);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Adds the given changes inherited by a module, unless the module already
+	 * inherits or changes the same libraries.
+	 *
+	 * @param buildFile        the path of the build file of the module
+	 * @param changes          the inherited changes
+	 * @param result           the {@link AnalysisResult} of the current commit
+	 * @param inheritedChanges the changes inherited by each module so far, by the
+	 *                         path of its build file
+	 */
+	private static void addInheritedChanges(String buildFile, List<LibraryEntry> changes, AnalysisResult result,
+			Map<String, List<LibraryEntry>> inheritedChanges) {
+		List<LibraryEntry> ownChanges = null;
+		for (BuildFileAnalysisResult buildFileResult : result.getResults()) {
+			if (buildFileResult.getBuildFile().equals(buildFile)) {
+				ownChanges = buildFileResult.getLibraryChanges();
+			}
+		}
+		List<LibraryEntry> moduleChanges = inheritedChanges.get(buildFile);
+		for (LibraryEntry change : changes) {
+			if (!containsLibrary(ownChanges, change) && !containsLibrary(moduleChanges, change)) {
+				if (moduleChanges == null) {
+					moduleChanges = new ArrayList<LibraryEntry>();
+					inheritedChanges.put(buildFile, moduleChanges);
+				}
+				moduleChanges.add(change);
+			}
+		}
+	}
+
+	/**
+	 * Checks whether the given changes contain a change of a library of the given
+	 * change.
+	 *
+	 * @param changes the changes; may be <code>null</code>
+	 * @param change  the change
+	 * @return <code>true</code> if one of the changes affects the previous or
+	 *         current library of the given change, <code>false</code> otherwise
+	 */
+	private static boolean containsLibrary(List<LibraryEntry> changes, LibraryEntry change) {
+		boolean contained = false;
+		if (changes != null) {
+			for (int i = 0; i < changes.size() && !contained; i++) {
+				LibraryEntry entry = changes.get(i);
+				contained = isSameLibrary(entry, change.getPreviousLibrary())
+						|| isSameLibrary(entry, change.getCurrentLibrary());
+			}
+		}
+		return contained;
+	}
+
+	/**
+	 * Checks whether the given change affects the given library.
+	 *
+	 * @param change  the change
+	 * @param library the library; may be <code>null</code>
+	 * @return <code>true</code> if the previous or current library of the change
+	 *         is the given library (in any version), <code>false</code> otherwise
+	 */
+	private static boolean isSameLibrary(LibraryEntry change, LibraryInformation library) {
+		return library != null && (library.isSameLibrary(change.getPreviousLibrary())
+				|| library.isSameLibrary(change.getCurrentLibrary()));
+	}
+
+	/**
+	 * Checks whether the given change belongs to a management section of a POM.
+	 *
+	 * @param change the change
+	 * @return <code>true</code> if the change only manages the version of a
+	 *         library, <code>false</code> otherwise
+	 */
+	private static boolean isManaged(LibraryEntry change) {
+		LibraryInformation library = change.getCurrentLibrary() != null ? change.getCurrentLibrary()
+				: change.getPreviousLibrary();
+		return library.getDependencyType() != null && library.getDependencyType().endsWith(MANAGED_TYPE_SUFFIX);
+	}
+
+	/**
+	 * Checks whether the given diff deletes a file.
+	 *
+	 * @param diff the lines of the diff
+	 * @return <code>true</code> if the first hunk leaves an empty file,
+	 *         <code>false</code> otherwise
+	 */
+	private static boolean isDeletion(List<String> diff) {
+		boolean deletion = false;
+		boolean headerFound = false;
+		for (int i = 0; i < diff.size() && !headerFound; i++) {
+			String line = diff.get(i);
+			if (line.startsWith("@@ -")) {
+				headerFound = true;
+				deletion = line.contains(" +0,0 @@");
+			}
+		}
+		return deletion;
+	}
+
+	/**
+	 * Resolves the given relative path of a parent POM.
+	 *
+	 * @param directory    the directory of the child POM
+	 * @param relativePath the relative path of the parent, which denotes either
+	 *                     the POM or its directory
+	 * @return the normalized path of the parent POM or <code>null</code>, if the
+	 *         relative path is empty or leaves the repository
+	 */
+	private static String resolvePath(String directory, String relativePath) {
+		String resolvedPath = null;
+		if (!relativePath.isEmpty()) {
+			String path = directory.isEmpty() ? relativePath : directory + "/" + relativePath;
+			if (!path.endsWith(".xml")) {
+				path = path.endsWith("/") ? path + POM_FILE_NAME : path + "/" + POM_FILE_NAME;
+			}
+			List<String> segments = new ArrayList<String>();
+			boolean inside = true;
+			for (String segment : path.replace('\\', '/').split("/")) {
+				if (segment.equals("..")) {
+					inside = inside && !segments.isEmpty();
+					if (inside) {
+						segments.remove(segments.size() - 1);
+					}
+				} else if (!segment.isEmpty() && !segment.equals(".")) {
+					segments.add(segment);
+				}
+			}
+			if (inside) {
+				resolvedPath = String.join("/", segments);
+			}
+		}
+		return resolvedPath;
+	}
+
+	/**
+	 * Returns the parent directory of the given path.
+	 *
+	 * @param path the path of a file or directory
+	 * @return the path up to the last slash, <code>""</code> if the path has no
+	 *         parent directory, or <code>null</code> if the path is empty
+	 */
+	private static String getParentDirectory(String path) {
+		String directory = null;
+		if (!path.isEmpty()) {
+			int separator = path.lastIndexOf('/');
+			directory = separator < 0 ? "" : path.substring(0, separator);
+		}
+		return directory;
+	}
+
+	/**
+	 * Checks whether the given directory is a subdirectory of the other one.
+	 *
+	 * @param directory the directory to check
+	 * @param ancestor  the potential ancestor directory
+	 * @return <code>true</code> if the directory is (indirectly) contained in the
+	 *         ancestor, <code>false</code> otherwise
+	 */
+	private static boolean isBelow(String directory, String ancestor) {
+		return ancestor.isEmpty() ? !directory.isEmpty()
+				: directory.length() > ancestor.length() && directory.startsWith(ancestor)
+						&& directory.charAt(ancestor.length()) == '/';
+	}
+
+	/**
+	 * A module of the repository, i.e., a build file.
+	 */
+	private static class Module {
+
+		/**
+		 * The path of the build file.
+		 */
+		private final String buildFile;
+
+		/**
+		 * The directory of the build file.
+		 */
+		private final String directory;
+
+		/**
+		 * Denotes whether the build file is a POM.
+		 */
+		private final boolean maven;
+
+		/**
+		 * The libraries declared by the build file by their library ID.
+		 */
+		private final LibraryMap libraries = new LibraryMap();
+
+		/**
+		 * The libraries declared in the management sections of the POM by their
+		 * library ID.
+		 */
+		private final LibraryMap managedLibraries = new LibraryMap();
+
+		/**
+		 * The path of the build file of the parent, {@link ModuleGraph#ROOT} for
+		 * Gradle modules without parent, or <code>null</code> for POMs without
+		 * parent.
+		 */
+		private String parent;
+
+		/**
+		 * Denotes whether the POM declares a parent.
+		 */
+		private boolean hasParent;
+
+		/**
+		 * The relative path of the parent of the POM.
+		 */
+		private String relativePath = DEFAULT_RELATIVE_PATH;
+
+		/**
+		 * Creates a new module.
+		 *
+		 * @param buildFile the path of the build file
+		 * @param directory the directory of the build file
+		 * @param maven     <code>true</code> if the build file is a POM
+		 */
+		private Module(String buildFile, String directory, boolean maven) {
+			this.buildFile = buildFile;
+			this.directory = directory;
+			this.maven = maven;
+		}
+
+		/**
+		 * Updates the declared libraries with the given result of the build file.
+		 *
+		 * @param buildFileResult the result of the build file
+		 */
+		private void update(BuildFileAnalysisResult buildFileResult) {
+			List<LibraryEntry> changes = buildFileResult.getLibraryChanges();
+			for (LibraryEntry entry : changes) {
+				if (entry.getPreviousLibrary() != null) {
+					getLibraries(entry).remove(entry.getPreviousLibrary().getLibraryId());
+				}
+			}
+			for (LibraryEntry entry : changes) {
+				if (entry.getCurrentLibrary() != null) {
+					getLibraries(entry).put(entry.getCurrentLibrary().getLibraryId(), entry.getCurrentLibrary());
+				}
+			}
+		}
+
+		/**
+		 * Returns the libraries of this module, which correspond to the section of
+		 * the given change.
+		 *
+		 * @param change the change
+		 * @return the {@link #managedLibraries} or the {@link #libraries}
+		 */
+		private LibraryMap getLibraries(LibraryEntry change) {
+			return isManaged(change) ? managedLibraries : libraries;
+		}
+
+		/**
+		 * Checks whether this module declares a library of the given change in
+		 * the same section with an explicit version, which overrides an inherited
+		 * version for this module and its descendants.
+		 *
+		 * @param change the inherited change
+		 * @return <code>true</code> if the change does not affect this module and
+		 *         its descendants, <code>false</code> otherwise
+		 */
+		private boolean overrides(LibraryEntry change) {
+			LibraryMap sectionLibraries = getLibraries(change);
+			return declaresVersion(sectionLibraries, change.getPreviousLibrary())
+					|| declaresVersion(sectionLibraries, change.getCurrentLibrary());
+		}
+
+		/**
+		 * Checks whether this module uses an inherited change, which it does not
+		 * override. Changes of management sections only affect modules declaring
+		 * the library without version.
+		 *
+		 * @param change the inherited change
+		 * @return <code>true</code> if the change affects this module,
+		 *         <code>false</code> otherwise
+		 */
+		private boolean isAffectedBy(LibraryEntry change) {
+			boolean declaredWithoutVersion = (declaresLibrary(change.getPreviousLibrary())
+					|| declaresLibrary(change.getCurrentLibrary()))
+					&& !declaresVersion(libraries, change.getPreviousLibrary())
+					&& !declaresVersion(libraries, change.getCurrentLibrary());
+			return !isManaged(change) || declaredWithoutVersion;
+		}
+
+		/**
+		 * Checks whether this module declares the given library outside of the
+		 * management sections.
+		 *
+		 * @param library the library; may be <code>null</code>
+		 * @return <code>true</code> if the library is declared, <code>false</code>
+		 *         otherwise
+		 */
+		private boolean declaresLibrary(LibraryInformation library) {
+			return library != null && libraries.containsKey(library.getLibraryId());
+		}
+
+		/**
+		 * Checks whether the given libraries of this module contain the given
+		 * library with a version.
+		 *
+		 * @param sectionLibraries the libraries of a section of this module
+		 * @param library          the library; may be <code>null</code>
+		 * @return <code>true</code> if the library is declared with a version,
+		 *         <code>false</code> otherwise
+		 */
+		private static boolean declaresVersion(LibraryMap sectionLibraries, LibraryInformation library) {
+			LibraryInformation declaredLibrary = library == null ? null : sectionLibraries.get(library.getLibraryId());
+			return declaredLibrary != null && declaredLibrary.getVersion() != null;
+		}
+	}
+
+}
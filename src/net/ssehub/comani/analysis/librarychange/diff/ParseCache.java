@@ -0,0 +1,330 @@
+package net.ssehub.comani.analysis.librarychange.diff;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.ssehub.comani.analysis.librarychange.metrics.AnalysisMetrics;
+import net.ssehub.comani.analysis.librarychange.metrics.AnalysisMetrics.Counter;
+import net.ssehub.comani.analysis.librarychange.output.ResultLog;
+import net.ssehub.comani.data.ChangedArtifact;
+
+/**
+ * Caches the results of
+ * {@link BuildFileAnalyzer#analyze(ChangedArtifact, long)} by the SHA-256 hash
+ * of the artifact path and the diff content. Cherry-picks, merges, and
+ * reverts repeat the same diffs of build files, which are then parsed only
+ * once.
+ *
+ * The cache has a memory tier, which keeps a bounded number of results and
+ * evicts the least recently used ones, and an optional disk tier, which keeps
+ * all results in a {@link ResultLog} named {@value #LOG_NAME}. The results in
+ * memory count towards a {@link MemoryBudget}; while the budget is exceeded,
+ * the memory tier evicts its results as well. The disk tier does not count
+ * towards the budget: it looks results up through the on-disk hash table of
+ * the log and only keeps the index entries not yet written in memory, which
+ * are bounded by a fixed buffer. As the disk tier is continued by later runs,
+ * the key also covers {@link #FORMAT_VERSION}, which has to be increased
+ * whenever the analyzers produce different results for the same diff.
+ *
+ * Cached results are shared; their lists of library changes are unmodifiable.
+ * All methods are thread-safe.
+ */
+public class ParseCache implements Closeable {
+
+	/**
+	 * The name of the {@link ResultLog} of the disk tier.
+	 */
+	public static final String LOG_NAME = "parsecache";
+
+	/**
+	 * The version of the analyzers and of the encoding of the disk tier.
+	 */
+	static final int FORMAT_VERSION = 5;
+
+	/**
+	 * The size in bytes after which a new segment of the disk tier is started.
+	 */
+	private static final long SEGMENT_SIZE = 64L * 1024 * 1024;
+
+	/**
+	 * The hexadecimal digits for encoding keys.
+	 */
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	/**
+	 * The per-thread state for computing keys.
+	 */
+	private static final ThreadLocal<KeyDigest> KEY_DIGEST = ThreadLocal.withInitial(KeyDigest::new);
+
+	/**
+	 * The memory tier by key in access order; <code>null</code> if disabled.
+	 */
+	private Map<String, BuildFileAnalysisResult> memoryTier;
+
+	/**
+	 * The maximum number of results in the {@link #memoryTier}.
+	 */
+	private int memoryLimit;
+
+	/**
+	 * The budget, which the results in the {@link #memoryTier} count towards.
+	 */
+	private MemoryBudget memoryBudget;
+
+	/**
+	 * The disk tier; <code>null</code> if disabled. Access is synchronized on this
+	 * log.
+	 */
+	private ResultLog diskTier;
+
+	/**
+	 * Construct a new {@link ParseCache}.
+	 *
+	 * @param memoryLimit   the maximum number of results in memory;
+	 *                      <code>0</code> disables the memory tier
+	 * @param diskDirectory the existing directory of the disk tier;
+	 *                      <code>null</code> disables the disk tier
+	 * @throws IOException if opening the disk tier fails
+	 */
+	public ParseCache(int memoryLimit, Path diskDirectory) throws IOException {
+		this(memoryLimit, diskDirectory, MemoryBudget.UNLIMITED);
+	}
+
+	/**
+	 * Construct a new {@link ParseCache}.
+	 *
+	 * @param memoryLimit   the maximum number of results in memory;
+	 *                      <code>0</code> disables the memory tier
+	 * @param diskDirectory the existing directory of the disk tier;
+	 *                      <code>null</code> disables the disk tier
+	 * @param memoryBudget  the budget, which the results in memory count towards
+	 * @throws IOException if opening the disk tier fails
+	 */
+	public ParseCache(int memoryLimit, Path diskDirectory, MemoryBudget memoryBudget) throws IOException {
+		if (memoryLimit > 0) {
+			this.memoryTier = new LinkedHashMap<String, BuildFileAnalysisResult>(16, 0.75f, true);
+		}
+		this.memoryLimit = memoryLimit;
+		this.memoryBudget = memoryBudget;
+		if (diskDirectory != null) {
+			this.diskTier = new ResultLog(diskDirectory, LOG_NAME, SEGMENT_SIZE);
+		}
+	}
+
+	/**
+	 * Returns the cached result for the given artifact or analyzes it with the
+	 * given analyzer and caches the result.
+	 *
+	 * @param artifact the changed build file
+	 * @param analyzer the {@link BuildFileAnalyzer} for the artifact
+	 * @param deadline the {@link System#nanoTime()} at which analyzing the
+	 *                 artifact is aborted or {@link BuildFileAnalyzer#NO_DEADLINE}
+	 * @return the result of analyzing the artifact
+	 * @throws IOException if reading from or writing to the disk tier fails
+	 */
+	public BuildFileAnalysisResult analyze(ChangedArtifact artifact, BuildFileAnalyzer analyzer, long deadline)
+			throws IOException {
+		AnalysisMetrics metrics = AnalysisMetrics.getInstance();
+		String key = computeKey(artifact.getArtifactPath(), artifact.getContent());
+		BuildFileAnalysisResult result = getFromMemory(key);
+		if (result == null && diskTier != null) {
+			byte[] record;
+			synchronized (diskTier) {
+				record = diskTier.read(key);
+			}
+			if (record != null) {
+				result = ResultCodec.decode(artifact.getArtifactPath(), record);
+				result = new BuildFileAnalysisResult(result.getBuildFile(),
+						Collections.unmodifiableList(result.getLibraryChanges()));
+				putInMemory(key, result);
+			}
+		}
+		if (result != null) {
+			metrics.increment(Counter.PARSE_CACHE_HITS);
+		} else {
+			metrics.increment(Counter.PARSE_CACHE_MISSES);
+			BuildFileAnalysisResult analyzed = analyzer.analyze(artifact, deadline);
+			result = new BuildFileAnalysisResult(analyzed.getBuildFile(),
+					Collections.unmodifiableList(analyzed.getLibraryChanges()));
+			putInMemory(key, result);
+			if (diskTier != null) {
+				byte[] record = ResultCodec.encode(result);
+				synchronized (diskTier) {
+					diskTier.append(key, record);
+				}
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (memoryTier != null) {
+			synchronized (memoryTier) {
+				for (BuildFileAnalysisResult result : memoryTier.values()) {
+					memoryBudget.release(MemoryBudget.estimateSize(result));
+				}
+				memoryTier.clear();
+			}
+		}
+		if (diskTier != null) {
+			synchronized (diskTier) {
+				diskTier.close();
+			}
+		}
+	}
+
+	/**
+	 * Returns the result with the given key from the memory tier.
+	 *
+	 * @param key the key of the result
+	 * @return the result or <code>null</code> if it is not in memory
+	 */
+	private BuildFileAnalysisResult getFromMemory(String key) {
+		BuildFileAnalysisResult result = null;
+		if (memoryTier != null) {
+			synchronized (memoryTier) {
+				result = memoryTier.get(key);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Puts the given result in the memory tier and evicts the least recently used
+	 * results while the tier is full or the {@link #memoryBudget} is exceeded.
+	 *
+	 * @param key    the key of the result
+	 * @param result the result
+	 */
+	private void putInMemory(String key, BuildFileAnalysisResult result) {
+		if (memoryTier != null) {
+			synchronized (memoryTier) {
+				BuildFileAnalysisResult replaced = memoryTier.put(key, result);
+				if (replaced != null) {
+					memoryBudget.release(MemoryBudget.estimateSize(replaced));
+				}
+				memoryBudget.reserve(MemoryBudget.estimateSize(result));
+				Iterator<BuildFileAnalysisResult> eldest = memoryTier.values().iterator();
+				while (eldest.hasNext() && (memoryTier.size() > memoryLimit || memoryBudget.isExceeded())) {
+					memoryBudget.release(MemoryBudget.estimateSize(eldest.next()));
+					eldest.remove();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Computes the key of the given artifact path and diff content.
+	 *
+	 * @param artifactPath the path of the build file
+	 * @param content      the lines of the diff
+	 * @return the hexadecimal SHA-256 hash of the {@link #FORMAT_VERSION}, the
+	 *         path, and the lines
+	 */
+	static String computeKey(String artifactPath, List<String> content) {
+		KeyDigest keyDigest = KEY_DIGEST.get();
+		keyDigest.update(FORMAT_VERSION);
+		keyDigest.update(artifactPath);
+		for (String line : content) {
+			keyDigest.update(line);
+		}
+		byte[] hash = keyDigest.digest();
+		char[] key = new char[hash.length * 2];
+		for (int i = 0; i < hash.length; i++) {
+			key[i * 2] = HEX_DIGITS[(hash[i] >> 4) & 0xF];
+			key[i * 2 + 1] = HEX_DIGITS[hash[i] & 0xF];
+		}
+		return new String(key);
+	}
+
+	/**
+	 * Feeds strings to a SHA-256 digest without encoding them into new byte
+	 * arrays. Each string is followed by a separator, which cannot be part of a
+	 * line, so different splits of the same characters yield different keys.
+	 */
+	private static class KeyDigest {
+
+		/**
+		 * The separator following each string.
+		 */
+		private static final char SEPARATOR = '\n';
+
+		/**
+		 * The digest.
+		 */
+		private MessageDigest digest;
+
+		/**
+		 * The buffer collecting the UTF-16 code units to feed to the {@link #digest}.
+		 */
+		private ByteBuffer buffer = ByteBuffer.allocate(8192);
+
+		/**
+		 * Creates the digest.
+		 */
+		private KeyDigest() {
+			try {
+				digest = MessageDigest.getInstance("SHA-256");
+			} catch (NoSuchAlgorithmException e) {
+				// Every Java platform supports SHA-256
+				throw new IllegalStateException(e);
+			}
+		}
+
+		/**
+		 * Feeds the given number.
+		 *
+		 * @param number the number
+		 */
+		private void update(int number) {
+			if (buffer.remaining() < Integer.BYTES) {
+				drain();
+			}
+			buffer.putInt(number);
+		}
+
+		/**
+		 * Feeds the given string followed by the {@link #SEPARATOR}.
+		 *
+		 * @param string the string
+		 */
+		private void update(String string) {
+			for (int i = 0; i <= string.length(); i++) {
+				if (buffer.remaining() < Character.BYTES) {
+					drain();
+				}
+				buffer.putChar(i < string.length() ? string.charAt(i) : SEPARATOR);
+			}
+		}
+
+		/**
+		 * Completes the digest and resets it for the next key.
+		 *
+		 * @return the hash
+		 */
+		private byte[] digest() {
+			drain();
+			return digest.digest();
+		}
+
+		/**
+		 * Feeds the content of the {@link #buffer} to the {@link #digest}.
+		 */
+		private void drain() {
+			buffer.flip();
+			digest.update(buffer);
+			buffer.clear();
+		}
+	}
+
+}
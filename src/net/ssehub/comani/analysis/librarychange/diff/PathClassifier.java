@@ -0,0 +1,164 @@
+package net.ssehub.comani.analysis.librarychange.diff;
+
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Classifies the paths of changed artifacts as code or build files. The regular
+ * expressions are compiled once, so a single instance can be shared read-only by
+ * all {@link LibraryChangeAnalyzer}s, also across threads.
+ * 
+ * Most changed artifacts are no build files at all. Hence, the file name is
+ * first looked up in the {@link BuildFileAnalyzerRegistry}; only if it is
+ * supported, the (more expensive) build file pattern is evaluated.
+ * 
+ * The patterns are matched against a lower case view of the path, which
+ * converts characters while the pattern reads them; neither a lower case copy
+ * of the path nor a new {@link Matcher} is created per artifact.
+ */
+public class PathClassifier {
+
+	/**
+	 * The compiled regular expression identifying code files.
+	 */
+	private final Pattern codeFilePattern;
+
+	/**
+	 * The compiled regular expression identifying build files.
+	 */
+	private final Pattern buildFilePattern;
+
+	/**
+	 * The {@link BuildFileAnalyzerRegistry} providing the analyzers of build files.
+	 */
+	private final BuildFileAnalyzerRegistry registry;
+
+	/**
+	 * The per-thread state for matching paths.
+	 */
+	private final ThreadLocal<PathMatchers> pathMatchers = ThreadLocal.withInitial(PathMatchers::new);
+
+	/**
+	 * Construct a new {@link PathClassifier} using the default
+	 * {@link BuildFileAnalyzerRegistry}.
+	 * 
+	 * @param codeFilesRegex  the regular expression identifying code files
+	 * @param buildFilesRegex the regular expression identifying build files
+	 */
+	public PathClassifier(String codeFilesRegex, String buildFilesRegex) {
+		this(codeFilesRegex, buildFilesRegex, BuildFileAnalyzerRegistry.getDefault());
+	}
+
+	/**
+	 * Construct a new {@link PathClassifier}.
+	 * 
+	 * @param codeFilesRegex  the regular expression identifying code files
+	 * @param buildFilesRegex the regular expression identifying build files
+	 * @param registry        the {@link BuildFileAnalyzerRegistry} providing the
+	 *                        analyzers of build files
+	 */
+	public PathClassifier(String codeFilesRegex, String buildFilesRegex, BuildFileAnalyzerRegistry registry) {
+		this.codeFilePattern = Pattern.compile(codeFilesRegex);
+		this.buildFilePattern = Pattern.compile(buildFilesRegex);
+		this.registry = registry;
+	}
+
+	/**
+	 * Checks whether the given path denotes a build file, which can be analyzed.
+	 * 
+	 * @param artifactPath the path of a changed artifact
+	 * @return <code>true</code> if a {@link BuildFileAnalyzer} exists for the file
+	 *         name and the lower case path matches the build file pattern,
+	 *         <code>false</code> otherwise
+	 */
+	public boolean isBuildFile(String artifactPath) {
+		return getBuildFileAnalyzer(artifactPath) != null;
+	}
+
+	/**
+	 * Returns the analyzer of the given path, if it denotes a build file.
+	 * 
+	 * @param artifactPath the path of a changed artifact
+	 * @return the {@link BuildFileAnalyzer} of the file, if the lower case path
+	 *         matches the build file pattern; <code>null</code> otherwise
+	 */
+	public BuildFileAnalyzer getBuildFileAnalyzer(String artifactPath) {
+		BuildFileAnalyzer analyzer = this.registry.getAnalyzer(artifactPath);
+		if (analyzer != null) {
+			PathMatchers matchers = pathMatchers.get();
+			matchers.path.text = artifactPath;
+			if (!matchers.buildFileMatcher.reset(matchers.path).matches()) {
+				analyzer = null;
+			}
+		}
+		return analyzer;
+	}
+
+	/**
+	 * Checks whether the given path denotes a code file.
+	 * 
+	 * @param artifactPath the path of a changed artifact
+	 * @return <code>true</code> if the lower case path matches the code file
+	 *         pattern, <code>false</code> otherwise
+	 */
+	public boolean isCodeFile(String artifactPath) {
+		PathMatchers matchers = pathMatchers.get();
+		matchers.path.text = artifactPath;
+		return matchers.codeFileMatcher.reset(matchers.path).matches();
+	}
+
+	/**
+	 * The reusable matchers of one thread.
+	 */
+	private class PathMatchers {
+
+		/**
+		 * The lower case view of the path to match.
+		 */
+		private final LowerCaseView path = new LowerCaseView();
+
+		/**
+		 * The matcher of the code file pattern.
+		 */
+		private final Matcher codeFileMatcher = codeFilePattern.matcher("");
+
+		/**
+		 * The matcher of the build file pattern.
+		 */
+		private final Matcher buildFileMatcher = buildFilePattern.matcher("");
+	}
+
+	/**
+	 * A lower case view of a string, which converts each character when it is
+	 * read.
+	 */
+	private static class LowerCaseView implements CharSequence {
+
+		/**
+		 * The viewed string.
+		 */
+		private String text = "";
+
+		@Override
+		public int length() {
+			return text.length();
+		}
+
+		@Override
+		public char charAt(int index) {
+			return Character.toLowerCase(text.charAt(index));
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			return text.substring(start, end).toLowerCase(Locale.ENGLISH);
+		}
+
+		@Override
+		public String toString() {
+			return text.toLowerCase(Locale.ENGLISH);
+		}
+	}
+
+}
@@ -0,0 +1,209 @@
+package net.ssehub.comani.analysis.librarychange.diff;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import net.ssehub.comani.analysis.librarychange.diff.ArtifactError.Reason;
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry;
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry.LibraryInformation;
+
+/**
+ * Encodes results into compact binary records and decodes them again, e.g.,
+ * for the disk tier of the {@link ParseCache} and for results spilled to disk
+ * (see {@link MemoryBudget}). Decoded libraries are the shared instances of the
+ * {@link CoordinateTable}.
+ *
+ * The encoding of a {@link BuildFileAnalysisResult} is part of the disk tier
+ * format of the {@link ParseCache}; changing it requires increasing
+ * {@link ParseCache#FORMAT_VERSION}.
+ */
+public final class ResultCodec {
+
+	private ResultCodec() {
+
+	}
+
+	/**
+	 * Encodes the library changes of the given build file result. The path of
+	 * the build file is not part of the record.
+	 *
+	 * @param result the result to encode
+	 * @return the encoded library changes
+	 */
+	public static byte[] encode(BuildFileAnalysisResult result) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream output = new DataOutputStream(bytes)) {
+			encodeLibraryChanges(result.getLibraryChanges(), output);
+		} catch (IOException e) {
+			// Streams in memory do not fail
+			throw new IllegalStateException(e);
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Decodes a record created by {@link #encode(BuildFileAnalysisResult)}.
+	 *
+	 * @param buildFile the path of the build file
+	 * @param record    the encoded library changes
+	 * @return the result; its list of library changes is modifiable
+	 * @throws IOException if the record is malformed
+	 */
+	public static BuildFileAnalysisResult decode(String buildFile, byte[] record) throws IOException {
+		DataInputStream input = new DataInputStream(new ByteArrayInputStream(record));
+		return new BuildFileAnalysisResult(buildFile, decodeLibraryChanges(input));
+	}
+
+	/**
+	 * Encodes the given result of a commit, including its errors.
+	 *
+	 * @param result the result to encode
+	 * @return the encoded result
+	 */
+	public static byte[] encode(AnalysisResult result) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream output = new DataOutputStream(bytes)) {
+			encodeString(result.getCommitId(), output);
+			output.writeInt(result.getResults().size());
+			for (BuildFileAnalysisResult buildFileResult : result.getResults()) {
+				encodeString(buildFileResult.getBuildFile(), output);
+				encodeLibraryChanges(buildFileResult.getLibraryChanges(), output);
+			}
+			output.writeInt(result.getErrors().size());
+			for (ArtifactError error : result.getErrors()) {
+				encodeString(error.getArtifactPath(), output);
+				output.writeUTF(error.getReason().name());
+				encodeString(error.getMessage(), output);
+			}
+		} catch (IOException e) {
+			// Streams in memory do not fail
+			throw new IllegalStateException(e);
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Decodes a record created by {@link #encode(AnalysisResult)}.
+	 *
+	 * @param record the encoded result
+	 * @return the result
+	 * @throws IOException if the record is malformed
+	 */
+	public static AnalysisResult decode(byte[] record) throws IOException {
+		DataInputStream input = new DataInputStream(new ByteArrayInputStream(record));
+		AnalysisResult result = new AnalysisResult();
+		result.setCommitId(decodeString(input));
+		int buildFiles = input.readInt();
+		for (int i = 0; i < buildFiles; i++) {
+			result.addResult(new BuildFileAnalysisResult(decodeString(input), decodeLibraryChanges(input)));
+		}
+		int errors = input.readInt();
+		for (int i = 0; i < errors; i++) {
+			String artifactPath = decodeString(input);
+			Reason reason;
+			try {
+				reason = Reason.valueOf(input.readUTF());
+			} catch (IllegalArgumentException e) {
+				throw new IOException("Unknown error reason", e);
+			}
+			result.addError(new ArtifactError(artifactPath, reason, decodeString(input)));
+		}
+		return result;
+	}
+
+	/**
+	 * Encodes the given library changes.
+	 *
+	 * @param libraryChanges the library changes
+	 * @param output         the stream to write to
+	 * @throws IOException if writing fails
+	 */
+	private static void encodeLibraryChanges(List<LibraryEntry> libraryChanges, DataOutputStream output)
+			throws IOException {
+		output.writeInt(libraryChanges.size());
+		for (LibraryEntry entry : libraryChanges) {
+			encodeLibrary(entry.getPreviousLibrary(), output);
+			encodeLibrary(entry.getCurrentLibrary(), output);
+		}
+	}
+
+	/**
+	 * Encodes the given library.
+	 *
+	 * @param library the library; may be <code>null</code>
+	 * @param output  the stream to write to
+	 * @throws IOException if writing fails
+	 */
+	static void encodeLibrary(LibraryInformation library, DataOutputStream output) throws IOException {
+		output.writeBoolean(library != null);
+		if (library != null) {
+			encodeString(library.getDependencyType(), output);
+			encodeString(library.getIdentifier(), output);
+			encodeString(library.getGroup(), output);
+			encodeString(library.getVersion(), output);
+		}
+	}
+
+	/**
+	 * Encodes the given string.
+	 *
+	 * @param string the string; may be <code>null</code>
+	 * @param output the stream to write to
+	 * @throws IOException if writing fails
+	 */
+	private static void encodeString(String string, DataOutputStream output) throws IOException {
+		output.writeBoolean(string != null);
+		if (string != null) {
+			output.writeUTF(string);
+		}
+	}
+
+	/**
+	 * Decodes library changes.
+	 *
+	 * @param input the stream to read from
+	 * @return the library changes
+	 * @throws IOException if the record is malformed
+	 */
+	private static List<LibraryEntry> decodeLibraryChanges(DataInputStream input) throws IOException {
+		int size = input.readInt();
+		List<LibraryEntry> libraryChanges = new ArrayList<LibraryEntry>(size);
+		for (int i = 0; i < size; i++) {
+			libraryChanges.add(new LibraryEntry(decodeLibrary(input), decodeLibrary(input)));
+		}
+		return libraryChanges;
+	}
+
+	/**
+	 * Decodes a library.
+	 *
+	 * @param input the stream to read from
+	 * @return the shared instance of the library or <code>null</code>
+	 * @throws IOException if the record is malformed
+	 */
+	static LibraryInformation decodeLibrary(DataInputStream input) throws IOException {
+		LibraryInformation library = null;
+		if (input.readBoolean()) {
+			library = CoordinateTable.getInstance().getLibrary(decodeString(input), decodeString(input),
+					decodeString(input), decodeString(input));
+		}
+		return library;
+	}
+
+	/**
+	 * Decodes a string.
+	 *
+	 * @param input the stream to read from
+	 * @return the string or <code>null</code>
+	 * @throws IOException if the record is malformed
+	 */
+	private static String decodeString(DataInputStream input) throws IOException {
+		return input.readBoolean() ? input.readUTF() : null;
+	}
+
+}
@@ -0,0 +1,555 @@
+package net.ssehub.comani.analysis.librarychange.diff;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry.LibraryInformation;
+import net.ssehub.comani.data.ChangedArtifact;
+
+/**
+ * Analyzes the changes to the libraries declared in Gradle version catalogs,
+ * like <code>gradle/libs.versions.toml</code>. The entries of the
+ * <code>[libraries]</code> table are reported with the dependency type
+ * {@value #DEPENDENCY_TYPE} in the following notations:
+ * <ul>
+ * <li><code>alias = "group:identifier[:version]"</code></li>
+ * <li><code>alias = { module = "group:identifier", version = "version" }</code></li>
+ * <li><code>alias = { group = "group", name = "identifier", version.ref = "key" }</code></li>
+ * </ul>
+ * A rich version, like <code>version = { strictly = "1.0" }</code>, is reported
+ * by its <code>strictly</code>, <code>require</code>, or <code>prefer</code>
+ * constraint. A <code>version.ref</code> is resolved with the
+ * <code>[versions]</code> table, if the referenced key is part of the diff;
+ * otherwise the key is reported as version, like a variable in Gradle build
+ * files (see {@link VersionCatalogResolver}).
+ *
+ * Hunks starting inside a table do not show its header. In such hunks, entries
+ * with module coordinates are considered as libraries and strings without
+ * colon as versions; plugins and bundles are ignored.
+ */
+public class VersionCatalogAnalyzer extends BuildFileAnalyzer {
+
+	/**
+	 * The dependency type of the libraries declared in a catalog, which does not
+	 * define their configuration.
+	 */
+	static final String DEPENDENCY_TYPE = "catalog";
+
+	/**
+	 * The suffix of the supported catalog files.
+	 */
+	private static final String[] FILE_NAMES = { "*.versions.toml" };
+
+	/**
+	 * The constraints of a rich version in the order of their precedence.
+	 */
+	private static final String[] VERSION_CONSTRAINTS = { "strictly", "require", "prefer" };
+
+	@Override
+	public String[] getFileNames() {
+		return FILE_NAMES.clone();
+	}
+
+	@Override
+	public BuildFileAnalysisResult analyze(ChangedArtifact artifact, long deadline) {
+		CatalogScanner oldView = new CatalogScanner();
+		CatalogScanner newView = new CatalogScanner();
+		int lines = 0;
+		for (String line : artifact.getContent()) {
+			checkDeadline(++lines, deadline);
+			scan(line, oldView, newView);
+		}
+		return createResult(artifact.getArtifactPath(), oldView.getLibraries(), newView.getLibraries());
+	}
+
+	/**
+	 * Passes the given line of a catalog diff to the scanners of the views, in
+	 * which it exists.
+	 *
+	 * @param line    the line of the diff
+	 * @param oldView the scanner of the catalog before the commit
+	 * @param newView the scanner of the catalog after the commit
+	 */
+	static void scan(String line, CatalogScanner oldView, CatalogScanner newView) {
+		if (line.startsWith("@@")) {
+			oldView.endHunk();
+			newView.endHunk();
+		} else if (!MavenBuildFileAnalyzer.isDiffHeader(line, oldView.inHunk)) {
+			char marker = line.isEmpty() ? ' ' : line.charAt(0);
+			int start = line.isEmpty() ? 0 : 1;
+			if (marker != '+') {
+				oldView.scan(line, start);
+			}
+			if (marker != '-') {
+				newView.scan(line, start);
+			}
+		}
+	}
+
+	/**
+	 * Converts the given alias of a catalog entry to the accessor used in build
+	 * files, e.g., <code>androidx-core_ktx</code> to
+	 * <code>androidx.core.ktx</code>.
+	 *
+	 * @param alias the alias
+	 * @return the accessor without catalog name
+	 */
+	static String toAccessor(String alias) {
+		return alias.replace('-', '.').replace('_', '.');
+	}
+
+	/**
+	 * A library declared in a catalog. Its version is either given directly or by
+	 * a reference to the <code>[versions]</code> table, which is resolved on
+	 * demand.
+	 */
+	static final class CatalogLibrary {
+
+		/**
+		 * The group of the library.
+		 */
+		private final String group;
+
+		/**
+		 * The identifier (artifact ID) of the library.
+		 */
+		private final String identifier;
+
+		/**
+		 * The version given directly; <code>null</code> if the version is only
+		 * given by a reference or missing.
+		 */
+		private final String version;
+
+		/**
+		 * The key of the version in the <code>[versions]</code> table;
+		 * <code>null</code> if the version is given directly or missing.
+		 */
+		private final String versionRef;
+
+		/**
+		 * Creates a new library of a catalog.
+		 *
+		 * @param group      the group of the library
+		 * @param identifier the identifier of the library
+		 * @param version    the version given directly; may be <code>null</code>
+		 * @param versionRef the key of the version in the <code>[versions]</code>
+		 *                   table; may be <code>null</code>
+		 */
+		private CatalogLibrary(String group, String identifier, String version, String versionRef) {
+			this.group = group;
+			this.identifier = identifier;
+			this.version = version;
+			this.versionRef = versionRef;
+		}
+
+		/**
+		 * Checks whether the version of this library is a reference.
+		 *
+		 * @return <code>true</code> if the version is defined in the
+		 *         <code>[versions]</code> table, <code>false</code> otherwise
+		 */
+		boolean hasVersionRef() {
+			return versionRef != null;
+		}
+
+		/**
+		 * Returns the coordinates of this library.
+		 *
+		 * @param dependencyType the dependency type of the library
+		 * @param versions       the <code>[versions]</code> table by key
+		 * @return the {@link LibraryInformation}; a version reference, which is
+		 *         not defined in the given table, is reported by its key
+		 */
+		LibraryInformation toLibrary(String dependencyType, Map<String, String> versions) {
+			String resolvedVersion = version;
+			if (versionRef != null) {
+				resolvedVersion = versions.getOrDefault(versionRef, versionRef);
+			}
+			return CoordinateTable.getInstance().getLibrary(dependencyType, identifier, group, resolvedVersion);
+		}
+	}
+
+	/**
+	 * Collects the versions and libraries of one view (before or after the commit)
+	 * of a catalog, which is fed line by line. TOML only allows inline tables in
+	 * a single line, so each entry is parsed from its line.
+	 */
+	static class CatalogScanner {
+
+		/**
+		 * The table of hunks, which do not show the current table header.
+		 */
+		private static final int UNKNOWN = 0;
+
+		/**
+		 * The <code>[versions]</code> table.
+		 */
+		private static final int VERSIONS = 1;
+
+		/**
+		 * The <code>[libraries]</code> table.
+		 */
+		private static final int LIBRARIES = 2;
+
+		/**
+		 * Any other table, like <code>[plugins]</code> or <code>[bundles]</code>.
+		 */
+		private static final int OTHER = 3;
+
+		/**
+		 * The found versions by their key.
+		 */
+		Map<String, String> versions = new LinkedHashMap<String, String>();
+
+		/**
+		 * The found libraries by their accessor (see {@link #toAccessor(String)}).
+		 */
+		Map<String, CatalogLibrary> libraries = new LinkedHashMap<String, CatalogLibrary>();
+
+		/**
+		 * The table the scanner is inside of.
+		 */
+		private int table = UNKNOWN;
+
+		/**
+		 * Denotes whether the scanner is inside of a hunk, i.e., past the file
+		 * headers of the diff.
+		 */
+		private boolean inHunk;
+
+		/**
+		 * The line currently parsed.
+		 */
+		private String line;
+
+		/**
+		 * The parse position in the {@link #line}.
+		 */
+		private int index;
+
+		/**
+		 * Ends the current hunk at the header of the next hunk. The following lines
+		 * are scanned without knowing their table.
+		 */
+		void endHunk() {
+			table = UNKNOWN;
+			inHunk = true;
+		}
+
+		/**
+		 * Scans the next line of this view, ignoring its first characters.
+		 *
+		 * @param line  the line to scan
+		 * @param start the index of the first character to scan, e.g., after the
+		 *              diff marker
+		 */
+		void scan(String line, int start) {
+			this.line = line;
+			this.index = start;
+			skipWhitespace();
+			if (index < line.length() && line.charAt(index) == '[') {
+				parseHeader();
+			} else if (index < line.length() && line.charAt(index) != '#' && table != OTHER) {
+				parseEntry();
+			}
+		}
+
+		/**
+		 * Returns the libraries of this view.
+		 *
+		 * @return the libraries by their library ID in the order of their
+		 *         declaration
+		 */
+		LibraryMap getLibraries() {
+			LibraryMap libraryMap = new LibraryMap();
+			for (CatalogLibrary library : libraries.values()) {
+				LibraryInformation libraryInformation = library.toLibrary(DEPENDENCY_TYPE, versions);
+				libraryMap.put(libraryInformation.getLibraryId(), libraryInformation);
+			}
+			return libraryMap;
+		}
+
+		/**
+		 * Parses a table header. Arrays of tables (<code>[[name]]</code>) are no
+		 * part of catalogs and treated as other tables.
+		 */
+		private void parseHeader() {
+			int nameEnd = line.indexOf(']', index);
+			table = OTHER;
+			if (nameEnd > index && line.charAt(index + 1) != '[') {
+				String name = line.substring(index + 1, nameEnd).trim();
+				if (name.equals("versions")) {
+					table = VERSIONS;
+				} else if (name.equals("libraries")) {
+					table = LIBRARIES;
+				}
+			}
+		}
+
+		/**
+		 * Parses an entry <code>key = value</code> of the current table, whose value
+		 * is a string or an inline table. Dotted keys, which aliases cannot have,
+		 * are ignored.
+		 */
+		private void parseEntry() {
+			String key = parseKey();
+			skipWhitespace();
+			if (key != null && key.indexOf('.') < 0 && index < line.length() && line.charAt(index) == '=') {
+				index++;
+				skipWhitespace();
+				if (index < line.length() && (line.charAt(index) == '"' || line.charAt(index) == '\'')) {
+					String value = parseString();
+					if (value != null) {
+						addValue(key, value);
+					}
+				} else if (index < line.length() && line.charAt(index) == '{') {
+					Map<String, String> fields = new HashMap<String, String>();
+					if (parseInlineTable("", fields)) {
+						addInlineTable(key, fields);
+					}
+				}
+			}
+		}
+
+		/**
+		 * Adds an entry with a string value.
+		 *
+		 * @param key   the key of the entry
+		 * @param value the value of the entry
+		 */
+		private void addValue(String key, String value) {
+			int separator = value.indexOf(':');
+			if (table == VERSIONS || (table == UNKNOWN && separator < 0)) {
+				versions.put(key, value);
+			} else if (table == LIBRARIES || value.indexOf(':', separator + 1) >= 0) {
+				// Without table header, only coordinates with version are no plugin "id:version"
+				int versionSeparator = value.indexOf(':', separator + 1);
+				String identifier = versionSeparator < 0 ? value.substring(separator + 1)
+						: value.substring(separator + 1, versionSeparator);
+				String version = versionSeparator < 0 ? null : value.substring(versionSeparator + 1);
+				addLibrary(key, separator < 0 ? null : value.substring(0, separator), identifier, version, null);
+			}
+		}
+
+		/**
+		 * Adds an entry with an inline table as value.
+		 *
+		 * @param key    the key of the entry
+		 * @param fields the values of the inline table by their (dotted) keys
+		 */
+		private void addInlineTable(String key, Map<String, String> fields) {
+			String module = fields.get("module");
+			String group = fields.get("group");
+			String identifier = fields.get("name");
+			if (module != null && module.indexOf(':') >= 0) {
+				group = module.substring(0, module.indexOf(':'));
+				identifier = module.substring(module.indexOf(':') + 1);
+			}
+			if (table == VERSIONS) {
+				String version = getVersion(fields, "");
+				if (version != null) {
+					versions.put(key, version);
+				}
+			} else if (group != null || identifier != null) {
+				String version = fields.get("version");
+				if (version == null) {
+					version = getVersion(fields, "version.");
+				}
+				addLibrary(key, group, identifier, version, fields.get("version.ref"));
+			} else if (table == UNKNOWN && fields.get("id") == null && getVersion(fields, "") != null) {
+				versions.put(key, getVersion(fields, ""));
+			}
+		}
+
+		/**
+		 * Adds a library, if its group and identifier are known.
+		 *
+		 * @param alias      the alias of the library
+		 * @param group      the group; may be <code>null</code>
+		 * @param identifier the identifier; may be <code>null</code>
+		 * @param version    the version; may be <code>null</code>
+		 * @param versionRef the key of the version in the <code>[versions]</code>
+		 *                   table; may be <code>null</code>
+		 */
+		private void addLibrary(String alias, String group, String identifier, String version, String versionRef) {
+			if (group != null && !group.isEmpty() && identifier != null && !identifier.isEmpty()) {
+				libraries.put(toAccessor(alias), new CatalogLibrary(group, identifier,
+						version == null || version.isEmpty() ? null : version, versionRef));
+			}
+		}
+
+		/**
+		 * Returns the constraint of a rich version with the highest precedence.
+		 *
+		 * @param fields the values of the inline table by their (dotted) keys
+		 * @param prefix the prefix of the constraint keys, e.g.,
+		 *               <code>version.</code>
+		 * @return the version or <code>null</code> if the fields contain no
+		 *         constraint
+		 */
+		private static String getVersion(Map<String, String> fields, String prefix) {
+			String version = null;
+			for (int i = 0; i < VERSION_CONSTRAINTS.length && version == null; i++) {
+				version = fields.get(prefix + VERSION_CONSTRAINTS[i]);
+			}
+			return version;
+		}
+
+		/**
+		 * Parses a bare, quoted, or dotted key.
+		 *
+		 * @return the key with its parts joined by dots or <code>null</code> if no
+		 *         key starts at the parse position
+		 */
+		private String parseKey() {
+			StringBuilder key = new StringBuilder();
+			boolean valid = true;
+			boolean next = true;
+			while (valid && next) {
+				skipWhitespace();
+				int partStart = index;
+				if (index < line.length() && (line.charAt(index) == '"' || line.charAt(index) == '\'')) {
+					String part = parseString();
+					valid = part != null;
+					key.append(part);
+				} else {
+					while (index < line.length() && isBareKeyCharacter(line.charAt(index))) {
+						index++;
+					}
+					valid = index > partStart;
+					key.append(line, partStart, index);
+				}
+				skipWhitespace();
+				next = index < line.length() && line.charAt(index) == '.';
+				if (next) {
+					key.append('.');
+					index++;
+				}
+			}
+			return valid ? key.toString() : null;
+		}
+
+		/**
+		 * Parses a basic (double-quoted) or literal (single-quoted) string in a
+		 * single line. Escape sequences of basic strings are reduced to the escaped
+		 * character.
+		 *
+		 * @return the content of the string or <code>null</code> if it is not
+		 *         closed in the line
+		 */
+		private String parseString() {
+			char quote = line.charAt(index);
+			StringBuilder content = new StringBuilder();
+			boolean closed = false;
+			index++;
+			while (index < line.length() && !closed) {
+				char character = line.charAt(index);
+				if (character == quote) {
+					closed = true;
+				} else if (character == '\\' && quote == '"' && index + 1 < line.length()) {
+					content.append(line.charAt(++index));
+				} else {
+					content.append(character);
+				}
+				index++;
+			}
+			return closed ? content.toString().trim() : null;
+		}
+
+		/**
+		 * Parses the inline table at the parse position. Nested inline tables are
+		 * flattened, so <code>version = { strictly = "1.0" }</code> and
+		 * <code>version.strictly = "1.0"</code> result in the same field.
+		 *
+		 * @param prefix the keys of the enclosing tables joined by dots, including
+		 *               a trailing dot, or <code>""</code>
+		 * @param fields the map to add the values to by their dotted keys
+		 * @return <code>true</code> if the table is closed in the line,
+		 *         <code>false</code> otherwise
+		 */
+		private boolean parseInlineTable(String prefix, Map<String, String> fields) {
+			boolean valid = true;
+			boolean closed = false;
+			index++;
+			while (valid && !closed) {
+				skipWhitespace();
+				if (index < line.length() && line.charAt(index) == '}') {
+					closed = true;
+				} else {
+					String key = parseKey();
+					valid = key != null && index < line.length() && line.charAt(index) == '=';
+					if (valid) {
+						index++;
+						skipWhitespace();
+						valid = parseValue(prefix + key, fields);
+						skipWhitespace();
+						if (index < line.length() && line.charAt(index) == ',') {
+							index++;
+						} else {
+							valid &= index < line.length() && line.charAt(index) == '}';
+						}
+					}
+				}
+			}
+			if (closed) {
+				index++;
+			}
+			return closed;
+		}
+
+		/**
+		 * Parses the value of a field of an inline table. Values other than strings
+		 * and inline tables, like numbers, booleans, and arrays, are skipped.
+		 *
+		 * @param key    the dotted key of the field
+		 * @param fields the map to add the value to
+		 * @return <code>true</code> if the value is valid, <code>false</code>
+		 *         otherwise
+		 */
+		private boolean parseValue(String key, Map<String, String> fields) {
+			boolean valid = index < line.length();
+			if (valid && (line.charAt(index) == '"' || line.charAt(index) == '\'')) {
+				String value = parseString();
+				valid = value != null;
+				if (valid) {
+					fields.put(key, value);
+				}
+			} else if (valid && line.charAt(index) == '{') {
+				valid = parseInlineTable(key + ".", fields);
+			} else if (valid && line.charAt(index) == '[') {
+				int arrayEnd = line.indexOf(']', index);
+				valid = arrayEnd >= 0;
+				index = valid ? arrayEnd + 1 : line.length();
+			} else {
+				while (index < line.length() && line.charAt(index) != ',' && line.charAt(index) != '}') {
+					index++;
+				}
+			}
+			return valid;
+		}
+
+		/**
+		 * Moves the parse position behind whitespace.
+		 */
+		private void skipWhitespace() {
+			while (index < line.length() && Character.isWhitespace(line.charAt(index))) {
+				index++;
+			}
+		}
+
+		/**
+		 * Checks whether the given character is allowed in bare keys.
+		 *
+		 * @param character the character to check
+		 * @return <code>true</code> if the character is a letter, digit,
+		 *         underscore, or dash, <code>false</code> otherwise
+		 */
+		private static boolean isBareKeyCharacter(char character) {
+			return (character >= 'a' && character <= 'z') || (character >= 'A' && character <= 'Z')
+					|| (character >= '0' && character <= '9') || character == '_' || character == '-';
+		}
+	}
+
+}
@@ -0,0 +1,379 @@
+package net.ssehub.comani.analysis.librarychange.diff;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry;
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry.LibraryInformation;
+import net.ssehub.comani.analysis.librarychange.diff.VersionCatalogAnalyzer.CatalogLibrary;
+import net.ssehub.comani.analysis.librarychange.diff.VersionCatalogAnalyzer.CatalogScanner;
+import net.ssehub.comani.data.ChangedArtifact;
+import net.ssehub.comani.data.Commit;
+
+/**
+ * Resolves the references to version catalogs in Gradle build files, like
+ * <code>implementation libs.guava</code>, to the coordinates of the referenced
+ * library, based on a cache of the catalog entries seen so far.
+ *
+ * The cache is updated incrementally from the diffs of the catalogs changed by
+ * each commit, like the symbol table of the {@link VersionResolver}, so
+ * catalogs are never parsed again. A catalog named
+ * <code>name.versions.toml</code> applies to the references
+ * <code>name.alias</code> of the build files in the directory containing its
+ * <code>gradle</code> directory (or its own directory) and the subdirectories;
+ * the catalog in the nearest directory wins.
+ *
+ * For each commit, the previous libraries of its library changes are resolved
+ * with the catalogs before the commit and the current libraries with the
+ * catalogs after it. The version references of the libraries of changed
+ * catalogs are resolved as well. If a commit changes a version in the
+ * <code>[versions]</code> table, the libraries referencing it are reported as
+ * version changes of the catalog, even if their own entries are unchanged.
+ *
+ * As the cache reflects the history up to the current commit, the commits must
+ * be passed in the order of the history by a single thread.
+ */
+public class VersionCatalogResolver {
+
+	/**
+	 * The suffix of the names of catalog files.
+	 */
+	private static final String CATALOG_SUFFIX = ".versions.toml";
+
+	/**
+	 * The name of the directory, which contains the catalogs of a build.
+	 */
+	private static final String CATALOG_DIRECTORY = "gradle";
+
+	/**
+	 * The catalogs by the directory of the build they apply to (<code>""</code>
+	 * for the root directory) and their name.
+	 */
+	private Map<String, Map<String, Catalog>> catalogs = new HashMap<String, Map<String, Catalog>>();
+
+	/**
+	 * The catalogs changed by the current commit.
+	 */
+	private List<Catalog> changedCatalogs = new ArrayList<Catalog>();
+
+	/**
+	 * The entries of a catalog.
+	 */
+	private static class Catalog {
+
+		/**
+		 * The versions by their key.
+		 */
+		private Map<String, String> versions = new HashMap<String, String>();
+
+		/**
+		 * The libraries by their accessor.
+		 */
+		private Map<String, CatalogLibrary> libraries = new HashMap<String, CatalogLibrary>();
+
+		/**
+		 * The path of the catalog file.
+		 */
+		private String path;
+
+		/**
+		 * The copy of this catalog before the current commit; <code>null</code> if
+		 * the commit does not change the catalog.
+		 */
+		private Catalog previous;
+
+		/**
+		 * Creates a copy of this catalog.
+		 *
+		 * @return the copy, which is not affected by changes of this catalog
+		 */
+		private Catalog copy() {
+			Catalog copy = new Catalog();
+			copy.versions.putAll(versions);
+			copy.libraries.putAll(libraries);
+			copy.path = path;
+			return copy;
+		}
+
+		/**
+		 * Returns the state of this catalog before or after the current commit.
+		 *
+		 * @param before <code>true</code> to return the state before the commit,
+		 *               <code>false</code> to return the state after it
+		 * @return this catalog or its {@link #previous} copy
+		 */
+		private Catalog getState(boolean before) {
+			return before && previous != null ? previous : this;
+		}
+	}
+
+	/**
+	 * Updates the cache with the catalog entries changed by the given commit and
+	 * resolves the catalog references in the given result of that commit.
+	 *
+	 * @param commit the analyzed {@link Commit}
+	 * @param result the {@link AnalysisResult} of the commit, which is updated
+	 */
+	public void analyze(Commit commit, AnalysisResult result) {
+		for (Catalog catalog : changedCatalogs) {
+			catalog.previous = null;
+		}
+		changedCatalogs.clear();
+		for (ChangedArtifact artifact : commit.getChangedArtifacts()) {
+			if (isCatalog(artifact.getArtifactPath()) && !result.hasError(artifact.getArtifactPath())) {
+				updateCatalog(artifact.getArtifactPath(), artifact.getContent());
+			}
+		}
+		List<BuildFileAnalysisResult> buildFileResults = new ArrayList<BuildFileAnalysisResult>(result.getResults());
+		for (BuildFileAnalysisResult buildFileResult : buildFileResults) {
+			BuildFileAnalysisResult resolvedResult = resolve(buildFileResult);
+			if (resolvedResult != buildFileResult) {
+				result.replaceResult(resolvedResult);
+			}
+		}
+		for (Catalog catalog : changedCatalogs) {
+			addVersionChanges(result, catalog);
+		}
+	}
+
+	/**
+	 * Applies the entries in the given diff of a catalog to the cache. Entries
+	 * only removed by the diff are deleted and entries added by the diff replace
+	 * earlier ones.
+	 *
+	 * @param catalogPath the path of the catalog file
+	 * @param diff        the lines of the diff
+	 */
+	private void updateCatalog(String catalogPath, List<String> diff) {
+		CatalogScanner oldView = new CatalogScanner();
+		CatalogScanner newView = new CatalogScanner();
+		for (String line : diff) {
+			VersionCatalogAnalyzer.scan(line, oldView, newView);
+		}
+		Map<String, Catalog> scope = catalogs.computeIfAbsent(getBuildDirectory(catalogPath),
+				key -> new HashMap<String, Catalog>());
+		Catalog catalog = scope.computeIfAbsent(getCatalogName(catalogPath), key -> new Catalog());
+		if (catalog.previous == null) {
+			catalog.previous = catalog.copy();
+			changedCatalogs.add(catalog);
+		}
+		catalog.path = catalogPath;
+		for (String key : oldView.versions.keySet()) {
+			if (!newView.versions.containsKey(key)) {
+				catalog.versions.remove(key);
+			}
+		}
+		catalog.versions.putAll(newView.versions);
+		for (String accessor : oldView.libraries.keySet()) {
+			if (!newView.libraries.containsKey(accessor)) {
+				catalog.libraries.remove(accessor);
+			}
+		}
+		catalog.libraries.putAll(newView.libraries);
+	}
+
+	/**
+	 * Resolves the library changes in the given result.
+	 *
+	 * @param buildFileResult the result of a build file or catalog
+	 * @return the given result, if nothing was resolved, or a new result with the
+	 *         resolved libraries
+	 */
+	private BuildFileAnalysisResult resolve(BuildFileAnalysisResult buildFileResult) {
+		String path = buildFileResult.getBuildFile();
+		boolean catalogResult = isCatalog(path);
+		List<LibraryEntry> libraryChanges = buildFileResult.getLibraryChanges();
+		List<LibraryEntry> resolvedChanges = null;
+		for (int i = 0; i < libraryChanges.size(); i++) {
+			LibraryEntry entry = libraryChanges.get(i);
+			LibraryInformation previousLibrary;
+			LibraryInformation currentLibrary;
+			if (catalogResult) {
+				previousLibrary = resolveVersion(entry.getPreviousLibrary(), path, true);
+				currentLibrary = resolveVersion(entry.getCurrentLibrary(), path, false);
+			} else {
+				previousLibrary = resolveReference(entry.getPreviousLibrary(), path, true);
+				currentLibrary = resolveReference(entry.getCurrentLibrary(), path, false);
+			}
+			if (resolvedChanges == null && (previousLibrary != entry.getPreviousLibrary()
+					|| currentLibrary != entry.getCurrentLibrary())) {
+				resolvedChanges = new ArrayList<LibraryEntry>(libraryChanges.subList(0, i));
+			}
+			if (resolvedChanges != null) {
+				resolvedChanges.add(new LibraryEntry(previousLibrary, currentLibrary));
+			}
+		}
+		return resolvedChanges == null ? buildFileResult : new BuildFileAnalysisResult(path, resolvedChanges);
+	}
+
+	/**
+	 * Resolves a library of a catalog, whose version is the key of a version
+	 * reference, which was not part of the diff.
+	 *
+	 * @param library     the library; may be <code>null</code>
+	 * @param catalogPath the path of the catalog declaring the library
+	 * @param before      <code>true</code> to use the catalog before the current
+	 *                    commit, <code>false</code> to use the catalog after it
+	 * @return the given library, if its version is no known key, or the library
+	 *         with the resolved version
+	 */
+	private LibraryInformation resolveVersion(LibraryInformation library, String catalogPath, boolean before) {
+		LibraryInformation resolvedLibrary = library;
+		Map<String, Catalog> scope = catalogs.get(getBuildDirectory(catalogPath));
+		Catalog catalog = scope != null ? scope.get(getCatalogName(catalogPath)) : null;
+		if (library != null && library.getVersion() != null && catalog != null) {
+			catalog = catalog.getState(before);
+			String version = catalog.versions.get(library.getVersion());
+			if (version != null) {
+				resolvedLibrary = CoordinateTable.getInstance().getLibrary(library.getDependencyType(),
+						library.getIdentifier(), library.getGroup(), version);
+			}
+		}
+		return resolvedLibrary;
+	}
+
+	/**
+	 * Resolves a reference to a catalog, which the Gradle build file analyzer
+	 * reports with the catalog name as group, the accessor as identifier, and
+	 * without version.
+	 *
+	 * @param library   the library; may be <code>null</code>
+	 * @param buildFile the path of the build file declaring the library
+	 * @param before    <code>true</code> to use the catalogs before the current
+	 *                  commit, <code>false</code> to use the catalogs after it
+	 * @return the given library, if it is no reference to a known catalog entry,
+	 *         or the referenced library with the dependency type of the given one
+	 */
+	private LibraryInformation resolveReference(LibraryInformation library, String buildFile, boolean before) {
+		LibraryInformation resolvedLibrary = library;
+		if (library != null && library.getVersion() == null && library.getGroup() != null) {
+			String directory = getDirectory(buildFile);
+			Catalog catalog = null;
+			boolean found = false;
+			while (!found) {
+				Map<String, Catalog> scope = catalogs.get(directory);
+				catalog = scope != null ? scope.get(library.getGroup()) : null;
+				found = catalog != null || directory.isEmpty();
+				directory = getDirectory(directory);
+			}
+			CatalogLibrary catalogLibrary = null;
+			if (catalog != null) {
+				catalog = catalog.getState(before);
+				catalogLibrary = catalog.libraries.get(library.getIdentifier());
+			}
+			if (catalogLibrary != null) {
+				resolvedLibrary = catalogLibrary.toLibrary(library.getDependencyType(), catalog.versions);
+			}
+		}
+		return resolvedLibrary;
+	}
+
+	/**
+	 * Adds a version change to the result of the given catalog for each library,
+	 * whose version reference resolves differently before and after the current
+	 * commit and which is not already part of the result.
+	 *
+	 * @param result  the {@link AnalysisResult} of the current commit
+	 * @param catalog the catalog changed by the current commit
+	 */
+	private void addVersionChanges(AnalysisResult result, Catalog catalog) {
+		Catalog previousCatalog = catalog.previous;
+		BuildFileAnalysisResult catalogResult = null;
+		for (BuildFileAnalysisResult candidate : result.getResults()) {
+			if (candidate.getBuildFile().equals(catalog.path)) {
+				catalogResult = candidate;
+			}
+		}
+		List<LibraryEntry> versionChanges = null;
+		for (Map.Entry<String, CatalogLibrary> entry : catalog.libraries.entrySet()) {
+			CatalogLibrary previousEntry = previousCatalog.libraries.get(entry.getKey());
+			if (previousEntry != null && (entry.getValue().hasVersionRef() || previousEntry.hasVersionRef())) {
+				LibraryInformation previousLibrary = previousEntry.toLibrary(VersionCatalogAnalyzer.DEPENDENCY_TYPE,
+						previousCatalog.versions);
+				LibraryInformation currentLibrary = entry.getValue().toLibrary(VersionCatalogAnalyzer.DEPENDENCY_TYPE,
+						catalog.versions);
+				if (!previousLibrary.equals(currentLibrary) && !isChanged(catalogResult, previousLibrary)
+						&& !isChanged(catalogResult, currentLibrary)) {
+					if (versionChanges == null) {
+						versionChanges = new ArrayList<LibraryEntry>();
+					}
+					versionChanges.add(new LibraryEntry(previousLibrary, currentLibrary));
+				}
+			}
+		}
+		if (versionChanges != null) {
+			result.addLibraryChanges(catalog.path, versionChanges);
+		}
+	}
+
+	/**
+	 * Checks whether the given result contains a change of the given library.
+	 *
+	 * @param buildFileResult the result of a catalog; may be <code>null</code>
+	 * @param library         the library
+	 * @return <code>true</code> if the result contains the library,
+	 *         <code>false</code> otherwise
+	 */
+	private static boolean isChanged(BuildFileAnalysisResult buildFileResult, LibraryInformation library) {
+		boolean changed = false;
+		if (buildFileResult != null) {
+			for (LibraryEntry entry : buildFileResult.getLibraryChanges()) {
+				changed |= library.isSameLibrary(entry.getPreviousLibrary())
+						|| library.isSameLibrary(entry.getCurrentLibrary());
+			}
+		}
+		return changed;
+	}
+
+	/**
+	 * Checks whether the given path denotes a catalog file.
+	 *
+	 * @param path the path of a changed artifact
+	 * @return <code>true</code> if the file name ends with
+	 *         {@link #CATALOG_SUFFIX}, <code>false</code> otherwise
+	 */
+	private static boolean isCatalog(String path) {
+		return path.length() > CATALOG_SUFFIX.length() && path.regionMatches(true,
+				path.length() - CATALOG_SUFFIX.length(), CATALOG_SUFFIX, 0, CATALOG_SUFFIX.length());
+	}
+
+	/**
+	 * Returns the name of the given catalog, by which build files reference it.
+	 *
+	 * @param catalogPath the path of the catalog file
+	 * @return the file name without {@link #CATALOG_SUFFIX}
+	 */
+	private static String getCatalogName(String catalogPath) {
+		return catalogPath.substring(catalogPath.lastIndexOf('/') + 1, catalogPath.length() - CATALOG_SUFFIX.length());
+	}
+
+	/**
+	 * Returns the directory of the build, to which the given catalog applies.
+	 *
+	 * @param catalogPath the path of the catalog file
+	 * @return the parent of the {@link #CATALOG_DIRECTORY} containing the
+	 *         catalog or the directory of the catalog
+	 */
+	private static String getBuildDirectory(String catalogPath) {
+		String directory = getDirectory(catalogPath);
+		if (directory.equals(CATALOG_DIRECTORY) || directory.endsWith("/" + CATALOG_DIRECTORY)) {
+			directory = getDirectory(directory);
+		}
+		return directory;
+	}
+
+	/**
+	 * Returns the directory of the given path.
+	 *
+	 * @param path the path of a file or directory
+	 * @return the path up to the last slash or <code>""</code> if the path has no
+	 *         parent directory
+	 */
+	private static String getDirectory(String path) {
+		int separator = path.lastIndexOf('/');
+		return separator < 0 ? "" : path.substring(0, separator);
+	}
+
+}
@@ -0,0 +1,888 @@
+package net.ssehub.comani.analysis.librarychange.diff;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry;
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry.LibraryInformation;
+import net.ssehub.comani.data.ChangedArtifact;
+import net.ssehub.comani.data.Commit;
+
+/**
+ * Resolves property references in the versions of libraries, like
+ * <code>${springVersion}</code> or <code>$kotlin_version</code>, based on a
+ * symbol table of the property definitions seen so far. Versions without
+ * <code>$</code>, like <code>RELEASE</code>, are no references.
+ *
+ * The symbol table is updated incrementally from the diffs of each commit:
+ * <ul>
+ * <li><code>gradle.properties</code>: <code>key=value</code> and
+ * <code>key: value</code></li>
+ * <li><code>build.gradle</code> and <code>build.gradle.kts</code>: assignments
+ * in <code>ext { }</code> blocks, <code>ext.key = value</code>,
+ * <code>ext["key"] = value</code>, <code>ext.set("key", value)</code> (or
+ * <code>extra</code> instead of <code>ext</code>), and <code>val key = value</code>
+ * or <code>val key by extra(value)</code>; a single-line map as value defines
+ * <code>key.entry</code> for each entry</li>
+ * <li><code>pom.xml</code>: the elements of the <code>&lt;properties&gt;</code>
+ * section; single-line elements in a hunk, which does not show whether it is
+ * inside that section, are considered as properties, if the hunk contains no
+ * other element and they are no fields of a dependency or plugin</li>
+ * </ul>
+ * A definition applies to the build files in the directory of the defining file
+ * and its subdirectories; the definition in the nearest directory wins. Hence,
+ * the properties of a root project or parent POM apply to all modules.
+ *
+ * For each commit, the previous versions of its library changes are resolved
+ * with the definitions before the commit and the current versions with the
+ * definitions after it. In addition, each library with a property reference
+ * seen in earlier commits is resolved again, if the commit changes the
+ * definition of a property it references, directly or through other
+ * definitions. The libraries are indexed by the properties they reference, so
+ * only these libraries are resolved again. A changed result is reported as
+ * version change of the build file declaring the library, even if the commit
+ * does not change that build file.
+ *
+ * As the symbol table reflects the history up to the current commit, the
+ * commits must be passed in the order of the history by a single thread.
+ */
+public class VersionResolver {
+
+	/**
+	 * The maximum number of nested references resolved in a single version, which
+	 * prevents endless recursion for cyclic definitions.
+	 */
+	private static final int MAX_RESOLUTION_DEPTH = 8;
+
+	/**
+	 * The prefixes of qualified references removed before the lookup.
+	 */
+	private static final String[] REFERENCE_PREFIXES = { "rootProject.ext.", "project.ext.", "rootProject.extra.",
+			"project.extra.", "rootProject.", "project.", "ext.", "extra." };
+
+	/**
+	 * The fields of dependencies and plugins, which are not considered as
+	 * properties in POM hunks without section context.
+	 */
+	private static final String[] POM_FIELDS = { "groupId", "artifactId", "version", "scope", "type", "classifier",
+			"optional", "systemPath", "extensions", "inherited" };
+
+	/**
+	 * A line of a properties file.
+	 */
+	private static final Pattern PROPERTY_DEFINITION = Pattern.compile("^\\s*([^#!\\s=:][^=:\\s]*)\\s*[=:]\\s*(.*)$");
+
+	/**
+	 * An assignment to an extra property outside of an <code>ext</code> block.
+	 */
+	private static final Pattern EXTRA_ASSIGNMENT = Pattern.compile("^\\s*(?:(?:rootProject|project)\\.)?(?:ext|extra)"
+			+ "(?:\\.(\\w+)|\\[\\s*[\"']([\\w.\\-]+)[\"']\\s*\\])\\s*=\\s*(.+)$");
+
+	/**
+	 * A call of <code>set</code> defining an extra property, inside or outside of
+	 * an <code>ext</code> block.
+	 */
+	private static final Pattern EXTRA_SET = Pattern.compile("^\\s*(?:(?:(?:rootProject|project)\\.)?(?:ext|extra)\\.)?"
+			+ "set\\(\\s*[\"']([\\w.\\-]+)[\"']\\s*,\\s*(.+)\\)\\s*;?$");
+
+	/**
+	 * A variable of the Kotlin DSL.
+	 */
+	private static final Pattern KOTLIN_VARIABLE = Pattern
+			.compile("^\\s*val\\s+(\\w+)(?:\\s*:\\s*\\w+)?\\s*(?:=\\s*(.+)|by\\s+extra\\((.+)\\))\\s*$");
+
+	/**
+	 * An assignment inside of an <code>ext</code> block.
+	 */
+	private static final Pattern BLOCK_ASSIGNMENT = Pattern.compile("^\\s*(\\w+)\\s*=\\s*(.+)$");
+
+	/**
+	 * The start of an <code>ext</code> block.
+	 */
+	private static final Pattern EXT_BLOCK_START = Pattern.compile("(?:^|[^\\w.])ext\\s*\\{");
+
+	/**
+	 * An entry of a single-line map, like <code>[spring: '5.0', junit: '4.12']</code>.
+	 */
+	private static final Pattern MAP_ENTRY = Pattern.compile("[\"']?(\\w+)[\"']?\\s*:\\s*([\"'][^\"']*[\"']|[\\w.\\-]+)");
+
+	/**
+	 * An element of a POM in a single line, like
+	 * <code>&lt;spring.version&gt;5.0&lt;/spring.version&gt;</code>.
+	 */
+	private static final Pattern POM_PROPERTY = Pattern.compile("^\\s*<([\\w.\\-]+)>([^<]*)</\\1>\\s*$");
+
+	/**
+	 * The definitions of properties by name and by the directory of the defining
+	 * file (<code>""</code> for the root directory).
+	 */
+	private Map<String, Map<String, String>> definitions = new HashMap<String, Map<String, String>>();
+
+	/**
+	 * The values of the definitions changed by the current commit before that
+	 * commit by name and directory; a <code>null</code> value denotes a property,
+	 * which was not defined.
+	 */
+	private Map<String, Map<String, String>> previousDefinitions = new HashMap<String, Map<String, String>>();
+
+	/**
+	 * The libraries with a property reference in their version by the path of the
+	 * declaring build file.
+	 */
+	private Map<String, LibraryMap> usages = new HashMap<String, LibraryMap>();
+
+	/**
+	 * The libraries of {@link #usages} by the names of the properties referenced
+	 * in their version and by the path of the declaring build file, in the order
+	 * of their first occurrence.
+	 */
+	private Map<String, Map<String, LibraryMap>> usagesByReference = new HashMap<String, Map<String, LibraryMap>>();
+
+	/**
+	 * The names of the properties, whose definitions reference a property, by the
+	 * name of the referenced property. Names are not removed, if a definition
+	 * changes, which at most resolves a few libraries again without need.
+	 */
+	private Map<String, Set<String>> referencingDefinitions = new HashMap<String, Set<String>>();
+
+	/**
+	 * Updates the symbol table with the definitions changed by the given commit
+	 * and resolves the property references in the given result of that commit.
+	 *
+	 * @param commit the analyzed {@link Commit}
+	 * @param result the {@link AnalysisResult} of the commit, which is updated
+	 */
+	public void analyze(Commit commit, AnalysisResult result) {
+		previousDefinitions.clear();
+		for (ChangedArtifact artifact : commit.getChangedArtifacts()) {
+			int fileType = DefinitionScanner.getFileType(artifact.getArtifactName());
+			// Build files, which could not be analyzed, may exceed the budget here as well
+			if (fileType != DefinitionScanner.NONE && !result.hasError(artifact.getArtifactPath())) {
+				updateDefinitions(getDirectory(artifact.getArtifactPath()), artifact.getContent(), fileType);
+			}
+		}
+		List<BuildFileAnalysisResult> buildFileResults = new ArrayList<BuildFileAnalysisResult>(result.getResults());
+		for (BuildFileAnalysisResult buildFileResult : buildFileResults) {
+			BuildFileAnalysisResult resolvedResult = resolve(buildFileResult);
+			if (resolvedResult != buildFileResult) {
+				result.replaceResult(resolvedResult);
+			}
+			updateUsages(buildFileResult);
+		}
+		Set<String> changedProperties = getChangedProperties();
+		if (!changedProperties.isEmpty()) {
+			addUsageChanges(result, buildFileResults, changedProperties);
+		}
+	}
+
+	/**
+	 * Applies the definitions in the given diff of a file to the symbol table.
+	 * Definitions only removed by the diff are deleted, definitions added by the
+	 * diff replace earlier ones, and definitions in context lines confirm the
+	 * value before the commit.
+	 *
+	 * @param directory the directory of the defining file
+	 * @param diff      the lines of the diff
+	 * @param fileType  the type of the file as defined by
+	 *                  {@link DefinitionScanner}
+	 */
+	private void updateDefinitions(String directory, List<String> diff, int fileType) {
+		DefinitionScanner oldView = new DefinitionScanner(fileType);
+		DefinitionScanner newView = new DefinitionScanner(fileType);
+		boolean inHunk = false;
+		for (String line : diff) {
+			if (line.startsWith("@@")) {
+				oldView.endHunk();
+				newView.endHunk();
+				inHunk = true;
+			} else if (!MavenBuildFileAnalyzer.isDiffHeader(line, inHunk)) {
+				char marker = line.isEmpty() ? ' ' : line.charAt(0);
+				String text = line.isEmpty() ? line : line.substring(1);
+				if (marker != '+') {
+					oldView.scan(text);
+				}
+				if (marker != '-') {
+					newView.scan(text);
+				}
+			}
+		}
+		oldView.endHunk();
+		newView.endHunk();
+		Map<String, String> scope = definitions.computeIfAbsent(directory, key -> new HashMap<String, String>());
+		Map<String, String> previousScope = previousDefinitions.computeIfAbsent(directory,
+				key -> new HashMap<String, String>());
+		for (Map.Entry<String, String> definition : oldView.definitions.entrySet()) {
+			previousScope.putIfAbsent(definition.getKey(), definition.getValue());
+			if (!newView.definitions.containsKey(definition.getKey())) {
+				scope.remove(definition.getKey());
+			}
+		}
+		for (Map.Entry<String, String> definition : newView.definitions.entrySet()) {
+			if (!previousScope.containsKey(definition.getKey())) {
+				previousScope.put(definition.getKey(), scope.get(definition.getKey()));
+			}
+			scope.put(definition.getKey(), definition.getValue());
+			for (String reference : getReferences(definition.getValue())) {
+				referencingDefinitions.computeIfAbsent(reference, key -> new HashSet<String>())
+						.add(definition.getKey());
+			}
+		}
+	}
+
+	/**
+	 * Returns the names of the properties, whose value the current commit changed
+	 * in any directory, including the properties defined by references to them.
+	 *
+	 * @return the names of the changed properties; empty if no value changed
+	 */
+	private Set<String> getChangedProperties() {
+		Set<String> changedProperties = new LinkedHashSet<String>();
+		for (Map.Entry<String, Map<String, String>> previousScope : previousDefinitions.entrySet()) {
+			Map<String, String> scope = definitions.get(previousScope.getKey());
+			for (Map.Entry<String, String> previous : previousScope.getValue().entrySet()) {
+				String current = scope.get(previous.getKey());
+				if (current == null ? previous.getValue() != null : !current.equals(previous.getValue())) {
+					changedProperties.add(previous.getKey());
+				}
+			}
+		}
+		List<String> pending = new ArrayList<String>(changedProperties);
+		while (!pending.isEmpty()) {
+			Set<String> referencing = referencingDefinitions.get(pending.remove(pending.size() - 1));
+			if (referencing != null) {
+				for (String name : referencing) {
+					if (changedProperties.add(name)) {
+						pending.add(name);
+					}
+				}
+			}
+		}
+		return changedProperties;
+	}
+
+	/**
+	 * Resolves the versions of the library changes in the given result.
+	 *
+	 * @param buildFileResult the result of a build file
+	 * @return the given result, if no version was resolved, or a new result with
+	 *         the resolved versions
+	 */
+	private BuildFileAnalysisResult resolve(BuildFileAnalysisResult buildFileResult) {
+		String directory = getDirectory(buildFileResult.getBuildFile());
+		List<LibraryEntry> libraryChanges = buildFileResult.getLibraryChanges();
+		List<LibraryEntry> resolvedChanges = null;
+		for (int i = 0; i < libraryChanges.size(); i++) {
+			LibraryEntry entry = libraryChanges.get(i);
+			LibraryInformation previousLibrary = resolve(entry.getPreviousLibrary(), directory, true);
+			LibraryInformation currentLibrary = resolve(entry.getCurrentLibrary(), directory, false);
+			if (resolvedChanges == null && (previousLibrary != entry.getPreviousLibrary()
+					|| currentLibrary != entry.getCurrentLibrary())) {
+				resolvedChanges = new ArrayList<LibraryEntry>(libraryChanges.subList(0, i));
+			}
+			if (resolvedChanges != null) {
+				resolvedChanges.add(new LibraryEntry(previousLibrary, currentLibrary));
+			}
+		}
+		return resolvedChanges == null ? buildFileResult
+				: new BuildFileAnalysisResult(buildFileResult.getBuildFile(), resolvedChanges);
+	}
+
+	/**
+	 * Records the libraries with property references of the given (unresolved)
+	 * result as usages of its build file.
+	 *
+	 * @param buildFileResult the result of a build file
+	 */
+	private void updateUsages(BuildFileAnalysisResult buildFileResult) {
+		String buildFile = buildFileResult.getBuildFile();
+		for (LibraryEntry entry : buildFileResult.getLibraryChanges()) {
+			LibraryInformation previousLibrary = entry.getPreviousLibrary();
+			LibraryInformation currentLibrary = entry.getCurrentLibrary();
+			if (previousLibrary != null) {
+				removeUsage(buildFile, previousLibrary.getLibraryId());
+			}
+			if (currentLibrary != null && hasReference(currentLibrary.getVersion())) {
+				removeUsage(buildFile, currentLibrary.getLibraryId());
+				usages.computeIfAbsent(buildFile, key -> new LibraryMap()).put(currentLibrary.getLibraryId(),
+						currentLibrary);
+				for (String reference : getReferences(currentLibrary.getVersion())) {
+					usagesByReference.computeIfAbsent(reference, key -> new LinkedHashMap<String, LibraryMap>())
+							.computeIfAbsent(buildFile, key -> new LibraryMap())
+							.put(currentLibrary.getLibraryId(), currentLibrary);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Removes the usage of the given library in the given build file from the
+	 * {@link #usages} and their index.
+	 *
+	 * @param buildFile the path of the build file
+	 * @param libraryId the library ID of the library
+	 */
+	private void removeUsage(String buildFile, int libraryId) {
+		LibraryMap buildFileUsages = usages.get(buildFile);
+		LibraryInformation library = buildFileUsages != null ? buildFileUsages.get(libraryId) : null;
+		if (library != null) {
+			buildFileUsages.remove(libraryId);
+			if (buildFileUsages.size() == 0) {
+				usages.remove(buildFile);
+			}
+			for (String reference : getReferences(library.getVersion())) {
+				Map<String, LibraryMap> referenceUsages = usagesByReference.get(reference);
+				LibraryMap referenceBuildFileUsages = referenceUsages.get(buildFile);
+				referenceBuildFileUsages.remove(libraryId);
+				if (referenceBuildFileUsages.size() == 0) {
+					referenceUsages.remove(buildFile);
+				}
+				if (referenceUsages.isEmpty()) {
+					usagesByReference.remove(reference);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Adds a version change to the given result for each known usage of a changed
+	 * property, which is resolved differently before and after the current commit
+	 * and not already part of the result.
+	 *
+	 * @param result            the {@link AnalysisResult} of the current commit
+	 * @param buildFileResults  the (unresolved) results of the build files
+	 *                          changed by the commit
+	 * @param changedProperties the names of the properties changed by the commit
+	 */
+	private void addUsageChanges(AnalysisResult result, List<BuildFileAnalysisResult> buildFileResults,
+			Set<String> changedProperties) {
+		Map<String, LibraryMap> changedUsages = new LinkedHashMap<String, LibraryMap>();
+		for (String name : changedProperties) {
+			Map<String, LibraryMap> referenceUsages = usagesByReference.get(name);
+			if (referenceUsages != null) {
+				for (Map.Entry<String, LibraryMap> buildFileUsages : referenceUsages.entrySet()) {
+					changedUsages.computeIfAbsent(buildFileUsages.getKey(), key -> new LibraryMap())
+							.putAll(buildFileUsages.getValue());
+				}
+			}
+		}
+		for (Map.Entry<String, LibraryMap> buildFileUsages : changedUsages.entrySet()) {
+			String buildFile = buildFileUsages.getKey();
+			String directory = getDirectory(buildFile);
+			BuildFileAnalysisResult buildFileResult = null;
+			for (BuildFileAnalysisResult candidate : buildFileResults) {
+				if (candidate.getBuildFile().equals(buildFile)) {
+					buildFileResult = candidate;
+				}
+			}
+			List<LibraryEntry> usageChanges = null;
+			LibraryMap libraries = buildFileUsages.getValue();
+			for (int position = 0; position < libraries.positions(); position++) {
+				LibraryInformation library = libraries.valueAt(position);
+				if (library != null && !isChanged(buildFileResult, library)) {
+					LibraryInformation previousLibrary = resolve(library, directory, true);
+					LibraryInformation currentLibrary = resolve(library, directory, false);
+					if (!previousLibrary.equals(currentLibrary)) {
+						if (usageChanges == null) {
+							usageChanges = new ArrayList<LibraryEntry>();
+						}
+						usageChanges.add(new LibraryEntry(previousLibrary, currentLibrary));
+					}
+				}
+			}
+			if (usageChanges != null) {
+				result.addLibraryChanges(buildFile, usageChanges);
+			}
+		}
+	}
+
+	/**
+	 * Checks whether the given result contains a change of the given library.
+	 *
+	 * @param buildFileResult the result of a build file; may be
+	 *                        <code>null</code>
+	 * @param library         the library
+	 * @return <code>true</code> if the result contains the library,
+	 *         <code>false</code> otherwise
+	 */
+	private static boolean isChanged(BuildFileAnalysisResult buildFileResult, LibraryInformation library) {
+		boolean changed = false;
+		if (buildFileResult != null) {
+			for (LibraryEntry entry : buildFileResult.getLibraryChanges()) {
+				changed |= library.isSameLibrary(entry.getPreviousLibrary())
+						|| library.isSameLibrary(entry.getCurrentLibrary());
+			}
+		}
+		return changed;
+	}
+
+	/**
+	 * Resolves the version of the given library.
+	 *
+	 * @param library   the library; may be <code>null</code>
+	 * @param directory the directory of the declaring build file
+	 * @param before    <code>true</code> to use the definitions before the
+	 *                  current commit, <code>false</code> to use the definitions
+	 *                  after it
+	 * @return the given library, if its version contains no resolvable reference,
+	 *         or the library with the resolved version
+	 */
+	private LibraryInformation resolve(LibraryInformation library, String directory, boolean before) {
+		LibraryInformation resolvedLibrary = library;
+		if (library != null && hasReference(library.getVersion())) {
+			String version = resolveValue(library.getVersion(), directory, before, 0);
+			if (!version.equals(library.getVersion())) {
+				resolvedLibrary = CoordinateTable.getInstance().getLibrary(library.getDependencyType(),
+						library.getIdentifier(), library.getGroup(), version);
+			}
+		}
+		return resolvedLibrary;
+	}
+
+	/**
+	 * Replaces the references in the given value by the values of their
+	 * definitions. References without definition are kept.
+	 *
+	 * @param value     the value
+	 * @param directory the directory of the file containing the value
+	 * @param before    <code>true</code> to use the definitions before the
+	 *                  current commit, <code>false</code> to use the definitions
+	 *                  after it
+	 * @param depth     the number of enclosing resolutions
+	 * @return the resolved value
+	 */
+	private String resolveValue(String value, String directory, boolean before, int depth) {
+		String resolvedValue = value;
+		if (depth < MAX_RESOLUTION_DEPTH && value.indexOf('$') >= 0) {
+			StringBuilder builder = new StringBuilder(value.length());
+			int index = 0;
+			while (index < value.length()) {
+				int[] reference = value.charAt(index) == '$' ? findReference(value, index) : null;
+				String definition = null;
+				if (reference != null) {
+					definition = lookup(value.substring(reference[0], reference[1]), directory, before);
+				}
+				if (definition != null) {
+					builder.append(resolveValue(definition, directory, before, depth + 1));
+					index = reference[2];
+				} else {
+					builder.append(value.charAt(index));
+					index++;
+				}
+			}
+			resolvedValue = builder.toString();
+		}
+		return resolvedValue;
+	}
+
+	/**
+	 * Looks up the definition of the given property for a file in the given
+	 * directory.
+	 *
+	 * @param name      the name of the property, optionally qualified by one of
+	 *                  the {@link #REFERENCE_PREFIXES}
+	 * @param directory the directory of the file referencing the property
+	 * @param before    <code>true</code> to use the definitions before the
+	 *                  current commit, <code>false</code> to use the definitions
+	 *                  after it
+	 * @return the value of the definition in the nearest directory or
+	 *         <code>null</code> if the property is not defined
+	 */
+	private String lookup(String name, String directory, boolean before) {
+		String key = getKey(name);
+		String value = null;
+		String scope = directory;
+		boolean found = false;
+		while (!found) {
+			Map<String, String> previousScope = before ? previousDefinitions.get(scope) : null;
+			if (previousScope != null && previousScope.containsKey(key)) {
+				value = previousScope.get(key);
+			} else {
+				Map<String, String> scopeDefinitions = definitions.get(scope);
+				value = scopeDefinitions != null ? scopeDefinitions.get(key) : null;
+			}
+			found = value != null || scope.isEmpty();
+			scope = getDirectory(scope);
+		}
+		return value;
+	}
+
+	/**
+	 * Returns the key of the given property name in the symbol table.
+	 *
+	 * @param name the name of the property, optionally qualified by one of the
+	 *             {@link #REFERENCE_PREFIXES}
+	 * @return the name without prefixes
+	 */
+	private static String getKey(String name) {
+		String key = name.trim();
+		for (String prefix : REFERENCE_PREFIXES) {
+			if (key.startsWith(prefix) && key.length() > prefix.length()) {
+				key = key.substring(prefix.length());
+			}
+		}
+		return key;
+	}
+
+	/**
+	 * Finds the reference <code>${name}</code> or <code>$name</code> starting
+	 * at the given index.
+	 *
+	 * @param value the value containing the reference
+	 * @param index the index of the <code>$</code>
+	 * @return the index of the first character of the name, the index after the
+	 *         last character of the name, and the index after the reference; or
+	 *         <code>null</code> if the <code>$</code> starts no reference
+	 */
+	private static int[] findReference(String value, int index) {
+		int nameStart = index + 1;
+		int nameEnd = nameStart;
+		int end = nameStart;
+		if (nameStart < value.length() && value.charAt(nameStart) == '{') {
+			nameStart++;
+			nameEnd = value.indexOf('}', nameStart);
+			end = nameEnd + 1;
+		} else {
+			while (nameEnd < value.length()
+					&& (Character.isLetterOrDigit(value.charAt(nameEnd)) || value.charAt(nameEnd) == '_')) {
+				nameEnd++;
+			}
+			end = nameEnd;
+		}
+		return nameEnd > nameStart ? new int[] { nameStart, nameEnd, end } : null;
+	}
+
+	/**
+	 * Returns the keys of the properties referenced in the given value.
+	 *
+	 * @param value the value
+	 * @return the keys (see {@link #getKey(String)}) in the order of their first
+	 *         reference
+	 */
+	private static Set<String> getReferences(String value) {
+		Set<String> references = new LinkedHashSet<String>();
+		int index = value.indexOf('$');
+		while (index >= 0) {
+			int[] reference = findReference(value, index);
+			if (reference != null) {
+				references.add(getKey(value.substring(reference[0], reference[1])));
+			}
+			index = value.indexOf('$', index + 1);
+		}
+		return references;
+	}
+
+	/**
+	 * Checks whether the given version contains a property reference.
+	 *
+	 * @param version the version; may be <code>null</code>
+	 * @return <code>true</code> if the version contains a <code>$</code>,
+	 *         <code>false</code> otherwise
+	 */
+	private static boolean hasReference(String version) {
+		return version != null && version.indexOf('$') >= 0;
+	}
+
+	/**
+	 * Returns the directory of the given path.
+	 *
+	 * @param path the path of a file or directory
+	 * @return the path up to the last slash or <code>""</code> if the path has no
+	 *         parent directory
+	 */
+	private static String getDirectory(String path) {
+		int separator = path.lastIndexOf('/');
+		return separator < 0 ? "" : path.substring(0, separator);
+	}
+
+	/**
+	 * Collects the property definitions of one view (before or after the commit)
+	 * of a file, which is fed line by line (without diff markers).
+	 */
+	private static class DefinitionScanner {
+
+		/**
+		 * The type of files without definitions.
+		 */
+		private static final int NONE = 0;
+
+		/**
+		 * The type of <code>gradle.properties</code> files.
+		 */
+		private static final int PROPERTIES = 1;
+
+		/**
+		 * The type of Gradle build files.
+		 */
+		private static final int GRADLE = 2;
+
+		/**
+		 * The type of Maven POMs.
+		 */
+		private static final int POM = 3;
+
+		/**
+		 * The type of the scanned file.
+		 */
+		private int fileType;
+
+		/**
+		 * The found definitions by name.
+		 */
+		private Map<String, String> definitions = new LinkedHashMap<String, String>();
+
+		/**
+		 * The nesting depth of curly brackets inside the current <code>ext</code>
+		 * block; <code>0</code> if the scanner is outside of such a block.
+		 */
+		private int extDepth;
+
+		/**
+		 * Denotes whether the POM scanner is inside the properties section;
+		 * <code>null</code> if this is unknown, as the hunk started inside of an
+		 * element.
+		 */
+		private Boolean inProperties;
+
+		/**
+		 * The POM properties found in a hunk without section context.
+		 */
+		private Map<String, String> candidates = new LinkedHashMap<String, String>();
+
+		/**
+		 * Creates a new scanner.
+		 *
+		 * @param fileType the type of the scanned file
+		 */
+		private DefinitionScanner(int fileType) {
+			this.fileType = fileType;
+		}
+
+		/**
+		 * Returns the type of the file with the given name.
+		 *
+		 * @param artifactName the name of the file
+		 * @return the file type; {@link #NONE} if the file contains no definitions
+		 */
+		private static int getFileType(String artifactName) {
+			int fileType = NONE;
+			if (artifactName.equalsIgnoreCase("gradle.properties")) {
+				fileType = PROPERTIES;
+			} else if (artifactName.equalsIgnoreCase("build.gradle")
+					|| artifactName.equalsIgnoreCase("build.gradle.kts")) {
+				fileType = GRADLE;
+			} else if (artifactName.equalsIgnoreCase("pom.xml")) {
+				fileType = POM;
+			}
+			return fileType;
+		}
+
+		/**
+		 * Scans the next line of this view.
+		 *
+		 * @param line the line to scan, without diff marker
+		 */
+		private void scan(String line) {
+			if (fileType == PROPERTIES) {
+				Matcher matcher = PROPERTY_DEFINITION.matcher(line);
+				if (matcher.matches()) {
+					definitions.put(matcher.group(1), matcher.group(2).trim());
+				}
+			} else if (fileType == GRADLE) {
+				scanGradle(line);
+			} else {
+				scanPom(line);
+			}
+		}
+
+		/**
+		 * Ends the current hunk. The following lines are scanned without context.
+		 */
+		private void endHunk() {
+			acceptCandidates();
+			inProperties = null;
+			extDepth = 0;
+		}
+
+		/**
+		 * Accepts the POM properties found without section context as definitions.
+		 */
+		private void acceptCandidates() {
+			definitions.putAll(candidates);
+			candidates.clear();
+		}
+
+		/**
+		 * Scans a line of a Gradle build file.
+		 *
+		 * @param line the line to scan
+		 */
+		private void scanGradle(String line) {
+			Matcher set = EXTRA_SET.matcher(line);
+			Matcher assignment = BLOCK_ASSIGNMENT.matcher(line);
+			if (extDepth > 0) {
+				if (set.matches()) {
+					define(set.group(1), set.group(2));
+				} else if (assignment.matches()) {
+					define(assignment.group(1), assignment.group(2));
+				}
+				extDepth += countBrackets(line, 0);
+			} else {
+				Matcher extraAssignment = EXTRA_ASSIGNMENT.matcher(line);
+				Matcher variable = KOTLIN_VARIABLE.matcher(line);
+				Matcher blockStart = EXT_BLOCK_START.matcher(line);
+				if (extraAssignment.matches()) {
+					define(extraAssignment.group(1) != null ? extraAssignment.group(1) : extraAssignment.group(2),
+							extraAssignment.group(3));
+				} else if (set.matches()) {
+					define(set.group(1), set.group(2));
+				} else if (variable.matches()) {
+					define(variable.group(1), variable.group(2) != null ? variable.group(2) : variable.group(3));
+				} else if (blockStart.find()) {
+					scanBlockStart(line, blockStart.end());
+				}
+			}
+		}
+
+		/**
+		 * Scans the start of an <code>ext</code> block in a Gradle build file.
+		 *
+		 * @param line  the line to scan
+		 * @param start the index after the opening bracket of the block
+		 */
+		private void scanBlockStart(String line, int start) {
+			extDepth = 1 + countBrackets(line, start);
+			// Definitions following the bracket in the same line, like ext { key = 'value' }
+			String rest = line.substring(start);
+			int blockEnd = rest.lastIndexOf('}');
+			if (extDepth <= 0 && blockEnd >= 0) {
+				rest = rest.substring(0, blockEnd);
+			}
+			for (String statement : rest.split(";")) {
+				Matcher assignment = BLOCK_ASSIGNMENT.matcher(statement);
+				if (assignment.matches()) {
+					define(assignment.group(1), assignment.group(2));
+				}
+			}
+		}
+
+		/**
+		 * Counts the difference of opening and closing curly brackets in the given
+		 * line.
+		 *
+		 * @param line  the line
+		 * @param start the index of the first character to consider
+		 * @return the number of opening minus the number of closing brackets
+		 */
+		private static int countBrackets(String line, int start) {
+			int brackets = 0;
+			for (int i = start; i < line.length(); i++) {
+				if (line.charAt(i) == '{') {
+					brackets++;
+				} else if (line.charAt(i) == '}') {
+					brackets--;
+				}
+			}
+			return brackets;
+		}
+
+		/**
+		 * Defines the given property of a Gradle build file.
+		 *
+		 * @param name  the name of the property
+		 * @param value the expression assigned to the property: a string, a
+		 *              number, a variable, or a single-line map
+		 */
+		private void define(String name, String value) {
+			String expression = value.trim();
+			int commentStart = expression.indexOf("//");
+			if (commentStart >= 0) {
+				expression = expression.substring(0, commentStart).trim();
+			}
+			if (expression.endsWith(";")) {
+				expression = expression.substring(0, expression.length() - 1).trim();
+			}
+			if (expression.startsWith("[") || expression.startsWith("mapOf(")) {
+				Matcher entry = MAP_ENTRY.matcher(expression);
+				while (entry.find()) {
+					definitions.put(name + "." + entry.group(1), parseValue(entry.group(2)));
+				}
+			} else if (!expression.isEmpty()) {
+				definitions.put(name, parseValue(expression));
+			}
+		}
+
+		/**
+		 * Parses a simple value of a Gradle build file.
+		 *
+		 * @param expression the value expression
+		 * @return the content of a string, a reference to a variable, or the
+		 *         expression itself
+		 */
+		private static String parseValue(String expression) {
+			String value = expression;
+			char first = expression.charAt(0);
+			if ((first == '\'' || first == '"') && expression.length() > 1
+					&& expression.charAt(expression.length() - 1) == first) {
+				value = expression.substring(1, expression.length() - 1);
+			} else if (Character.isJavaIdentifierStart(first)) {
+				value = "${" + expression + "}";
+			}
+			return value;
+		}
+
+		/**
+		 * Scans a line of a POM.
+		 *
+		 * @param line the line to scan
+		 */
+		private void scanPom(String line) {
+			Matcher matcher = POM_PROPERTY.matcher(line);
+			if (line.contains("</properties>")) {
+				if (inProperties == null) {
+					// The hunk started inside the properties section
+					acceptCandidates();
+				}
+				inProperties = Boolean.FALSE;
+			} else if (line.contains("<properties>")) {
+				candidates.clear();
+				inProperties = Boolean.TRUE;
+			} else if (matcher.matches()) {
+				if (inProperties == null) {
+					if (!isPomField(matcher.group(1))) {
+						candidates.put(matcher.group(1), matcher.group(2).trim());
+					}
+				} else if (inProperties) {
+					definitions.put(matcher.group(1), matcher.group(2).trim());
+				}
+			} else if (inProperties == null && line.indexOf('<') >= 0 && !line.trim().startsWith("<!--")) {
+				// Another element: the hunk is outside of the properties section
+				candidates.clear();
+				inProperties = Boolean.FALSE;
+			}
+		}
+
+		/**
+		 * Checks whether the given element is a field of a dependency or plugin.
+		 *
+		 * @param element the name of the element
+		 * @return <code>true</code> if the element is a field, <code>false</code>
+		 *         otherwise
+		 */
+		private static boolean isPomField(String element) {
+			boolean field = false;
+			for (int i = 0; i < POM_FIELDS.length && !field; i++) {
+				field = POM_FIELDS[i].equals(element);
+			}
+			return field;
+		}
+	}
+
+}
@@ -0,0 +1,413 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.comani.analysis.librarychange.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * This class collects the metrics of the analysis: counters of analyzed commits and artifacts as well as latency
+ * histograms of the individual stages. The single instance is shared by all threads of the analysis.
+ * <br><br>
+ * Metrics are disabled by default. In this case, {@link #start()} does not read the clock and all recording methods
+ * return after checking a single flag, so the instrumentation of the analysis is virtually free. Instrumented code
+ * uses the following pattern:
+ * <pre>
+ * long start = metrics.start();
+ * // measured code
+ * metrics.record(Stage.DIFF, start);
+ * </pre>
+ */
+public final class AnalysisMetrics implements AnalysisMetricsMXBean {
+
+    /**
+     * The name under which the metrics are registered at the platform MBean server.
+     */
+    public static final String OBJECT_NAME = "net.ssehub.comani.analysis.librarychange:type=AnalysisMetrics";
+
+    /**
+     * The prefix of the names of the parse stages, which are followed by the name of the build system.
+     */
+    private static final String PARSE_STAGE_PREFIX = "parse ";
+
+    /**
+     * The suffix of the names of build file analyzer classes, which is removed to derive the name of the build system.
+     */
+    private static final String ANALYZER_CLASS_SUFFIX = "BuildFileAnalyzer";
+
+    /**
+     * The single instance of this class.
+     */
+    private static final AnalysisMetrics INSTANCE = new AnalysisMetrics();
+
+    /**
+     * The counters of the analysis.
+     */
+    public enum Counter {
+        /**
+         * The commits analyzed by this run.
+         */
+        COMMITS_ANALYZED("commits analyzed"),
+        /**
+         * The commits skipped, as a previous run analyzed them.
+         */
+        COMMITS_SKIPPED("commits skipped"),
+        /**
+         * The changed build files.
+         */
+        BUILD_FILES("build files"),
+        /**
+         * The changed code files.
+         */
+        CODE_FILES("code files"),
+        /**
+         * The changed files, which are neither build nor code files.
+         */
+        OTHER_FILES("other files"),
+        /**
+         * The build files, which could not be analyzed.
+         */
+        ARTIFACT_ERRORS("artifact errors"),
+        /**
+         * The build files, whose result was found in the parse cache.
+         */
+        PARSE_CACHE_HITS("parse cache hits"),
+        /**
+         * The build files, whose result was not found in the parse cache.
+         */
+        PARSE_CACHE_MISSES("parse cache misses");
+
+        /**
+         * The name of the counter in summaries and via JMX.
+         */
+        private final String name;
+
+        /**
+         * Creates a new counter.
+         *
+         * @param name the name of the counter in summaries and via JMX
+         */
+        Counter(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * The measured stages of the analysis. The parsing of build files is measured per build system in addition (see
+     * {@link AnalysisMetrics#recordParse(Class, long)}).
+     */
+    public enum Stage {
+        /**
+         * Waiting for commits from the analysis queue.
+         */
+        QUEUE_WAIT("queue wait"),
+        /**
+         * Classifying the paths of the changed files.
+         */
+        PATH_CLASSIFICATION("path classification"),
+        /**
+         * Pairing the libraries before and after a commit.
+         */
+        DIFF("diff"),
+        /**
+         * Writing the results.
+         */
+        RESULT_WRITE("result write");
+
+        /**
+         * The name of the stage in summaries and via JMX.
+         */
+        private final String name;
+
+        /**
+         * Creates a new stage.
+         *
+         * @param name the name of the stage in summaries and via JMX
+         */
+        Stage(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * Denotes whether metrics are collected.
+     */
+    private volatile boolean enabled;
+
+    /**
+     * The values of the counters indexed by the ordinals of the {@link Counter}s.
+     */
+    private LongAdder[] counters;
+
+    /**
+     * The histograms of the stages indexed by the ordinals of the {@link Stage}s.
+     */
+    private LatencyHistogram[] stages;
+
+    /**
+     * The histograms of the parse stages by the class of the build file analyzer.
+     */
+    private Map<Class<?>, LatencyHistogram> parseStages;
+
+    /**
+     * Construct the single {@link AnalysisMetrics}.
+     */
+    private AnalysisMetrics() {
+        counters = new LongAdder[Counter.values().length];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+        stages = new LatencyHistogram[Stage.values().length];
+        for (int i = 0; i < stages.length; i++) {
+            stages[i] = new LatencyHistogram();
+        }
+        parseStages = new ConcurrentHashMap<Class<?>, LatencyHistogram>();
+    }
+
+    /**
+     * Returns the single instance of this class.
+     *
+     * @return the {@link AnalysisMetrics}
+     */
+    public static AnalysisMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Enables or disables the collection of metrics. Changing this setting while the analysis is running yields
+     * incomplete metrics.
+     *
+     * @param enabled <code>true</code> to collect metrics, <code>false</code> otherwise
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the start time of a measurement.
+     *
+     * @return the current value of {@link System#nanoTime()}, if metrics are enabled; <code>0</code> otherwise
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Records the time since the given start time for the given stage.
+     *
+     * @param stage the measured {@link Stage}
+     * @param start the start time returned by {@link #start()}
+     */
+    public void record(Stage stage, long start) {
+        if (enabled) {
+            stages[stage.ordinal()].record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Records the time since the given start time for parsing a build file with the given analyzer.
+     *
+     * @param analyzerClass the class of the build file analyzer, which determines the name of the build system
+     * @param start the start time returned by {@link #start()}
+     */
+    public void recordParse(Class<?> analyzerClass, long start) {
+        if (enabled) {
+            long nanos = System.nanoTime() - start;
+            parseStages.computeIfAbsent(analyzerClass, key -> new LatencyHistogram()).record(nanos);
+        }
+    }
+
+    /**
+     * Increments the given counter.
+     *
+     * @param counter the {@link Counter} to increment
+     */
+    public void increment(Counter counter) {
+        if (enabled) {
+            counters[counter.ordinal()].increment();
+        }
+    }
+
+    /**
+     * Resets all counters and histograms.
+     */
+    public void reset() {
+        for (LongAdder counter : counters) {
+            counter.reset();
+        }
+        for (LatencyHistogram stage : stages) {
+            stage.reset();
+        }
+        parseStages.clear();
+    }
+
+    /**
+     * Registers the metrics at the platform MBean server, if they are not registered yet.
+     *
+     * @throws JMException if the registration fails
+     */
+    public void register() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.registerMBean(this, new ObjectName(OBJECT_NAME));
+        } catch (InstanceAlreadyExistsException e) {
+            // Registered by a previous analysis
+        }
+    }
+
+    /**
+     * Removes the metrics from the platform MBean server, if they are registered.
+     *
+     * @throws JMException if the removal fails
+     */
+    public void unregister() throws JMException {
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(new ObjectName(OBJECT_NAME));
+        } catch (InstanceNotFoundException e) {
+            // Not registered
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Long> getCounters() {
+        Map<String, Long> values = new LinkedHashMap<String, Long>();
+        for (Counter counter : Counter.values()) {
+            values.put(counter.name, counters[counter.ordinal()].sum());
+        }
+        return values;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Long> getStageCounts() {
+        return getStageValues(LatencyHistogram::getCount);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Long> getStageTotalMillis() {
+        return getStageValues(histogram -> TimeUnit.NANOSECONDS.toMillis(histogram.getTotalNanos()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Long> getStageMeanMicros() {
+        return getStageValues(histogram -> TimeUnit.NANOSECONDS.toMicros(histogram.getMeanNanos()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Long> getStageP99Micros() {
+        return getStageValues(histogram -> TimeUnit.NANOSECONDS.toMicros(histogram.getPercentileNanos(99)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Long> getStageMaxMicros() {
+        return getStageValues(histogram -> TimeUnit.NANOSECONDS.toMicros(histogram.getMaxNanos()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getSummary() {
+        StringBuilder summary = new StringBuilder("Counters:");
+        for (Map.Entry<String, Long> counter : getCounters().entrySet()) {
+            summary.append(String.format(Locale.ENGLISH, "%n  %-22s %12d", counter.getKey(), counter.getValue()));
+        }
+        summary.append(String.format(Locale.ENGLISH, "%nStages:%n  %-22s %12s %12s %12s %12s %12s", "", "count",
+                "total ms", "mean us", "p99 us", "max us"));
+        for (Map.Entry<String, LatencyHistogram> stage : getStageHistograms().entrySet()) {
+            LatencyHistogram histogram = stage.getValue();
+            summary.append(String.format(Locale.ENGLISH, "%n  %-22s %12d %12d %12d %12d %12d", stage.getKey(),
+                    histogram.getCount(), TimeUnit.NANOSECONDS.toMillis(histogram.getTotalNanos()),
+                    TimeUnit.NANOSECONDS.toMicros(histogram.getMeanNanos()),
+                    TimeUnit.NANOSECONDS.toMicros(histogram.getPercentileNanos(99)),
+                    TimeUnit.NANOSECONDS.toMicros(histogram.getMaxNanos())));
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Returns the given value of each stage.
+     *
+     * @param value the function deriving the value from the histogram of a stage
+     * @return the values by stage name
+     */
+    private Map<String, Long> getStageValues(ToLongFunction<LatencyHistogram> value) {
+        Map<String, Long> values = new LinkedHashMap<String, Long>();
+        for (Map.Entry<String, LatencyHistogram> stage : getStageHistograms().entrySet()) {
+            values.put(stage.getKey(), value.applyAsLong(stage.getValue()));
+        }
+        return values;
+    }
+
+    /**
+     * Returns the histograms of all stages: the fixed stages in the order of their definition followed by the parse
+     * stages in the alphabetical order of their build systems.
+     *
+     * @return the histograms by stage name
+     */
+    private Map<String, LatencyHistogram> getStageHistograms() {
+        Map<String, LatencyHistogram> histograms = new LinkedHashMap<String, LatencyHistogram>();
+        for (Stage stage : Stage.values()) {
+            histograms.put(stage.name, stages[stage.ordinal()]);
+        }
+        Map<String, LatencyHistogram> parseHistograms = new TreeMap<String, LatencyHistogram>();
+        for (Map.Entry<Class<?>, LatencyHistogram> parseStage : parseStages.entrySet()) {
+            String buildSystem = parseStage.getKey().getSimpleName();
+            if (buildSystem.endsWith(ANALYZER_CLASS_SUFFIX) && buildSystem.length() > ANALYZER_CLASS_SUFFIX.length()) {
+                buildSystem = buildSystem.substring(0, buildSystem.length() - ANALYZER_CLASS_SUFFIX.length());
+            }
+            parseHistograms.put(PARSE_STAGE_PREFIX + buildSystem.toLowerCase(Locale.ENGLISH), parseStage.getValue());
+        }
+        histograms.putAll(parseHistograms);
+        return histograms;
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.comani.analysis.librarychange.metrics;
+
+import java.util.Map;
+
+/**
+ * This interface defines the management interface of the {@link AnalysisMetrics}, which is registered as
+ * {@value AnalysisMetrics#OBJECT_NAME} at the platform MBean server. All maps are keyed by the names of the counters
+ * or stages as shown in {@link AnalysisMetrics#getSummary()}.
+ */
+public interface AnalysisMetricsMXBean {
+
+    /**
+     * Returns whether metrics are collected.
+     *
+     * @return <code>true</code>, if metrics are collected, <code>false</code> otherwise
+     */
+    public boolean isEnabled();
+
+    /**
+     * Returns the current values of all counters.
+     *
+     * @return the values of the counters by their names
+     */
+    public Map<String, Long> getCounters();
+
+    /**
+     * Returns the number of measurements of each stage.
+     *
+     * @return the number of measurements by stage name
+     */
+    public Map<String, Long> getStageCounts();
+
+    /**
+     * Returns the total time spent in each stage.
+     *
+     * @return the total time in milliseconds by stage name
+     */
+    public Map<String, Long> getStageTotalMillis();
+
+    /**
+     * Returns the mean latency of each stage.
+     *
+     * @return the mean latency in microseconds by stage name
+     */
+    public Map<String, Long> getStageMeanMicros();
+
+    /**
+     * Returns the approximated 99th percentile of the latencies of each stage.
+     *
+     * @return the 99th percentile in microseconds by stage name
+     */
+    public Map<String, Long> getStageP99Micros();
+
+    /**
+     * Returns the maximum latency of each stage.
+     *
+     * @return the maximum latency in microseconds by stage name
+     */
+    public Map<String, Long> getStageMaxMicros();
+
+    /**
+     * Returns the human-readable summary of all metrics.
+     *
+     * @return the summary
+     */
+    public String getSummary();
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.comani.analysis.librarychange.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class realizes a histogram of latencies in nanoseconds with exponential buckets: bucket <i>i</i> counts the
+ * latencies in [2<sup>i-1</sup>, 2<sup>i</sup>). Recording a latency is lock-free and does not allocate; percentiles
+ * are approximated by the upper bound of the bucket containing them, i.e., they are at most a factor of two too high.
+ */
+public class LatencyHistogram {
+
+    /**
+     * The number of buckets; bucket <code>0</code> counts latencies of <code>0</code> nanoseconds.
+     */
+    private static final int BUCKETS = 64;
+
+    /**
+     * The number of latencies per bucket.
+     */
+    private AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+    /**
+     * The number of recorded latencies.
+     */
+    private LongAdder count = new LongAdder();
+
+    /**
+     * The sum of all recorded latencies in nanoseconds.
+     */
+    private LongAdder sum = new LongAdder();
+
+    /**
+     * The maximum recorded latency in nanoseconds.
+     */
+    private LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records the given latency.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    public void record(long nanos) {
+        long latency = Math.max(nanos, 0);
+        buckets.incrementAndGet(BUCKETS - Long.numberOfLeadingZeros(latency));
+        count.increment();
+        sum.add(latency);
+        max.accumulate(latency);
+    }
+
+    /**
+     * Returns the number of recorded latencies.
+     *
+     * @return the number of recorded latencies
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the sum of all recorded latencies.
+     *
+     * @return the sum in nanoseconds
+     */
+    public long getTotalNanos() {
+        return sum.sum();
+    }
+
+    /**
+     * Returns the mean of all recorded latencies.
+     *
+     * @return the mean in nanoseconds; <code>0</code>, if no latency was recorded
+     */
+    public long getMeanNanos() {
+        long recorded = count.sum();
+        return recorded == 0 ? 0 : sum.sum() / recorded;
+    }
+
+    /**
+     * Returns the maximum of all recorded latencies.
+     *
+     * @return the maximum in nanoseconds
+     */
+    public long getMaxNanos() {
+        return max.get();
+    }
+
+    /**
+     * Returns the approximated percentile of the recorded latencies.
+     *
+     * @param percentile the percentile between <code>0</code> and <code>100</code>
+     * @return the upper bound of the bucket containing the percentile in nanoseconds, but at most the maximum;
+     *         <code>0</code>, if no latency was recorded
+     */
+    public long getPercentileNanos(double percentile) {
+        long recorded = 0;
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            recorded += counts[i];
+        }
+        long rank = (long) Math.ceil(recorded * percentile / 100);
+        long upperBound = 0;
+        long seen = 0;
+        for (int i = 0; i < BUCKETS && seen < rank; i++) {
+            seen += counts[i];
+            upperBound = (1L << i) - 1;
+        }
+        return Math.min(upperBound, getMaxNanos());
+    }
+
+    /**
+     * Removes all recorded latencies.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets.set(i, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.reset();
+    }
+
+}
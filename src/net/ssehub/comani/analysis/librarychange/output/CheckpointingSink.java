@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.comani.analysis.librarychange.output;
+
+import java.io.IOException;
+
+import net.ssehub.comani.analysis.librarychange.diff.AnalysisResult;
+
+/**
+ * This class realizes a {@link ResultSink}, which records each result written to another sink in a
+ * {@link CommitCheckpoint}. The checkpoint is written every {@link #CHECKPOINT_INTERVAL} results and when closing this
+ * sink, each time after flushing the other sink. Hence, the checkpoint never contains a commit, whose result is not
+ * persisted; after an interruption, at most the results of the last interval are written again.
+ */
+public class CheckpointingSink implements ResultSink {
+
+    /**
+     * The number of results after which the checkpoint is written.
+     */
+    public static final int CHECKPOINT_INTERVAL = 64;
+
+    /**
+     * The {@link ResultSink} to which the results are written.
+     */
+    private ResultSink sink;
+
+    /**
+     * The {@link CommitCheckpoint} recording the commits of the written results.
+     */
+    private CommitCheckpoint checkpoint;
+
+    /**
+     * The number of results written since the checkpoint was written the last time.
+     */
+    private int pendingResults;
+
+    /**
+     * Creates a new sink recording the results written to the given sink in the given checkpoint.
+     *
+     * @param sink the {@link ResultSink} to which the results are written
+     * @param checkpoint the {@link CommitCheckpoint} recording the commits of the written results
+     */
+    public CheckpointingSink(ResultSink sink, CommitCheckpoint checkpoint) {
+        this.sink = sink;
+        this.checkpoint = checkpoint;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(AnalysisResult result) throws IOException {
+        sink.write(result);
+        checkpoint.add(result.getCommitId());
+        if (++pendingResults == CHECKPOINT_INTERVAL) {
+            flush();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String describeLocation(AnalysisResult result) {
+        return sink.describeLocation(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void flush() throws IOException {
+        sink.flush();
+        checkpoint.flush();
+        pendingResults = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        // If closing the other sink fails, its buffered results may be lost; hence, they must not be recorded
+        sink.close();
+        checkpoint.close();
+    }
+
+}
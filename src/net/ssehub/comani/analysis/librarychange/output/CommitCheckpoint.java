@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.comani.analysis.librarychange.output;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * This class realizes the checkpoint of an analysis, i.e., the set of commits, whose results are persisted already.
+ * The ids of these commits are appended to the checkpoint file "<tt>changedlibs.checkpoint</tt>" in the output
+ * directory, one per line. Opening an existing checkpoint loads the finished commits of previous runs as a sorted
+ * array of 64 bit fingerprints, which requires 8 bytes per commit and a binary search per lookup.
+ * <br><br>
+ * The fingerprint of a commit id starting with at least 16 hexadecimal digits, like a Git commit hash, consists of
+ * its first 16 digits; other ids are hashed. Hence, the probability of skipping a commit, which was not finished, is
+ * negligible even for very large histories.
+ * <br><br>
+ * The set of finished commits is not changed by {@link #add(String)}; it only reflects the previous runs. Hence,
+ * {@link #contains(String)} may be called by one thread while another thread adds commits.
+ */
+public class CommitCheckpoint implements Closeable {
+
+    /**
+     * The name of the checkpoint file.
+     */
+    public static final String FILE_NAME = "changedlibs.checkpoint";
+
+    /**
+     * The offset basis of the 64 bit FNV-1a hash.
+     */
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    /**
+     * The prime of the 64 bit FNV-1a hash.
+     */
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /**
+     * The checkpoint file.
+     */
+    private Path file;
+
+    /**
+     * The sorted fingerprints of the commits finished by previous runs.
+     */
+    private long[] finishedCommits;
+
+    /**
+     * The number of bytes of the incomplete last line of the checkpoint file written by a previous run.
+     */
+    private int incompleteBytes;
+
+    /**
+     * The {@link Writer} appending to the {@link #file}; <code>null</code>, if nothing was added yet.
+     */
+    private Writer writer;
+
+    /**
+     * Opens the checkpoint in the given directory and loads the commits finished by previous runs.
+     *
+     * @param outputDirectory the existing directory containing the checkpoint file
+     * @throws IOException if reading an existing checkpoint file fails
+     */
+    public CommitCheckpoint(Path outputDirectory) throws IOException {
+        file = outputDirectory.resolve(FILE_NAME);
+        finishedCommits = load();
+    }
+
+    /**
+     * Checks whether the given commit was finished by a previous run.
+     *
+     * @param commitId the id of the commit
+     * @return <code>true</code>, if the commit was finished, <code>false</code> otherwise
+     */
+    public boolean contains(String commitId) {
+        return Arrays.binarySearch(finishedCommits, fingerprint(commitId)) >= 0;
+    }
+
+    /**
+     * Returns the number of commits finished by previous runs.
+     *
+     * @return the number of finished commits
+     */
+    public int size() {
+        return finishedCommits.length;
+    }
+
+    /**
+     * Marks the given commit as finished. The id is buffered until the next call of {@link #flush()}; the result of
+     * the commit must be persisted before that call.
+     *
+     * @param commitId the id of the commit
+     * @throws IOException if writing to the checkpoint file fails
+     */
+    public void add(String commitId) throws IOException {
+        if (writer == null) {
+            if (incompleteBytes > 0) {
+                // Remove the incomplete line, as its prefix of a commit id may denote a different commit
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    channel.truncate(channel.size() - incompleteBytes);
+                }
+            }
+            writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        writer.write(commitId);
+        writer.write('\n');
+    }
+
+    /**
+     * Writes all buffered commit ids to the checkpoint file.
+     *
+     * @throws IOException if writing fails
+     */
+    public void flush() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+    }
+
+    /**
+     * Reads the commit ids of the checkpoint file. A last line without line break is ignored, as it was not
+     * completely written by an interrupted run.
+     *
+     * @return the sorted fingerprints of the commit ids
+     * @throws IOException if reading the file fails
+     */
+    private long[] load() throws IOException {
+        long[] fingerprints = new long[0];
+        if (Files.exists(file)) {
+            int count = 0;
+            fingerprints = new long[1024];
+            StringBuilder line = new StringBuilder();
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                int character;
+                while ((character = reader.read()) >= 0) {
+                    if (character != '\n') {
+                        line.append((char) character);
+                    } else if (line.length() > 0) {
+                        if (count == fingerprints.length) {
+                            fingerprints = Arrays.copyOf(fingerprints, count * 2);
+                        }
+                        fingerprints[count++] = fingerprint(line);
+                        line.setLength(0);
+                    }
+                }
+            }
+            incompleteBytes = line.toString().getBytes(StandardCharsets.UTF_8).length;
+            fingerprints = Arrays.copyOf(fingerprints, count);
+            Arrays.sort(fingerprints);
+        }
+        return fingerprints;
+    }
+
+    /**
+     * Returns the fingerprint of the given commit id.
+     *
+     * @param commitId the commit id
+     * @return the first 16 hexadecimal digits of the id, if it starts with at least 16 hexadecimal digits; the 64 bit
+     *         FNV-1a hash of the id otherwise
+     */
+    private static long fingerprint(CharSequence commitId) {
+        long fingerprint = 0;
+        boolean hexadecimal = commitId.length() >= 16;
+        for (int i = 0; i < 16 && hexadecimal; i++) {
+            int digit = Character.digit(commitId.charAt(i), 16);
+            hexadecimal = digit >= 0;
+            fingerprint = (fingerprint << 4) | digit;
+        }
+        if (!hexadecimal) {
+            fingerprint = FNV_OFFSET_BASIS;
+            for (int i = 0; i < commitId.length(); i++) {
+                fingerprint = (fingerprint ^ commitId.charAt(i)) * FNV_PRIME;
+            }
+        }
+        return fingerprint;
+    }
+
+}
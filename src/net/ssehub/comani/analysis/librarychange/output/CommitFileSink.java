@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.comani.analysis.librarychange.output;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import net.ssehub.comani.analysis.librarychange.diff.AnalysisResult;
+
+/**
+ * This class realizes a {@link ResultSink}, which writes each {@link AnalysisResult} to its own file named
+ * "<tt>&lt;commit id&gt;&lt;extension&gt;</tt>" in the output directory, where the extension is defined by the
+ * {@link ResultSerializer} in use, e.g., "<tt>.changedlibs.result</tt>". Existing files are overwritten.
+ */
+public class CommitFileSink implements ResultSink {
+    
+    /**
+     * The directory to which the result files are written.
+     */
+    private Path outputDirectory;
+    
+    /**
+     * The {@link ResultSerializer} defining the format of the result files.
+     */
+    private ResultSerializer serializer;
+    
+    /**
+     * Creates a new sink writing to the given directory.
+     * 
+     * @param outputDirectory the existing directory to which the result files are written
+     * @param serializer the {@link ResultSerializer} defining the format of the result files
+     */
+    public CommitFileSink(Path outputDirectory, ResultSerializer serializer) {
+        this.outputDirectory = outputDirectory;
+        this.serializer = serializer;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(AnalysisResult result) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(getFile(result), StandardCharsets.UTF_8)) {
+            serializer.writeHeader(writer);
+            serializer.serialize(result, writer);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String describeLocation(AnalysisResult result) {
+        return getFile(result).toString();
+    }
+    
+    /**
+     * Returns the file to which the given result is written.
+     * 
+     * @param result the {@link AnalysisResult} to write
+     * @return the result file
+     */
+    private Path getFile(AnalysisResult result) {
+        return outputDirectory.resolve(result.getCommitId() + serializer.getFileExtension());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        // Each file is closed directly after writing
+    }
+
+}
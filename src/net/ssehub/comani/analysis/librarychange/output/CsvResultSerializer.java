@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.comani.analysis.librarychange.output;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import net.ssehub.comani.analysis.librarychange.diff.AnalysisResult;
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult;
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry;
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry.LibraryInformation;
+
+/**
+ * This class realizes a {@link ResultSerializer} writing one CSV row (RFC 4180) per {@link LibraryEntry} of an
+ * {@link AnalysisResult}. The columns are defined by {@link #HEADER}; the columns of a missing previous or current
+ * library are empty. Results without library changes produce no rows. Build files, which could not be analyzed
+ * (see {@link AnalysisResult#getErrors()}), are not part of this format.
+ */
+public class CsvResultSerializer implements ResultSerializer {
+    
+    /**
+     * The header row naming the columns.
+     */
+    public static final String HEADER = "commit,build_file,change_type,"
+            + "previous_dependency_type,previous_group,previous_identifier,previous_version,"
+            + "current_dependency_type,current_group,current_identifier,current_version\r\n";
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeHeader(Writer writer) throws IOException {
+        writer.write(HEADER);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void serialize(AnalysisResult result, Writer writer) throws IOException {
+        for (BuildFileAnalysisResult buildFileResult : result.getResults()) {
+            for (LibraryEntry entry : buildFileResult.getLibraryChanges()) {
+                writeField(result.getCommitId(), writer);
+                writer.write(',');
+                writeField(buildFileResult.getBuildFile(), writer);
+                writer.write(',');
+                writer.write(entry.getLibraryChangeType().name());
+                writer.write(',');
+                writeLibrary(entry.getPreviousLibrary(), writer);
+                writer.write(',');
+                writeLibrary(entry.getCurrentLibrary(), writer);
+                writer.write("\r\n");
+            }
+        }
+    }
+    
+    /**
+     * Writes the four columns of the given library information.
+     * 
+     * @param library the {@link LibraryInformation} to write; may be <code>null</code>
+     * @param writer the {@link Writer} to write to
+     * @throws IOException if writing fails
+     */
+    private void writeLibrary(LibraryInformation library, Writer writer) throws IOException {
+        if (library == null) {
+            writer.write(",,,");
+        } else {
+            writeField(library.getDependencyType(), writer);
+            writer.write(',');
+            writeField(library.getGroup(), writer);
+            writer.write(',');
+            writeField(library.getIdentifier(), writer);
+            writer.write(',');
+            writeField(library.getVersion(), writer);
+        }
+    }
+    
+    /**
+     * Writes the given value as CSV field. The value is quoted, if it contains a comma, a double quote, or a line
+     * break.
+     * 
+     * @param value the value to write; <code>null</code> results in an empty field
+     * @param writer the {@link Writer} to write to
+     * @throws IOException if writing fails
+     */
+    private void writeField(String value, Writer writer) throws IOException {
+        if (value != null) {
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char character = value.charAt(i);
+                quote = character == ',' || character == '"' || character == '\n' || character == '\r';
+            }
+            if (quote) {
+                writer.write('"');
+                int unescapedStart = 0;
+                int quoteIndex;
+                while ((quoteIndex = value.indexOf('"', unescapedStart)) >= 0) {
+                    writer.write(value, unescapedStart, quoteIndex + 1 - unescapedStart);
+                    writer.write('"');
+                    unescapedStart = quoteIndex + 1;
+                }
+                writer.write(value, unescapedStart, value.length() - unescapedStart);
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getFileExtension() {
+        return ".changedlibs.csv";
+    }
+
+}
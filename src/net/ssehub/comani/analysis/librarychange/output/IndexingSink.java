@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.comani.analysis.librarychange.output;
+
+import java.io.IOException;
+
+import net.ssehub.comani.analysis.librarychange.diff.AnalysisResult;
+import net.ssehub.comani.analysis.librarychange.timeline.TimelineIndexWriter;
+
+/**
+ * This class realizes a {@link ResultSink}, which adds each result written to another sink to the dependency timeline
+ * via a {@link TimelineIndexWriter}. The timeline is flushed after the other sink, so it never contains a commit,
+ * whose result is not persisted by the other sink.
+ */
+public class IndexingSink implements ResultSink {
+
+    /**
+     * The {@link ResultSink} to which the results are written.
+     */
+    private ResultSink sink;
+
+    /**
+     * The {@link TimelineIndexWriter} building the dependency timeline.
+     */
+    private TimelineIndexWriter timelineWriter;
+
+    /**
+     * Creates a new sink adding the results written to the given sink to the given timeline.
+     *
+     * @param sink the {@link ResultSink} to which the results are written
+     * @param timelineWriter the {@link TimelineIndexWriter} building the dependency timeline
+     */
+    public IndexingSink(ResultSink sink, TimelineIndexWriter timelineWriter) {
+        this.sink = sink;
+        this.timelineWriter = timelineWriter;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(AnalysisResult result) throws IOException {
+        sink.write(result);
+        timelineWriter.add(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String describeLocation(AnalysisResult result) {
+        return sink.describeLocation(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void flush() throws IOException {
+        sink.flush();
+        timelineWriter.flush();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        // If closing the other sink fails, the log of the timeline is kept and merged by the next run
+        sink.close();
+        timelineWriter.close();
+    }
+
+}
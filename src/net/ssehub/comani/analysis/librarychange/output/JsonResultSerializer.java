@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.comani.analysis.librarychange.output;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+import net.ssehub.comani.analysis.librarychange.diff.AnalysisResult;
+import net.ssehub.comani.analysis.librarychange.diff.ArtifactError;
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult;
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry;
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry.LibraryInformation;
+
+/**
+ * This class realizes a {@link ResultSerializer} writing each {@link AnalysisResult} as a single-line JSON object.
+ * Hence, multiple results written one after another, each followed by a line break, form a JSON Lines document. The
+ * structure of a result is:
+ * <pre>
+ * {"commit":"...","buildFiles":[{"path":"...","changes":[
+ *     {"changeType":"...","previous":{"dependencyType":"...","group":"...","identifier":"...","version":"..."},
+ *      "current":null}]}],
+ *  "errors":[{"path":"...","reason":"...","message":"..."}]}
+ * </pre>
+ * The <tt>errors</tt> member is only written, if build files of the commit could not be analyzed (see
+ * {@link ArtifactError}).
+ */
+public class JsonResultSerializer implements ResultSerializer {
+    
+    /**
+     * The hexadecimal digits for escaping control characters.
+     */
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void serialize(AnalysisResult result, Writer writer) throws IOException {
+        writer.write("{\"commit\":");
+        writeString(result.getCommitId(), writer);
+        writer.write(",\"buildFiles\":[");
+        List<BuildFileAnalysisResult> buildFileResults = result.getResults();
+        for (int i = 0; i < buildFileResults.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            BuildFileAnalysisResult buildFileResult = buildFileResults.get(i);
+            writer.write("{\"path\":");
+            writeString(buildFileResult.getBuildFile(), writer);
+            writer.write(",\"changes\":[");
+            List<LibraryEntry> libraryChanges = buildFileResult.getLibraryChanges();
+            for (int j = 0; j < libraryChanges.size(); j++) {
+                if (j > 0) {
+                    writer.write(',');
+                }
+                LibraryEntry entry = libraryChanges.get(j);
+                writer.write("{\"changeType\":\"");
+                writer.write(entry.getLibraryChangeType().name());
+                writer.write("\",\"previous\":");
+                writeLibrary(entry.getPreviousLibrary(), writer);
+                writer.write(",\"current\":");
+                writeLibrary(entry.getCurrentLibrary(), writer);
+                writer.write('}');
+            }
+            writer.write("]}");
+        }
+        writer.write(']');
+        List<ArtifactError> errors = result.getErrors();
+        if (!errors.isEmpty()) {
+            writer.write(",\"errors\":[");
+            for (int i = 0; i < errors.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                ArtifactError error = errors.get(i);
+                writer.write("{\"path\":");
+                writeString(error.getArtifactPath(), writer);
+                writer.write(",\"reason\":\"");
+                writer.write(error.getReason().name());
+                writer.write("\",\"message\":");
+                writeString(error.getMessage(), writer);
+                writer.write('}');
+            }
+            writer.write(']');
+        }
+        writer.write('}');
+    }
+    
+    /**
+     * Writes the given library information as JSON object.
+     * 
+     * @param library the {@link LibraryInformation} to write; may be <code>null</code>
+     * @param writer the {@link Writer} to write to
+     * @throws IOException if writing fails
+     */
+    private void writeLibrary(LibraryInformation library, Writer writer) throws IOException {
+        if (library == null) {
+            writer.write("null");
+        } else {
+            writer.write("{\"dependencyType\":");
+            writeString(library.getDependencyType(), writer);
+            writer.write(",\"group\":");
+            writeString(library.getGroup(), writer);
+            writer.write(",\"identifier\":");
+            writeString(library.getIdentifier(), writer);
+            writer.write(",\"version\":");
+            writeString(library.getVersion(), writer);
+            writer.write('}');
+        }
+    }
+    
+    /**
+     * Writes the given string as JSON string literal.
+     * 
+     * @param value the string to write; may be <code>null</code>
+     * @param writer the {@link Writer} to write to
+     * @throws IOException if writing fails
+     */
+    private void writeString(String value, Writer writer) throws IOException {
+        if (value == null) {
+            writer.write("null");
+        } else {
+            writer.write('"');
+            int unescapedStart = 0;
+            for (int i = 0; i < value.length(); i++) {
+                char character = value.charAt(i);
+                if (character == '"' || character == '\\' || character < 0x20) {
+                    writer.write(value, unescapedStart, i - unescapedStart);
+                    writer.write('\\');
+                    if (character == '"' || character == '\\') {
+                        writer.write(character);
+                    } else {
+                        writer.write("u00");
+                        writer.write(HEX_DIGITS[character >> 4]);
+                        writer.write(HEX_DIGITS[character & 0xF]);
+                    }
+                    unescapedStart = i + 1;
+                }
+            }
+            writer.write(value, unescapedStart, value.length() - unescapedStart);
+            writer.write('"');
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getFileExtension() {
+        return ".changedlibs.json";
+    }
+
+}
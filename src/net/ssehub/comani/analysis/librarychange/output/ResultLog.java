@@ -0,0 +1,966 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.comani.analysis.librarychange.output;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This class realizes an append-only log of keyed binary records. The records are written to a sequence of segment
+ * files named "<tt>&lt;name&gt;-&lt;number&gt;.log</tt>"; a new segment is started as soon as the current one exceeds
+ * the configured segment size. For each record, an entry is appended to the index file "<tt>&lt;name&gt;.idx</tt>",
+ * which maps the key of the record to its segment, offset, and length. Reading all records in the order they were
+ * appended (see {@link #forEach(RecordConsumer)}) streams the index.
+ * <br><br>
+ * Looking up a record by its key (see {@link #read(String)}) uses the hash table "<tt>&lt;name&gt;.hash</tt>", which
+ * maps the 64-bit hash of each key to the position of its latest index entry. The table uses open addressing with
+ * linear probing and is read and updated by positional reads and writes, so a lookup requires a few reads of a single
+ * slot and of the index entry, independent of the number of records, and the table is never loaded into memory. The
+ * table doubles its capacity when it is half full. It records the size of the index it covers; entries appended by a
+ * run, which was interrupted before updating the table, are added when the log is opened again, and a missing or
+ * damaged table is rebuilt from the index.
+ * <br><br>
+ * Opening an existing log continues it; records written later replace earlier records with the same key. Data is
+ * always flushed before the index entries referring to it, so an interrupted run never produces index entries pointing
+ * to missing data. An incomplete last index entry of an interrupted run is removed when the log is opened, so the
+ * entries appended afterwards stay aligned; index entries pointing outside of their segment are ignored.
+ * <br><br>
+ * Instances are not thread-safe.
+ */
+public class ResultLog implements Closeable {
+
+    /**
+     * This interface defines the receiver of the records read by {@link ResultLog#forEach(RecordConsumer)}.
+     */
+    public interface RecordConsumer {
+
+        /**
+         * Receives a record of the log.
+         *
+         * @param key the key identifying the record
+         * @param data the data of the record
+         * @throws IOException if processing the record fails; reading stops in this case
+         */
+        public void accept(String key, byte[] data) throws IOException;
+    }
+
+    /**
+     * This interface defines the receiver of the entries read from the index file.
+     */
+    private interface IndexEntryVisitor {
+
+        /**
+         * Receives an entry of the index file, which points inside of its segment.
+         *
+         * @param position the position of the entry in the index file
+         * @param keyBytes the key of the entry in UTF-8
+         * @param location the location of the record
+         * @throws IOException if processing the entry fails; reading stops in this case
+         */
+        public void visit(long position, byte[] keyBytes, RecordLocation location) throws IOException;
+    }
+
+    /**
+     * The file extension of the segment files.
+     */
+    public static final String SEGMENT_EXTENSION = ".log";
+
+    /**
+     * The file extension of the index file.
+     */
+    public static final String INDEX_EXTENSION = ".idx";
+
+    /**
+     * The file extension of the hash table.
+     */
+    public static final String HASH_EXTENSION = ".hash";
+
+    /**
+     * The size of the write buffers in bytes.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The maximum number of bytes of a key in UTF-8.
+     */
+    private static final int MAX_KEY_LENGTH = 0xFFFF;
+
+    /**
+     * The first bytes of the hash table, which identify its format.
+     */
+    private static final int HASH_MAGIC = 0x524C4831;
+
+    /**
+     * The number of bytes of the header of the hash table: the {@link #HASH_MAGIC}, the capacity, the number of used
+     * slots, and the size of the covered index.
+     */
+    private static final int HASH_HEADER_SIZE = Integer.BYTES + 3 * Long.BYTES;
+
+    /**
+     * The number of bytes of a slot of the hash table: the hash of the key and the position of its index entry plus
+     * one; <code>0</code> marks an empty slot.
+     */
+    private static final int SLOT_SIZE = 2 * Long.BYTES;
+
+    /**
+     * The number of slots of a new hash table; a power of two.
+     */
+    private static final long INITIAL_CAPACITY = 1024;
+
+    /**
+     * The directory containing the segment and index files.
+     */
+    private Path directory;
+
+    /**
+     * The common name of the segment and index files.
+     */
+    private String name;
+
+    /**
+     * The size in bytes after which a new segment is started.
+     */
+    private long segmentSize;
+
+    /**
+     * The number of the segment currently appended to.
+     */
+    private int segmentNumber;
+
+    /**
+     * The channel of the segment currently appended to; <code>null</code>, if nothing was appended yet.
+     */
+    private FileChannel segmentChannel;
+
+    /**
+     * The position in the current segment at which the next record will start (including buffered data).
+     */
+    private long segmentPosition;
+
+    /**
+     * The channel for reading and writing the index file; <code>null</code>, if the index file does not exist yet.
+     */
+    private FileChannel indexChannel;
+
+    /**
+     * The number of bytes of the index file, i.e., the position of the next entry written from the
+     * {@link #indexBuffer}.
+     */
+    private long indexSize;
+
+    /**
+     * The buffer for data not yet written to the current segment.
+     */
+    private ByteBuffer dataBuffer;
+
+    /**
+     * The buffer for index entries not yet written to the index file.
+     */
+    private ByteBuffer indexBuffer;
+
+    /**
+     * The locations of the records whose index entries are in the {@link #indexBuffer} and, hence, not in the hash
+     * table yet. As the buffer, this map is bounded and cleared by each {@link #flush()}.
+     */
+    private Map<String, RecordLocation> pending = new HashMap<String, RecordLocation>();
+
+    /**
+     * The channel for reading and writing the hash table; <code>null</code>, if the index file does not exist yet.
+     */
+    private FileChannel hashChannel;
+
+    /**
+     * The number of slots of the hash table; a power of two.
+     */
+    private long hashCapacity;
+
+    /**
+     * The number of used slots of the hash table, i.e., the number of distinct keys.
+     */
+    private long hashCount;
+
+    /**
+     * The number of bytes of the index file whose entries are contained in the hash table.
+     */
+    private long hashCoveredSize;
+
+    /**
+     * The buffer for reading and writing a single slot of the hash table.
+     */
+    private ByteBuffer slotBuffer = ByteBuffer.allocate(SLOT_SIZE);
+
+    /**
+     * The channel for reading records; <code>null</code>, if no record was read yet.
+     */
+    private FileChannel readChannel;
+
+    /**
+     * The number of the segment opened by the {@link #readChannel}.
+     */
+    private int readSegment;
+
+    /**
+     * Opens the log with the given name in the given directory. Existing segments and index entries are continued.
+     *
+     * @param directory the existing directory containing the segment and index files
+     * @param name the common name of the segment and index files
+     * @param segmentSize the size in bytes after which a new segment is started
+     * @throws IOException if determining the existing segments, repairing the index file, or updating the hash table
+     *         fails
+     */
+    public ResultLog(Path directory, String name, long segmentSize) throws IOException {
+        this.directory = directory;
+        this.name = name;
+        this.segmentSize = segmentSize;
+        segmentNumber = 0;
+        while (Files.exists(getSegmentFile(segmentNumber + 1))) {
+            segmentNumber++;
+        }
+        if (Files.exists(getSegmentFile(segmentNumber))) {
+            segmentPosition = Files.size(getSegmentFile(segmentNumber));
+        }
+        dataBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        // An index entry with a key of maximum length must fit into the empty buffer
+        indexBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE + Short.BYTES + MAX_KEY_LENGTH
+                + RecordLocation.ENCODED_SIZE);
+        truncateIncompleteIndexEntry();
+        if (Files.exists(getIndexFile())) {
+            openIndex();
+        }
+    }
+
+    /**
+     * Appends the given record.
+     *
+     * @param key the key identifying the record; must not be longer than 65535 bytes in UTF-8
+     * @param data the data of the record
+     * @throws IOException if writing the record fails
+     */
+    public void append(String key, byte[] data) throws IOException {
+        append(key, data, 0, data.length);
+    }
+
+    /**
+     * Appends the given part of the given array as record.
+     *
+     * @param key the key identifying the record; must not be longer than 65535 bytes in UTF-8
+     * @param data the array containing the data of the record
+     * @param offset the index of the first byte of the record in the given array
+     * @param length the number of bytes of the record
+     * @throws IOException if writing the record fails
+     */
+    public void append(String key, byte[] data, int offset, int length) throws IOException {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        if (keyBytes.length > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Key of " + keyBytes.length + " bytes exceeds the maximum of "
+                    + MAX_KEY_LENGTH + " bytes");
+        }
+        if (segmentChannel == null || segmentPosition >= segmentSize) {
+            startSegment();
+        }
+        RecordLocation location = new RecordLocation(segmentNumber, segmentPosition, length);
+        if (length > dataBuffer.remaining()) {
+            flushData();
+            if (length > dataBuffer.capacity()) {
+                writeFully(segmentChannel, ByteBuffer.wrap(data, offset, length));
+            } else {
+                dataBuffer.put(data, offset, length);
+            }
+        } else {
+            dataBuffer.put(data, offset, length);
+        }
+        segmentPosition += length;
+        if (indexBuffer.remaining() < keyBytes.length + RecordLocation.ENCODED_SIZE + Short.BYTES) {
+            flush();
+        }
+        indexBuffer.putShort((short) keyBytes.length);
+        indexBuffer.put(keyBytes);
+        location.encode(indexBuffer);
+        pending.put(key, location);
+    }
+
+    /**
+     * Reads the record with the given key. The key is looked up in the hash table, so the time required does not depend
+     * on the number of records; only the index entries not written to the index file yet are held in memory.
+     *
+     * @param key the key identifying the record
+     * @return the data of the record or <code>null</code>, if this log does not contain a record with the given key
+     * @throws IOException if reading the hash table, the index, or the record fails
+     */
+    public byte[] read(String key) throws IOException {
+        RecordLocation location = pending.get(key);
+        if (location == null && hashChannel != null) {
+            byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+            findSlot(keyBytes, hash(keyBytes));
+            long position = slotBuffer.getLong(Long.BYTES) - 1;
+            if (position >= 0) {
+                location = readIndexEntry(position, keyBytes);
+            }
+        }
+        byte[] data = null;
+        if (location != null) {
+            if (location.segment == segmentNumber
+                    && location.offset + location.length > segmentPosition - dataBuffer.position()) {
+                flushData();
+            }
+            data = readRecord(key, location);
+        }
+        return data;
+    }
+
+    /**
+     * Reads all records in the order they were appended and passes them to the given consumer. A record replaced by a
+     * later one with the same key is skipped, so each key is passed once, at the position of its latest record. The
+     * index is read entry by entry instead of being loaded, so the memory required does not depend on the number of
+     * records. Index entries pointing outside of their segment are skipped.
+     *
+     * @param consumer the {@link RecordConsumer} receiving the records
+     * @return the number of records passed to the consumer
+     * @throws IOException if reading the index, the hash table, or a record fails or if the consumer fails
+     */
+    public int forEach(RecordConsumer consumer) throws IOException {
+        int[] count = new int[1];
+        flush();
+        if (indexChannel != null) {
+            scanIndex(0, (position, keyBytes, location) -> {
+                findSlot(keyBytes, hash(keyBytes));
+                if (slotBuffer.getLong(Long.BYTES) - 1 == position) {
+                    String key = new String(keyBytes, StandardCharsets.UTF_8);
+                    consumer.accept(key, readRecord(key, location));
+                    count[0]++;
+                }
+            });
+        }
+        return count[0];
+    }
+
+    /**
+     * Reads the record at the given location, which must be written to its segment already.
+     *
+     * @param key the key identifying the record
+     * @param location the location of the record
+     * @return the data of the record
+     * @throws IOException if reading the record fails
+     */
+    private byte[] readRecord(String key, RecordLocation location) throws IOException {
+        if (readChannel == null || readSegment != location.segment) {
+            closeReadChannel();
+            readChannel = FileChannel.open(getSegmentFile(location.segment), StandardOpenOption.READ);
+            readSegment = location.segment;
+        }
+        byte[] data = new byte[location.length];
+        ByteBuffer dataView = ByteBuffer.wrap(data);
+        long position = location.offset;
+        while (dataView.hasRemaining()) {
+            int read = readChannel.read(dataView, position);
+            if (read < 0) {
+                throw new IOException("Record \"" + key + "\" exceeds segment " + location.segment);
+            }
+            position += read;
+        }
+        return data;
+    }
+
+    /**
+     * Writes all buffered data and index entries to their files.
+     *
+     * @throws IOException if writing fails
+     */
+    public void flush() throws IOException {
+        flushData();
+        if (indexBuffer.position() > 0) {
+            if (indexChannel == null) {
+                openIndex();
+            }
+            long position = indexSize;
+            indexBuffer.flip();
+            while (indexBuffer.hasRemaining()) {
+                position += indexChannel.write(indexBuffer, position);
+            }
+            // The table is only updated after the entries are written, so it never points behind the index; until the
+            // header is written again, an interrupted run leaves an invalid table, which is rebuilt
+            invalidateHashHeader();
+            indexBuffer.flip();
+            while (indexBuffer.hasRemaining()) {
+                long entryPosition = indexSize + indexBuffer.position();
+                byte[] keyBytes = new byte[Short.toUnsignedInt(indexBuffer.getShort())];
+                indexBuffer.get(keyBytes);
+                indexBuffer.position(indexBuffer.position() + RecordLocation.ENCODED_SIZE);
+                putSlot(keyBytes, entryPosition);
+            }
+            indexBuffer.clear();
+            pending.clear();
+            indexSize = position;
+            hashCoveredSize = position;
+            writeHashHeader();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            closeReadChannel();
+            if (segmentChannel != null) {
+                segmentChannel.close();
+                segmentChannel = null;
+            }
+            if (indexChannel != null) {
+                indexChannel.close();
+                indexChannel = null;
+            }
+            if (hashChannel != null) {
+                hashChannel.close();
+                hashChannel = null;
+            }
+        }
+    }
+
+    /**
+     * Returns the segment file with the given number.
+     *
+     * @param number the number of the segment
+     * @return the segment file
+     */
+    public Path getSegmentFile(int number) {
+        return directory.resolve(String.format("%s-%05d%s", name, number, SEGMENT_EXTENSION));
+    }
+
+    /**
+     * Returns the index file.
+     *
+     * @return the index file
+     */
+    public Path getIndexFile() {
+        return directory.resolve(name + INDEX_EXTENSION);
+    }
+
+    /**
+     * Returns the hash table of the index.
+     *
+     * @return the hash table file
+     */
+    public Path getHashFile() {
+        return directory.resolve(name + HASH_EXTENSION);
+    }
+
+    /**
+     * Opens the segment to append to. This is either the last existing segment, if it is smaller than the
+     * {@link #segmentSize}, or a new segment.
+     *
+     * @throws IOException if opening the segment fails
+     */
+    private void startSegment() throws IOException {
+        if (segmentChannel != null) {
+            flushData();
+            segmentChannel.close();
+            segmentNumber++;
+            segmentPosition = 0;
+        } else if (segmentPosition >= segmentSize) {
+            segmentNumber++;
+            segmentPosition = 0;
+        }
+        segmentChannel = FileChannel.open(getSegmentFile(segmentNumber), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Writes all buffered data to the current segment.
+     *
+     * @throws IOException if writing fails
+     */
+    private void flushData() throws IOException {
+        if (dataBuffer.position() > 0) {
+            dataBuffer.flip();
+            writeFully(segmentChannel, dataBuffer);
+            dataBuffer.clear();
+        }
+    }
+
+    /**
+     * Closes the {@link #readChannel}, if it is open.
+     *
+     * @throws IOException if closing the channel fails
+     */
+    private void closeReadChannel() throws IOException {
+        if (readChannel != null) {
+            FileChannel channel = readChannel;
+            readChannel = null;
+            channel.close();
+        }
+    }
+
+    /**
+     * Removes an incomplete last entry of the index file, which an interrupted run may have left. Otherwise, all
+     * entries appended afterwards would be misaligned.
+     *
+     * @throws IOException if reading or truncating the index file fails
+     */
+    private void truncateIncompleteIndexEntry() throws IOException {
+        Path indexFile = getIndexFile();
+        if (Files.exists(indexFile)) {
+            long size = Files.size(indexFile);
+            long completeSize = 0;
+            try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile),
+                    BUFFER_SIZE))) {
+                boolean complete = true;
+                while (complete && size - completeSize >= Short.BYTES) {
+                    int keyLength = input.readUnsignedShort();
+                    int remainingLength = keyLength + RecordLocation.ENCODED_SIZE;
+                    complete = size - completeSize - Short.BYTES >= remainingLength;
+                    if (complete) {
+                        skipFully(input, remainingLength);
+                        completeSize += Short.BYTES + remainingLength;
+                    }
+                }
+            }
+            if (completeSize < size) {
+                try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.WRITE)) {
+                    channel.truncate(completeSize);
+                }
+            }
+        }
+    }
+
+    /**
+     * Opens the index file and its hash table. The hash table is created, if it does not exist, and rebuilt, if its
+     * header does not match the index file. Afterwards, the entries not covered by the hash table yet are added.
+     *
+     * @throws IOException if opening the files or updating the hash table fails
+     */
+    private void openIndex() throws IOException {
+        indexChannel = FileChannel.open(getIndexFile(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        indexSize = indexChannel.size();
+        hashChannel = FileChannel.open(getHashFile(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        hashCoveredSize = -1;
+        if (hashChannel.size() >= HASH_HEADER_SIZE) {
+            ByteBuffer header = ByteBuffer.allocate(HASH_HEADER_SIZE);
+            readFully(hashChannel, header, 0);
+            header.flip();
+            boolean valid = header.getInt() == HASH_MAGIC;
+            hashCapacity = header.getLong();
+            hashCount = header.getLong();
+            hashCoveredSize = header.getLong();
+            valid &= hashCapacity >= INITIAL_CAPACITY && Long.bitCount(hashCapacity) == 1 && hashCount >= 0
+                    && hashCount < hashCapacity && hashCoveredSize <= indexSize
+                    && hashChannel.size() == HASH_HEADER_SIZE + hashCapacity * SLOT_SIZE;
+            if (!valid) {
+                hashCoveredSize = -1;
+            }
+        }
+        if (hashCoveredSize < 0) {
+            // Missing or damaged: rebuilt from the whole index
+            hashChannel.truncate(0);
+            hashCapacity = INITIAL_CAPACITY;
+            hashCount = 0;
+            hashCoveredSize = 0;
+            extend(hashChannel, HASH_HEADER_SIZE + hashCapacity * SLOT_SIZE);
+        }
+        if (hashCoveredSize < indexSize) {
+            invalidateHashHeader();
+            scanIndex(hashCoveredSize, (position, keyBytes, location) -> putSlot(keyBytes, position));
+            hashCoveredSize = indexSize;
+        }
+        writeHashHeader();
+    }
+
+    /**
+     * Reads the entries of the index file starting at the given position and passes those pointing inside of their
+     * segment to the given visitor. An incomplete last entry is ignored.
+     *
+     * @param from the position of the first entry to read
+     * @param visitor the {@link IndexEntryVisitor} receiving the entries
+     * @throws IOException if reading the index file fails or if the visitor fails
+     */
+    private void scanIndex(long from, IndexEntryVisitor visitor) throws IOException {
+        Map<Integer, Long> segmentSizes = new HashMap<Integer, Long>();
+        long position = from;
+        try (FileChannel channel = FileChannel.open(getIndexFile(), StandardOpenOption.READ);
+                DataInputStream input = new DataInputStream(new BufferedInputStream(
+                        Channels.newInputStream(channel.position(from)), BUFFER_SIZE))) {
+            while (indexSize - position >= Short.BYTES + RecordLocation.ENCODED_SIZE) {
+                byte[] keyBytes = new byte[input.readUnsignedShort()];
+                input.readFully(keyBytes);
+                RecordLocation location = new RecordLocation(input.readInt(), input.readLong(), input.readInt());
+                if (isInSegment(location, segmentSizes)) {
+                    visitor.visit(position, keyBytes, location);
+                }
+                position += Short.BYTES + keyBytes.length + RecordLocation.ENCODED_SIZE;
+            }
+        }
+    }
+
+    /**
+     * Reads the index entry at the given position, if it has the given key.
+     *
+     * @param position the position of the entry in the index file
+     * @param keyBytes the expected key in UTF-8
+     * @return the location of the record or <code>null</code>, if the entry has a different key
+     * @throws IOException if reading the index file fails
+     */
+    private RecordLocation readIndexEntry(long position, byte[] keyBytes) throws IOException {
+        RecordLocation location = null;
+        ByteBuffer entry = ByteBuffer.allocate(Short.BYTES + keyBytes.length + RecordLocation.ENCODED_SIZE);
+        readFully(indexChannel, entry, position);
+        entry.flip();
+        if (Short.toUnsignedInt(entry.getShort()) == keyBytes.length) {
+            boolean matches = true;
+            for (int i = 0; i < keyBytes.length && matches; i++) {
+                matches = entry.get() == keyBytes[i];
+            }
+            if (matches) {
+                location = RecordLocation.decode(entry);
+            }
+        }
+        return location;
+    }
+
+    /**
+     * Finds the slot of the hash table holding the given key or, if the key is not contained, the empty slot where it
+     * would be inserted. The content of the slot is left in the {@link #slotBuffer}.
+     *
+     * @param keyBytes the key in UTF-8
+     * @param hash the {@link #hash(byte[])} of the key
+     * @return the number of the slot
+     * @throws IOException if reading the hash table or the index file fails
+     */
+    private long findSlot(byte[] keyBytes, long hash) throws IOException {
+        long slot = hash & (hashCapacity - 1);
+        boolean found = false;
+        while (!found) {
+            readSlot(slot);
+            long position = slotBuffer.getLong(Long.BYTES) - 1;
+            found = position < 0
+                    || slotBuffer.getLong(0) == hash && readIndexEntry(position, keyBytes) != null;
+            if (!found) {
+                slot = (slot + 1) & (hashCapacity - 1);
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * Points the slot of the given key to the given index entry. The hash table grows, if it is half full afterwards.
+     * The header must be invalidated before (see {@link #invalidateHashHeader()}).
+     *
+     * @param keyBytes the key in UTF-8
+     * @param position the position of the index entry of the key, which must be written already
+     * @throws IOException if reading or writing the hash table fails
+     */
+    private void putSlot(byte[] keyBytes, long position) throws IOException {
+        long hash = hash(keyBytes);
+        long slot = findSlot(keyBytes, hash);
+        if (slotBuffer.getLong(Long.BYTES) == 0) {
+            hashCount++;
+        }
+        writeSlot(hashChannel, slot, hash, position);
+        if (hashCount * 2 > hashCapacity) {
+            growHashTable();
+        }
+    }
+
+    /**
+     * Doubles the capacity of the hash table. The slots are copied to a new file, which replaces the current one. The
+     * new file has no valid header until {@link #writeHashHeader()} is called.
+     *
+     * @throws IOException if reading or writing the hash tables fails
+     */
+    private void growHashTable() throws IOException {
+        long capacity = hashCapacity * 2;
+        Path newFile = directory.resolve(name + HASH_EXTENSION + ".tmp");
+        try (FileChannel newChannel = FileChannel.open(newFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            extend(newChannel, HASH_HEADER_SIZE + capacity * SLOT_SIZE);
+            ByteBuffer slots = ByteBuffer.allocate(BUFFER_SIZE);
+            ByteBuffer newSlot = ByteBuffer.allocate(SLOT_SIZE);
+            for (long first = 0; first < hashCapacity; first += BUFFER_SIZE / SLOT_SIZE) {
+                slots.clear();
+                slots.limit((int) Math.min(BUFFER_SIZE, (hashCapacity - first) * SLOT_SIZE));
+                readFully(hashChannel, slots, HASH_HEADER_SIZE + first * SLOT_SIZE);
+                slots.flip();
+                while (slots.hasRemaining()) {
+                    long hash = slots.getLong();
+                    long entry = slots.getLong();
+                    if (entry != 0) {
+                        // Keys are unique, hence the first empty slot is taken
+                        long slot = hash & (capacity - 1);
+                        newSlot.clear();
+                        readFully(newChannel, newSlot, HASH_HEADER_SIZE + slot * SLOT_SIZE);
+                        while (newSlot.getLong(Long.BYTES) != 0) {
+                            slot = (slot + 1) & (capacity - 1);
+                            newSlot.clear();
+                            readFully(newChannel, newSlot, HASH_HEADER_SIZE + slot * SLOT_SIZE);
+                        }
+                        writeSlot(newChannel, slot, hash, entry - 1);
+                    }
+                }
+            }
+        }
+        hashChannel.close();
+        Files.move(newFile, getHashFile(), StandardCopyOption.REPLACE_EXISTING);
+        hashChannel = FileChannel.open(getHashFile(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+        hashCapacity = capacity;
+    }
+
+    /**
+     * Reads the given slot of the hash table into the {@link #slotBuffer}.
+     *
+     * @param slot the number of the slot
+     * @throws IOException if reading fails
+     */
+    private void readSlot(long slot) throws IOException {
+        slotBuffer.clear();
+        readFully(hashChannel, slotBuffer, HASH_HEADER_SIZE + slot * SLOT_SIZE);
+    }
+
+    /**
+     * Marks the hash table as invalid until the next {@link #writeHashHeader()}. This must precede changing slots, so
+     * that a run interrupted meanwhile leaves a table that is rebuilt instead of one with a wrong number of used slots.
+     *
+     * @throws IOException if writing fails
+     */
+    private void invalidateHashHeader() throws IOException {
+        writeFully(hashChannel, ByteBuffer.allocate(Integer.BYTES), 0);
+    }
+
+    /**
+     * Writes the header of the hash table.
+     *
+     * @throws IOException if writing fails
+     */
+    private void writeHashHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HASH_HEADER_SIZE);
+        header.putInt(HASH_MAGIC);
+        header.putLong(hashCapacity);
+        header.putLong(hashCount);
+        header.putLong(hashCoveredSize);
+        header.flip();
+        writeFully(hashChannel, header, 0);
+    }
+
+    /**
+     * Checks whether the given location lies inside of its segment.
+     *
+     * @param location the location of a record
+     * @param segmentSizes the sizes of the segments checked so far by their number; extended by this method
+     * @return <code>true</code> if the segment exists and contains the record, <code>false</code> otherwise
+     * @throws IOException if determining the size of the segment fails
+     */
+    private boolean isInSegment(RecordLocation location, Map<Integer, Long> segmentSizes) throws IOException {
+        boolean inSegment = false;
+        if (location.segment >= 0 && location.segment <= segmentNumber && location.offset >= 0
+                && location.length >= 0) {
+            Long segmentFileSize = segmentSizes.get(location.segment);
+            if (segmentFileSize == null) {
+                Path segmentFile = getSegmentFile(location.segment);
+                segmentFileSize = Files.exists(segmentFile) ? Files.size(segmentFile) : -1L;
+                segmentSizes.put(location.segment, segmentFileSize);
+            }
+            inSegment = location.offset + location.length <= segmentFileSize;
+        }
+        return inSegment;
+    }
+
+    /**
+     * Skips the given number of bytes of the given stream.
+     *
+     * @param input the stream
+     * @param count the number of bytes to skip
+     * @throws IOException if the stream ends before or reading fails
+     */
+    private static void skipFully(DataInputStream input, int count) throws IOException {
+        int remaining = count;
+        while (remaining > 0) {
+            int skipped = input.skipBytes(remaining);
+            if (skipped <= 0) {
+                input.readByte();
+                skipped = 1;
+            }
+            remaining -= skipped;
+        }
+    }
+
+    /**
+     * Writes a slot of a hash table.
+     *
+     * @param channel the channel of the hash table
+     * @param slot the number of the slot
+     * @param hash the hash of the key
+     * @param position the position of the index entry of the key
+     * @throws IOException if writing fails
+     */
+    private static void writeSlot(FileChannel channel, long slot, long hash, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(SLOT_SIZE);
+        buffer.putLong(hash);
+        buffer.putLong(position + 1);
+        buffer.flip();
+        writeFully(channel, buffer, HASH_HEADER_SIZE + slot * SLOT_SIZE);
+    }
+
+    /**
+     * Extends the file of the given channel to the given size; the new bytes are <code>0</code>.
+     *
+     * @param channel the channel of the file
+     * @param size the new size of the file, which must be larger than the current size
+     * @throws IOException if writing fails
+     */
+    private static void extend(FileChannel channel, long size) throws IOException {
+        writeFully(channel, ByteBuffer.allocate(1), size - 1);
+    }
+
+    /**
+     * Computes the 64-bit hash of a key (FNV-1a followed by the finalizer of MurmurHash3).
+     *
+     * @param keyBytes the key in UTF-8
+     * @return the hash
+     */
+    private static long hash(byte[] keyBytes) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte keyByte : keyBytes) {
+            hash ^= keyByte & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * Reads bytes from the given position of the given channel until the given buffer is full.
+     *
+     * @param channel the {@link FileChannel} to read from
+     * @param buffer the {@link ByteBuffer} to fill
+     * @param position the position in the file
+     * @throws IOException if reading fails or the file ends before
+     */
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long current = position;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, current);
+            if (read < 0) {
+                throw new IOException("Unexpected end of file at position " + current);
+            }
+            current += read;
+        }
+    }
+
+    /**
+     * Writes all remaining bytes of the given buffer to the given position of the given channel.
+     *
+     * @param channel the {@link FileChannel} to write to
+     * @param buffer the {@link ByteBuffer} to write
+     * @param position the position in the file
+     * @throws IOException if writing fails
+     */
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long current = position;
+        while (buffer.hasRemaining()) {
+            current += channel.write(buffer, current);
+        }
+    }
+
+    /**
+     * Writes all remaining bytes of the given buffer to the given channel.
+     *
+     * @param channel the {@link FileChannel} to write to
+     * @param buffer the {@link ByteBuffer} to write
+     * @throws IOException if writing fails
+     */
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * This class describes the location of a record in the segment files.
+     */
+    private static class RecordLocation {
+
+        /**
+         * The number of bytes of an encoded location.
+         */
+        private static final int ENCODED_SIZE = Integer.BYTES + Long.BYTES + Integer.BYTES;
+
+        /**
+         * The number of the segment containing the record.
+         */
+        private int segment;
+
+        /**
+         * The offset of the record in its segment.
+         */
+        private long offset;
+
+        /**
+         * The length of the record in bytes.
+         */
+        private int length;
+
+        /**
+         * Creates a new location.
+         *
+         * @param segment the number of the segment containing the record
+         * @param offset the offset of the record in its segment
+         * @param length the length of the record in bytes
+         */
+        private RecordLocation(int segment, long offset, int length) {
+            this.segment = segment;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        /**
+         * Writes this location to the given buffer.
+         *
+         * @param buffer the {@link ByteBuffer} to write to
+         */
+        private void encode(ByteBuffer buffer) {
+            buffer.putInt(segment);
+            buffer.putLong(offset);
+            buffer.putInt(length);
+        }
+
+        /**
+         * Reads a location from the given buffer.
+         *
+         * @param buffer the {@link ByteBuffer} to read from
+         * @return the location
+         */
+        private static RecordLocation decode(ByteBuffer buffer) {
+            return new RecordLocation(buffer.getInt(), buffer.getLong(), buffer.getInt());
+        }
+    }
+
+}
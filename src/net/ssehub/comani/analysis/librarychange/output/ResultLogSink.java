@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.comani.analysis.librarychange.output;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import net.ssehub.comani.analysis.librarychange.diff.AnalysisResult;
+
+/**
+ * This class realizes a {@link ResultSink}, which appends all {@link AnalysisResult}s to a single {@link ResultLog}
+ * named "<tt>changedlibs</tt>" in the output directory. Each record is the result in the format of the given
+ * {@link ResultSerializer}, terminated by a line break, and keyed by the id of the analyzed commit. Results serialized
+ * to nothing, e.g., CSV results without library changes, are recorded as empty records. The header of the serializer
+ * is not written.
+ */
+public class ResultLogSink implements ResultSink {
+    
+    /**
+     * The name of the {@link ResultLog} to which the results are written.
+     */
+    public static final String LOG_NAME = "changedlibs";
+    
+    /**
+     * The {@link ResultLog} to which the results are written.
+     */
+    private ResultLog log;
+    
+    /**
+     * The {@link ResultSerializer} defining the format of the records.
+     */
+    private ResultSerializer serializer;
+    
+    /**
+     * The buffer receiving the serialized result, which is reused for all records.
+     */
+    private RecordBuffer recordBuffer;
+    
+    /**
+     * The {@link Writer} encoding the serialized result into the {@link #recordBuffer}.
+     */
+    private Writer recordWriter;
+    
+    /**
+     * Creates a new sink writing to the result log in the given directory. An existing log is continued.
+     * 
+     * @param outputDirectory the existing directory containing the result log
+     * @param segmentSize the size in bytes after which a new segment of the log is started
+     * @param serializer the {@link ResultSerializer} defining the format of the records
+     * @throws IOException if opening the log fails
+     */
+    public ResultLogSink(Path outputDirectory, long segmentSize, ResultSerializer serializer) throws IOException {
+        log = new ResultLog(outputDirectory, LOG_NAME, segmentSize);
+        this.serializer = serializer;
+        recordBuffer = new RecordBuffer();
+        recordWriter = new OutputStreamWriter(recordBuffer, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(AnalysisResult result) throws IOException {
+        recordBuffer.reset();
+        serializer.serialize(result, recordWriter);
+        recordWriter.flush();
+        recordBuffer.terminateLine();
+        recordBuffer.appendTo(log, result.getCommitId());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String describeLocation(AnalysisResult result) {
+        return log.getIndexFile().toString();
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void flush() throws IOException {
+        log.flush();
+    }
+    
+    /**
+     * Returns the {@link ResultLog} to which the results are written, e.g., for looking up the result of a single
+     * commit.
+     * 
+     * @return the result log
+     */
+    public ResultLog getLog() {
+        return log;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        log.close();
+    }
+
+    /**
+     * This class provides access to the internal array of a {@link ByteArrayOutputStream} to avoid copying each
+     * record before appending it to the log.
+     */
+    private static class RecordBuffer extends ByteArrayOutputStream {
+        
+        /**
+         * Appends a line break, if this buffer is not empty and does not end with a line break already.
+         */
+        private void terminateLine() {
+            if (count > 0 && buf[count - 1] != '\n') {
+                write('\n');
+            }
+        }
+        
+        /**
+         * Appends the content of this buffer as record to the given log.
+         * 
+         * @param log the {@link ResultLog} to append to
+         * @param key the key of the record
+         * @throws IOException if appending fails
+         */
+        private void appendTo(ResultLog log, String key) throws IOException {
+            log.append(key, buf, 0, count);
+        }
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.comani.analysis.librarychange.output;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import net.ssehub.comani.analysis.librarychange.diff.AnalysisResult;
+
+/**
+ * This interface defines the format in which {@link AnalysisResult}s are written to the output. Implementations write
+ * directly to the given {@link Writer} without building intermediate strings and must be stateless, as the same
+ * instance may be used for multiple outputs.
+ * <br><br>
+ * Besides the formats provided by this package, any class implementing this interface and providing a public no-arg
+ * constructor can be used by defining its fully qualified name as output format.
+ */
+public interface ResultSerializer {
+    
+    /**
+     * Writes the header preceding all serialized results of a standalone output file, e.g., the column names of a CSV
+     * file. The default implementation writes nothing.
+     * 
+     * @param writer the {@link Writer} to write the header to
+     * @throws IOException if writing fails
+     */
+    public default void writeHeader(Writer writer) throws IOException {
+        // No header by default
+    }
+
+    /**
+     * Writes the given result.
+     * 
+     * @param result the {@link AnalysisResult} to serialize
+     * @param writer the {@link Writer} to write the serialized result to
+     * @throws IOException if writing fails
+     */
+    public void serialize(AnalysisResult result, Writer writer) throws IOException;
+    
+    /**
+     * Returns the extension of files containing results in the format of this serializer, e.g.,
+     * "<tt>.changedlibs.json</tt>".
+     * 
+     * @return the file extension including the leading dot
+     */
+    public String getFileExtension();
+    
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.comani.analysis.librarychange.output;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import net.ssehub.comani.analysis.librarychange.diff.AnalysisResult;
+
+/**
+ * This interface defines the persistent destination of {@link AnalysisResult}s. Implementations are only accessed by
+ * a single thread at a time.
+ */
+public interface ResultSink extends Closeable {
+
+    /**
+     * Persists the given result.
+     * 
+     * @param result the {@link AnalysisResult} to persist
+     * @throws IOException if persisting the result fails
+     */
+    public void write(AnalysisResult result) throws IOException;
+    
+    /**
+     * Returns a human-readable description of the location, to which the given result is written; used for messages.
+     * 
+     * @param result the {@link AnalysisResult} for which the location shall be described
+     * @return the description of the location
+     */
+    public String describeLocation(AnalysisResult result);
+    
+    /**
+     * Writes all results passed to {@link #write(AnalysisResult)} so far, which are still buffered, to their
+     * persistent destination. The default implementation does nothing, as it assumes that results are not buffered.
+     * 
+     * @throws IOException if writing fails
+     */
+    public default void flush() throws IOException {
+        // Nothing buffered by default
+    }
+    
+}
@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.comani.analysis.librarychange.output;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import net.ssehub.comani.analysis.librarychange.diff.AnalysisResult;
+import net.ssehub.comani.analysis.librarychange.diff.MemoryBudget;
+import net.ssehub.comani.analysis.librarychange.diff.ResultCodec;
+
+/**
+ * This class retains {@link AnalysisResult}s within a {@link MemoryBudget}. Results are kept in memory and count
+ * towards the budget; as soon as the budget is exceeded, all results in memory are encoded (see {@link ResultCodec})
+ * and appended to a {@link ResultLog} in a temporary directory. The budget should be a {@link MemoryBudget#share(int)}
+ * of its own, so each spill frees the whole share and the next spill only happens after the share is filled again.
+ * As results are always spilled completely and in the order they were added, {@link #forEach(ResultVisitor)} streams
+ * the spilled and the in-memory results in that order; {@link #getResults()} collects them in memory.
+ * <br><br>
+ * The temporary directory is created by the first spill and deleted by {@link #close()} or, at the latest, when the
+ * virtual machine terminates. Instances are not thread-safe.
+ */
+public class SpillingResultStore implements Closeable {
+
+    /**
+     * This interface defines the receiver of the results streamed by
+     * {@link SpillingResultStore#forEach(ResultVisitor)}.
+     */
+    public interface ResultVisitor {
+
+        /**
+         * Receives a retained result.
+         *
+         * @param result the {@link AnalysisResult}
+         * @throws IOException if processing the result fails; streaming stops in this case
+         */
+        public void visit(AnalysisResult result) throws IOException;
+    }
+
+    /**
+     * The common name of the segment and index files of the {@link #spillLog}.
+     */
+    private static final String LOG_NAME = "results";
+
+    /**
+     * The size in bytes after which a new segment of the {@link #spillLog} is started.
+     */
+    private static final long SEGMENT_SIZE = 64L * 1024 * 1024;
+
+    /**
+     * The prefix of the name of the temporary directory.
+     */
+    private static final String DIRECTORY_PREFIX = "librarychange-spill";
+
+    /**
+     * The {@link MemoryBudget}, which the results in memory count towards.
+     */
+    private MemoryBudget memoryBudget;
+
+    /**
+     * The results, which are not spilled yet, in terms of the commit id (key) and their {@link AnalysisResult}
+     * (value).
+     */
+    private LinkedHashMap<String, AnalysisResult> memoryResults;
+
+    /**
+     * The estimated size in bytes of the {@link #memoryResults}.
+     */
+    private long memorySize;
+
+    /**
+     * The temporary directory of the {@link #spillLog}; <code>null</code>, if no results were spilled yet.
+     */
+    private Path spillDirectory;
+
+    /**
+     * The log of the spilled results, which are keyed by their position; <code>null</code>, if no results were
+     * spilled yet.
+     */
+    private ResultLog spillLog;
+
+    /**
+     * The number of spilled results.
+     */
+    private int spilledCount;
+
+    /**
+     * The number of segments of the {@link #spillLog}, which are registered for deletion when the virtual machine
+     * terminates.
+     */
+    private int registeredSegments;
+
+    /**
+     * Creates a new, empty store.
+     *
+     * @param memoryBudget the {@link MemoryBudget}, which the results in memory count towards
+     */
+    public SpillingResultStore(MemoryBudget memoryBudget) {
+        this.memoryBudget = memoryBudget;
+        memoryResults = new LinkedHashMap<String, AnalysisResult>();
+    }
+
+    /**
+     * Adds the given result. If the {@link MemoryBudget} is exceeded afterwards, all results in memory are spilled to
+     * disk.
+     *
+     * @param result the {@link AnalysisResult} to add; a later result of the same commit replaces the earlier one
+     * @throws IOException if spilling the results fails; the results are kept in memory in this case
+     */
+    public void put(AnalysisResult result) throws IOException {
+        long size = MemoryBudget.estimateSize(result);
+        AnalysisResult replaced = memoryResults.put(result.getCommitId(), result);
+        if (replaced != null) {
+            release(MemoryBudget.estimateSize(replaced));
+        }
+        memorySize += size;
+        memoryBudget.reserve(size);
+        if (memoryBudget.isExceeded()) {
+            spill();
+        }
+    }
+
+    /**
+     * Passes all added results in the order they were added to the given visitor. Spilled results are read back from
+     * disk one at a time, so the memory required does not depend on the number of spilled results. A result replaced
+     * after its predecessor was spilled is passed twice. This store must not be changed while streaming.
+     *
+     * @param visitor the {@link ResultVisitor} receiving the results
+     * @throws IOException if reading the spilled results fails or if the visitor fails
+     */
+    public void forEach(ResultVisitor visitor) throws IOException {
+        if (spillLog != null) {
+            int readCount = spillLog.forEach((key, record) -> visitor.visit(ResultCodec.decode(record)));
+            if (readCount < spilledCount) {
+                throw new IOException((spilledCount - readCount) + " spilled results missing in " + spillDirectory);
+            }
+        }
+        for (AnalysisResult result : memoryResults.values()) {
+            visitor.visit(result);
+        }
+    }
+
+    /**
+     * Returns all added results in the order they were added. Spilled results are read back from disk, so all results
+     * are in memory afterwards; {@link #forEach(ResultVisitor)} avoids this.
+     *
+     * @return the results in terms of the commit id (key) and their {@link AnalysisResult} (value)
+     * @throws IOException if reading the spilled results fails
+     */
+    public LinkedHashMap<String, AnalysisResult> getResults() throws IOException {
+        LinkedHashMap<String, AnalysisResult> results = new LinkedHashMap<String, AnalysisResult>();
+        forEach(result -> results.put(result.getCommitId(), result));
+        return results;
+    }
+
+    /**
+     * Returns the number of results spilled to disk so far.
+     *
+     * @return the number of spilled results
+     */
+    public int getSpilledCount() {
+        return spilledCount;
+    }
+
+    /**
+     * Drops all results and deletes the temporary directory, if results were spilled. This store is empty afterwards.
+     *
+     * @throws IOException if deleting the temporary directory fails
+     */
+    @Override
+    public void close() throws IOException {
+        release(memorySize);
+        memoryResults.clear();
+        if (spillLog != null) {
+            try {
+                spillLog.close();
+            } finally {
+                spillLog = null;
+                spilledCount = 0;
+                registeredSegments = 0;
+                try (Stream<Path> files = Files.list(spillDirectory)) {
+                    for (Path file : files.collect(Collectors.toList())) {
+                        Files.deleteIfExists(file);
+                    }
+                }
+                Files.deleteIfExists(spillDirectory);
+                spillDirectory = null;
+            }
+        }
+    }
+
+    /**
+     * Appends all results in memory to the {@link #spillLog} and removes them from memory.
+     *
+     * @throws IOException if writing the results fails
+     */
+    private void spill() throws IOException {
+        if (spillLog == null) {
+            spillDirectory = Files.createTempDirectory(DIRECTORY_PREFIX);
+            // Files registered later are deleted first, so the directory is empty when it is deleted
+            spillDirectory.toFile().deleteOnExit();
+            spillLog = new ResultLog(spillDirectory, LOG_NAME, SEGMENT_SIZE);
+            spillLog.getIndexFile().toFile().deleteOnExit();
+            spillLog.getHashFile().toFile().deleteOnExit();
+        }
+        int count = spilledCount;
+        for (AnalysisResult result : memoryResults.values()) {
+            spillLog.append(Integer.toString(count), ResultCodec.encode(result));
+            count++;
+        }
+        spillLog.flush();
+        // Only the segments started by this spill are registered, as registrations are never removed
+        while (Files.exists(spillLog.getSegmentFile(registeredSegments))) {
+            spillLog.getSegmentFile(registeredSegments).toFile().deleteOnExit();
+            registeredSegments++;
+        }
+        spilledCount = count;
+        release(memorySize);
+        memoryResults.clear();
+    }
+
+    /**
+     * Releases the given number of bytes of the {@link #memoryResults}.
+     *
+     * @param size the number of bytes
+     */
+    private void release(long size) {
+        memorySize -= size;
+        memoryBudget.release(size);
+    }
+
+}
@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.comani.analysis.librarychange.output;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import net.ssehub.comani.analysis.librarychange.diff.AnalysisResult;
+import net.ssehub.comani.analysis.librarychange.diff.MemoryBudget;
+import net.ssehub.comani.analysis.librarychange.metrics.AnalysisMetrics;
+import net.ssehub.comani.analysis.librarychange.metrics.AnalysisMetrics.Stage;
+import net.ssehub.comani.core.Logger;
+import net.ssehub.comani.core.Logger.MessageType;
+
+/**
+ * This class writes {@link AnalysisResult}s to a {@link ResultSink} as soon as they are available. Results are
+ * buffered in a bounded queue and persisted by a dedicated writer thread in the order they were passed to
+ * {@link #write(AnalysisResult)}. If the writer thread falls behind, {@link #write(AnalysisResult)} blocks until
+ * there is space in the buffer again. Hence, the memory required for pending results is bounded independent of the
+ * number of analyzed commits. Pending results count towards a {@link MemoryBudget} until they are written; while the
+ * budget is exceeded, {@link #write(AnalysisResult)} also blocks until the buffer is empty.
+ */
+public class StreamingResultWriter {
+
+    /**
+     * The identifier of this class, e.g., for printing messages.
+     */
+    private static final String ID = "StreamingResultWriter";
+
+    /**
+     * The element signaling the writer thread that no more results will follow.
+     */
+    private static final AnalysisResult END_OF_RESULTS = new AnalysisResult();
+
+    /**
+     * The time in milliseconds after which a blocked {@link #write(AnalysisResult)} checks for a terminated writer
+     * thread.
+     */
+    private static final long LIVENESS_CHECK_INTERVAL = 500;
+
+    /**
+     * The {@link ResultSink} to which the results are written.
+     */
+    private ResultSink sink;
+
+    /**
+     * The bounded buffer of results waiting to be written.
+     */
+    private BlockingQueue<AnalysisResult> buffer;
+
+    /**
+     * The {@link MemoryBudget}, which the results in the {@link #buffer} count towards.
+     */
+    private MemoryBudget memoryBudget;
+
+    /**
+     * The monitor notified by the {@link #writerThread} whenever it released a written result from the
+     * {@link #memoryBudget}.
+     */
+    private final Object budgetLock = new Object();
+
+    /**
+     * The thread taking results from the {@link #buffer} and writing them to the {@link #sink}.
+     */
+    private Thread writerThread;
+
+    /**
+     * Creates a new writer and starts its writer thread.
+     *
+     * @param sink the {@link ResultSink} to which the results are written
+     * @param bufferCapacity the maximum number of results waiting to be written; must be at least <code>1</code>
+     */
+    public StreamingResultWriter(ResultSink sink, int bufferCapacity) {
+        this(sink, bufferCapacity, MemoryBudget.UNLIMITED);
+    }
+
+    /**
+     * Creates a new writer and starts its writer thread.
+     *
+     * @param sink the {@link ResultSink} to which the results are written
+     * @param bufferCapacity the maximum number of results waiting to be written; must be at least <code>1</code>
+     * @param memoryBudget the {@link MemoryBudget}, which the results waiting to be written count towards
+     */
+    public StreamingResultWriter(ResultSink sink, int bufferCapacity, MemoryBudget memoryBudget) {
+        this.sink = sink;
+        this.memoryBudget = memoryBudget;
+        buffer = new ArrayBlockingQueue<AnalysisResult>(bufferCapacity);
+        writerThread = new Thread(this::writeResults, ID);
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Passes the given result to the writer thread. This method blocks, if the buffer is full or the
+     * {@link #memoryBudget} is exceeded. If the writer thread terminated unexpectedly, the result is dropped and an
+     * error is logged instead.
+     *
+     * @param result the {@link AnalysisResult} to write
+     * @throws InterruptedException if the calling thread is interrupted while waiting for space in the buffer
+     */
+    public void write(AnalysisResult result) throws InterruptedException {
+        // Reserve before the writer thread can release the result
+        long size = MemoryBudget.estimateSize(result);
+        memoryBudget.reserve(size);
+        boolean enqueued = false;
+        try {
+            awaitBudget();
+            enqueued = enqueue(result);
+        } finally {
+            if (!enqueued) {
+                memoryBudget.release(size);
+            }
+        }
+        if (!enqueued) {
+            Logger.getInstance().log(ID, "Could not write result", "Writer thread terminated; result for commit "
+                    + result.getCommitId() + " dropped", MessageType.ERROR);
+        }
+    }
+
+    /**
+     * Waits until all results passed to {@link #write(AnalysisResult)} are written and closes the {@link ResultSink}.
+     * If the calling thread is interrupted while waiting, the results not written yet are dropped, but the sink is
+     * closed anyway after the writer thread finished its current result; the interrupt status is restored afterwards.
+     * This writer cannot be used anymore afterwards.
+     *
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public void close() throws InterruptedException {
+        try {
+            if (enqueue(END_OF_RESULTS)) {
+                writerThread.join();
+            } else {
+                Logger.getInstance().log(ID, "Could not write all results", "Writer thread terminated; "
+                        + buffer.size() + " results not written", MessageType.ERROR);
+            }
+        } finally {
+            /*
+             * The sink must be closed in any case, but neither while the writer thread still writes to it nor while the
+             * interrupt status is set, which closes the file channels of the sink
+             */
+            boolean interrupted = Thread.interrupted();
+            interrupted |= stopWriterThread();
+            try {
+                sink.close();
+            } catch (IOException e) {
+                Logger.getInstance().log(ID, "Could not close result output", e.getMessage(), MessageType.ERROR);
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Drops the results waiting in the {@link #buffer} and waits until the {@link #writerThread} finished its current
+     * result and terminated. This method also waits, if the calling thread is interrupted. No results must be passed
+     * to {@link #write(AnalysisResult)} anymore.
+     *
+     * @return <code>true</code>, if the calling thread was interrupted while waiting, <code>false</code> otherwise
+     */
+    private boolean stopWriterThread() {
+        boolean interrupted = false;
+        if (writerThread.isAlive()) {
+            List<AnalysisResult> dropped = new ArrayList<AnalysisResult>();
+            buffer.drainTo(dropped);
+            dropped.removeIf(result -> result == END_OF_RESULTS);
+            for (AnalysisResult result : dropped) {
+                memoryBudget.release(MemoryBudget.estimateSize(result));
+            }
+            if (!dropped.isEmpty()) {
+                Logger.getInstance().log(ID, "Could not write all results", "Writing interrupted; " + dropped.size()
+                        + " results not written", MessageType.ERROR);
+            }
+            // Without producers, the drained buffer has space for the end signal
+            buffer.offer(END_OF_RESULTS);
+            while (writerThread.isAlive()) {
+                try {
+                    writerThread.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        return interrupted;
+    }
+
+    /**
+     * Waits while the {@link #memoryBudget} is exceeded and the {@link #buffer} still contains results, which release
+     * their size when they are written. Hence, a single result exceeding the budget is never blocked.
+     *
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    private void awaitBudget() throws InterruptedException {
+        synchronized (budgetLock) {
+            while (memoryBudget.isExceeded() && !buffer.isEmpty() && writerThread.isAlive()) {
+                budgetLock.wait(LIVENESS_CHECK_INTERVAL);
+            }
+        }
+    }
+
+    /**
+     * Puts the given result into the {@link #buffer}. While the buffer is full, this method waits as long as the
+     * {@link #writerThread} is alive.
+     *
+     * @param result the {@link AnalysisResult} to put
+     * @return <code>true</code> if the result was put into the buffer, <code>false</code> if the writer thread
+     *         terminated before there was space for it
+     * @throws InterruptedException if the calling thread is interrupted while waiting for space in the buffer
+     */
+    private boolean enqueue(AnalysisResult result) throws InterruptedException {
+        boolean enqueued = buffer.offer(result);
+        while (!enqueued && writerThread.isAlive()) {
+            enqueued = buffer.offer(result, LIVENESS_CHECK_INTERVAL, TimeUnit.MILLISECONDS);
+        }
+        return enqueued;
+    }
+
+    /**
+     * Writes the results from the {@link #buffer} to the {@link #sink} until {@link #END_OF_RESULTS} is received. This
+     * method is executed by the {@link #writerThread}. A failure of the sink only affects the current result.
+     */
+    private void writeResults() {
+        try {
+            AnalysisResult result = buffer.take();
+            while (result != END_OF_RESULTS) {
+                writeResult(result);
+                result = buffer.take();
+            }
+        } catch (InterruptedException e) {
+            Logger.getInstance().log(ID, "Writing results interrupted", e.getMessage(), MessageType.ERROR);
+        }
+    }
+
+    /**
+     * Writes the given result to the {@link #sink} and releases its size from the {@link #memoryBudget}.
+     *
+     * @param result the {@link AnalysisResult} to write
+     */
+    private void writeResult(AnalysisResult result) {
+        AnalysisMetrics metrics = AnalysisMetrics.getInstance();
+        long start = metrics.start();
+        try {
+            sink.write(result);
+            metrics.record(Stage.RESULT_WRITE, start);
+        } catch (IOException | RuntimeException e) {
+            Logger.getInstance().log(ID, "Could not write result", "Could not write result for commit "
+                    + result.getCommitId() + " to " + sink.describeLocation(result) + " - Stacktrace: "
+                    + e, MessageType.ERROR);
+        } finally {
+            memoryBudget.release(MemoryBudget.estimateSize(result));
+            synchronized (budgetLock) {
+                budgetLock.notifyAll();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.comani.analysis.librarychange.output;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+import net.ssehub.comani.analysis.librarychange.diff.AnalysisResult;
+import net.ssehub.comani.analysis.librarychange.diff.ArtifactError;
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult;
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry;
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry.LibraryInformation;
+
+/**
+ * This class realizes a {@link ResultSerializer} for the human-readable text format of
+ * {@link AnalysisResult#toString()}. The output is identical to that method, but written piecewise instead of
+ * building the nested strings first.
+ */
+public class TextResultSerializer implements ResultSerializer {
+    
+    /**
+     * The indentation of each nesting level.
+     */
+    private static final String INDENT = "    ";
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void serialize(AnalysisResult result, Writer writer) throws IOException {
+        writer.write("AnalysisResult [id=");
+        writer.write(String.valueOf(result.getCommitId()));
+        writer.write(", results=[\n");
+        List<BuildFileAnalysisResult> buildFileResults = result.getResults();
+        for (int i = 0; i < buildFileResults.size(); i++) {
+            serialize(buildFileResults.get(i), writer);
+            if (i < buildFileResults.size() - 1) {
+                writer.write(',');
+            }
+            writer.write('\n');
+        }
+        writer.write("  ]");
+        List<ArtifactError> errors = result.getErrors();
+        if (!errors.isEmpty()) {
+            writer.write(", errors=[\n");
+            for (int i = 0; i < errors.size(); i++) {
+                writer.write(INDENT);
+                writer.write(errors.get(i).toString());
+                if (i < errors.size() - 1) {
+                    writer.write(',');
+                }
+                writer.write('\n');
+            }
+            writer.write("  ]");
+        }
+        writer.write("\n]");
+    }
+    
+    /**
+     * Writes the given build file result with one level of indentation.
+     * 
+     * @param buildFileResult the {@link BuildFileAnalysisResult} to serialize
+     * @param writer the {@link Writer} to write the serialized result to
+     * @throws IOException if writing fails
+     */
+    private void serialize(BuildFileAnalysisResult buildFileResult, Writer writer) throws IOException {
+        writer.write(INDENT);
+        writer.write("BuildFileAnalysisResult [buildFile=");
+        writer.write(String.valueOf(buildFileResult.getBuildFile()));
+        writer.write(" libraryChanges=[\n");
+        List<LibraryEntry> libraryChanges = buildFileResult.getLibraryChanges();
+        for (int i = 0; i < libraryChanges.size(); i++) {
+            LibraryEntry entry = libraryChanges.get(i);
+            writer.write(INDENT);
+            writer.write(INDENT);
+            writer.write("LibraryEntry [previousLibrary=");
+            serialize(entry.getPreviousLibrary(), writer);
+            writer.write(", currentLibrary=");
+            serialize(entry.getCurrentLibrary(), writer);
+            writer.write(", changeType=");
+            writer.write(entry.getLibraryChangeType().name());
+            writer.write(']');
+            if (i < libraryChanges.size() - 1) {
+                writer.write(',');
+            }
+            writer.write('\n');
+        }
+        writer.write(INDENT);
+        writer.write("  ]\n");
+        writer.write(INDENT);
+        writer.write(']');
+    }
+
+    /**
+     * Writes the given library information as {@link LibraryInformation#toString()} does.
+     * 
+     * @param library the {@link LibraryInformation} to serialize; may be <code>null</code>
+     * @param writer the {@link Writer} to write the serialized information to
+     * @throws IOException if writing fails
+     */
+    private void serialize(LibraryInformation library, Writer writer) throws IOException {
+        if (library == null) {
+            writer.write("null");
+        } else {
+            writer.write("LibraryInformation [dependencyType=");
+            writer.write(String.valueOf(library.getDependencyType()));
+            writer.write(", identifier=");
+            writer.write(String.valueOf(library.getIdentifier()));
+            writer.write(", group=");
+            writer.write(String.valueOf(library.getGroup()));
+            writer.write(", version=");
+            writer.write(String.valueOf(library.getVersion()));
+            writer.write(", dependencyType=");
+            writer.write(String.valueOf(library.getDependencyType()));
+            writer.write(']');
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getFileExtension() {
+        return ".changedlibs.result";
+    }
+
+}
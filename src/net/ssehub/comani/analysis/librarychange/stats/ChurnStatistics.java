@@ -0,0 +1,436 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.comani.analysis.librarychange.stats;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+
+import net.ssehub.comani.analysis.librarychange.diff.AnalysisResult;
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult;
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry;
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry.LibraryChangeType;
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry.LibraryInformation;
+
+/**
+ * This class aggregates the dependency churn of a repository online, i.e., while the {@link AnalysisResult}s of its
+ * commits are consumed, so the common questions about the history are answered without reading the results again:
+ * <ul>
+ * <li>Exact counters: the number of commits, of commits with library changes, of library changes per
+ * {@link LibraryChangeType}, and of additions, removals, and version changes per window of commits</li>
+ * <li>The mean time between two upgrades (version changes) of the same library in commits, based on the commit of
+ * the last upgrade of each library</li>
+ * <li>The exact number of upgrades per library, from which the most volatile libraries are tracked</li>
+ * <li>{@link HyperLogLog} sketches of the distinct libraries, coordinates (libraries in a version), and build
+ * files</li>
+ * </ul>
+ * Libraries are identified by group and identifier, independent of their dependency type. An upgrade of the same
+ * library in multiple build files of a commit, e.g., in all modules of a project, is counted once. Time is measured in
+ * commits, i.e., in the position of a result among the consumed results, as the dates of commits are not part of the
+ * results.
+ * <p>
+ * The results have to be added in the order of the history by a single thread; the statistics are summarized by
+ * {@link #getSummary()} and written to the report file {@value #FILE_NAME} by {@link #writeReport(Path)}.
+ */
+public class ChurnStatistics {
+
+    /**
+     * The name of the report file in the output directory.
+     */
+    public static final String FILE_NAME = "changedlibs.churn";
+
+    /**
+     * The precision of the {@link HyperLogLog} sketches, which results in a standard error of about 1.6%.
+     */
+    private static final int DISTINCT_PRECISION = 12;
+
+    /**
+     * The number of most volatile libraries tracked and reported.
+     */
+    private static final int TOP_LIBRARIES = 10;
+
+    /**
+     * The number of counters per window in the {@link #windowCounts}: additions, removals, and version changes.
+     */
+    private static final int WINDOW_COUNTERS = 3;
+
+    /**
+     * The number of commits per window of the {@link #windowCounts}.
+     */
+    private int windowSize;
+
+    /**
+     * The number of consumed commits.
+     */
+    private long commits;
+
+    /**
+     * The number of consumed commits with at least one library change.
+     */
+    private long changedCommits;
+
+    /**
+     * The number of library changes by the ordinal of their {@link LibraryChangeType}.
+     */
+    private long[] changeCounts = new long[LibraryChangeType.values().length];
+
+    /**
+     * The additions, removals, and version changes of each window; window <i>w</i> starts at index <i>w</i> *
+     * {@link #WINDOW_COUNTERS}.
+     */
+    private long[] windowCounts = new long[WINDOW_COUNTERS * 16];
+
+    /**
+     * The estimated number of distinct libraries.
+     */
+    private HyperLogLog distinctLibraries = new HyperLogLog(DISTINCT_PRECISION);
+
+    /**
+     * The estimated number of distinct coordinates.
+     */
+    private HyperLogLog distinctCoordinates = new HyperLogLog(DISTINCT_PRECISION);
+
+    /**
+     * The estimated number of distinct build files.
+     */
+    private HyperLogLog distinctBuildFiles = new HyperLogLog(DISTINCT_PRECISION);
+
+    /**
+     * The names of the most volatile libraries found so far.
+     */
+    private String[] topNames = new String[TOP_LIBRARIES];
+
+    /**
+     * The upgrades of the {@link #topNames} at the same index.
+     */
+    private long[] topUpgrades = new long[TOP_LIBRARIES];
+
+    /**
+     * The number of used entries of the {@link #topNames}.
+     */
+    private int topCount;
+
+    /**
+     * The open addressing hash table of the hashes of the upgraded libraries; <code>0</code> marks an empty slot.
+     */
+    private long[] upgradeKeys = new long[256];
+
+    /**
+     * The commit of the last upgrade of the library in the {@link #upgradeKeys} at the same index.
+     */
+    private long[] lastUpgrades = new long[256];
+
+    /**
+     * The number of commits upgrading the library in the {@link #upgradeKeys} at the same index.
+     */
+    private long[] upgradeCounts = new long[256];
+
+    /**
+     * The number of used slots of the {@link #upgradeKeys}.
+     */
+    private int upgradedLibraries;
+
+    /**
+     * The sum of the commits between two upgrades of the same library.
+     */
+    private long upgradeIntervalSum;
+
+    /**
+     * The number of intervals summed up in {@link #upgradeIntervalSum}.
+     */
+    private long upgradeIntervals;
+
+    /**
+     * Creates new, empty statistics.
+     *
+     * @param windowSize the number of commits per window of the additions, removals, and version changes; must be
+     *        positive
+     */
+    public ChurnStatistics(int windowSize) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("Invalid window size " + windowSize);
+        }
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Adds the result of the next commit in the history.
+     *
+     * @param result the {@link AnalysisResult} of the commit
+     */
+    public void add(AnalysisResult result) {
+        commits++;
+        int window = (int) ((commits - 1) / windowSize);
+        if ((window + 1) * WINDOW_COUNTERS > windowCounts.length) {
+            windowCounts = Arrays.copyOf(windowCounts, Math.max(windowCounts.length * 2,
+                    (window + 1) * WINDOW_COUNTERS));
+        }
+        boolean changed = false;
+        for (BuildFileAnalysisResult buildFileResult : result.getResults()) {
+            distinctBuildFiles.add(hash(buildFileResult.getBuildFile()));
+            for (LibraryEntry entry : buildFileResult.getLibraryChanges()) {
+                LibraryChangeType changeType = entry.getLibraryChangeType();
+                changeCounts[changeType.ordinal()]++;
+                addDistinct(entry.getPreviousLibrary());
+                addDistinct(entry.getCurrentLibrary());
+                changed |= changeType != LibraryChangeType.NO_CHANGE;
+                if (changeType == LibraryChangeType.ADDITION) {
+                    windowCounts[window * WINDOW_COUNTERS]++;
+                } else if (changeType == LibraryChangeType.REMOVAL) {
+                    windowCounts[window * WINDOW_COUNTERS + 1]++;
+                } else if (changeType == LibraryChangeType.VERSION_CHANGE) {
+                    windowCounts[window * WINDOW_COUNTERS + 2]++;
+                    addUpgrade(entry.getCurrentLibrary());
+                }
+            }
+        }
+        if (changed) {
+            changedCommits++;
+        }
+    }
+
+    /**
+     * Adds the given library to the distinct libraries and coordinates.
+     *
+     * @param library the library; may be <code>null</code>
+     */
+    private void addDistinct(LibraryInformation library) {
+        if (library != null) {
+            String name = getName(library);
+            distinctLibraries.add(hash(name));
+            distinctCoordinates.add(hash(library.getVersion() == null ? name : name + ":" + library.getVersion()));
+        }
+    }
+
+    /**
+     * Records an upgrade of the given library in the current commit, unless it was already upgraded by this commit.
+     *
+     * @param library the upgraded library
+     */
+    private void addUpgrade(LibraryInformation library) {
+        String name = getName(library);
+        long hash = hash(name);
+        int slot = findSlot(hash);
+        if (upgradeKeys[slot] == 0) {
+            upgradeKeys[slot] = hash;
+            lastUpgrades[slot] = commits;
+            upgradeCounts[slot] = 1;
+            upgradedLibraries++;
+            updateTopLibraries(name, 1);
+            if (upgradedLibraries * 2 > upgradeKeys.length) {
+                growUpgrades();
+            }
+        } else if (lastUpgrades[slot] != commits) {
+            upgradeIntervalSum += commits - lastUpgrades[slot];
+            upgradeIntervals++;
+            lastUpgrades[slot] = commits;
+            upgradeCounts[slot]++;
+            updateTopLibraries(name, upgradeCounts[slot]);
+        }
+    }
+
+    /**
+     * Updates the most volatile libraries with the new number of upgrades of the given library. As the number of
+     * upgrades of a library only grows by one, a library exceeding the least volatile one always replaces it.
+     *
+     * @param name the name of the library
+     * @param upgrades the number of upgrades of the library
+     */
+    private void updateTopLibraries(String name, long upgrades) {
+        int index = 0;
+        while (index < topCount && !topNames[index].equals(name)) {
+            index++;
+        }
+        if (index == topCount && topCount == TOP_LIBRARIES) {
+            // Replaces the least volatile library, if the given one is more volatile
+            int minimum = 0;
+            for (int i = 1; i < topCount; i++) {
+                if (topUpgrades[i] < topUpgrades[minimum]) {
+                    minimum = i;
+                }
+            }
+            index = upgrades > topUpgrades[minimum] ? minimum : -1;
+        } else if (index == topCount) {
+            topCount++;
+        }
+        if (index >= 0) {
+            topNames[index] = name;
+            topUpgrades[index] = upgrades;
+        }
+    }
+
+    /**
+     * Returns the slot of the given hash in the {@link #upgradeKeys}.
+     *
+     * @param hash the hash of a library; not <code>0</code>
+     * @return the slot containing the hash or the empty slot, at which it would be inserted
+     */
+    private int findSlot(long hash) {
+        int mask = upgradeKeys.length - 1;
+        int slot = (int) hash & mask;
+        while (upgradeKeys[slot] != 0 && upgradeKeys[slot] != hash) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Doubles the capacity of the {@link #upgradeKeys}.
+     */
+    private void growUpgrades() {
+        long[] oldKeys = upgradeKeys;
+        long[] oldLastUpgrades = lastUpgrades;
+        long[] oldCounts = upgradeCounts;
+        upgradeKeys = new long[oldKeys.length * 2];
+        lastUpgrades = new long[oldKeys.length * 2];
+        upgradeCounts = new long[oldKeys.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = findSlot(oldKeys[i]);
+                upgradeKeys[slot] = oldKeys[i];
+                lastUpgrades[slot] = oldLastUpgrades[i];
+                upgradeCounts[slot] = oldCounts[i];
+            }
+        }
+    }
+
+    /**
+     * Returns the number of consumed commits.
+     *
+     * @return the number of commits
+     */
+    public long getCommits() {
+        return commits;
+    }
+
+    /**
+     * Returns the number of library changes of the given type.
+     *
+     * @param changeType the {@link LibraryChangeType}
+     * @return the exact number of library changes
+     */
+    public long getChangeCount(LibraryChangeType changeType) {
+        return changeCounts[changeType.ordinal()];
+    }
+
+    /**
+     * Returns the number of commits upgrading the given library.
+     *
+     * @param group the group of the library; may be <code>null</code>
+     * @param identifier the identifier of the library
+     * @return the number of upgrades; <code>0</code> if the library was never upgraded
+     */
+    public long getUpgrades(String group, String identifier) {
+        int slot = findSlot(hash(group == null ? identifier : group + ":" + identifier));
+        return upgradeKeys[slot] == 0 ? 0 : upgradeCounts[slot];
+    }
+
+    /**
+     * Returns the mean number of commits between two upgrades of the same library.
+     *
+     * @return the mean number of commits or <code>0</code>, if no library was upgraded twice
+     */
+    public double getMeanTimeBetweenUpgrades() {
+        return upgradeIntervals == 0 ? 0 : (double) upgradeIntervalSum / upgradeIntervals;
+    }
+
+    /**
+     * Summarizes the statistics.
+     *
+     * @return the multi-line summary
+     */
+    public String getSummary() {
+        StringBuilder summary = new StringBuilder(String.format(Locale.ENGLISH, "Commits:%n  %-50s %12d%n  %-50s %12d",
+                "analyzed", commits, "with library changes", changedCommits));
+        summary.append(String.format(Locale.ENGLISH, "%nLibrary changes:"));
+        for (LibraryChangeType changeType : LibraryChangeType.values()) {
+            summary.append(String.format(Locale.ENGLISH, "%n  %-50s %12d",
+                    changeType.name().toLowerCase(Locale.ENGLISH).replace('_', ' '), getChangeCount(changeType)));
+        }
+        summary.append(String.format(Locale.ENGLISH,
+                "%nDistinct (estimated):%n  %-50s %12d%n  %-50s %12d%n  %-50s %12d", "libraries",
+                distinctLibraries.estimate(), "coordinates", distinctCoordinates.estimate(),
+                "build files", distinctBuildFiles.estimate()));
+        summary.append(String.format(Locale.ENGLISH, "%nUpgrades:%n  %-50s %12d%n  %-50s %12.1f%n  %-50s %12d",
+                "upgraded libraries", upgradedLibraries, "mean commits between upgrades of a library",
+                getMeanTimeBetweenUpgrades(), "upgrade intervals", upgradeIntervals));
+        summary.append(String.format(Locale.ENGLISH, "%nMost volatile libraries (upgrades):"));
+        Integer[] order = new Integer[topCount];
+        for (int i = 0; i < topCount; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (first, second) -> Long.compare(topUpgrades[second], topUpgrades[first]));
+        for (int index : order) {
+            summary.append(String.format(Locale.ENGLISH, "%n  %-50s %12d", topNames[index], topUpgrades[index]));
+        }
+        summary.append(String.format(Locale.ENGLISH, "%nChanges per %d commits:%n  %-24s %12s %12s %12s",
+                windowSize, "commits", "additions", "removals", "versions"));
+        long windows = (commits + windowSize - 1) / windowSize;
+        for (int window = 0; window < windows; window++) {
+            int offset = window * WINDOW_COUNTERS;
+            summary.append(String.format(Locale.ENGLISH, "%n  %-24s %12d %12d %12d", (window * (long) windowSize + 1)
+                    + "-" + Math.min((window + 1) * (long) windowSize, commits), windowCounts[offset],
+                    windowCounts[offset + 1], windowCounts[offset + 2]));
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Writes the {@link #getSummary()} to the report file {@value #FILE_NAME} in the given directory, replacing an
+     * existing report.
+     *
+     * @param directory the output directory
+     * @throws IOException if writing the report fails
+     */
+    public void writeReport(Path directory) throws IOException {
+        Files.write(directory.resolve(FILE_NAME),
+                (getSummary() + System.lineSeparator()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the name of the given library, which identifies it independent of its version and dependency type.
+     *
+     * @param library the library
+     * @return the group and identifier separated by a colon or only the identifier, if the group is unknown
+     */
+    private static String getName(LibraryInformation library) {
+        return library.getGroup() == null ? library.getIdentifier()
+                : library.getGroup() + ":" + library.getIdentifier();
+    }
+
+    /**
+     * Computes a well-distributed 64-bit hash of the given key for the sketches: the FNV-1a hash of its characters
+     * followed by the finalizer of MurmurHash3. Unlike {@link String#hashCode()}, all bits of the result depend on all
+     * characters, which the {@link HyperLogLog} requires. The hash is never <code>0</code>.
+     *
+     * @param key the key
+     * @return the hash of the key
+     */
+    static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash == 0 ? 1 : hash;
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.comani.analysis.librarychange.stats;
+
+/**
+ * This class realizes a HyperLogLog sketch, which estimates the number of distinct keys in 2<sup>precision</sup>
+ * one-byte registers. The first <i>precision</i> bits of the 64-bit hash of a key select a register, which keeps the
+ * maximum position of the first one bit in the remaining bits. The relative standard error of the estimate is about
+ * 1.04 / 2<sup>precision / 2</sup>; small cardinalities are counted by linear counting of the empty registers.
+ * <p>
+ * Keys are given as 64-bit hashes (see {@link ChurnStatistics#hash(String)}). Sketches of the same precision can be
+ * merged, e.g., to combine the statistics of multiple analyses. Instances of this class are not thread-safe.
+ */
+public class HyperLogLog {
+
+    /**
+     * The number of hash bits selecting the register.
+     */
+    private int precision;
+
+    /**
+     * The registers.
+     */
+    private byte[] registers;
+
+    /**
+     * Creates a new, empty sketch.
+     *
+     * @param precision the number of hash bits selecting the register; between <code>4</code> and <code>18</code>
+     */
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 18) {
+            throw new IllegalArgumentException("Invalid precision " + precision);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    /**
+     * Adds the key with the given hash.
+     *
+     * @param hash the 64-bit hash of the key
+     */
+    public void add(long hash) {
+        int register = (int) (hash >>> (Long.SIZE - precision));
+        // The sentinel bit limits the rank, if all remaining bits are zero
+        long remainingBits = (hash << precision) | (1L << (precision - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(remainingBits) + 1);
+        if (rank > registers[register]) {
+            registers[register] = rank;
+        }
+    }
+
+    /**
+     * Estimates the number of distinct keys added to this sketch.
+     *
+     * @return the estimated number of distinct keys
+     */
+    public long estimate() {
+        int registerCount = registers.length;
+        double sum = 0;
+        int emptyRegisters = 0;
+        for (byte rank : registers) {
+            sum += 1.0 / (1L << rank);
+            if (rank == 0) {
+                emptyRegisters++;
+            }
+        }
+        double alpha = 0.7213 / (1 + 1.079 / registerCount);
+        double estimate = alpha * registerCount * registerCount / sum;
+        if (estimate <= 2.5 * registerCount && emptyRegisters > 0) {
+            estimate = registerCount * Math.log((double) registerCount / emptyRegisters);
+        }
+        return Math.round(estimate);
+    }
+
+    /**
+     * Adds the keys of the given sketch to this sketch. Afterwards, this sketch estimates the number of distinct
+     * keys added to either sketch.
+     *
+     * @param other the sketch to merge; must have the same precision as this sketch
+     */
+    public void merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Cannot merge a sketch of precision " + other.precision
+                    + " into a sketch of precision " + precision);
+        }
+        for (int i = 0; i < registers.length; i++) {
+            registers[i] = (byte) Math.max(registers[i], other.registers[i]);
+        }
+    }
+
+}
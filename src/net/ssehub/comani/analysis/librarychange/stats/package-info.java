@@ -0,0 +1,20 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+/**
+ * This package contains the dependency churn statistics of the analysis. The
+ * {@link net.ssehub.comani.analysis.librarychange.stats.ChurnStatistics} aggregate the results online while they are
+ * consumed, using exact counters and the mergeable, fixed-size sketch
+ * {@link net.ssehub.comani.analysis.librarychange.stats.HyperLogLog}, and summarize them in a report at the end of the
+ * analysis.
+ */
+package net.ssehub.comani.analysis.librarychange.stats;
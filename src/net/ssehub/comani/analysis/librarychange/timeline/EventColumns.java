@@ -0,0 +1,275 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.comani.analysis.librarychange.timeline;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * This class stores changes of libraries column by column in growable arrays of integers. The strings of a change
+ * are stored as their identifiers in the dictionary of the timeline; dependency types and versions, which are not
+ * defined, are stored as <code>-1</code>. The same layout is used for the changes of the running analysis and for
+ * decoded index blocks.
+ */
+final class EventColumns {
+
+    /**
+     * The number of stored changes.
+     */
+    private int size;
+
+    /**
+     * The sequence numbers of the commits of the changes.
+     */
+    private int[] sequences;
+
+    /**
+     * The dictionary identifiers of the libraries ("<tt>group:identifier</tt>") of the changes.
+     */
+    private int[] libraries;
+
+    /**
+     * The dictionary identifiers of the build files of the changes.
+     */
+    private int[] buildFiles;
+
+    /**
+     * The dictionary identifiers of the dependency types of the changes.
+     */
+    private int[] dependencyTypes;
+
+    /**
+     * The ordinals of the change types of the changes.
+     */
+    private int[] changeTypes;
+
+    /**
+     * The dictionary identifiers of the previous versions of the changes.
+     */
+    private int[] previousVersions;
+
+    /**
+     * The dictionary identifiers of the current versions of the changes.
+     */
+    private int[] currentVersions;
+
+    /**
+     * Creates new, empty columns.
+     *
+     * @param capacity the initial number of changes, which can be stored without growing the arrays
+     */
+    EventColumns(int capacity) {
+        int initialCapacity = Math.max(capacity, 1);
+        sequences = new int[initialCapacity];
+        libraries = new int[initialCapacity];
+        buildFiles = new int[initialCapacity];
+        dependencyTypes = new int[initialCapacity];
+        changeTypes = new int[initialCapacity];
+        previousVersions = new int[initialCapacity];
+        currentVersions = new int[initialCapacity];
+    }
+
+    /**
+     * Adds a change.
+     *
+     * @param sequence the sequence number of the commit
+     * @param library the identifier of the library
+     * @param buildFile the identifier of the build file
+     * @param dependencyType the identifier of the dependency type or <code>-1</code>
+     * @param changeType the ordinal of the change type
+     * @param previousVersion the identifier of the previous version or <code>-1</code>
+     * @param currentVersion the identifier of the current version or <code>-1</code>
+     */
+    void add(int sequence, int library, int buildFile, int dependencyType, int changeType, int previousVersion,
+            int currentVersion) {
+        if (size == sequences.length) {
+            int capacity = size * 2;
+            sequences = Arrays.copyOf(sequences, capacity);
+            libraries = Arrays.copyOf(libraries, capacity);
+            buildFiles = Arrays.copyOf(buildFiles, capacity);
+            dependencyTypes = Arrays.copyOf(dependencyTypes, capacity);
+            changeTypes = Arrays.copyOf(changeTypes, capacity);
+            previousVersions = Arrays.copyOf(previousVersions, capacity);
+            currentVersions = Arrays.copyOf(currentVersions, capacity);
+        }
+        sequences[size] = sequence;
+        libraries[size] = library;
+        buildFiles[size] = buildFile;
+        dependencyTypes[size] = dependencyType;
+        changeTypes[size] = changeType;
+        previousVersions[size] = previousVersion;
+        currentVersions[size] = currentVersion;
+        size++;
+    }
+
+    /**
+     * Adds the change at the given index of the given columns.
+     *
+     * @param other the columns containing the change
+     * @param index the index of the change
+     */
+    void add(EventColumns other, int index) {
+        add(other.sequences[index], other.libraries[index], other.buildFiles[index], other.dependencyTypes[index],
+                other.changeTypes[index], other.previousVersions[index], other.currentVersions[index]);
+    }
+
+    /**
+     * Removes all changes.
+     */
+    void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns the number of stored changes.
+     *
+     * @return the number of changes
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the sequence number of the commit of the change at the given index.
+     *
+     * @param index the index of the change
+     * @return the sequence number
+     */
+    int getSequence(int index) {
+        return sequences[index];
+    }
+
+    /**
+     * Returns the library of the change at the given index.
+     *
+     * @param index the index of the change
+     * @return the identifier of the library
+     */
+    int getLibrary(int index) {
+        return libraries[index];
+    }
+
+    /**
+     * Returns the build file of the change at the given index.
+     *
+     * @param index the index of the change
+     * @return the identifier of the build file
+     */
+    int getBuildFile(int index) {
+        return buildFiles[index];
+    }
+
+    /**
+     * Returns the dependency type of the change at the given index.
+     *
+     * @param index the index of the change
+     * @return the identifier of the dependency type or <code>-1</code>
+     */
+    int getDependencyType(int index) {
+        return dependencyTypes[index];
+    }
+
+    /**
+     * Returns the change type of the change at the given index.
+     *
+     * @param index the index of the change
+     * @return the ordinal of the change type
+     */
+    int getChangeType(int index) {
+        return changeTypes[index];
+    }
+
+    /**
+     * Returns the previous version of the change at the given index.
+     *
+     * @param index the index of the change
+     * @return the identifier of the previous version or <code>-1</code>
+     */
+    int getPreviousVersion(int index) {
+        return previousVersions[index];
+    }
+
+    /**
+     * Returns the current version of the change at the given index.
+     *
+     * @param index the index of the change
+     * @return the identifier of the current version or <code>-1</code>
+     */
+    int getCurrentVersion(int index) {
+        return currentVersions[index];
+    }
+
+    /**
+     * Writes all changes, which must belong to the same library and be sorted by their commits, as index block.
+     *
+     * @param output the output to write to
+     * @throws IOException if writing fails
+     */
+    void encode(DataOutput output) throws IOException {
+        int previousSequence = size > 0 ? sequences[0] : 0;
+        for (int i = 0; i < size; i++) {
+            TimelineFormat.writeVarint(output, sequences[i] - previousSequence);
+            previousSequence = sequences[i];
+        }
+        for (int i = 0; i < size; i++) {
+            TimelineFormat.writeVarint(output, buildFiles[i]);
+        }
+        for (int i = 0; i < size; i++) {
+            TimelineFormat.writeVarint(output, dependencyTypes[i] + 1);
+        }
+        for (int i = 0; i < size; i++) {
+            output.writeByte(changeTypes[i]);
+        }
+        for (int i = 0; i < size; i++) {
+            TimelineFormat.writeVarint(output, previousVersions[i] + 1);
+        }
+        for (int i = 0; i < size; i++) {
+            TimelineFormat.writeVarint(output, currentVersions[i] + 1);
+        }
+    }
+
+    /**
+     * Reads an index block written by {@link #encode(DataOutput)} and adds its changes.
+     *
+     * @param buffer the buffer containing the block
+     * @param count the number of changes in the block
+     * @param firstSequence the sequence number of the commit of the first change
+     * @param library the identifier of the library of the block
+     */
+    void decode(ByteBuffer buffer, int count, int firstSequence, int library) {
+        int start = size;
+        int sequence = firstSequence;
+        for (int i = 0; i < count; i++) {
+            sequence += TimelineFormat.readVarint(buffer);
+            add(sequence, library, 0, 0, 0, -1, -1);
+        }
+        for (int i = start; i < size; i++) {
+            buildFiles[i] = TimelineFormat.readVarint(buffer);
+        }
+        for (int i = start; i < size; i++) {
+            dependencyTypes[i] = TimelineFormat.readVarint(buffer) - 1;
+        }
+        for (int i = start; i < size; i++) {
+            changeTypes[i] = buffer.get();
+        }
+        for (int i = start; i < size; i++) {
+            previousVersions[i] = TimelineFormat.readVarint(buffer) - 1;
+        }
+        for (int i = start; i < size; i++) {
+            currentVersions[i] = TimelineFormat.readVarint(buffer) - 1;
+        }
+    }
+
+}
@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.comani.analysis.librarychange.timeline;
+
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry.LibraryChangeType;
+
+/**
+ * This class represents a single change of a library in the dependency timeline: the commit introducing the change,
+ * the build file declaring the library, and the versions before and after the change.
+ */
+public final class TimelineEvent {
+
+    /**
+     * The position of the commit in the order of the analysis.
+     */
+    private int sequence;
+
+    /**
+     * The id of the commit.
+     */
+    private String commitId;
+
+    /**
+     * The path of the build file.
+     */
+    private String buildFile;
+
+    /**
+     * The group of the library; may be <code>null</code>.
+     */
+    private String group;
+
+    /**
+     * The identifier of the library.
+     */
+    private String identifier;
+
+    /**
+     * The dependency type of the library; may be <code>null</code>.
+     */
+    private String dependencyType;
+
+    /**
+     * The type of the change.
+     */
+    private LibraryChangeType changeType;
+
+    /**
+     * The version before the change; may be <code>null</code>.
+     */
+    private String previousVersion;
+
+    /**
+     * The version after the change; may be <code>null</code>.
+     */
+    private String currentVersion;
+
+    /**
+     * Creates a new event.
+     *
+     * @param sequence the position of the commit in the order of the analysis
+     * @param commitId the id of the commit
+     * @param buildFile the path of the build file
+     * @param group the group of the library; may be <code>null</code>
+     * @param identifier the identifier of the library
+     * @param dependencyType the dependency type of the library; may be <code>null</code>
+     * @param changeType the type of the change
+     * @param previousVersion the version before the change; may be <code>null</code>
+     * @param currentVersion the version after the change; may be <code>null</code>
+     */
+    TimelineEvent(int sequence, String commitId, String buildFile, String group, String identifier,
+            String dependencyType, LibraryChangeType changeType, String previousVersion, String currentVersion) {
+        this.sequence = sequence;
+        this.commitId = commitId;
+        this.buildFile = buildFile;
+        this.group = group;
+        this.identifier = identifier;
+        this.dependencyType = dependencyType;
+        this.changeType = changeType;
+        this.previousVersion = previousVersion;
+        this.currentVersion = currentVersion;
+    }
+
+    /**
+     * Returns the position of the commit in the order of the analysis.
+     *
+     * @return the sequence number of the commit
+     */
+    public int getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Returns the id of the commit introducing the change.
+     *
+     * @return the commit id
+     */
+    public String getCommitId() {
+        return commitId;
+    }
+
+    /**
+     * Returns the path of the build file declaring the library.
+     *
+     * @return the path of the build file
+     */
+    public String getBuildFile() {
+        return buildFile;
+    }
+
+    /**
+     * Returns the group of the library.
+     *
+     * @return the group or <code>null</code>, if the library has no group
+     */
+    public String getGroup() {
+        return group;
+    }
+
+    /**
+     * Returns the identifier of the library.
+     *
+     * @return the identifier
+     */
+    public String getIdentifier() {
+        return identifier;
+    }
+
+    /**
+     * Returns the dependency type of the library, like "<tt>compile</tt>" or "<tt>test</tt>".
+     *
+     * @return the dependency type or <code>null</code>, if it is not declared
+     */
+    public String getDependencyType() {
+        return dependencyType;
+    }
+
+    /**
+     * Returns the type of the change.
+     *
+     * @return the {@link LibraryChangeType}
+     */
+    public LibraryChangeType getChangeType() {
+        return changeType;
+    }
+
+    /**
+     * Returns the version of the library before the change.
+     *
+     * @return the previous version or <code>null</code>, if the library was added or had no version
+     */
+    public String getPreviousVersion() {
+        return previousVersion;
+    }
+
+    /**
+     * Returns the version of the library after the change.
+     *
+     * @return the current version or <code>null</code>, if the library was removed or has no version
+     */
+    public String getCurrentVersion() {
+        return currentVersion;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return sequence + " " + commitId + " " + buildFile + " " + (group == null ? "" : group) + ":" + identifier
+                + " " + changeType + " " + previousVersion + " -> " + currentVersion;
+    }
+
+}
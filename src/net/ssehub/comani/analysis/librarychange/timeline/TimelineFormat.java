@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.comani.analysis.librarychange.timeline;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This class defines the file format of the dependency timeline. The timeline consists of two files in the output
+ * directory:
+ * <ul>
+ * <li>The index file "<tt>changedlibs.timeline.idx</tt>" contains one block per library, which holds all changes of
+ * that library in commit order. The columns of a block (commit sequence numbers as deltas, build files, dependency
+ * types, change types, previous versions, and current versions) are stored one after the other as variable-length
+ * integers referring to a string dictionary. The blocks are followed by the metadata (the dictionary, the commits in
+ * the order of their analysis, and the directory of the blocks sorted by library) and a trailer pointing to the
+ * metadata. The directory stores the range of commits and the change types of each block, so queries skip all
+ * blocks without matching changes.</li>
+ * <li>The log file "<tt>changedlibs.timeline.log</tt>" receives the dictionary entries and the commits of the running
+ * analysis, each commit together with its changes, as individual records. Closing the {@link TimelineIndexWriter}
+ * merges the log into a new index file and deletes it. After an interruption, the log is replayed; records already
+ * merged are recognized by their explicit identifiers and skipped, and an incomplete last record is ignored.</li>
+ * </ul>
+ */
+final class TimelineFormat {
+
+    /**
+     * The name of the index file.
+     */
+    static final String INDEX_FILE = "changedlibs.timeline.idx";
+
+    /**
+     * The name of the log file.
+     */
+    static final String LOG_FILE = "changedlibs.timeline.log";
+
+    /**
+     * The magic number at the start and the end of the index file ("<tt>CLTI</tt>").
+     */
+    static final int MAGIC = 0x434C5449;
+
+    /**
+     * The version of the format.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * The size of the header of the index file in bytes.
+     */
+    static final int HEADER_SIZE = 2 * Integer.BYTES;
+
+    /**
+     * The size of the trailer of the index file in bytes.
+     */
+    static final int TRAILER_SIZE = Long.BYTES + Integer.BYTES;
+
+    /**
+     * The type of log records adding a string to the dictionary.
+     */
+    static final byte STRING_RECORD = 1;
+
+    /**
+     * The type of log records adding a commit together with all of its changes.
+     */
+    static final byte COMMIT_RECORD = 2;
+
+    /**
+     * Prevents instantiation.
+     */
+    private TimelineFormat() {}
+
+    /**
+     * Writes the given non-negative value as variable-length integer of 1 to 5 bytes.
+     *
+     * @param output the output to write to
+     * @param value the value to write
+     * @throws IOException if writing fails
+     */
+    static void writeVarint(DataOutput output, int value) throws IOException {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            output.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        output.writeByte(remaining);
+    }
+
+    /**
+     * Reads a variable-length integer written by {@link #writeVarint(DataOutput, int)}.
+     *
+     * @param buffer the buffer to read from
+     * @return the value
+     * @throws java.nio.BufferUnderflowException if the buffer ends inside the value
+     */
+    static int readVarint(ByteBuffer buffer) {
+        int value = 0;
+        int shift = 0;
+        byte current;
+        do {
+            current = buffer.get();
+            value |= (current & 0x7F) << shift;
+            shift += 7;
+        } while ((current & 0x80) != 0);
+        return value;
+    }
+
+    /**
+     * Writes the given string as length in bytes followed by its UTF-8 encoding.
+     *
+     * @param output the output to write to
+     * @param string the string to write
+     * @throws IOException if writing fails
+     */
+    static void writeString(DataOutput output, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeVarint(output, bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * Reads a string written by {@link #writeString(DataOutput, String)}.
+     *
+     * @param buffer the buffer to read from
+     * @return the string
+     * @throws java.nio.BufferUnderflowException if the buffer ends inside the string
+     */
+    static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[readVarint(buffer)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
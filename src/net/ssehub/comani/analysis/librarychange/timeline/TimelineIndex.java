@@ -0,0 +1,677 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.comani.analysis.librarychange.timeline;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry.LibraryChangeType;
+
+/**
+ * This class provides queries on the dependency timeline in a directory (see {@link TimelineFormat}). Opening the
+ * timeline loads the metadata of the index file and replays the log of an unfinished analysis; the blocks of the index
+ * file are only read by the queries, and only those blocks, which can contain matching changes. Hence, the history of
+ * a single library is answered by reading a single block, independent of the number of analyzed commits.
+ * <p>
+ * Commits are numbered by their position in the order of the analysis, starting at <code>0</code>. Instances of this
+ * class are not thread-safe.
+ */
+public class TimelineIndex implements Closeable {
+
+    /**
+     * The change types by their ordinals.
+     */
+    private static final LibraryChangeType[] CHANGE_TYPES = LibraryChangeType.values();
+
+    /**
+     * The channel for reading the blocks of the index file; <code>null</code>, if the index file does not exist.
+     */
+    private FileChannel indexChannel;
+
+    /**
+     * The dictionary of all strings of the timeline by their identifiers.
+     */
+    private List<String> strings = new ArrayList<String>();
+
+    /**
+     * The identifiers of the strings in the {@link #strings}.
+     */
+    private Map<String, Integer> stringIds = new HashMap<String, Integer>();
+
+    /**
+     * The ids of the commits by their sequence numbers.
+     */
+    private List<String> commitIds = new ArrayList<String>();
+
+    /**
+     * The sequence numbers of the commits by their ids.
+     */
+    private Map<String, Integer> commitSequences = new HashMap<String, Integer>();
+
+    /**
+     * The number of strings stored in the index file.
+     */
+    private int indexedStrings;
+
+    /**
+     * The number of commits stored in the index file.
+     */
+    private int indexedCommits;
+
+    /**
+     * The number of blocks in the index file.
+     */
+    private int blockCount;
+
+    /**
+     * The libraries of the blocks in ascending order.
+     */
+    private int[] blockLibraries = new int[0];
+
+    /**
+     * The positions of the blocks in the index file.
+     */
+    private long[] blockOffsets = new long[0];
+
+    /**
+     * The sizes of the blocks in bytes.
+     */
+    private int[] blockLengths = new int[0];
+
+    /**
+     * The numbers of changes in the blocks.
+     */
+    private int[] blockEventCounts = new int[0];
+
+    /**
+     * The sequence numbers of the first commits of the blocks.
+     */
+    private int[] blockFirstSequences = new int[0];
+
+    /**
+     * The sequence numbers of the last commits of the blocks.
+     */
+    private int[] blockLastSequences = new int[0];
+
+    /**
+     * The change types of the blocks as bit masks of their ordinals.
+     */
+    private int[] blockChangeTypes = new int[0];
+
+    /**
+     * The changes of the commits, which are not stored in the index file, but in the log file.
+     */
+    private EventColumns pendingEvents = new EventColumns(64);
+
+    /**
+     * The size of the part of the log file consisting of complete records.
+     */
+    private long logLength;
+
+    /**
+     * Opens the dependency timeline in the given directory. If the directory contains neither an index file nor a log
+     * file, the timeline is empty.
+     *
+     * @param directory the directory containing the timeline
+     * @throws IOException if reading the index file or the log file fails or if the index file is malformed
+     */
+    public TimelineIndex(Path directory) throws IOException {
+        Path indexFile = directory.resolve(TimelineFormat.INDEX_FILE);
+        if (Files.exists(indexFile)) {
+            indexChannel = FileChannel.open(indexFile, StandardOpenOption.READ);
+            try {
+                readMetadata(indexFile);
+            } catch (IOException e) {
+                indexChannel.close();
+                throw e;
+            }
+        }
+        Path logFile = directory.resolve(TimelineFormat.LOG_FILE);
+        if (Files.exists(logFile)) {
+            replayLog(Files.readAllBytes(logFile));
+        }
+    }
+
+    /**
+     * Returns the number of commits in the timeline.
+     *
+     * @return the number of commits
+     */
+    public int getCommitCount() {
+        return commitIds.size();
+    }
+
+    /**
+     * Returns the id of the commit with the given sequence number.
+     *
+     * @param sequence the sequence number of the commit
+     * @return the id of the commit
+     * @throws IndexOutOfBoundsException if the sequence number is not between <code>0</code> and
+     *         {@link #getCommitCount()} (excluding)
+     */
+    public String getCommitId(int sequence) {
+        return commitIds.get(sequence);
+    }
+
+    /**
+     * Returns the sequence number of the commit with the given id.
+     *
+     * @param commitId the id of the commit
+     * @return the sequence number or <code>-1</code>, if the commit is not part of the timeline
+     */
+    public int getSequence(String commitId) {
+        Integer sequence = commitSequences.get(commitId);
+        return sequence == null ? -1 : sequence;
+    }
+
+    /**
+     * Returns all changes of the library with the given group and identifier in commit order.
+     *
+     * @param group the group of the library; may be <code>null</code> for libraries without group
+     * @param identifier the identifier of the library
+     * @return the changes of the library; empty, if the library was never changed
+     * @throws IOException if reading the index file fails
+     */
+    public List<TimelineEvent> getHistory(String group, String identifier) throws IOException {
+        List<TimelineEvent> history = new ArrayList<TimelineEvent>();
+        int library = getStringId(getLibraryKey(group, identifier));
+        if (library >= 0) {
+            EventColumns events = new EventColumns(16);
+            int block = Arrays.binarySearch(blockLibraries, 0, blockCount, library);
+            if (block >= 0) {
+                readBlock(block, events);
+            }
+            for (int i = 0; i < pendingEvents.size(); i++) {
+                if (pendingEvents.getLibrary(i) == library) {
+                    events.add(pendingEvents, i);
+                }
+            }
+            for (int i = 0; i < events.size(); i++) {
+                history.add(createEvent(events, i));
+            }
+        }
+        return history;
+    }
+
+    /**
+     * Returns all changes of the given type in the commits between the given sequence numbers (including both) in
+     * commit order.
+     *
+     * @param changeType the type of the changes
+     * @param fromSequence the sequence number of the first commit
+     * @param toSequence the sequence number of the last commit
+     * @return the matching changes; empty, if there are none
+     * @throws IOException if reading the index file fails
+     */
+    public List<TimelineEvent> getEvents(LibraryChangeType changeType, int fromSequence, int toSequence)
+            throws IOException {
+        int changeTypeMask = 1 << changeType.ordinal();
+        EventColumns events = new EventColumns(64);
+        for (int i = 0; i < blockCount; i++) {
+            if ((blockChangeTypes[i] & changeTypeMask) != 0 && blockFirstSequences[i] <= toSequence
+                    && blockLastSequences[i] >= fromSequence) {
+                readBlock(i, events);
+            }
+        }
+        for (int i = 0; i < pendingEvents.size(); i++) {
+            events.add(pendingEvents, i);
+        }
+        List<TimelineEvent> matchingEvents = new ArrayList<TimelineEvent>();
+        for (int i = 0; i < events.size(); i++) {
+            int sequence = events.getSequence(i);
+            if (events.getChangeType(i) == changeType.ordinal() && sequence >= fromSequence
+                    && sequence <= toSequence) {
+                matchingEvents.add(createEvent(events, i));
+            }
+        }
+        // Stable, hence changes of the same commit remain ordered by library
+        matchingEvents.sort(Comparator.comparingInt(TimelineEvent::getSequence));
+        return matchingEvents;
+    }
+
+    /**
+     * Returns all changes of the given type in the commits between the given commits (including both) in commit
+     * order.
+     *
+     * @param changeType the type of the changes
+     * @param fromCommitId the id of the first commit
+     * @param toCommitId the id of the last commit
+     * @return the matching changes; empty, if there are none or if one of the commits is not part of the timeline
+     * @throws IOException if reading the index file fails
+     */
+    public List<TimelineEvent> getEvents(LibraryChangeType changeType, String fromCommitId, String toCommitId)
+            throws IOException {
+        List<TimelineEvent> events;
+        int fromSequence = getSequence(fromCommitId);
+        int toSequence = getSequence(toCommitId);
+        if (fromSequence >= 0 && toSequence >= 0) {
+            events = getEvents(changeType, fromSequence, toSequence);
+        } else {
+            events = new ArrayList<TimelineEvent>();
+        }
+        return events;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        if (indexChannel != null) {
+            indexChannel.close();
+            indexChannel = null;
+        }
+    }
+
+    /**
+     * Returns the identifier of the given string in the dictionary.
+     *
+     * @param string the string
+     * @return the identifier or <code>-1</code>, if the string is not in the dictionary
+     */
+    int getStringId(String string) {
+        Integer id = stringIds.get(string);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Adds the given string, which must not be in the dictionary yet, to the dictionary.
+     *
+     * @param string the string
+     * @return the identifier of the string
+     */
+    int addString(String string) {
+        int id = strings.size();
+        strings.add(string);
+        stringIds.put(string, id);
+        return id;
+    }
+
+    /**
+     * Adds the commit with the given id, which must not be part of the timeline yet, as last commit.
+     *
+     * @param commitId the id of the commit; must be in the dictionary
+     * @return the sequence number of the commit
+     */
+    int addCommit(String commitId) {
+        int sequence = commitIds.size();
+        commitIds.add(commitId);
+        commitSequences.put(commitId, sequence);
+        return sequence;
+    }
+
+    /**
+     * Adds the given change of the last commit.
+     *
+     * @param sequence the sequence number of the commit
+     * @param library the identifier of the library
+     * @param buildFile the identifier of the build file
+     * @param dependencyType the identifier of the dependency type or <code>-1</code>
+     * @param changeType the ordinal of the change type
+     * @param previousVersion the identifier of the previous version or <code>-1</code>
+     * @param currentVersion the identifier of the current version or <code>-1</code>
+     */
+    void addEvent(int sequence, int library, int buildFile, int dependencyType, int changeType, int previousVersion,
+            int currentVersion) {
+        pendingEvents.add(sequence, library, buildFile, dependencyType, changeType, previousVersion, currentVersion);
+    }
+
+    /**
+     * Returns the size of the part of the log file consisting of complete records. A writer continuing the log
+     * truncates it to this size.
+     *
+     * @return the size in bytes
+     */
+    long getLogLength() {
+        return logLength;
+    }
+
+    /**
+     * Returns the number of changes, which are not stored in the index file, but only in the log file and in memory.
+     *
+     * @return the number of pending changes
+     */
+    int getPendingEventCount() {
+        return pendingEvents.size();
+    }
+
+    /**
+     * Checks whether the timeline contains strings or commits, which are not stored in the index file.
+     *
+     * @return <code>true</code> if the index file is outdated, <code>false</code> otherwise
+     */
+    boolean isModified() {
+        return strings.size() > indexedStrings || commitIds.size() > indexedCommits;
+    }
+
+    /**
+     * Writes the complete timeline as new index file. The blocks of libraries without pending changes are copied
+     * unchanged from the current index file; all other blocks are extended by the pending changes.
+     *
+     * @param target the path of the new index file; must differ from the current index file
+     * @throws IOException if reading the current or writing the new index file fails
+     */
+    void writeIndex(Path target) throws IOException {
+        int pendingCount = pendingEvents.size();
+        // Library in the upper, position in the lower half; sorting groups the changes by library in commit order
+        long[] pendingOrder = new long[pendingCount];
+        for (int i = 0; i < pendingCount; i++) {
+            pendingOrder[i] = ((long) pendingEvents.getLibrary(i) << 32) | i;
+        }
+        Arrays.sort(pendingOrder);
+        ByteArrayOutputStream directoryBytes = new ByteArrayOutputStream();
+        DataOutputStream directory = new DataOutputStream(directoryBytes);
+        ByteArrayOutputStream blockBytes = new ByteArrayOutputStream();
+        DataOutputStream blockOutput = new DataOutputStream(blockBytes);
+        EventColumns events = new EventColumns(64);
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(target)))) {
+            output.writeInt(TimelineFormat.MAGIC);
+            output.writeInt(TimelineFormat.VERSION);
+            long offset = TimelineFormat.HEADER_SIZE;
+            int entries = 0;
+            int block = 0;
+            int next = 0;
+            while (block < blockCount || next < pendingCount) {
+                int pendingLibrary = next < pendingCount ? (int) (pendingOrder[next] >>> 32) : -1;
+                boolean fromBlock = block < blockCount
+                        && (next == pendingCount || blockLibraries[block] <= pendingLibrary);
+                boolean fromPending = next < pendingCount
+                        && (block == blockCount || pendingLibrary <= blockLibraries[block]);
+                int library = fromBlock ? blockLibraries[block] : pendingLibrary;
+                int length;
+                if (fromBlock && !fromPending) {
+                    length = blockLengths[block];
+                    output.write(read(blockOffsets[block], length).array(), 0, length);
+                    writeDirectoryEntry(directory, library, length, blockEventCounts[block],
+                            blockFirstSequences[block], blockLastSequences[block], blockChangeTypes[block]);
+                    block++;
+                } else {
+                    events.clear();
+                    if (fromBlock) {
+                        readBlock(block, events);
+                        block++;
+                    }
+                    while (next < pendingCount && (int) (pendingOrder[next] >>> 32) == library) {
+                        events.add(pendingEvents, (int) pendingOrder[next]);
+                        next++;
+                    }
+                    blockBytes.reset();
+                    events.encode(blockOutput);
+                    blockOutput.flush();
+                    length = blockBytes.size();
+                    blockBytes.writeTo(output);
+                    int changeTypes = 0;
+                    for (int i = 0; i < events.size(); i++) {
+                        changeTypes |= 1 << events.getChangeType(i);
+                    }
+                    writeDirectoryEntry(directory, library, length, events.size(), events.getSequence(0),
+                            events.getSequence(events.size() - 1), changeTypes);
+                }
+                offset += length;
+                entries++;
+            }
+            TimelineFormat.writeVarint(output, strings.size());
+            for (String string : strings) {
+                TimelineFormat.writeString(output, string);
+            }
+            TimelineFormat.writeVarint(output, commitIds.size());
+            for (String commitId : commitIds) {
+                TimelineFormat.writeVarint(output, stringIds.get(commitId));
+            }
+            TimelineFormat.writeVarint(output, entries);
+            directory.flush();
+            directoryBytes.writeTo(output);
+            output.writeLong(offset);
+            output.writeInt(TimelineFormat.MAGIC);
+        }
+    }
+
+    /**
+     * Writes an entry of the directory of blocks.
+     *
+     * @param output the output to write to
+     * @param library the identifier of the library of the block
+     * @param length the size of the block in bytes
+     * @param eventCount the number of changes in the block
+     * @param firstSequence the sequence number of the first commit of the block
+     * @param lastSequence the sequence number of the last commit of the block
+     * @param changeTypes the change types of the block as bit mask of their ordinals
+     * @throws IOException if writing fails
+     */
+    private static void writeDirectoryEntry(DataOutput output, int library, int length, int eventCount,
+            int firstSequence, int lastSequence, int changeTypes) throws IOException {
+        TimelineFormat.writeVarint(output, library);
+        TimelineFormat.writeVarint(output, length);
+        TimelineFormat.writeVarint(output, eventCount);
+        TimelineFormat.writeVarint(output, firstSequence);
+        TimelineFormat.writeVarint(output, lastSequence - firstSequence);
+        TimelineFormat.writeVarint(output, changeTypes);
+    }
+
+    /**
+     * Reads the header, the trailer, and the metadata of the index file.
+     *
+     * @param indexFile the path of the index file; used for messages
+     * @throws IOException if reading fails or if the index file is malformed
+     */
+    private void readMetadata(Path indexFile) throws IOException {
+        long size = indexChannel.size();
+        if (size < TimelineFormat.HEADER_SIZE + TimelineFormat.TRAILER_SIZE) {
+            throw new IOException("Malformed timeline index \"" + indexFile + "\": file too small");
+        }
+        ByteBuffer header = read(0, TimelineFormat.HEADER_SIZE);
+        ByteBuffer trailer = read(size - TimelineFormat.TRAILER_SIZE, TimelineFormat.TRAILER_SIZE);
+        long metadataOffset = trailer.getLong();
+        if (header.getInt() != TimelineFormat.MAGIC || trailer.getInt() != TimelineFormat.MAGIC
+                || metadataOffset < TimelineFormat.HEADER_SIZE
+                || metadataOffset > size - TimelineFormat.TRAILER_SIZE) {
+            throw new IOException("Malformed timeline index \"" + indexFile + "\": missing header or trailer");
+        }
+        int version = header.getInt();
+        if (version != TimelineFormat.VERSION) {
+            throw new IOException("Unsupported version " + version + " of timeline index \"" + indexFile + "\"");
+        }
+        ByteBuffer metadata = read(metadataOffset, (int) (size - TimelineFormat.TRAILER_SIZE - metadataOffset));
+        try {
+            int stringCount = TimelineFormat.readVarint(metadata);
+            for (int i = 0; i < stringCount; i++) {
+                addString(TimelineFormat.readString(metadata));
+            }
+            int commitCount = TimelineFormat.readVarint(metadata);
+            for (int i = 0; i < commitCount; i++) {
+                addCommit(strings.get(TimelineFormat.readVarint(metadata)));
+            }
+            blockCount = TimelineFormat.readVarint(metadata);
+            blockLibraries = new int[blockCount];
+            blockOffsets = new long[blockCount];
+            blockLengths = new int[blockCount];
+            blockEventCounts = new int[blockCount];
+            blockFirstSequences = new int[blockCount];
+            blockLastSequences = new int[blockCount];
+            blockChangeTypes = new int[blockCount];
+            long offset = TimelineFormat.HEADER_SIZE;
+            for (int i = 0; i < blockCount; i++) {
+                blockLibraries[i] = TimelineFormat.readVarint(metadata);
+                blockOffsets[i] = offset;
+                blockLengths[i] = TimelineFormat.readVarint(metadata);
+                blockEventCounts[i] = TimelineFormat.readVarint(metadata);
+                blockFirstSequences[i] = TimelineFormat.readVarint(metadata);
+                blockLastSequences[i] = blockFirstSequences[i] + TimelineFormat.readVarint(metadata);
+                blockChangeTypes[i] = TimelineFormat.readVarint(metadata);
+                offset += blockLengths[i];
+            }
+            if (offset != metadataOffset) {
+                throw new IOException("Malformed timeline index \"" + indexFile + "\": inconsistent directory");
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("Malformed timeline index \"" + indexFile + "\": truncated metadata", e);
+        }
+        indexedStrings = strings.size();
+        indexedCommits = commitIds.size();
+    }
+
+    /**
+     * Replays the records of the given log. Records already contained in the index file are skipped; replaying stops
+     * at the first incomplete or inconsistent record, which is the remainder of an interrupted write.
+     *
+     * @param log the content of the log file
+     */
+    private void replayLog(byte[] log) {
+        ByteBuffer buffer = ByteBuffer.wrap(log);
+        boolean valid = true;
+        while (valid && buffer.hasRemaining()) {
+            try {
+                byte type = buffer.get();
+                if (type == TimelineFormat.STRING_RECORD) {
+                    int id = TimelineFormat.readVarint(buffer);
+                    String string = TimelineFormat.readString(buffer);
+                    if (id == strings.size()) {
+                        addString(string);
+                    } else {
+                        valid = id < strings.size();
+                    }
+                } else if (type == TimelineFormat.COMMIT_RECORD) {
+                    valid = replayCommit(buffer);
+                } else {
+                    valid = false;
+                }
+            } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+                valid = false;
+            }
+            if (valid) {
+                logLength = buffer.position();
+            }
+        }
+    }
+
+    /**
+     * Replays a commit record of the log.
+     *
+     * @param buffer the buffer positioned behind the type of the record
+     * @return <code>true</code> if the record is consistent with the timeline, <code>false</code> otherwise
+     * @throws BufferUnderflowException if the record is incomplete
+     * @throws IndexOutOfBoundsException if the record refers to unknown strings
+     */
+    private boolean replayCommit(ByteBuffer buffer) {
+        int sequence = TimelineFormat.readVarint(buffer);
+        String commitId = strings.get(TimelineFormat.readVarint(buffer));
+        int eventCount = TimelineFormat.readVarint(buffer);
+        EventColumns events = new EventColumns(eventCount);
+        for (int i = 0; i < eventCount; i++) {
+            events.add(sequence, TimelineFormat.readVarint(buffer), TimelineFormat.readVarint(buffer),
+                    TimelineFormat.readVarint(buffer) - 1, buffer.get(), TimelineFormat.readVarint(buffer) - 1,
+                    TimelineFormat.readVarint(buffer) - 1);
+        }
+        boolean consistent = sequence <= commitIds.size();
+        if (sequence == commitIds.size()) {
+            addCommit(commitId);
+            for (int i = 0; i < eventCount; i++) {
+                pendingEvents.add(events, i);
+            }
+        }
+        return consistent;
+    }
+
+    /**
+     * Reads the block with the given index from the index file and adds its changes to the given columns.
+     *
+     * @param block the index of the block in the directory
+     * @param events the columns to add the changes to
+     * @throws IOException if reading fails
+     */
+    private void readBlock(int block, EventColumns events) throws IOException {
+        ByteBuffer buffer = read(blockOffsets[block], blockLengths[block]);
+        try {
+            events.decode(buffer, blockEventCounts[block], blockFirstSequences[block], blockLibraries[block]);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Malformed block of timeline index at offset " + blockOffsets[block], e);
+        }
+    }
+
+    /**
+     * Reads the given part of the index file.
+     *
+     * @param position the position of the part
+     * @param length the size of the part in bytes
+     * @return the buffer containing the part, ready for reading
+     * @throws IOException if reading fails or if the index file ends before the part
+     */
+    private ByteBuffer read(long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        int read = 0;
+        while (buffer.hasRemaining() && read >= 0) {
+            read = indexChannel.read(buffer, position + buffer.position());
+        }
+        if (buffer.hasRemaining()) {
+            throw new EOFException("Unexpected end of timeline index at offset " + (position + buffer.position()));
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Creates the public representation of a change.
+     *
+     * @param events the columns containing the change
+     * @param index the index of the change
+     * @return the {@link TimelineEvent}
+     */
+    private TimelineEvent createEvent(EventColumns events, int index) {
+        String library = strings.get(events.getLibrary(index));
+        int separator = library.indexOf(':');
+        int sequence = events.getSequence(index);
+        return new TimelineEvent(sequence, commitIds.get(sequence), strings.get(events.getBuildFile(index)),
+                separator > 0 ? library.substring(0, separator) : null, library.substring(separator + 1),
+                getString(events.getDependencyType(index)), CHANGE_TYPES[events.getChangeType(index)],
+                getString(events.getPreviousVersion(index)), getString(events.getCurrentVersion(index)));
+    }
+
+    /**
+     * Returns the string with the given identifier.
+     *
+     * @param id the identifier of the string or <code>-1</code>
+     * @return the string or <code>null</code>, if the identifier is <code>-1</code>
+     */
+    private String getString(int id) {
+        return id < 0 ? null : strings.get(id);
+    }
+
+    /**
+     * Returns the dictionary key of the library with the given group and identifier.
+     *
+     * @param group the group of the library; may be <code>null</code>
+     * @param identifier the identifier of the library
+     * @return the key "<tt>group:identifier</tt>", using an empty group for libraries without group
+     */
+    static String getLibraryKey(String group, String identifier) {
+        return (group == null ? "" : group) + ":" + identifier;
+    }
+
+}
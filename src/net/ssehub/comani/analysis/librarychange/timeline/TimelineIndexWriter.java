@@ -0,0 +1,284 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.comani.analysis.librarychange.timeline;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import net.ssehub.comani.analysis.librarychange.diff.AnalysisResult;
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult;
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry;
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry.LibraryChangeType;
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry.LibraryInformation;
+import net.ssehub.comani.analysis.librarychange.diff.MemoryBudget;
+
+/**
+ * This class builds the dependency timeline in a directory (see {@link TimelineFormat}) from the
+ * {@link AnalysisResult}s of an analysis. Each added result is appended to the log file; closing the writer merges
+ * the log into the index file. The changes in the log are also kept in memory and count towards a
+ * {@link MemoryBudget}; while it is exceeded, the log is merged into the index file early. Existing timelines are
+ * continued: results of commits, which are already part of the timeline, are ignored, so a resumed analysis may add
+ * the same results again. The dictionary of strings and the ids of all commits stay in memory.
+ * <p>
+ * Instances of this class are not thread-safe.
+ */
+public class TimelineIndexWriter implements Closeable {
+
+    /**
+     * The estimated size in bytes of a change in the log, which is kept in the columns of the {@link TimelineIndex}.
+     */
+    private static final int PENDING_EVENT_SIZE = 7 * Integer.BYTES;
+
+    /**
+     * The directory of the timeline.
+     */
+    private Path directory;
+
+    /**
+     * The timeline built so far.
+     */
+    private TimelineIndex index;
+
+    /**
+     * The stream appending records to the log file.
+     */
+    private DataOutputStream log;
+
+    /**
+     * The changes of the commit currently added; reused for all commits.
+     */
+    private EventColumns commitEvents = new EventColumns(16);
+
+    /**
+     * The {@link MemoryBudget}, which the changes in the log count towards.
+     */
+    private MemoryBudget memoryBudget;
+
+    /**
+     * The number of bytes of the changes in the log reserved in the {@link #memoryBudget}.
+     */
+    private long pendingSize;
+
+    /**
+     * Opens the dependency timeline in the given directory for adding results. An incomplete last record of the log
+     * file is removed.
+     *
+     * @param directory the existing directory of the timeline
+     * @throws IOException if opening the timeline fails
+     */
+    public TimelineIndexWriter(Path directory) throws IOException {
+        this(directory, MemoryBudget.UNLIMITED);
+    }
+
+    /**
+     * Opens the dependency timeline in the given directory for adding results. An incomplete last record of the log
+     * file is removed.
+     *
+     * @param directory the existing directory of the timeline
+     * @param memoryBudget the {@link MemoryBudget}, which the changes in the log count towards
+     * @throws IOException if opening the timeline fails
+     */
+    public TimelineIndexWriter(Path directory, MemoryBudget memoryBudget) throws IOException {
+        this.directory = directory;
+        this.memoryBudget = memoryBudget;
+        index = new TimelineIndex(directory);
+        openLog();
+        reservePending();
+    }
+
+    /**
+     * Adds the library changes of the given result as changes of its commit, which becomes the last commit of the
+     * timeline. Entries without change are ignored. If the {@link #memoryBudget} is exceeded afterwards, the log is
+     * merged into the index file.
+     *
+     * @param result the {@link AnalysisResult} of a commit
+     * @throws IOException if writing to the log file or merging it fails
+     */
+    public void add(AnalysisResult result) throws IOException {
+        if (index.getSequence(result.getCommitId()) < 0) {
+            appendCommit(result);
+            reservePending();
+            if (memoryBudget.isExceeded()) {
+                log.close();
+                mergeLog();
+                index = new TimelineIndex(directory);
+                openLog();
+                reservePending();
+            }
+        }
+    }
+
+    /**
+     * Writes all buffered records to the log file.
+     *
+     * @throws IOException if writing fails
+     */
+    public void flush() throws IOException {
+        log.flush();
+    }
+
+    /**
+     * Closes the log file and merges it into the index file. The new index file is written next to the current one
+     * and replaces it atomically; the log file is only deleted afterwards.
+     *
+     * @throws IOException if writing the index file fails; the log file is kept in this case
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            log.close();
+            mergeLog();
+        } finally {
+            index.close();
+            memoryBudget.release(pendingSize);
+            pendingSize = 0;
+        }
+    }
+
+    /**
+     * Merges the closed log file into the index file. The new index file is written next to the current one and
+     * replaces it atomically; the log file is only deleted afterwards. Replaying a log file, which is left over by an
+     * interruption in between, skips the merged commits.
+     *
+     * @throws IOException if writing the index file fails; the log file is kept in this case
+     */
+    private void mergeLog() throws IOException {
+        if (index.isModified()) {
+            Path temporaryFile = directory.resolve(TimelineFormat.INDEX_FILE + ".tmp");
+            index.writeIndex(temporaryFile);
+            index.close();
+            Files.move(temporaryFile, directory.resolve(TimelineFormat.INDEX_FILE),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        Files.delete(directory.resolve(TimelineFormat.LOG_FILE));
+    }
+
+    /**
+     * Updates the reservation in the {@link #memoryBudget} to the changes currently in the log.
+     */
+    private void reservePending() {
+        memoryBudget.release(pendingSize);
+        pendingSize = (long) index.getPendingEventCount() * PENDING_EVENT_SIZE;
+        memoryBudget.reserve(pendingSize);
+    }
+
+    /**
+     * Opens the log file for appending records after the complete records of the {@link #index}. An incomplete last
+     * record is removed.
+     *
+     * @throws IOException if opening the log file fails; the {@link #index} is closed in this case
+     */
+    private void openLog() throws IOException {
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(directory.resolve(TimelineFormat.LOG_FILE), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE);
+            channel.truncate(index.getLogLength());
+            channel.position(index.getLogLength());
+        } catch (IOException e) {
+            if (channel != null) {
+                channel.close();
+            }
+            index.close();
+            throw e;
+        }
+        log = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+    }
+
+    /**
+     * Appends the library changes of the given result, whose commit is not part of the timeline yet, to the log file
+     * and the {@link #index}.
+     *
+     * @param result the {@link AnalysisResult} of a commit
+     * @throws IOException if writing to the log file fails
+     */
+    private void appendCommit(AnalysisResult result) throws IOException {
+        int commitId = intern(result.getCommitId());
+        commitEvents.clear();
+        for (BuildFileAnalysisResult buildFileResult : result.getResults()) {
+            int buildFile = intern(buildFileResult.getBuildFile());
+            for (LibraryEntry entry : buildFileResult.getLibraryChanges()) {
+                LibraryChangeType changeType = entry.getLibraryChangeType();
+                if (changeType != LibraryChangeType.NO_CHANGE) {
+                    LibraryInformation previousLibrary = entry.getPreviousLibrary();
+                    LibraryInformation currentLibrary = entry.getCurrentLibrary();
+                    // A replaced library is recorded as change of the current library
+                    LibraryInformation library = currentLibrary != null ? currentLibrary : previousLibrary;
+                    commitEvents.add(0,
+                            intern(TimelineIndex.getLibraryKey(library.getGroup(), library.getIdentifier())),
+                            buildFile, internNullable(library.getDependencyType()), changeType.ordinal(),
+                            previousLibrary != null ? internNullable(previousLibrary.getVersion()) : -1,
+                            currentLibrary != null ? internNullable(currentLibrary.getVersion()) : -1);
+                }
+            }
+        }
+        int sequence = index.getCommitCount();
+        log.writeByte(TimelineFormat.COMMIT_RECORD);
+        TimelineFormat.writeVarint(log, sequence);
+        TimelineFormat.writeVarint(log, commitId);
+        TimelineFormat.writeVarint(log, commitEvents.size());
+        for (int i = 0; i < commitEvents.size(); i++) {
+            TimelineFormat.writeVarint(log, commitEvents.getLibrary(i));
+            TimelineFormat.writeVarint(log, commitEvents.getBuildFile(i));
+            TimelineFormat.writeVarint(log, commitEvents.getDependencyType(i) + 1);
+            log.writeByte(commitEvents.getChangeType(i));
+            TimelineFormat.writeVarint(log, commitEvents.getPreviousVersion(i) + 1);
+            TimelineFormat.writeVarint(log, commitEvents.getCurrentVersion(i) + 1);
+        }
+        index.addCommit(result.getCommitId());
+        for (int i = 0; i < commitEvents.size(); i++) {
+            index.addEvent(sequence, commitEvents.getLibrary(i), commitEvents.getBuildFile(i),
+                    commitEvents.getDependencyType(i), commitEvents.getChangeType(i),
+                    commitEvents.getPreviousVersion(i), commitEvents.getCurrentVersion(i));
+        }
+    }
+
+    /**
+     * Returns the identifier of the given string in the dictionary, adding it to the dictionary and the log file if
+     * necessary.
+     *
+     * @param string the string
+     * @return the identifier of the string
+     * @throws IOException if writing to the log file fails
+     */
+    private int intern(String string) throws IOException {
+        int id = index.getStringId(string);
+        if (id < 0) {
+            id = index.addString(string);
+            log.writeByte(TimelineFormat.STRING_RECORD);
+            TimelineFormat.writeVarint(log, id);
+            TimelineFormat.writeString(log, string);
+        }
+        return id;
+    }
+
+    /**
+     * Returns the identifier of the given string like {@link #intern(String)}, supporting undefined strings.
+     *
+     * @param string the string; may be <code>null</code>
+     * @return the identifier of the string or <code>-1</code>, if the string is <code>null</code>
+     * @throws IOException if writing to the log file fails
+     */
+    private int internNullable(String string) throws IOException {
+        return string == null ? -1 : intern(string);
+    }
+
+}
@@ -0,0 +1,20 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+/**
+ * This package contains the dependency timeline of the analysis. The
+ * {@link net.ssehub.comani.analysis.librarychange.timeline.TimelineIndexWriter} builds an on-disk inverted index from
+ * libraries to their changes while the results are written, and the
+ * {@link net.ssehub.comani.analysis.librarychange.timeline.TimelineIndex} answers queries about the history of a
+ * library or all changes of a type in a range of commits without reading the per-commit results.
+ */
+package net.ssehub.comani.analysis.librarychange.timeline;
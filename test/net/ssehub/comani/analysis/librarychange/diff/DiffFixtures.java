@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.comani.analysis.librarychange.diff;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry;
+import net.ssehub.comani.analysis.librarychange.diff.BuildFileAnalysisResult.LibraryEntry.LibraryInformation;
+import net.ssehub.comani.data.ChangedArtifact;
+import net.ssehub.comani.data.Commit;
+
+/**
+ * This class provides the diffs in the directory <code>fixtures</code> next to this class as {@link ChangedArtifact}s
+ * and {@link Commit}s and describes analysis results as comparable strings. A fixture is a diff as written by
+ * <code>git diff</code>; a fixture of a commit contains one diff per changed file, each starting with a
+ * <code>diff --git</code> line.
+ */
+final class DiffFixtures {
+
+    /**
+     * The regular expression identifying code files.
+     */
+    static final String CODE_FILES_REGEX = ".*\\.java";
+
+    /**
+     * The regular expression identifying build files.
+     */
+    static final String BUILD_FILES_REGEX = ".*(build\\.gradle(\\.kts)?|pom\\.xml)";
+
+    /**
+     * The prefix of the header line of a diff of a single file in a fixture of a commit.
+     */
+    private static final String FILE_HEADER_PREFIX = "diff --git a/";
+
+    /**
+     * The prefixes of the file header lines, which contain the path of the changed file; the first one is preferred,
+     * as the second one is <code>/dev/null</code> for deleted files.
+     */
+    private static final String[] PATH_PREFIXES = {"+++ b/", "--- a/"};
+
+    /**
+     * Prevents instantiation.
+     */
+    private DiffFixtures() {
+    }
+
+    /**
+     * Reads the given fixture as the diff of a single file. The path of the file is taken from the file headers.
+     *
+     * @param name the name of the fixture without the extension <code>.diff</code>
+     * @return the {@link ChangedArtifact}
+     * @throws IOException if reading the fixture fails
+     */
+    static ChangedArtifact createArtifact(String name) throws IOException {
+        List<String> lines = readLines(name);
+        String path = null;
+        for (int i = 0; i < PATH_PREFIXES.length && path == null; i++) {
+            for (int j = 0; j < lines.size() && path == null; j++) {
+                if (lines.get(j).startsWith(PATH_PREFIXES[i])) {
+                    path = lines.get(j).substring(PATH_PREFIXES[i].length());
+                }
+            }
+        }
+        if (path == null) {
+            throw new IOException("Fixture \"" + name + "\" has no file header");
+        }
+        return createArtifact(path, lines);
+    }
+
+    /**
+     * Reads the given fixture as a commit, which changes one file per <code>diff --git</code> line.
+     *
+     * @param name the name of the fixture without the extension <code>.diff</code>, which is also the commit id
+     * @return the {@link Commit}
+     * @throws IOException if reading the fixture fails
+     */
+    static Commit createCommit(String name) throws IOException {
+        Commit commit = new Commit();
+        commit.setId(name);
+        List<String> lines = readLines(name);
+        int start = 0;
+        while (start < lines.size()) {
+            String header = lines.get(start);
+            if (!header.startsWith(FILE_HEADER_PREFIX)) {
+                throw new IOException("Fixture \"" + name + "\" has no diff header in line " + (start + 1));
+            }
+            int end = start + 1;
+            while (end < lines.size() && !lines.get(end).startsWith(FILE_HEADER_PREFIX)) {
+                end++;
+            }
+            int pathEnd = header.indexOf(' ', FILE_HEADER_PREFIX.length());
+            String path = header.substring(FILE_HEADER_PREFIX.length(), pathEnd);
+            commit.addChangedArtifact(createArtifact(path, lines.subList(start, end)));
+            start = end;
+        }
+        return commit;
+    }
+
+    /**
+     * Describes the library changes of the given result, one string per change in the format
+     * <code>CHANGE_TYPE previous | current</code>, where each library is described by its dependency type and its
+     * coordinates <code>group:identifier:version</code> and a missing library by <code>-</code>. The descriptions are
+     * sorted, so the order of the changes does not matter.
+     *
+     * @param result the result to describe
+     * @return the descriptions of the changes
+     */
+    static List<String> describe(BuildFileAnalysisResult result) {
+        List<String> descriptions = new ArrayList<String>();
+        for (LibraryEntry change : result.getLibraryChanges()) {
+            descriptions.add(change.getLibraryChangeType() + " " + describe(change.getPreviousLibrary()) + " | "
+                    + describe(change.getCurrentLibrary()));
+        }
+        Collections.sort(descriptions);
+        return descriptions;
+    }
+
+    /**
+     * Describes the library changes of all build files of the given result like
+     * {@link #describe(BuildFileAnalysisResult)}, each prefixed by the path of its build file.
+     *
+     * @param result the result to describe
+     * @return the descriptions of the changes
+     */
+    static List<String> describe(AnalysisResult result) {
+        List<String> descriptions = new ArrayList<String>();
+        for (BuildFileAnalysisResult buildFileResult : result.getResults()) {
+            for (String description : describe(buildFileResult)) {
+                descriptions.add(buildFileResult.getBuildFile() + " " + description);
+            }
+        }
+        Collections.sort(descriptions);
+        return descriptions;
+    }
+
+    /**
+     * Returns the given descriptions of library changes as sorted list for the comparison with
+     * {@link #describe(BuildFileAnalysisResult)} or {@link #describe(AnalysisResult)}.
+     *
+     * @param descriptions the expected descriptions in any order
+     * @return the sorted descriptions
+     */
+    static List<String> expect(String... descriptions) {
+        List<String> expected = new ArrayList<String>();
+        Collections.addAll(expected, descriptions);
+        Collections.sort(expected);
+        return expected;
+    }
+
+    /**
+     * Describes a library as <code>dependencyType group:identifier:version</code>.
+     *
+     * @param library the library; may be <code>null</code>
+     * @return the description or <code>-</code>, if the library is <code>null</code>
+     */
+    private static String describe(LibraryInformation library) {
+        String description = "-";
+        if (library != null) {
+            description = library.getDependencyType() + " " + library.getGroup() + ":" + library.getIdentifier() + ":"
+                    + library.getVersion();
+        }
+        return description;
+    }
+
+    /**
+     * Creates a changed artifact with the given path and content.
+     *
+     * @param path the path of the artifact
+     * @param lines the lines of the diff of the artifact
+     * @return the {@link ChangedArtifact}
+     */
+    private static ChangedArtifact createArtifact(String path, List<String> lines) {
+        ChangedArtifact artifact = new ChangedArtifact();
+        artifact.setArtifactPath(path);
+        artifact.setArtifactName(path.substring(path.lastIndexOf('/') + 1));
+        for (String line : lines) {
+            artifact.addContentLine(line);
+        }
+        return artifact;
+    }
+
+    /**
+     * Reads the lines of the given fixture.
+     *
+     * @param name the name of the fixture without the extension <code>.diff</code>
+     * @return the lines of the fixture
+     * @throws IOException if the fixture does not exist or reading it fails
+     */
+    private static List<String> readLines(String name) throws IOException {
+        List<String> lines = new ArrayList<String>();
+        InputStream input = DiffFixtures.class.getResourceAsStream("fixtures/" + name + ".diff");
+        if (input == null) {
+            throw new IOException("Fixture \"" + name + "\" not found");
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line = reader.readLine();
+            while (line != null) {
+                lines.add(line);
+                line = reader.readLine();
+            }
+        }
+        return lines;
+    }
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.comani.analysis.librarychange.diff;
+
+import static net.ssehub.comani.analysis.librarychange.diff.DiffFixtures.describe;
+import static net.ssehub.comani.analysis.librarychange.diff.DiffFixtures.expect;
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * This class tests the {@link GradleBuildFileAnalyzer} and the {@link BuildFileSnapshotStore} with the Gradle diffs
+ * in the <code>fixtures</code> directory.
+ */
+public class GradleBuildFileAnalyzerTest {
+
+    /**
+     * Tests the Kotlin DSL: double quotes, parentheses, named arguments with <code>=</code>, and calls like
+     * <code>kotlin("stdlib")</code>, which are no coordinates.
+     *
+     * @throws IOException if reading the fixture fails
+     */
+    @Test
+    public void testKotlinDsl() throws IOException {
+        assertEquals(expect(
+                "VERSION_CHANGE implementation com.google.guava:guava:27.0-jre"
+                        + " | implementation com.google.guava:guava:28.0-jre",
+                "NO_CHANGE api org.slf4j:slf4j-api:1.7.25 | api org.slf4j:slf4j-api:1.7.25",
+                "REMOVAL testImplementation junit:junit:4.12 | -",
+                "ADDITION - | testImplementation org.junit.jupiter:junit-jupiter-api:5.4.2",
+                "ADDITION - | runtimeOnly ch.qos.logback:logback-classic:1.2.3"),
+                analyze("gradle-kotlin-dsl"));
+    }
+
+    /**
+     * Tests named arguments in any order, with and without parentheses, and a variable as version, which is reported
+     * as reference.
+     *
+     * @throws IOException if reading the fixture fails
+     */
+    @Test
+    public void testNamedArguments() throws IOException {
+        assertEquals(expect(
+                "VERSION_CHANGE compile org.hibernate:hibernate-core:5.3.7.Final"
+                        + " | compile org.hibernate:hibernate-core:5.4.2.Final",
+                "NO_CHANGE compile commons-io:commons-io:2.6 | compile commons-io:commons-io:2.6",
+                "VERSION_CHANGE testCompile org.mockito:mockito-core:${mockitoVersion}"
+                        + " | testCompile org.mockito:mockito-core:2.27.0",
+                "NO_CHANGE runtime com.h2database:h2:1.4.199 | runtime com.h2database:h2:1.4.199"),
+                analyze("gradle-named-arguments"));
+    }
+
+    /**
+     * Tests <code>platform(...)</code> and <code>enforcedPlatform(...)</code> with a string and with named arguments,
+     * and a dependency without version.
+     *
+     * @throws IOException if reading the fixture fails
+     */
+    @Test
+    public void testPlatform() throws IOException {
+        assertEquals(expect(
+                "VERSION_CHANGE implementation org.springframework.boot:spring-boot-dependencies:2.1.4.RELEASE"
+                        + " | implementation org.springframework.boot:spring-boot-dependencies:2.1.5.RELEASE",
+                "VERSION_CHANGE implementation com.fasterxml.jackson:jackson-bom:2.9.8"
+                        + " | implementation com.fasterxml.jackson:jackson-bom:2.9.9",
+                "NO_CHANGE implementation org.springframework.boot:spring-boot-starter-web:null"
+                        + " | implementation org.springframework.boot:spring-boot-starter-web:null"),
+                analyze("gradle-platform"));
+    }
+
+    /**
+     * Tests line and block comments: commented dependencies are ignored, dependencies before and after a comment in
+     * the same line are found, and coordinates and URLs in trailing comments are ignored.
+     *
+     * @throws IOException if reading the fixture fails
+     */
+    @Test
+    public void testComments() throws IOException {
+        assertEquals(expect(
+                "ADDITION - | compile org.apache.commons:commons-lang3:3.9",
+                "REMOVAL compile com.google.code.gson:gson:2.8.5 | -",
+                "NO_CHANGE compile joda-time:joda-time:2.10.1 | compile joda-time:joda-time:2.10.1",
+                "VERSION_CHANGE testCompile junit:junit:4.11 | testCompile junit:junit:4.12",
+                "NO_CHANGE compile org.example:url-lib:1.0 | compile org.example:url-lib:1.0"),
+                analyze("gradle-comments"));
+    }
+
+    /**
+     * Tests a hunk starting inside of a <code>dependencies</code> block, whose header names the block as context.
+     *
+     * @throws IOException if reading the fixture fails
+     */
+    @Test
+    public void testHunkStartingInsideBlock() throws IOException {
+        assertEquals(expect(
+                "NO_CHANGE compile org.apache.commons:commons-lang3:3.8"
+                        + " | compile org.apache.commons:commons-lang3:3.8",
+                "NO_CHANGE compile commons-io:commons-io:2.6 | compile commons-io:commons-io:2.6",
+                "VERSION_CHANGE compile com.google.guava:guava:26.0-jre | compile com.google.guava:guava:27.1-jre",
+                "NO_CHANGE testCompile junit:junit:4.12 | testCompile junit:junit:4.12"),
+                analyze("gradle-mid-block"));
+    }
+
+    /**
+     * Tests a hunk starting inside of a <code>dependencies</code> block without context in its header: the hunk
+     * alone does not show the block, so nothing is reported, while the snapshot of the build file, which was started
+     * by the diff creating the file, does.
+     *
+     * @throws IOException if reading the fixtures fails
+     */
+    @Test
+    public void testHunkStartingInsideBlockWithSnapshot() throws IOException {
+        assertEquals(expect(), analyze("gradle-mid-block-change"));
+
+        BuildFileSnapshotStore snapshots = new BuildFileSnapshotStore(1);
+        try {
+            snapshots.analyze(DiffFixtures.createArtifact("gradle-mid-block-creation"));
+            assertEquals(expect(
+                    "NO_CHANGE compile commons-io:commons-io:2.6 | compile commons-io:commons-io:2.6",
+                    "VERSION_CHANGE compile com.google.guava:guava:26.0-jre"
+                            + " | compile com.google.guava:guava:27.1-jre",
+                    "NO_CHANGE testCompile junit:junit:4.12 | testCompile junit:junit:4.12"),
+                    describe(snapshots.analyze(DiffFixtures.createArtifact("gradle-mid-block-change"))));
+        } finally {
+            snapshots.close();
+        }
+    }
+
+    /**
+     * Analyzes the given fixture with a {@link GradleBuildFileAnalyzer}.
+     *
+     * @param fixture the name of the fixture
+     * @return the descriptions of the library changes (see {@link DiffFixtures#describe(BuildFileAnalysisResult)})
+     * @throws IOException if reading the fixture fails
+     */
+    private static List<String> analyze(String fixture) throws IOException {
+        return describe(new GradleBuildFileAnalyzer().analyze(DiffFixtures.createArtifact(fixture)));
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.comani.analysis.librarychange.diff;
+
+import static net.ssehub.comani.analysis.librarychange.diff.DiffFixtures.describe;
+import static net.ssehub.comani.analysis.librarychange.diff.DiffFixtures.expect;
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * This class tests the {@link MavenBuildFileAnalyzer} with the POM diffs in the <code>fixtures</code> directory.
+ */
+public class MavenBuildFileAnalyzerTest {
+
+    /**
+     * Tests a removed comment end, which is the diff line <code>---&gt;</code> inside of a hunk and, hence, no file
+     * header: the dependency commented out before is added.
+     *
+     * @throws IOException if reading the fixture fails
+     */
+    @Test
+    public void testRemovedCommentEnd() throws IOException {
+        assertEquals(expect(
+                "NO_CHANGE compile org.slf4j:slf4j-api:1.7.26 | compile org.slf4j:slf4j-api:1.7.26",
+                "ADDITION - | compile com.google.guava:guava:27.1-jre"),
+                analyze("maven-comment-end"));
+    }
+
+    /**
+     * Tests an added comment around a dependency, which removes it.
+     *
+     * @throws IOException if reading the fixture fails
+     */
+    @Test
+    public void testAddedComment() throws IOException {
+        assertEquals(expect("REMOVAL compile com.google.guava:guava:27.1-jre | -"), analyze("maven-comment-start"));
+    }
+
+    /**
+     * Tests a hunk starting inside of the <code>&lt;parent&gt;</code> element after its group: the fields of the
+     * parent are no dependency, so only the following dependency is reported.
+     *
+     * @throws IOException if reading the fixture fails
+     */
+    @Test
+    public void testParentOutsideHunk() throws IOException {
+        assertEquals(expect(
+                "VERSION_CHANGE compile org.apache.commons:commons-lang3:3.8"
+                        + " | compile org.apache.commons:commons-lang3:3.9"),
+                analyze("maven-parent-outside-hunk"));
+    }
+
+    /**
+     * Tests a hunk starting inside of a dependency after its <code>&lt;groupId&gt;</code>: the group is unknown, so
+     * the dependency is not reported instead of being reported with a wrong or missing group, while the following
+     * complete dependency is not affected.
+     *
+     * @throws IOException if reading the fixture fails
+     */
+    @Test
+    public void testGroupOutsideHunk() throws IOException {
+        assertEquals(expect("NO_CHANGE test junit:junit:4.12 | test junit:junit:4.12"),
+                analyze("maven-group-outside-hunk"));
+    }
+
+    /**
+     * Analyzes the given fixture with a {@link MavenBuildFileAnalyzer}.
+     *
+     * @param fixture the name of the fixture
+     * @return the descriptions of the library changes (see {@link DiffFixtures#describe(BuildFileAnalysisResult)})
+     * @throws IOException if reading the fixture fails
+     */
+    private static List<String> analyze(String fixture) throws IOException {
+        return describe(new MavenBuildFileAnalyzer().analyze(DiffFixtures.createArtifact(fixture)));
+    }
+
+}
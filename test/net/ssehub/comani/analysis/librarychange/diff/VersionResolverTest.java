@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements. See the NOTICE
+ * file distributed with this work for additional information regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the
+ * License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package net.ssehub.comani.analysis.librarychange.diff;
+
+import static net.ssehub.comani.analysis.librarychange.diff.DiffFixtures.describe;
+import static net.ssehub.comani.analysis.librarychange.diff.DiffFixtures.expect;
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.Test;
+
+import net.ssehub.comani.data.Commit;
+
+/**
+ * This class tests the {@link VersionResolver} with the commits in the <code>fixtures</code> directory, which are
+ * analyzed in the order of their history by a single resolver.
+ */
+public class VersionResolverTest {
+
+    /**
+     * The resolver shared by the commits of a test.
+     */
+    private VersionResolver resolver = new VersionResolver();
+
+    /**
+     * Tests a chain of POM properties: the version references a property, whose definition references another one.
+     * Changing the last property of the chain changes the version, although the dependency is not changed.
+     *
+     * @throws IOException if reading the fixtures fails
+     */
+    @Test
+    public void testPomPropertyChain() throws IOException {
+        assertEquals(expect("pom.xml ADDITION - | compile org.springframework:spring-core:5.1.6.RELEASE"),
+                analyze("resolver-pom-chain-1"));
+        assertEquals(expect("pom.xml VERSION_CHANGE compile org.springframework:spring-core:5.1.6.RELEASE"
+                + " | compile org.springframework:spring-core:5.2.6.RELEASE"),
+                analyze("resolver-pom-chain-2"));
+    }
+
+    /**
+     * Tests a chain across build files: a module references an <code>ext</code> property of the root project, whose
+     * definition references a property of the root <code>gradle.properties</code>. Changing that file changes the
+     * version reported for the module.
+     *
+     * @throws IOException if reading the fixtures fails
+     */
+    @Test
+    public void testGradlePropertyChain() throws IOException {
+        assertEquals(expect(
+                "app/build.gradle ADDITION - | implementation org.jetbrains.kotlin:kotlin-stdlib:1.3.31",
+                "app/build.gradle NO_CHANGE implementation com.google.guava:guava:27.1-jre"
+                        + " | implementation com.google.guava:guava:27.1-jre"),
+                analyze("resolver-gradle-chain-1"));
+        assertEquals(expect("app/build.gradle VERSION_CHANGE implementation org.jetbrains.kotlin:kotlin-stdlib:1.3.31"
+                + " | implementation org.jetbrains.kotlin:kotlin-stdlib:1.4.31"),
+                analyze("resolver-gradle-chain-2"));
+    }
+
+    /**
+     * Tests a cyclic chain of properties, which ends the resolution and keeps the reference.
+     *
+     * @throws IOException if reading the fixture fails
+     */
+    @Test
+    public void testCyclicPropertyChain() throws IOException {
+        assertEquals(expect("build.gradle ADDITION - | compile org.example:cyclic:${first}"),
+                analyze("resolver-cycle"));
+    }
+
+    /**
+     * Analyzes the given fixture as the next commit and resolves the versions of its result.
+     *
+     * @param fixture the name of the fixture
+     * @return the descriptions of the library changes (see {@link DiffFixtures#describe(AnalysisResult)})
+     * @throws IOException if reading the fixture fails
+     */
+    private List<String> analyze(String fixture) throws IOException {
+        Commit commit = DiffFixtures.createCommit(fixture);
+        LibraryChangeAnalyzer analyzer = new LibraryChangeAnalyzer(DiffFixtures.CODE_FILES_REGEX,
+                DiffFixtures.BUILD_FILES_REGEX, commit);
+        analyzer.analyze();
+        AnalysisResult result = analyzer.getResult();
+        resolver.analyze(commit, result);
+        return describe(result);
+    }
+
+}